@@ -0,0 +1,133 @@
+package com.cjs.qa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.cjs.qa.utilities.CallerContext;
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.JavaHelpers;
+
+/**
+ * Cost of looking up the calling class and method, the way the {@link JavaHelpers} caller methods
+ * did it ({@link Throwable} and {@link Thread#getStackTrace()}) against {@link CallerContext}.
+ *
+ * <p>{@code stackDepth} adds frames below the measured call, as in a deep Selenium or Cucumber
+ * stack; the old lookup builds all of them, the walker only the frames it returns. The "Log"
+ * benchmarks pass the name to a debug statement of a logger that is switched off, the way {@code
+ * SQL.execute} and the YM namespaces log it.
+ *
+ * <p>Run after {@code mvn test-compile} with the test classpath, e.g. from the IDE, or with {@code
+ * java -cp target/test-classes:<test classpath> com.cjs.qa.benchmarks.CallerContextBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CallerContextBenchmark {
+
+  private static final String LOGGER_NAME = CallerContextBenchmark.class.getName();
+  private static final GuardedLogger LOG = new GuardedLogger(LogManager.getLogger(LOGGER_NAME));
+
+  @Param({"0", "50"})
+  public int stackDepth;
+
+  @Setup
+  public void setUp() {
+    Configurator.setLevel(LOGGER_NAME, Level.INFO);
+  }
+
+  @Benchmark
+  public String classMethodNameThrowable() {
+    return atDepth(stackDepth, CallerContextBenchmark::getClassMethodNameThrowable);
+  }
+
+  @Benchmark
+  public String classMethodNameStackWalker() {
+    return atDepth(stackDepth, JavaHelpers::getCurrentClassMethodName);
+  }
+
+  @Benchmark
+  public String callingMethodNameThrowable() {
+    return atDepth(stackDepth, CallerContextBenchmark::getCallingMethodNameThrowable);
+  }
+
+  @Benchmark
+  public String callingMethodNameStackWalker() {
+    return atDepth(stackDepth, JavaHelpers::getCallingMethodName);
+  }
+
+  @Benchmark
+  public String disabledLogThrowable() {
+    return atDepth(
+        stackDepth,
+        () -> {
+          LOG.debug(
+              "***ClassMethodDebug***: [{}] called by [{}]",
+              getClassMethodNameThrowable(),
+              getCallingMethodNameThrowable());
+          return LOGGER_NAME;
+        });
+  }
+
+  @Benchmark
+  public String disabledLogDeferred() {
+    return atDepth(
+        stackDepth,
+        () -> {
+          LOG.debug(
+              "***ClassMethodDebug***: [{}] called by [{}]",
+              CallerContext.logClassMethodDebugName(),
+              CallerContext.logCallingMethodName());
+          return LOGGER_NAME;
+        });
+  }
+
+  private static String atDepth(int depth, Supplier<String> supplier) {
+    return depth == 0 ? supplier.get() : atDepth(depth - 1, supplier);
+  }
+
+  /** The former JavaHelpers.getCurrentClassMethodName. */
+  private static String getClassMethodNameThrowable() {
+    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
+    final String fullString = stackTraceElements[1].toString();
+    String className = Thread.currentThread().getStackTrace()[2].getClassName();
+    className = className.substring(className.lastIndexOf('.') + 1, className.length());
+    final int stringEnd = fullString.indexOf('(');
+    String fullName = fullString.substring(0, stringEnd);
+    final int start = fullName.lastIndexOf('.') + 1;
+    String methodName = fullName.substring(start);
+    return className + '.' + methodName;
+  }
+
+  /** The former JavaHelpers.getCallingMethodName. */
+  private static String getCallingMethodNameThrowable() {
+    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
+    return stackTraceElements[3].getMethodName();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(CallerContextBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -194,7 +194,7 @@ private String getData(String xPath) {
     XPathExpression xpathExpression = null;
     NodeList nodeList = null;
     try {
-      xpathExpression = XML.XPATH.compile(xPath);
+      xpathExpression = XML.compileXPath(xPath);
       try {
         nodeList = (NodeList) xpathExpression.evaluate(getDocument(), XPathConstants.NODESET);
       } catch (XPathExpressionException e) {
@@ -208,7 +208,7 @@ private String getData(String xPath) {
       LOG.debug(
           "{}",
           JavaHelpers.getCurrentMethodName()
-              + "xpathExpression = XML.XPATH.compile("
+              + "xpathExpression = XML.compileXPath("
               + xPath
               + ");");
     }
@@ -1,6 +1,7 @@
 package com.cjs.qa.bts.pages;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -11,6 +12,8 @@
 import org.openqa.selenium.WebDriver;
 
 import com.cjs.qa.core.Environment;
+import com.cjs.qa.selenium.FormFillResult;
+import com.cjs.qa.selenium.FormValue;
 import com.cjs.qa.selenium.ISelenium;
 import com.cjs.qa.selenium.Page;
 import com.cjs.qa.utilities.GuardedLogger;
@@ -458,6 +461,9 @@ public void toggleFrame() {
   // SWITCHES POPULATE
   public void populatePage(DataTable table) {
     final List<List<String>> data = table.asLists();
+    final Map<By, FormValue> fieldMap = new LinkedHashMap<>();
+    // Fields filled from earlier input are set one by one after the batch.
+    final Map<String, String> dependentMap = new HashMap<>();
     for (final List<?> item : data) {
       final String field = (String) item.get(0);
       final String value = (String) item.get(1);
@@ -467,127 +473,125 @@ public void populatePage(DataTable table) {
         }
         switch (field.toLowerCase(Locale.ENGLISH)) {
           case "sic code":
-            setEditSICCode(value);
+            fieldMap.put(editSICCode, FormValue.edit(value));
             break;
           case "rating tier":
-            selectDropdownRatingTier(value);
+            fieldMap.put(dropdownRatingTier, FormValue.dropdown(value));
             break;
           case "primary class code":
-            selectDropdownPrimaryClassCode(value);
+            fieldMap.put(dropdownPrimaryClassCode, FormValue.dropdown(value));
             break;
           case "business group":
-            setEditBusinessGroup(value);
-            break;
           case "business group lookup":
-            selectDropdownBusinessGroupLookup(value);
+            dependentMap.put(field.toLowerCase(Locale.ENGLISH), value);
             break;
           case "profit center":
-            selectDropdownProfitCenter(value);
+            fieldMap.put(dropdownProfitCenter, FormValue.dropdown(value));
             break;
           case "national accounts policy origination":
-            selectDropdownNationalAccountsPolicyOrigination(value);
+            fieldMap.put(dropdownNationalAccountsPolicyOrigination, FormValue.dropdown(value));
             break;
           case "special underwriting program":
-            selectDropdownSpecialUnderwritingProgram(value);
+            fieldMap.put(dropdownSpecialUnderwritingProgram, FormValue.dropdown(value));
             break;
           case "duns number":
-            setEditDunsNumber(value);
+            fieldMap.put(editDunsNumber, FormValue.edit(value));
             break;
           case "star account":
-            selectDropdownStarAccount(value);
+            fieldMap.put(dropdownStarAccount, FormValue.dropdown(value));
             break;
           case "other legal entity":
-            setEditOtherLegalEntity(value);
+            fieldMap.put(editOtherLegalEntity, FormValue.edit(value));
             break;
           case "source of business":
-            selectDropdownSourceOfBusiness(value);
+            fieldMap.put(dropdownSourceOfBusiness, FormValue.dropdown(value));
             break;
           case "primary policy symbol":
-            selectDropdownPrimaryPolicySymbol(value);
+            fieldMap.put(dropdownPrimaryPolicySymbol, FormValue.dropdown(value));
             break;
           case "policy minimum bypassed":
-            setCheckboxPolicyMinimumBypassed(value);
+            fieldMap.put(checkboxPolicyMinimumBypassed, FormValue.checkbox(value));
             break;
           case "policyminimumpremiumbypassedcommercialauto":
-            setEditPolicyMinimumPremiumBypassedCommercialAuto(value);
+            fieldMap.put(editPolicyMinimumPremiumBypassedCommercialAuto, FormValue.edit(value));
             break;
           case "public utilities commission filing":
-            setCheckboxPublicUtilitiesCommissionFiling(value);
+            fieldMap.put(checkboxPublicUtilitiesCommissionFiling, FormValue.checkbox(value));
             break;
           case "safety dividend group":
-            selectDropdownSafetyDividendGroup(value);
+            fieldMap.put(dropdownSafetyDividendGroup, FormValue.dropdown(value));
             break;
           case "unemployment number":
-            setEditUnemploymentNumber(value);
+            fieldMap.put(editUnemploymentNumber, FormValue.edit(value));
             break;
           case "facultive reinsurance applies":
-            setCheckboxFacultiveReinsuranceApplies(value);
+            fieldMap.put(checkboxFacultiveReinsuranceApplies, FormValue.checkbox(value));
             break;
           case "exempt commercial account":
-            setCheckboxExemptCommercialAccount(value);
+            fieldMap.put(checkboxExemptCommercialAccount, FormValue.checkbox(value));
             break;
           case "agencys insured identification":
-            setEditAgencysInsuredIdentification(value);
+            fieldMap.put(editAgencysInsuredIdentification, FormValue.edit(value));
             break;
           case "number of days quote is valid":
-            selectDropdownNumberOfDaysQuoteIsValid(value);
+            fieldMap.put(dropdownNumberOfDaysQuoteIsValid, FormValue.dropdown(value));
             break;
           case "package mod":
-            setCheckboxPackageMod(value);
+            fieldMap.put(checkboxPackageMod, FormValue.checkbox(value));
             break;
           case "date quote received by company":
-            setEditDateQuoteReceivedByCompany(value);
+            fieldMap.put(editDateQuoteReceivedByCompany, FormValue.edit(value));
             break;
           case "date underwriting review completed":
-            setEditDateUnderwritingReviewCompleted(value);
+            fieldMap.put(editDateUnderwritingReviewCompleted, FormValue.edit(value));
             break;
           case "rollover prior carrier code":
-            selectDropdownRolloverPriorCarrierCode(value);
+            fieldMap.put(dropdownRolloverPriorCarrierCode, FormValue.dropdown(value));
             break;
           case "mo pep non cancel":
-            setCheckboxMoPepNonCancel(value);
+            fieldMap.put(checkboxMoPepNonCancel, FormValue.checkbox(value));
             break;
           case "policy considered for transfer to small business":
-            selectDropdownPolicyConsideredForTransferToSmallBusiness(value);
+            fieldMap.put(
+                dropdownPolicyConsideredForTransferToSmallBusiness, FormValue.dropdown(value));
             break;
           case "policy number for audit cross reference":
-            setEditPolicyNumberForAuditCrossReference(value);
+            fieldMap.put(editPolicyNumberForAuditCrossReference, FormValue.edit(value));
             break;
           case "original agency code":
-            setEditOriginalAgencyCode(value);
+            fieldMap.put(editOriginalAgencyCode, FormValue.edit(value));
             break;
           case "premium from aplus converted policy":
-            setEditPremiumFromAplusConvertedPolicy(value);
+            fieldMap.put(editPremiumFromAplusConvertedPolicy, FormValue.edit(value));
             break;
           case "renewal of policy number":
-            setEditRenewalOfPolicyNumber(value);
+            fieldMap.put(editRenewalOfPolicyNumber, FormValue.edit(value));
             break;
           case "does employment practices liability insurance apply":
-            selectDropdownDoesEmploymentPracticesLiabilityInsuranceApply(value);
-            break;
           case "enter employment practices liability retroactive date":
-            setEditEnterEmploymentPracticesLiabilityRetroactiveDate(value);
+            dependentMap.put(field.toLowerCase(Locale.ENGLISH), value);
             break;
           case "rerate employment practices liability on ammendment":
-            setCheckboxRerateEmploymentPracticesLiabilityOnAmmendment(value);
+            fieldMap.put(
+                checkboxRerateEmploymentPracticesLiabilityOnAmmendment, FormValue.checkbox(value));
             break;
           case "kentucky collection fee total policy premium":
-            setEditKentuckyCollectionFeeTotalPolicyPremium(value);
+            fieldMap.put(editKentuckyCollectionFeeTotalPolicyPremium, FormValue.edit(value));
             break;
           case "kentucky tax total policy premium":
-            setEditKentuckyTaxTotalPolicyPremium(value);
+            fieldMap.put(editKentuckyTaxTotalPolicyPremium, FormValue.edit(value));
             break;
           case "total employment practices liability premium":
-            setEditTotalEmploymentPracticesLiabilityPremium(value);
+            fieldMap.put(editTotalEmploymentPracticesLiabilityPremium, FormValue.edit(value));
             break;
           case "total epli supplemental extended reporting premium":
-            setEditTotalEPLISupplementalExtendedReportingPremium(value);
+            fieldMap.put(editTotalEPLISupplementalExtendedReportingPremium, FormValue.edit(value));
             break;
           case "rapid renewal":
-            setCheckboxRapidRenewal(value);
+            fieldMap.put(checkboxRapidRenewal, FormValue.checkbox(value));
             break;
           case "supporting policies":
-            setEditSupportingPolicies(value);
+            fieldMap.put(editSupportingPolicies, FormValue.edit(value));
             break;
           default:
             LOG.warn("[{}]{}", field, ISelenium.FIELD_NOT_CODED);
@@ -595,6 +599,33 @@ public void populatePage(DataTable table) {
         }
       }
     }
+    final FormFillResult formFillResult = populateFields(fieldMap);
+    Assertions.assertTrue(
+        formFillResult.isComplete(),
+        getPageTitle() + " populatePage: " + formFillResult.mismatchList());
+    populateDependentFields(dependentMap);
+  }
+
+  /**
+   * Sets the fields whose options or visibility depend on earlier input. The business group lookup
+   * is filled from the keystrokes typed into the business group, and the EPL retroactive date only
+   * appears once the EPL dropdown is answered, so neither can go through {@link #populateFields}.
+   */
+  private void populateDependentFields(Map<String, String> dependentMap) {
+    if (dependentMap.containsKey("business group")) {
+      setEditBusinessGroup(dependentMap.get("business group"));
+    }
+    if (dependentMap.containsKey("business group lookup")) {
+      selectDropdownBusinessGroupLookup(dependentMap.get("business group lookup"));
+    }
+    if (dependentMap.containsKey("does employment practices liability insurance apply")) {
+      selectDropdownDoesEmploymentPracticesLiabilityInsuranceApply(
+          dependentMap.get("does employment practices liability insurance apply"));
+    }
+    if (dependentMap.containsKey("enter employment practices liability retroactive date")) {
+      setEditEnterEmploymentPracticesLiabilityRetroactiveDate(
+          dependentMap.get("enter employment practices liability retroactive date"));
+    }
   }
 
   // SWITCHES VALIDATE
@@ -27,6 +27,7 @@
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.DateHelpersTests;
 import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.FileAppender;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
 import com.cjs.qa.utilities.JavaHelpers;
@@ -297,9 +298,7 @@ public static void sysOutFailure(String value) {
     if (fileLog == null) {
       sysOut("fileLog:[" + fileLog + "]" + Constants.NEWLINE + value);
     } else {
-      FSOTests.fileWrite(fileLog, messageOut + Constants.TAB, true);
-      FSOTests.fileWrite(fileLog, "FAILED", true);
-      FSOTests.fileWrite(fileLog, Constants.NL, true);
+      FileAppender.append(fileLog, messageOut + Constants.TAB + "FAILED" + Constants.NL);
     }
   }
 
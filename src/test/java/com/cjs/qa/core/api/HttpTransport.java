@@ -0,0 +1,285 @@
+package com.cjs.qa.core.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Shared HTTP transport used by the API service classes instead of opening a new {@link
+ * java.net.HttpURLConnection} per call.
+ *
+ * <p>All requests go through one {@link HttpClient}, which keeps connections alive between calls
+ * and negotiates HTTP/2 where the server supports it. Redirects are not followed, matching the
+ * previous {@code setInstanceFollowRedirects(false)} behaviour.
+ *
+ * <p>Features:
+ *
+ * <ul>
+ *   <li>Per-host concurrency limit - at most {@code maxConcurrentPerHost} requests are in flight
+ *       to one host; further callers wait up to the request timeout
+ *   <li>Streaming response bodies - the body is read in chunks into a per-thread reusable buffer
+ *       and decoded once, using the charset from the {@code Content-Type} header (UTF-8 otherwise)
+ *   <li>Metrics - request, failure, latency and byte counts per host via {@link #getMetrics()}
+ * </ul>
+ *
+ * <p>Configuration (environment variable, then system property):
+ *
+ * <ul>
+ *   <li>{@code HTTP_CONNECT_TIMEOUT_MS} / {@code http.connect.timeout.ms} (default 30000)
+ *   <li>{@code HTTP_REQUEST_TIMEOUT_MS} / {@code http.request.timeout.ms} (default 120000)
+ *   <li>{@code HTTP_MAX_CONCURRENT_PER_HOST} / {@code http.max.concurrent.per.host} (default 8)
+ * </ul>
+ */
+public final class HttpTransport {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(HttpTransport.class));
+  public static final int DEFAULT_CONNECT_TIMEOUT_MS = 30000;
+  public static final int DEFAULT_REQUEST_TIMEOUT_MS = 120000;
+  public static final int DEFAULT_MAX_CONCURRENT_PER_HOST = 8;
+  private static final int CHUNK_SIZE = 8192;
+  // Buffers that grew past this size are dropped after use instead of being kept per thread.
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+  private static final ThreadLocal<ByteArrayOutputStream> BUFFER =
+      ThreadLocal.withInitial(() -> new ByteArrayOutputStream(CHUNK_SIZE));
+  private static final ThreadLocal<byte[]> CHUNK =
+      ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+  private static final Map<String, HostState> HOSTS = new ConcurrentHashMap<>();
+  private static final Duration REQUEST_TIMEOUT =
+      Duration.ofMillis(
+          TuningConfig.getLong(
+              "HTTP_REQUEST_TIMEOUT_MS", "http.request.timeout.ms", DEFAULT_REQUEST_TIMEOUT_MS));
+  private static final int MAX_CONCURRENT_PER_HOST =
+      Math.max(
+          1,
+          TuningConfig.getInt(
+              "HTTP_MAX_CONCURRENT_PER_HOST",
+              "http.max.concurrent.per.host",
+              DEFAULT_MAX_CONCURRENT_PER_HOST));
+  private static final HttpClient HTTP_CLIENT =
+      HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_2)
+          .followRedirects(HttpClient.Redirect.NEVER)
+          .connectTimeout(
+              Duration.ofMillis(
+                  TuningConfig.getLong(
+                      "HTTP_CONNECT_TIMEOUT_MS",
+                      "http.connect.timeout.ms",
+                      DEFAULT_CONNECT_TIMEOUT_MS)))
+          .build();
+
+  private HttpTransport() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Sends a request and reads the whole response body.
+   *
+   * @param requestMethod HTTP method; empty means POST (the old {@code setDoOutput(true)} default)
+   * @param url the target URL
+   * @param headers request headers, in order
+   * @param body request body sent as UTF-8, or null/empty for none
+   * @return the status code, headers and decoded body
+   * @throws IOException if the request fails, times out or is interrupted
+   */
+  public static HttpTransportResponse send(
+      String requestMethod, String url, Map<String, String> headers, String body)
+      throws IOException {
+    final URI uri = URI.create(url);
+    final String method =
+        requestMethod == null || requestMethod.isEmpty()
+            ? "POST"
+            : requestMethod.toUpperCase(Locale.ENGLISH);
+    final HttpRequest.Builder builder =
+        HttpRequest.newBuilder(uri)
+            .timeout(REQUEST_TIMEOUT)
+            .method(
+                method,
+                body == null || body.isEmpty()
+                    ? BodyPublishers.noBody()
+                    : BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+    headers.forEach(builder::header);
+    final HostState hostState = getHostState(uri);
+    hostState.acquire(url);
+    final long startNanos = System.nanoTime();
+    boolean failed = true;
+    long bytesReceived = 0;
+    try {
+      final HttpResponse<InputStream> httpResponse =
+          HTTP_CLIENT.send(builder.build(), BodyHandlers.ofInputStream());
+      final ByteArrayOutputStream buffer = BUFFER.get();
+      buffer.reset();
+      try (InputStream inputStream = httpResponse.body()) {
+        bytesReceived = readFully(inputStream, buffer);
+      }
+      final String responseBody = buffer.toString(getCharset(httpResponse));
+      if (buffer.size() > MAX_RETAINED_BUFFER_SIZE) {
+        BUFFER.remove();
+      }
+      failed = false;
+      return new HttpTransportResponse(
+          httpResponse.statusCode(), httpResponse.headers().map(), responseBody);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final InterruptedIOException interruptedIOException =
+          new InterruptedIOException("Interrupted during " + method + " " + url);
+      interruptedIOException.initCause(e);
+      throw interruptedIOException;
+    } finally {
+      hostState.release(System.nanoTime() - startNanos, bytesReceived, failed);
+    }
+  }
+
+  /**
+   * Sends a HEAD request, e.g. to check that a service is reachable.
+   *
+   * @param url the target URL
+   * @return the response status code
+   * @throws IOException if the request fails, times out or is interrupted
+   */
+  public static int head(String url) throws IOException {
+    return send("HEAD", url, Map.of(), null).statusCode();
+  }
+
+  /**
+   * Returns a point-in-time snapshot of the counters for every host contacted so far.
+   *
+   * @return metrics per host
+   */
+  public static List<HttpTransportMetrics> getMetrics() {
+    final List<HttpTransportMetrics> metrics = new ArrayList<>();
+    for (final HostState hostState : HOSTS.values()) {
+      metrics.add(hostState.getMetrics());
+    }
+    return metrics;
+  }
+
+  /** Logs the metrics of every host contacted so far. */
+  public static void logMetrics() {
+    for (final HttpTransportMetrics metrics : getMetrics()) {
+      LOG.info("{}", metrics);
+    }
+  }
+
+  private static HostState getHostState(URI uri) {
+    final String host = uri.getScheme() + "://" + uri.getAuthority();
+    return HOSTS.computeIfAbsent(host, key -> new HostState(key, MAX_CONCURRENT_PER_HOST));
+  }
+
+  private static long readFully(InputStream inputStream, ByteArrayOutputStream buffer)
+      throws IOException {
+    final byte[] chunk = CHUNK.get();
+    long total = 0;
+    int read;
+    while ((read = inputStream.read(chunk)) != -1) {
+      buffer.write(chunk, 0, read);
+      total += read;
+    }
+    return total;
+  }
+
+  private static Charset getCharset(HttpResponse<?> httpResponse) {
+    final String contentType = httpResponse.headers().firstValue("Content-Type").orElse("");
+    for (final String parameter : contentType.split(";")) {
+      final String[] nameValue = parameter.trim().split("=", 2);
+      if (nameValue.length == 2 && "charset".equalsIgnoreCase(nameValue[0].trim())) {
+        try {
+          return Charset.forName(nameValue[1].trim().replace("\"", ""));
+        } catch (final IllegalArgumentException e) {
+          LOG.debug("Unsupported response charset [{}], using UTF-8", nameValue[1]);
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  /** Concurrency limit and counters for one scheme://host:port. */
+  private static final class HostState {
+    private final String host;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private HostState(String host, int maxConcurrent) {
+      this.host = host;
+      this.maxConcurrent = maxConcurrent;
+      this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    private void acquire(String url) throws IOException {
+      final boolean acquired;
+      try {
+        acquired = permits.tryAcquire(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        final InterruptedIOException interruptedIOException =
+            new InterruptedIOException("Interrupted waiting to send to " + url);
+        interruptedIOException.initCause(e);
+        throw interruptedIOException;
+      }
+      if (!acquired) {
+        failures.increment();
+        throw new IOException(
+            "Timed out waiting for one of ["
+                + maxConcurrent
+                + "] concurrent request slot(s) for "
+                + host);
+      }
+      inFlight.incrementAndGet();
+    }
+
+    private void release(long latencyNanos, long bytes, boolean failed) {
+      inFlight.decrementAndGet();
+      permits.release();
+      requests.increment();
+      if (failed) {
+        failures.increment();
+      }
+      bytesReceived.add(bytes);
+      totalLatencyNanos.add(latencyNanos);
+      maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    private HttpTransportMetrics getMetrics() {
+      return new HttpTransportMetrics(
+          host,
+          maxConcurrent,
+          inFlight.get(),
+          requests.sum(),
+          failures.sum(),
+          bytesReceived.sum(),
+          totalLatencyNanos.sum(),
+          maxLatencyNanos.get());
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.cjs.qa.core.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of {@link HttpTransport} counters for one host.
+ *
+ * @param host scheme, host and port the counters belong to
+ * @param maxConcurrent maximum number of requests in flight to the host at once
+ * @param inFlight requests currently in flight
+ * @param requests requests completed (successfully or not)
+ * @param failures requests that threw instead of returning a response, including slot timeouts
+ * @param bytesReceived response body bytes read
+ * @param totalLatencyNanos cumulative time from send to end of body
+ * @param maxLatencyNanos longest single request
+ */
+public record HttpTransportMetrics(
+    String host,
+    int maxConcurrent,
+    int inFlight,
+    long requests,
+    long failures,
+    long bytesReceived,
+    long totalLatencyNanos,
+    long maxLatencyNanos) {
+
+  /**
+   * Average time per completed request.
+   *
+   * @return average latency in milliseconds, or 0 if nothing has been sent
+   */
+  public double averageLatencyMillis() {
+    if (requests == 0) {
+      return 0;
+    }
+    return (double) totalLatencyNanos / requests / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Host:[%s], MaxConcurrent:[%d], InFlight:[%d], Requests:[%d], Failures:[%d], \
+    BytesReceived:[%d], AvgLatencyMs:[%.3f], MaxLatencyMs:[%d]
+    """
+        .formatted(
+            host,
+            maxConcurrent,
+            inFlight,
+            requests,
+            failures,
+            bytesReceived,
+            averageLatencyMillis(),
+            TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos))
+        .trim();
+  }
+}
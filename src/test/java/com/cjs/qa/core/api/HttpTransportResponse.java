@@ -0,0 +1,81 @@
+package com.cjs.qa.core.api;
+
+import java.util.List;
+import java.util.Map;
+
+import com.cjs.qa.utilities.IHTTP;
+
+/**
+ * Response returned by {@link HttpTransport#send(String, String, Map, String)}.
+ *
+ * @param statusCode HTTP status code
+ * @param headers response headers (names as sent by the server)
+ * @param body response body decoded to text; empty when there is none
+ */
+public record HttpTransportResponse(
+    int statusCode, Map<String, List<String>> headers, String body) {
+
+  public HttpTransportResponse {
+    headers = Map.copyOf(headers);
+  }
+
+  /**
+   * Gets a readable name for the status code, e.g. {@code HTTP_OK}.
+   *
+   * @return the status name from {@link IHTTP#getResponseValue(int)}
+   */
+  public String responseMessage() {
+    return IHTTP.getResponseValue(statusCode);
+  }
+
+  /**
+   * Gets the standard reason phrase of the status code, e.g. {@code OK} or {@code Not Found}, as
+   * {@link java.net.HttpURLConnection#getResponseMessage()} returned it. HTTP/2 responses carry no
+   * reason phrase, so it is derived from the code.
+   *
+   * @return the reason phrase; empty for an unknown code
+   */
+  public String reasonPhrase() {
+    return switch (statusCode) {
+      case 100 -> "Continue";
+      case 101 -> "Switching Protocols";
+      case 200 -> "OK";
+      case 201 -> "Created";
+      case 202 -> "Accepted";
+      case 203 -> "Non-Authoritative Information";
+      case 204 -> "No Content";
+      case 205 -> "Reset Content";
+      case 206 -> "Partial Content";
+      case 300 -> "Multiple Choices";
+      case 301 -> "Moved Permanently";
+      case 302 -> "Found";
+      case 303 -> "See Other";
+      case 304 -> "Not Modified";
+      case 307 -> "Temporary Redirect";
+      case 308 -> "Permanent Redirect";
+      case 400 -> "Bad Request";
+      case 401 -> "Unauthorized";
+      case 403 -> "Forbidden";
+      case 404 -> "Not Found";
+      case 405 -> "Method Not Allowed";
+      case 406 -> "Not Acceptable";
+      case 408 -> "Request Timeout";
+      case 409 -> "Conflict";
+      case 410 -> "Gone";
+      case 411 -> "Length Required";
+      case 412 -> "Precondition Failed";
+      case 413 -> "Content Too Large";
+      case 414 -> "URI Too Long";
+      case 415 -> "Unsupported Media Type";
+      case 422 -> "Unprocessable Content";
+      case 429 -> "Too Many Requests";
+      case 500 -> "Internal Server Error";
+      case 501 -> "Not Implemented";
+      case 502 -> "Bad Gateway";
+      case 503 -> "Service Unavailable";
+      case 504 -> "Gateway Timeout";
+      case 505 -> "HTTP Version Not Supported";
+      default -> "";
+    };
+  }
+}
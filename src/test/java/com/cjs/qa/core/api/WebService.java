@@ -1,18 +1,14 @@
 package com.cjs.qa.core.api;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.StringWriter;
 import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javax.xml.transform.Source;
@@ -94,72 +90,25 @@ public WebService() {
 
   public static Map<String, String> getAPIJSONResponse(
       String requestMethod, String url, String apiRequest) {
-    final Map<String, String> map = new HashMap<>();
-    map.put("requestMethod", requestMethod);
-    map.put("url", url);
-    map.put("apiRequest", apiRequest);
-    if (Environment.isLogAPI()) {
-      LOG.debug(
-          "getAPIJSONResponse Parameters: requestMethod: [{}], url: [{}], apiRequest: [{}]",
-          requestMethod,
-          url,
-          apiRequest);
-    }
-    int responseCode = -1;
-    HttpURLConnection httpURLConnection = null;
-    String json = "";
-    String line = "";
-    try {
-      final URL oURL = URI.create(url).toURL();
-      httpURLConnection = (HttpURLConnection) oURL.openConnection();
-      httpURLConnection.setDoOutput(true);
-      httpURLConnection.setInstanceFollowRedirects(false);
-      if (!requestMethod.isEmpty()) {
-        httpURLConnection.setRequestMethod(requestMethod);
-      }
-      httpURLConnection.setRequestProperty("Content-Type", "application/json");
-      httpURLConnection.setRequestProperty("Accept", "application/json");
-      httpURLConnection.setRequestProperty("charset", StandardCharsets.UTF_8.toString());
-      httpURLConnection.setRequestProperty(
-          "Content-Length", "" + Integer.toString(apiRequest.getBytes().length));
-      httpURLConnection.setUseCaches(false);
-      try (DataOutputStream dataOutputStream =
-          new DataOutputStream(httpURLConnection.getOutputStream())) {
-        dataOutputStream.writeBytes(apiRequest);
-        dataOutputStream.flush();
-        responseCode = httpURLConnection.getResponseCode();
-        map.put("responseCode", String.valueOf(responseCode));
-        final String responseMessage = String.valueOf(httpURLConnection.getResponseMessage());
-        map.put("responseMessage", responseMessage);
-        if (responseCode == HttpURLConnection.HTTP_OK) {
-          try (BufferedReader bufferedReader =
-              new BufferedReader(new InputStreamReader(httpURLConnection.getInputStream()))) {
-            while ((line = bufferedReader.readLine()) != null) {
-              json += line;
-            }
-            map.put("json", json);
-          }
-        }
-        if (responseCode != HttpURLConnection.HTTP_OK) {
-          LOG.warn("Response code: [{}], Response message: [{}]", responseCode, responseMessage);
-        }
-      } finally {
-        httpURLConnection.disconnect();
-      }
-    } catch (final Exception e) {
-      LOG.error("Error in WebService method", e);
-    }
-    // if (!json.contains(APIConstants.API_JSON_SUCCESS))
-    // {
-    // Assert.fail(json);
-    // }
-    return map;
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Content-Type", "application/json");
+    headers.put("Accept", "application/json");
+    headers.put("charset", StandardCharsets.UTF_8.toString());
+    return getAPIResponse("getAPIJSONResponse", requestMethod, url, apiRequest, headers, "json");
   }
 
+  /**
+   * Sends a JSON request and returns only the response body.
+   *
+   * @param requestMethod HTTP method
+   * @param requestURL the target URL; SSO calls already carry the user token in the path
+   * @param apiRequest JSON request body
+   * @param ssoUserTokenId the SSO user token (not sent separately)
+   * @return the response body for an HTTP 200 response, otherwise null
+   */
   public static String getAPIJSONResponse(
-      String string, String requestURL, String apiRequest, String ssoUserTokenId) {
-    // TODO Auto-generated method stub
-    return null;
+      String requestMethod, String requestURL, String apiRequest, String ssoUserTokenId) {
+    return getAPIJSONResponse(requestMethod, requestURL, apiRequest).get("json");
   }
 
   public static String getAPIXMLRequest(Policy policy, SOAPMessage soapMessage) {
@@ -271,66 +220,53 @@ public static String getAPIXMLResponse(Policy policy, String url, SOAPMessage so
 
   public static Map<String, String> getAPIXMLResponse(
       String requestMethod, String url, String apiRequest) {
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Accept", "application/xml");
+    headers.put("charset", StandardCharsets.UTF_8.toString());
+    return getAPIResponse("getAPIXMLResponse", requestMethod, url, apiRequest, headers, "xml");
+  }
+
+  /**
+   * Sends an API request through the shared {@link HttpTransport} and returns the response fields
+   * in the map layout the service classes expect; the body is stored under {@code bodyKey} only
+   * for an HTTP 200 response.
+   */
+  private static Map<String, String> getAPIResponse(
+      String methodName,
+      String requestMethod,
+      String url,
+      String apiRequest,
+      Map<String, String> headers,
+      String bodyKey) {
     final Map<String, String> map = new HashMap<>();
     map.put("requestMethod", requestMethod);
     map.put("url", url);
     map.put("apiRequest", apiRequest);
     if (Environment.isLogAPI()) {
       LOG.debug(
-          "getAPIXMLResponse Parameters: requestMethod: [{}], url: [{}], apiRequest: [{}]",
+          "{} Parameters: requestMethod: [{}], url: [{}], apiRequest: [{}]",
+          methodName,
           requestMethod,
           url,
           apiRequest);
     }
-    int responseCode = -1;
-    HttpURLConnection httpURLConnection = null;
-    String xml = "";
-    String line = "";
     try {
-      final URL oURL = URI.create(url).toURL();
-      httpURLConnection = (HttpURLConnection) oURL.openConnection();
-      httpURLConnection.setDoOutput(true);
-      httpURLConnection.setInstanceFollowRedirects(false);
-      if (!requestMethod.isEmpty()) {
-        httpURLConnection.setRequestMethod(requestMethod);
-      }
-      // httpURLConnection.setRequestProperty("Content-Type",
-      // "text/xml");
-      httpURLConnection.setRequestProperty("Accept", "application/xml");
-      httpURLConnection.setRequestProperty("charset", StandardCharsets.UTF_8.toString());
-      httpURLConnection.setRequestProperty(
-          "Content-Length", "" + Integer.toString(apiRequest.getBytes().length));
-      httpURLConnection.setUseCaches(false);
-      try (DataOutputStream dataOutputStream =
-          new DataOutputStream(httpURLConnection.getOutputStream())) {
-        dataOutputStream.writeBytes(apiRequest);
-        dataOutputStream.flush();
-        responseCode = httpURLConnection.getResponseCode();
-        map.put("responseCode", String.valueOf(responseCode));
-        final String responseMessage = String.valueOf(httpURLConnection.getResponseMessage());
-        map.put("responseMessage", responseMessage);
-        if (responseCode == HttpURLConnection.HTTP_OK) {
-          try (BufferedReader bufferedReader =
-              new BufferedReader(new InputStreamReader(httpURLConnection.getInputStream()))) {
-            while ((line = bufferedReader.readLine()) != null) {
-              xml += line;
-            }
-            map.put("xml", xml);
-          }
-        }
-        if (responseCode != HttpURLConnection.HTTP_OK) {
-          LOG.warn("Response code: [{}], Response message: [{}]", responseCode, responseMessage);
-        }
-      } finally {
-        httpURLConnection.disconnect();
+      final HttpTransportResponse response =
+          HttpTransport.send(requestMethod, url, headers, apiRequest);
+      final int responseCode = response.statusCode();
+      map.put("responseCode", String.valueOf(responseCode));
+      map.put("responseMessage", response.reasonPhrase());
+      if (responseCode == HttpURLConnection.HTTP_OK) {
+        map.put(bodyKey, response.body());
+      } else {
+        LOG.warn(
+            "Response code: [{}], Response message: [{}]",
+            responseCode,
+            response.reasonPhrase());
       }
     } catch (final Exception e) {
       LOG.error("Error in WebService method", e);
     }
-    // if (responseCode != HttpURLConnection.HTTP_OK)
-    // {
-    // Assert.fail(xml);
-    // }
     return map;
   }
 
@@ -21,10 +21,12 @@
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.utilities.Reports;
+import com.cjs.qa.utilities.ResultCollector;
 import com.cjs.qa.vivit.Vivit;
 
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.And;
@@ -206,16 +208,18 @@ public void testTeardown() throws QAException {
       }
     }
     getSelenium().killBrowser(getWebDriver());
-    try {
-      Reports.createReportExcelLock(getScenarioObject(), mapListTest);
-    } catch (final Exception e) {
-      LOG.debug("{}", e.getMessage());
-    }
+    Reports.addScenarioResult(getScenarioObject(), mapListTest);
     LOG.debug("{}", "mapTest:" + mapTest.toString() + "] Torn Down!!!");
     setScenarioObject(null);
     setSelenium(null);
   }
 
+  /** Writes the results report of this run once all scenarios of this JVM have finished. */
+  @AfterAll
+  public static void writeResults() throws QAException {
+    ResultCollector.materialize();
+  }
+
   @Given("^Environment Setup Vivit$")
   public void environmentSetupVivit(DataTable table) throws Throwable {
     setStepBrowser("");
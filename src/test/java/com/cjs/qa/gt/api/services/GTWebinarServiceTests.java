@@ -1,7 +1,6 @@
 package com.cjs.qa.gt.api.services;
 
 import java.net.HttpURLConnection;
-import java.net.URI;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -10,6 +9,7 @@
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import com.cjs.qa.core.api.HttpTransport;
 import com.cjs.qa.core.security.EAPIKeys;
 import com.cjs.qa.core.security.EPasswords;
 import com.cjs.qa.rest.REST;
@@ -61,10 +61,7 @@ public void gtwWebinarServiceTest() {
   public GTWebinarServiceTests() {
     if (!SERVICE_ACTIVE.get()) {
       try {
-        final HttpURLConnection httpUrlConnection =
-            (HttpURLConnection) URI.create(URL_GT).toURL().openConnection();
-        httpUrlConnection.setRequestMethod("HEAD");
-        final int responseCode = httpUrlConnection.getResponseCode();
+        final int responseCode = HttpTransport.head(URL_GT);
         if (!(responseCode >= HttpURLConnection.HTTP_OK
             && responseCode < HttpURLConnection.HTTP_BAD_REQUEST)) {
           LOG.warn(
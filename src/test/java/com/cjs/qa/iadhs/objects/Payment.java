@@ -47,9 +47,9 @@ public class Payment {
           + Constants.DELIMETER_PATH
           + DateHelpersTests.getCurrentDateTime(DateHelpersTests.FORMAT_YYYY_MM_DD_COMPACT)
           + "_IA DHS Child Support Payments"
-          + IExtension.XLS;
+          + IExtension.XLSX;
   public static final String REPORT_IADHS_PAYMENTS_CUMULATIVE =
-      FILE_IADHS_PAYMENTS_CUMULATIVE.replaceAll(IExtension.XLS, IExtension.HTM);
+      FILE_IADHS_PAYMENTS_CUMULATIVE.replace(IExtension.XLSX, IExtension.HTM);
   public static final String TABLE_IADHS_PAYMENTS = "t_IADHS";
   public static final String VIEW_IADHS_PAYMENTS_CUMULATIVE = "v_IADHS_PaymentsCumulative";
   private Map<String, String> paymentMap;
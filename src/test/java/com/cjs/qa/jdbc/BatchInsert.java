@@ -0,0 +1,321 @@
+package com.cjs.qa.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.utilities.GuardedLogger;
+
+/**
+ * Bulk loader that inserts rows through a single {@link PreparedStatement} using JDBC batching.
+ *
+ * <p>Rows are bound as typed parameters (no SQL literals are built, so values never need quoting)
+ * and queued with {@link PreparedStatement#addBatch()}. Every {@code batchSize} rows the batch is
+ * executed and committed as one transaction; a failed batch is rolled back and the exception is
+ * rethrown, leaving earlier batches committed.
+ *
+ * <pre>{@code
+ * try (BatchInsert batchInsert = jdbc.openBatchInsert("tblUsers", List.of("Name", "Email"))) {
+ *   for (User user : users) {
+ *     batchInsert.addRow(List.of(user.getName(), user.getEmail()));
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Rows can also be added as maps with {@link #addRecord(Map)}; the column list is taken from the
+ * map keys, and the statement is re-prepared (after flushing) only when the key set changes.
+ *
+ * <p>A loader opened with {@link JDBC#openBatchInsertTransaction} runs everything in one
+ * transaction instead: batches are executed but not committed, other statements can be run in the
+ * same transaction with {@link #executeUpdate(String)}, and nothing is stored until {@link
+ * #commit()}. Closing it without a commit, or a failed batch, rolls the whole load back.
+ *
+ * <p>Closing the loader flushes any pending rows and returns the connection to the pool. Instances
+ * are not thread-safe.
+ */
+public final class BatchInsert implements AutoCloseable {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(BatchInsert.class));
+
+  private final Connection connection;
+  private final String tableName;
+  private final int batchSize;
+  private final Runnable onClose;
+  private final boolean singleTransaction;
+  private List<String> fieldList = new ArrayList<>();
+  private Set<String> fieldSet = new HashSet<>();
+  private PreparedStatement preparedStatement = null;
+  private int pending = 0;
+  private int recordsInserted = 0;
+  private int batches = 0;
+  private boolean closed = false;
+  private boolean committed = false;
+
+  BatchInsert(
+      Connection connection,
+      String tableName,
+      List<String> fieldList,
+      int batchSize,
+      boolean singleTransaction,
+      Runnable onClose)
+      throws SQLException {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be at least 1: " + batchSize);
+    }
+    this.connection = connection;
+    this.tableName = tableName;
+    this.batchSize = batchSize;
+    this.onClose = onClose;
+    this.singleTransaction = singleTransaction;
+    if (!fieldList.isEmpty()) {
+      prepare(fieldList);
+    }
+  }
+
+  /**
+   * Builds the parameterized insert statement for a table.
+   *
+   * @param tableName the table
+   * @param fieldList the columns, in parameter order
+   * @return {@code INSERT INTO [table] ([a],[b]) VALUES (?,?)}
+   */
+  public static String getInsertSql(String tableName, List<String> fieldList) {
+    final StringBuilder stringBuilderFields = new StringBuilder();
+    final StringBuilder stringBuilderValues = new StringBuilder();
+    for (final String field : fieldList) {
+      if (stringBuilderFields.length() > 0) {
+        stringBuilderFields.append(",");
+        stringBuilderValues.append(",");
+      }
+      stringBuilderFields.append("[" + field.trim() + "]");
+      stringBuilderValues.append("?");
+    }
+    return JDBCConstants.INSERT_INTO
+        + "["
+        + tableName
+        + "] ("
+        + stringBuilderFields
+        + ")"
+        + JDBCConstants.VALUES
+        + "("
+        + stringBuilderValues
+        + ")";
+  }
+
+  /**
+   * Queues a row whose values are in the same order as the column list.
+   *
+   * @param values one value per column
+   * @throws SQLException if binding fails or a full batch cannot be written
+   */
+  public void addRow(List<?> values) throws SQLException {
+    if (closed) {
+      throw new SQLException("BatchInsert for [" + tableName + "] is closed");
+    }
+    if (preparedStatement == null) {
+      throw new SQLException("No columns defined for BatchInsert into [" + tableName + "]");
+    }
+    if (values.size() != fieldList.size()) {
+      throw new IllegalArgumentException(
+          "Expected ["
+              + fieldList.size()
+              + "] values for ["
+              + tableName
+              + "] but got ["
+              + values.size()
+              + "]");
+    }
+    JDBC.bindParameters(preparedStatement, values);
+    preparedStatement.addBatch();
+    pending++;
+    if (pending >= batchSize) {
+      flush();
+    }
+  }
+
+  /**
+   * Queues a row given as column name to value. A null value is stored as an empty string, as the
+   * string-built INSERT statements this replaces stored it.
+   *
+   * @param record the row; its key set determines the columns
+   * @throws SQLException if binding fails or a full batch cannot be written
+   */
+  public void addRecord(Map<String, ?> record) throws SQLException {
+    if (!record.keySet().equals(fieldSet)) {
+      flush();
+      prepare(new ArrayList<>(record.keySet()));
+    }
+    final List<Object> values = new ArrayList<>(fieldList.size());
+    for (final String field : fieldList) {
+      final Object value = record.get(field);
+      values.add(value == null ? "" : value);
+    }
+    addRow(values);
+  }
+
+  /**
+   * Executes the queued rows and, unless the loader is a single transaction, commits them.
+   *
+   * @return the number of rows inserted by this batch
+   * @throws SQLException if the batch fails; the batch (or the whole transaction) is rolled back
+   */
+  public int flush() throws SQLException {
+    if (pending == 0) {
+      return 0;
+    }
+    final long startNanos = System.nanoTime();
+    int inserted = 0;
+    try {
+      for (final int count : preparedStatement.executeBatch()) {
+        // Some drivers report SUCCESS_NO_INFO rather than a row count.
+        inserted += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+      }
+      if (!singleTransaction) {
+        connection.commit();
+      }
+    } catch (final SQLException e) {
+      rollbackQuietly();
+      throw e;
+    } finally {
+      pending = 0;
+    }
+    batches++;
+    recordsInserted += inserted;
+    LOG.debug(
+        "Inserted [{}] record(s) into [{}] in batch [{}] ({} ms)",
+        inserted,
+        tableName,
+        batches,
+        (System.nanoTime() - startNanos) / 1_000_000);
+    return inserted;
+  }
+
+  /**
+   * Runs another statement on the loader's connection after flushing the queued rows. In a single
+   * transaction it is committed or rolled back with the rows; otherwise it is committed at once.
+   *
+   * @param sql the statement
+   * @return the number of rows affected
+   * @throws SQLException if the statement fails; the transaction is rolled back
+   */
+  public int executeUpdate(String sql) throws SQLException {
+    if (closed) {
+      throw new SQLException("BatchInsert for [" + tableName + "] is closed");
+    }
+    flush();
+    try (Statement statement = connection.createStatement()) {
+      final int recordsAffected = statement.executeUpdate(sql);
+      if (!singleTransaction) {
+        connection.commit();
+      }
+      return recordsAffected;
+    } catch (final SQLException e) {
+      rollbackQuietly();
+      throw e;
+    }
+  }
+
+  /**
+   * Flushes the queued rows and commits everything written so far. In a single transaction this is
+   * the only commit; the loader is still open afterwards.
+   *
+   * @throws SQLException if the final batch or the commit fails; the transaction is rolled back
+   */
+  public void commit() throws SQLException {
+    flush();
+    try {
+      connection.commit();
+    } catch (final SQLException e) {
+      rollbackQuietly();
+      throw e;
+    }
+    committed = true;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Gets the number of rows written so far; pending rows are not included until flushed. In a
+   * single transaction the rows are only stored once {@link #commit()} has been called.
+   *
+   * @return rows inserted
+   */
+  public int getRecordsInserted() {
+    return recordsInserted;
+  }
+
+  public int getPending() {
+    return pending;
+  }
+
+  /**
+   * Flushes pending rows, closes the statement and returns the connection to the pool. A single
+   * transaction that was not committed is rolled back instead.
+   *
+   * @throws SQLException if the final batch fails
+   */
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    try {
+      if (!singleTransaction) {
+        flush();
+      } else if (!committed) {
+        LOG.warn(
+            "Rolling back uncommitted load of [{}] record(s) into [{}]",
+            recordsInserted,
+            tableName);
+        rollbackQuietly();
+        recordsInserted = 0;
+      }
+    } finally {
+      closed = true;
+      closeStatement();
+      onClose.run();
+      LOG.info("[{}] RECORD(S) INSERTED into [{}]", recordsInserted, tableName);
+    }
+  }
+
+  private void prepare(List<String> fields) throws SQLException {
+    closeStatement();
+    fieldList = fields;
+    fieldSet = new HashSet<>(fields);
+    preparedStatement = connection.prepareStatement(getInsertSql(tableName, fields));
+  }
+
+  private void closeStatement() {
+    if (preparedStatement != null) {
+      try {
+        preparedStatement.close();
+      } catch (final SQLException e) {
+        LOG.error("Error in JDBC operation", e);
+      }
+      preparedStatement = null;
+    }
+  }
+
+  private void rollbackQuietly() {
+    try {
+      connection.rollback();
+    } catch (final SQLException e) {
+      LOG.error("Error rolling back batch into [{}]", tableName, e);
+    }
+  }
+}
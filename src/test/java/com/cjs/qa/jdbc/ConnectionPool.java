@@ -0,0 +1,337 @@
+package com.cjs.qa.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.utilities.GuardedLogger;
+
+/**
+ * Bounded pool of physical connections for a single {@link DBParameters} target.
+ *
+ * <p>Connections handed out by {@link #borrow()} are proxies (see {@link PooledConnection});
+ * calling {@code close()} on them returns the physical connection to the pool instead of closing
+ * it. A returned connection is rolled back if it was left in manual-commit mode, its open
+ * statements are closed, and it is put back at the head of the idle deque so the warmest
+ * connection is reused first.
+ *
+ * <p>Features:
+ *
+ * <ul>
+ *   <li>Bounded size - at most {@code maxSize} connections are borrowed at once; further borrowers
+ *       wait up to {@code borrowTimeoutMs}
+ *   <li>Idle eviction - connections idle longer than {@code idleTimeoutMs} are closed by {@link
+ *       #evictIdle()}
+ *   <li>Health validation - connections idle longer than {@code validateAfterMs} are checked with
+ *       {@link Connection#isValid(int)} before being handed out
+ *   <li>Metrics - borrow wait, active, idle, created and destroyed counts via {@link #getMetrics()}
+ * </ul>
+ *
+ * <p>Instances are normally obtained through {@link ConnectionPools}, which keys pools by database
+ * and environment.
+ */
+public final class ConnectionPool implements AutoCloseable {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(ConnectionPool.class));
+
+  private final DBParameters dbParameters;
+  private final String name;
+  private final int maxSize;
+  private final long borrowTimeoutMs;
+  private final long idleTimeoutMs;
+  private final long validateAfterMs;
+  private final int validationTimeoutSeconds;
+  private final Semaphore permits;
+  private final Deque<IdleConnection> idleConnections = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger active = new AtomicInteger();
+  private final LongAdder created = new LongAdder();
+  private final LongAdder destroyed = new LongAdder();
+  private final LongAdder borrowed = new LongAdder();
+  private final LongAdder borrowTimeouts = new LongAdder();
+  private final LongAdder validationFailures = new LongAdder();
+  private final LongAdder leaked = new LongAdder();
+  private final LongAdder borrowWaitNanos = new LongAdder();
+  private final AtomicLong maxBorrowWaitNanos = new AtomicLong();
+  private volatile boolean closed;
+
+  /**
+   * Creates a pool for the given database parameters.
+   *
+   * @param dbParameters driver and connection string of the target database
+   * @param maxSize maximum number of connections borrowed at the same time
+   * @param borrowTimeoutMs how long {@link #borrow()} waits for a free connection
+   * @param idleTimeoutMs how long an unused connection is kept before eviction
+   * @param validateAfterMs idle time after which a connection is validated before reuse
+   * @param validationTimeoutSeconds timeout passed to {@link Connection#isValid(int)}
+   */
+  public ConnectionPool(
+      DBParameters dbParameters,
+      int maxSize,
+      long borrowTimeoutMs,
+      long idleTimeoutMs,
+      long validateAfterMs,
+      int validationTimeoutSeconds) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be at least 1: " + maxSize);
+    }
+    this.dbParameters = dbParameters;
+    this.name = maskConnectionString(dbParameters.getConnectionString());
+    this.maxSize = maxSize;
+    this.borrowTimeoutMs = borrowTimeoutMs;
+    this.idleTimeoutMs = idleTimeoutMs;
+    this.validateAfterMs = validateAfterMs;
+    this.validationTimeoutSeconds = validationTimeoutSeconds;
+    this.permits = new Semaphore(maxSize, true);
+    JDBC.classforName(dbParameters.getJdbcDriver());
+  }
+
+  /**
+   * Borrows a connection, reusing an idle one when possible.
+   *
+   * @return a pooled connection; {@code close()} returns it to this pool
+   * @throws SQLException if the pool is closed, the wait times out or a new connection fails
+   */
+  public Connection borrow() throws SQLException {
+    if (closed) {
+      throw new SQLException("Connection pool is closed: " + name);
+    }
+    final long waitStart = System.nanoTime();
+    final boolean acquired;
+    try {
+      acquired = permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted waiting for a pooled connection to " + name, e);
+    }
+    recordBorrowWait(System.nanoTime() - waitStart);
+    if (!acquired) {
+      borrowTimeouts.increment();
+      throw new SQLException(
+          "Timed out after "
+              + borrowTimeoutMs
+              + "ms waiting for a pooled connection to "
+              + name
+              + " (maxSize="
+              + maxSize
+              + ")");
+    }
+    try {
+      Connection physical = takeIdle();
+      if (physical == null) {
+        physical = create();
+      }
+      active.incrementAndGet();
+      borrowed.increment();
+      return PooledConnection.wrap(this, physical);
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a physical connection to the pool. Called by {@link PooledConnection} only.
+   *
+   * @param physical the underlying connection
+   * @param wasLeaked true if the proxy was garbage collected without being closed
+   */
+  void release(Connection physical, boolean wasLeaked) {
+    active.decrementAndGet();
+    try {
+      if (wasLeaked) {
+        leaked.increment();
+        LOG.warn("Pooled connection to {} was never closed; reclaiming it", name);
+      }
+      if (closed || !reset(physical)) {
+        destroy(physical);
+      } else {
+        idleConnections.offerFirst(new IdleConnection(physical, System.nanoTime()));
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Closes idle connections that have not been used for longer than the idle timeout.
+   *
+   * @return the number of connections evicted
+   */
+  public int evictIdle() {
+    int evicted = 0;
+    final long now = System.nanoTime();
+    for (final IdleConnection idleConnection : idleConnections) {
+      if (isExpired(idleConnection, now) && idleConnections.remove(idleConnection)) {
+        destroy(idleConnection.connection());
+        evicted++;
+      }
+    }
+    if (evicted > 0) {
+      LOG.debug("Evicted [{}] idle connection(s) from {}", evicted, name);
+    }
+    return evicted;
+  }
+
+  /** Closes all idle connections. Borrowed connections are closed when they are returned. */
+  @Override
+  public void close() {
+    closed = true;
+    IdleConnection idleConnection;
+    while ((idleConnection = idleConnections.pollFirst()) != null) {
+      destroy(idleConnection.connection());
+    }
+    LOG.debug("Closed connection pool {}", getMetrics());
+  }
+
+  public DBParameters getDbParameters() {
+    return dbParameters;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Returns a point-in-time snapshot of the pool counters.
+   *
+   * @return the current metrics
+   */
+  public ConnectionPoolMetrics getMetrics() {
+    return new ConnectionPoolMetrics(
+        name,
+        maxSize,
+        active.get(),
+        idleConnections.size(),
+        created.sum(),
+        destroyed.sum(),
+        borrowed.sum(),
+        borrowTimeouts.sum(),
+        validationFailures.sum(),
+        leaked.sum(),
+        borrowWaitNanos.sum(),
+        maxBorrowWaitNanos.get());
+  }
+
+  /**
+   * Removes the password portion of a connection string so it can be logged.
+   *
+   * @param connectionString the JDBC connection string
+   * @return the connection string up to (not including) any password
+   */
+  public static String maskConnectionString(String connectionString) {
+    if (connectionString == null) {
+      return null;
+    }
+    String message = connectionString;
+    if (message.indexOf("password") >= 0) {
+      message = message.substring(0, message.indexOf("password"));
+    }
+    if (message.indexOf("PWD") >= 0) {
+      message = message.substring(0, message.indexOf("PWD"));
+    }
+    return message;
+  }
+
+  private Connection takeIdle() {
+    IdleConnection idleConnection;
+    final long now = System.nanoTime();
+    while ((idleConnection = idleConnections.pollFirst()) != null) {
+      if (isExpired(idleConnection, now)) {
+        destroy(idleConnection.connection());
+      } else if (needsValidation(idleConnection, now) && !isValid(idleConnection.connection())) {
+        validationFailures.increment();
+        destroy(idleConnection.connection());
+      } else {
+        return idleConnection.connection();
+      }
+    }
+    return null;
+  }
+
+  private Connection create() throws SQLException {
+    final Connection connection = openConnection(dbParameters);
+    created.increment();
+    LOG.debug("Created pooled connection [{}] to {}", created.sum(), name);
+    return connection;
+  }
+
+  /**
+   * Opens a new physical (unpooled) connection.
+   *
+   * @param dbParameters driver, connection string and optional credentials
+   * @return a new connection owned by the caller
+   * @throws SQLException if the driver cannot connect
+   */
+  static Connection openConnection(DBParameters dbParameters) throws SQLException {
+    final String connectionString = dbParameters.getConnectionString();
+    if (dbParameters.getUser() == null) {
+      return DriverManager.getConnection(connectionString);
+    }
+    final String password = dbParameters.getPassword() == null ? "" : dbParameters.getPassword();
+    return DriverManager.getConnection(connectionString, dbParameters.getUser(), password);
+  }
+
+  private void destroy(Connection connection) {
+    try {
+      connection.close();
+    } catch (final SQLException e) {
+      LOG.debug("Error closing pooled connection to {}: {}", name, e.getMessage());
+    }
+    destroyed.increment();
+  }
+
+  private boolean reset(Connection connection) {
+    try {
+      if (connection.isClosed()) {
+        return false;
+      }
+      if (!connection.getAutoCommit()) {
+        // Match the behaviour of closing an unpooled connection: uncommitted work is discarded.
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+      connection.clearWarnings();
+      return true;
+    } catch (final SQLException e) {
+      LOG.debug("Discarding pooled connection to {}: {}", name, e.getMessage());
+      return false;
+    }
+  }
+
+  private boolean isValid(Connection connection) {
+    try {
+      return connection.isValid(validationTimeoutSeconds);
+    } catch (final SQLException e) {
+      return false;
+    }
+  }
+
+  private boolean isExpired(IdleConnection idleConnection, long now) {
+    return TimeUnit.NANOSECONDS.toMillis(now - idleConnection.idleSinceNanos()) > idleTimeoutMs;
+  }
+
+  private boolean needsValidation(IdleConnection idleConnection, long now) {
+    return TimeUnit.NANOSECONDS.toMillis(now - idleConnection.idleSinceNanos()) > validateAfterMs;
+  }
+
+  private void recordBorrowWait(long waitNanos) {
+    borrowWaitNanos.add(waitNanos);
+    maxBorrowWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  private record IdleConnection(Connection connection, long idleSinceNanos) {}
+}
@@ -0,0 +1,69 @@
+package com.cjs.qa.jdbc;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of {@link ConnectionPool} counters.
+ *
+ * @param name masked connection string identifying the pool
+ * @param maxSize maximum number of concurrently borrowed connections
+ * @param active connections currently borrowed
+ * @param idle connections currently waiting in the pool
+ * @param created physical connections opened since the pool was created
+ * @param destroyed physical connections closed since the pool was created
+ * @param borrowed successful borrows
+ * @param borrowTimeouts borrows that gave up waiting for a free connection
+ * @param validationFailures idle connections discarded because they failed validation
+ * @param leaked connections reclaimed after their proxy was garbage collected without close()
+ * @param totalBorrowWaitNanos cumulative time spent waiting for a free connection
+ * @param maxBorrowWaitNanos longest single wait for a free connection
+ */
+public record ConnectionPoolMetrics(
+    String name,
+    int maxSize,
+    int active,
+    int idle,
+    long created,
+    long destroyed,
+    long borrowed,
+    long borrowTimeouts,
+    long validationFailures,
+    long leaked,
+    long totalBorrowWaitNanos,
+    long maxBorrowWaitNanos) {
+
+  /**
+   * Average time a borrower waited for a connection.
+   *
+   * @return average wait in milliseconds, or 0 if nothing has been borrowed
+   */
+  public double averageBorrowWaitMillis() {
+    final long attempts = borrowed + borrowTimeouts;
+    if (attempts == 0) {
+      return 0;
+    }
+    return (double) totalBorrowWaitNanos / attempts / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Pool:[%s], Max:[%d], Active:[%d], Idle:[%d], Created:[%d], Destroyed:[%d], Borrowed:[%d], \
+    Timeouts:[%d], ValidationFailures:[%d], Leaked:[%d], AvgWaitMs:[%.3f], MaxWaitMs:[%d]
+    """
+        .formatted(
+            name,
+            maxSize,
+            active,
+            idle,
+            created,
+            destroyed,
+            borrowed,
+            borrowTimeouts,
+            validationFailures,
+            leaked,
+            averageBorrowWaitMillis(),
+            TimeUnit.NANOSECONDS.toMillis(maxBorrowWaitNanos))
+        .trim();
+  }
+}
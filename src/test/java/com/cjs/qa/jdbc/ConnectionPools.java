@@ -0,0 +1,173 @@
+package com.cjs.qa.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * JVM-wide registry of {@link ConnectionPool}s keyed by {@link DBParameters}.
+ *
+ * <p>{@link JDBC} borrows every connection through {@link #getConnection(DBParameters)}, so
+ * existing call sites ({@code new JDBC(environment, database)}, {@code SQL.execute}, the DBUnit
+ * bases) share warm connections without any code changes. One pool exists per driver, connection
+ * string and user, which means one pool per database/environment returned by {@link
+ * DBConnections}.
+ *
+ * <p>Configuration (environment variable or system property):
+ *
+ * <ul>
+ *   <li>{@code JDBC_POOL_ENABLED} / {@code jdbc.pool.enabled} - set to false to open a new
+ *       connection per call as before (default true)
+ *   <li>{@code JDBC_POOL_MAX_SIZE} / {@code jdbc.pool.max.size} - connections per pool (default
+ *       10)
+ *   <li>{@code JDBC_POOL_BORROW_TIMEOUT_MS} / {@code jdbc.pool.borrow.timeout.ms} - wait for a
+ *       free connection (default 30000)
+ *   <li>{@code JDBC_POOL_IDLE_TIMEOUT_MS} / {@code jdbc.pool.idle.timeout.ms} - idle eviction
+ *       (default 300000)
+ *   <li>{@code JDBC_POOL_VALIDATE_AFTER_MS} / {@code jdbc.pool.validate.after.ms} - idle time
+ *       after which a connection is validated before reuse (default 5000)
+ * </ul>
+ *
+ * <p>Idle connections are evicted by a daemon thread, and all pools are closed by a shutdown hook.
+ */
+public final class ConnectionPools {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(ConnectionPools.class));
+
+  private static final int DEFAULT_MAX_SIZE = 10;
+  private static final long DEFAULT_BORROW_TIMEOUT_MS = 30000L;
+  private static final long DEFAULT_IDLE_TIMEOUT_MS = 300000L;
+  private static final long DEFAULT_VALIDATE_AFTER_MS = 5000L;
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+  private static final long EVICTION_INTERVAL_MS = 30000L;
+
+  private static final Map<String, ConnectionPool> POOLS = new ConcurrentHashMap<>();
+  private static final ScheduledExecutorService EVICTOR =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            final Thread thread = new Thread(runnable, "jdbc-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  static {
+    EVICTOR.scheduleWithFixedDelay(
+        ConnectionPools::evictIdle,
+        EVICTION_INTERVAL_MS,
+        EVICTION_INTERVAL_MS,
+        TimeUnit.MILLISECONDS);
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(ConnectionPools::closeAll, "jdbc-pool-shutdown"));
+  }
+
+  private ConnectionPools() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Borrows a connection for the given database. Closing the returned connection hands it back to
+   * the pool.
+   *
+   * @param dbParameters driver and connection string of the target database
+   * @return a pooled connection, or a plain connection when pooling is disabled
+   * @throws SQLException if no connection can be obtained
+   */
+  public static Connection getConnection(DBParameters dbParameters) throws SQLException {
+    if (!isEnabled()) {
+      JDBC.classforName(dbParameters.getJdbcDriver());
+      return ConnectionPool.openConnection(dbParameters);
+    }
+    return getPool(dbParameters).borrow();
+  }
+
+  /**
+   * Returns the pool for the given database, creating it on first use.
+   *
+   * @param dbParameters driver and connection string of the target database
+   * @return the shared pool
+   */
+  public static ConnectionPool getPool(DBParameters dbParameters) {
+    return POOLS.compute(
+        getKey(dbParameters),
+        (key, pool) -> pool == null || pool.isClosed() ? createPool(dbParameters) : pool);
+  }
+
+  /**
+   * Returns a metrics snapshot for every pool.
+   *
+   * @return one entry per pool
+   */
+  public static List<ConnectionPoolMetrics> getMetrics() {
+    final List<ConnectionPoolMetrics> metricsList = new ArrayList<>();
+    for (final ConnectionPool pool : POOLS.values()) {
+      metricsList.add(pool.getMetrics());
+    }
+    return metricsList;
+  }
+
+  /** Evicts expired idle connections from every pool. */
+  public static void evictIdle() {
+    for (final ConnectionPool pool : POOLS.values()) {
+      try {
+        pool.evictIdle();
+      } catch (final RuntimeException e) {
+        LOG.warn("Error evicting idle connections from {}: {}", pool.getName(), e.getMessage());
+      }
+    }
+  }
+
+  /** Closes every pool and logs its final metrics. */
+  public static void closeAll() {
+    for (final String key : new ArrayList<>(POOLS.keySet())) {
+      final ConnectionPool pool = POOLS.remove(key);
+      if (pool != null) {
+        LOG.info("Closing connection pool {}", pool.getMetrics());
+        pool.close();
+      }
+    }
+  }
+
+  public static boolean isEnabled() {
+    return TuningConfig.getBoolean("JDBC_POOL_ENABLED", "jdbc.pool.enabled", true);
+  }
+
+  private static ConnectionPool createPool(DBParameters dbParameters) {
+    final ConnectionPool pool =
+        new ConnectionPool(
+            dbParameters,
+            TuningConfig.getInt("JDBC_POOL_MAX_SIZE", "jdbc.pool.max.size", DEFAULT_MAX_SIZE),
+            TuningConfig.getLong(
+                "JDBC_POOL_BORROW_TIMEOUT_MS",
+                "jdbc.pool.borrow.timeout.ms",
+                DEFAULT_BORROW_TIMEOUT_MS),
+            TuningConfig.getLong(
+                "JDBC_POOL_IDLE_TIMEOUT_MS", "jdbc.pool.idle.timeout.ms", DEFAULT_IDLE_TIMEOUT_MS),
+            TuningConfig.getLong(
+                "JDBC_POOL_VALIDATE_AFTER_MS",
+                "jdbc.pool.validate.after.ms",
+                DEFAULT_VALIDATE_AFTER_MS),
+            VALIDATION_TIMEOUT_SECONDS);
+    LOG.info("Created connection pool for {}", pool.getName());
+    return pool;
+  }
+
+  private static String getKey(DBParameters dbParameters) {
+    return dbParameters.getJdbcDriver()
+        + "|"
+        + dbParameters.getConnectionString()
+        + "|"
+        + dbParameters.getUser();
+  }
+}
@@ -4,6 +4,7 @@
 
 public enum EDBDriver {
   DB2("com.ibm.db2.jcc.DB2Driver", "jdbc:db2://"),
+  H2("org.h2.Driver", "jdbc:h2:"),
   MICROSOFT("sun.jdbc.odbc.JdbcOdbcDriver", "jdbc:odbc:"),
   QUICKBOOKS("sun.jdbc.odbc.JdbcOdbcDriver", "jdbc:odbc:QuickBooks Data"),
   SQLITE("org.sqlite.JDBC", "jdbc:sqlite:"),
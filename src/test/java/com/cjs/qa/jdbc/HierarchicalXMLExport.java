@@ -0,0 +1,205 @@
+package com.cjs.qa.jdbc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.utilities.GuardedLogger;
+
+/**
+ * Exports related tables as nested XML without issuing one query per parent row.
+ *
+ * <p>Each {@link XMLExportNode} query is executed exactly once and its rows are grouped in memory
+ * by their key columns. The document is then written top-down through a StAX {@link
+ * XMLStreamWriter}, looking up each row's children by the parent's key values, so the cost grows
+ * with the number of rows rather than with the number of nested queries. Values are escaped by the
+ * writer and output is indented as it is written, so no intermediate string or DOM is built.
+ *
+ * <p>Instances are single use and not thread-safe.
+ */
+public final class HierarchicalXMLExport {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(HierarchicalXMLExport.class));
+  private static final String INDENT = "    ";
+
+  private final JDBC jdbc;
+  private final String rootElement;
+  private final List<XMLExportNode> nodes;
+  private final Map<XMLExportNode, Map<List<String>, List<Map<String, String>>>> groupsMap =
+      new IdentityHashMap<>();
+  private XMLStreamWriter xmlStreamWriter = null;
+  private int depth = 0;
+  private int rowsWritten = 0;
+
+  /**
+   * Creates an export.
+   *
+   * @param jdbc connection used to run every level's query
+   * @param rootElement name of the document element
+   * @param nodes top-level nodes, written in order inside the document element
+   */
+  public HierarchicalXMLExport(JDBC jdbc, String rootElement, List<XMLExportNode> nodes) {
+    this.jdbc = jdbc;
+    this.rootElement = rootElement;
+    this.nodes = List.copyOf(nodes);
+  }
+
+  /**
+   * Writes the export to a file (UTF-8), replacing any existing file.
+   *
+   * @param filePathName the output file
+   * @return the number of rows written
+   * @throws IOException if the file cannot be written
+   * @throws SQLException if a query fails
+   * @throws XMLStreamException if the XML cannot be written
+   */
+  public int export(String filePathName) throws IOException, SQLException, XMLStreamException {
+    final Path path = Paths.get(filePathName);
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      return export(writer);
+    }
+  }
+
+  /**
+   * Writes the export to a writer. The writer is flushed but not closed.
+   *
+   * @param writer the destination
+   * @return the number of rows written
+   * @throws SQLException if a query fails
+   * @throws XMLStreamException if the XML cannot be written
+   */
+  public int export(Writer writer) throws SQLException, XMLStreamException {
+    final long startNanos = System.nanoTime();
+    for (final XMLExportNode node : nodes) {
+      load(node);
+    }
+    xmlStreamWriter = XMLOutputFactory.newFactory().createXMLStreamWriter(writer);
+    try {
+      xmlStreamWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+      writeStartElement(rootElement);
+      for (final XMLExportNode node : nodes) {
+        writeRows(node, Collections.emptyMap());
+      }
+      writeEndElement();
+      xmlStreamWriter.writeCharacters("\n");
+      xmlStreamWriter.writeEndDocument();
+      xmlStreamWriter.flush();
+    } finally {
+      xmlStreamWriter.close();
+    }
+    LOG.info(
+        "Exported [{}] row(s) from [{}] queries to <{}> in [{}] ms",
+        rowsWritten,
+        groupsMap.size(),
+        rootElement,
+        (System.nanoTime() - startNanos) / 1_000_000);
+    return rowsWritten;
+  }
+
+  /** Runs the node's query once and groups its rows by key, then loads its children. */
+  private void load(XMLExportNode node) throws SQLException {
+    final Map<List<String>, List<Map<String, String>>> groups = new LinkedHashMap<>();
+    try (RowCursor row = jdbc.openCursor(node.sql())) {
+      while (row.next()) {
+        final Map<String, String> rowMap = row.toMap();
+        groups.computeIfAbsent(getKey(rowMap, node.keys()), key -> new ArrayList<>()).add(rowMap);
+      }
+      LOG.debug("Loaded [{}] row(s): [{}]", row.getRowNumber(), node.sql());
+    }
+    groupsMap.put(node, groups);
+    for (final XMLExportNode child : node.children()) {
+      load(child);
+    }
+  }
+
+  private void writeRows(XMLExportNode node, Map<String, String> context)
+      throws XMLStreamException {
+    final List<Map<String, String>> rows =
+        groupsMap.get(node).getOrDefault(getKey(context, node.parentKeys()), List.of());
+    if (node.wrapperElement() != null) {
+      writeStartElement(node.wrapperElement());
+    }
+    for (final Map<String, String> row : rows) {
+      rowsWritten++;
+      final String elementValue =
+          node.elementColumn() == null ? null : row.get(node.elementColumn());
+      if (elementValue != null) {
+        writeStartElement(elementValue.toLowerCase(Locale.ENGLISH));
+      }
+      for (final String field : node.fields()) {
+        writeField(field, row.get(field));
+      }
+      if (!node.children().isEmpty()) {
+        // Children may key on any ancestor column, so pass the accumulated row values down.
+        final Map<String, String> childContext = new HashMap<>(context);
+        childContext.putAll(row);
+        for (final XMLExportNode child : node.children()) {
+          writeRows(child, childContext);
+        }
+      }
+      if (elementValue != null) {
+        writeEndElement();
+      }
+    }
+    if (node.wrapperElement() != null) {
+      writeEndElement();
+    }
+  }
+
+  private void writeStartElement(String name) throws XMLStreamException {
+    writeIndent();
+    xmlStreamWriter.writeStartElement(name);
+    depth++;
+  }
+
+  private void writeEndElement() throws XMLStreamException {
+    depth--;
+    writeIndent();
+    xmlStreamWriter.writeEndElement();
+  }
+
+  private void writeField(String name, String value) throws XMLStreamException {
+    writeIndent();
+    if (value == null) {
+      xmlStreamWriter.writeEmptyElement(name);
+    } else {
+      xmlStreamWriter.writeStartElement(name);
+      xmlStreamWriter.writeCharacters(value);
+      xmlStreamWriter.writeEndElement();
+    }
+  }
+
+  private void writeIndent() throws XMLStreamException {
+    xmlStreamWriter.writeCharacters("\n" + INDENT.repeat(depth));
+  }
+
+  private static List<String> getKey(Map<String, String> map, List<String> columns) {
+    final List<String> key = new ArrayList<>(columns.size());
+    for (final String column : columns) {
+      key.add(map.get(column));
+    }
+    return key;
+  }
+}
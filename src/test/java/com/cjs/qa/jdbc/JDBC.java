@@ -1,7 +1,6 @@
 package com.cjs.qa.jdbc;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -14,20 +13,24 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.apache.logging.log4j.LogManager;
 
 import com.cjs.qa.microsoft.excel.xls.XLS;
+import com.cjs.qa.microsoft.excel.xlsx.XLSXStreamWriter;
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.FSOTests;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
 import com.cjs.qa.utilities.JavaHelpers;
+import com.cjs.qa.utilities.TuningConfig;
 
 public class JDBC {
 
   private static final GuardedLogger LOG = new GuardedLogger(LogManager.getLogger(JDBC.class));
+  private static final int DEFAULT_FETCH_SIZE = 500;
+  private static final int DEFAULT_BATCH_SIZE = 1000;
   private String environment = "TST";
   private String database = "QAAuto";
   private DBParameters dbParameters = null;
@@ -146,6 +149,10 @@ public static void classforName(String jdbcDriver) {
   public void close() {
     LOG.info(
         "Closing Connection to Database: [{}], Environment: [{}]", getDatabase(), getEnvironment());
+    closeResources();
+  }
+
+  private void closeResources() {
     if (resultSetMetaData != null) {
       resultSetMetaData = null;
     }
@@ -176,36 +183,24 @@ public void close() {
   }
 
   private void connect(DBParameters parameters) {
-    final String jdbcDriver = parameters.getJdbcDriver();
+    // Hand any connection still held from a previous call back to the pool before borrowing.
+    closeResources();
     final String connectionString = parameters.getConnectionString();
-    connection = null;
-    String message = connectionString;
-    if (connectionString.indexOf("password") >= 0) {
-      message = connectionString.substring(0, connectionString.indexOf("password"));
-    }
-    if (connectionString.indexOf("PWD") >= 0) {
-      message = connectionString.substring(0, connectionString.indexOf("PWD"));
-    }
     LOG.info(
         "Connecting to Environment: [{}], Database: [{}], Connection String: [{}]",
         getEnvironment(),
         getDatabase(),
-        message);
+        ConnectionPool.maskConnectionString(connectionString));
     try {
-      classforName(jdbcDriver);
-      try {
-        connection = DriverManager.getConnection(connectionString);
-        getStatement();
-      } catch (final SQLException e) {
-        LOG.error("Failed to connect - Parameters: {}", parameters.toString(), e);
-      }
+      connection = ConnectionPools.getConnection(parameters);
+      getStatement();
     } catch (final Exception e) {
       LOG.error("Failed to connect - Parameters: {}", parameters.toString(), e);
     }
   }
 
   public boolean dropFieldFromTableSQLite(String tableName, String fieldName) throws Exception {
-    LOG.info("{}]", Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName());
+    LOG.info("{}{}]", Constants.CLASS_METHOD_DEBUG, CallerContext.logClassMethodDebugName());
     String tableBackUp = tableName + "_BAK";
     dropTable(tableBackUp);
     // StringBuilder stringBuilder = new StringBuilder("ALTER
@@ -243,7 +238,7 @@ public boolean dropFieldFromTableSQLite(String tableName, String fieldName) thro
 
   public boolean dropFieldsFromTableSQLite(String tableName, List<String> fieldsRemoveList)
       throws Exception {
-    LOG.info("{}]", Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName());
+    LOG.info("{}{}]", Constants.CLASS_METHOD_DEBUG, CallerContext.logClassMethodDebugName());
     // TODO This does not set the fields TEXT DEFAULT (null).
     String tableBackUp = tableName + "_BAK";
     dropTable(tableBackUp);
@@ -277,7 +272,7 @@ public boolean dropFieldsFromTableSQLite(String tableName, List<String> fieldsRe
   }
 
   public boolean dropTable(String tableName) throws Exception {
-    LOG.info("{}]", Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName());
+    LOG.info("{}{}]", Constants.CLASS_METHOD_DEBUG, CallerContext.logClassMethodDebugName());
     final String sql =
         "\n" + JDBCConstants.DROP_TABLE + JDBCConstants.IF_EXISTS + "[" + tableName + "];";
     executeUpdate(sql, false);
@@ -303,6 +298,27 @@ public boolean execute(String sql) {
     }
   }
 
+  /**
+   * Inserts rows with a batched prepared statement, committing every batch.
+   *
+   * @param tableName the table
+   * @param fieldList the columns, in value order
+   * @param rows one list of values per row
+   * @return the number of rows inserted
+   * @throws SQLException if the connection cannot be obtained or a batch fails
+   */
+  public int executeBatchInsert(
+      String tableName, List<String> fieldList, List<? extends List<?>> rows)
+      throws SQLException {
+    try (BatchInsert batchInsert = openBatchInsert(tableName, fieldList)) {
+      for (final List<?> row : rows) {
+        batchInsert.addRow(row);
+      }
+      batchInsert.flush();
+      return batchInsert.getRecordsInserted();
+    }
+  }
+
   public int executeUpdate(String sql, boolean autoCommit) throws Exception {
     connect(dbParameters);
     int recordsUpdated = 0;
@@ -364,6 +380,17 @@ public int executeUpdates(List<String> sqls, boolean autoCommit) {
     }
   }
 
+  /**
+   * Exports a table or view to a sheet. An .xlsx file is written through {@link XLSXStreamWriter},
+   * which keeps memory flat for large tables; an .xls file is written through {@link XLS}.
+   *
+   * @param tableViewName the table or view
+   * @param filePathName the workbook; other sheets in it are kept unless {@code overwrite} is set
+   * @param sheetName the sheet to write
+   * @param database the database definition
+   * @param overwrite delete the workbook first
+   * @throws Throwable if the query or the write fails
+   */
   public static void exportDataFromTableView(
       String tableViewName,
       String filePathName,
@@ -371,29 +398,29 @@ public static void exportDataFromTableView(
       String database,
       boolean overwrite)
       throws Throwable {
-    JDBC jdbc = new JDBC("", database);
-    List<Map<Integer, String>> tableViewListMap =
-        jdbc.queryResultsIndex(
-            JDBCConstants.SELECT_ALL + JDBCConstants.FROM + "[" + tableViewName + "]", true);
-    List<String> headingList = jdbc.getFieldNamesList(tableViewName);
-    jdbc.close();
     if (overwrite && FSOTests.fileExists(filePathName)) {
       FSOTests.fileDelete(filePathName);
     }
+    if (isXlsx(filePathName)) {
+      exportDataFromTableViews(Map.of(tableViewName, sheetName), filePathName, database, false);
+      return;
+    }
+    final String sql = JDBCConstants.SELECT_ALL + JDBCConstants.FROM + "[" + tableViewName + "]";
+    JDBC jdbc = new JDBC("", database);
     final XLS excel = new XLS(filePathName, sheetName);
-    for (int recordIndex = 0; recordIndex < tableViewListMap.size(); recordIndex++) {
-      Map<Integer, String> tableViewMap = tableViewListMap.get(recordIndex);
-      if (recordIndex == 0) {
-        excel.createHeadings(sheetName, headingList);
-      } else {
-        for (Entry<Integer, String> entry : tableViewMap.entrySet()) {
-          int column = entry.getKey();
-          String value = entry.getValue();
+    // Stream the rows straight into the workbook rather than materializing the whole table.
+    try (RowCursor row = jdbc.openCursor(sql)) {
+      excel.createHeadings(sheetName, row.getColumnNames());
+      while (row.next()) {
+        for (int column = 0; column < row.getColumnCount(); column++) {
+          String value = row.getString(column);
           if (JavaHelpers.hasValue(value)) {
-            excel.writeCell(sheetName, column, recordIndex, value);
+            excel.writeCell(sheetName, column, row.getRowNumber(), value);
           }
         }
       }
+    } finally {
+      jdbc.close();
     }
     excel.autoSizeColumns(sheetName);
     // Always leave the first sheet selected.
@@ -402,12 +429,58 @@ public static void exportDataFromTableView(
     excel.close();
   }
 
+  /**
+   * Exports several tables or views to sheets of one .xlsx file through a single {@link
+   * XLSXStreamWriter}. The workbook is opened once, so sheets written earlier in the export are not
+   * read back into memory for every later sheet, as separate {@link #exportDataFromTableView} calls
+   * would do.
+   *
+   * @param tableViewSheetMap the tables or views mapped to their sheet names, in sheet order
+   * @param filePathName the .xlsx workbook; other sheets in it are kept unless {@code overwrite} is
+   *     set
+   * @param database the database definition
+   * @param overwrite delete the workbook first
+   * @throws Throwable if a query or the write fails
+   */
+  public static void exportDataFromTableViews(
+      Map<String, String> tableViewSheetMap,
+      String filePathName,
+      String database,
+      boolean overwrite)
+      throws Throwable {
+    if (overwrite && FSOTests.fileExists(filePathName)) {
+      FSOTests.fileDelete(filePathName);
+    }
+    JDBC jdbc = new JDBC("", database);
+    try (XLSXStreamWriter excel = new XLSXStreamWriter(filePathName)) {
+      for (final Map.Entry<String, String> entry : tableViewSheetMap.entrySet()) {
+        final String sql =
+            JDBCConstants.SELECT_ALL + JDBCConstants.FROM + "[" + entry.getKey() + "]";
+        try (RowCursor row = jdbc.openCursor(sql)) {
+          excel.startSheet(entry.getValue(), row.getColumnNames());
+          final List<Object> values = new ArrayList<>(row.getColumnCount());
+          while (row.next()) {
+            values.clear();
+            for (int column = 0; column < row.getColumnCount(); column++) {
+              values.add(row.getObject(column));
+            }
+            excel.appendRow(values);
+          }
+        }
+      }
+      // Always leave the first sheet selected.
+      excel.setActiveSheet(0);
+    } finally {
+      jdbc.close();
+    }
+  }
+
   public static void exportTableViewSchemaSQLite(
       String sheetName, String database, boolean overwrite) throws Throwable {
     StringBuilder sqlStringBuilder = new StringBuilder();
     JDBC jdbc = new JDBC("", database);
     String filePathName =
-        jdbc.dbParameters.getName().replaceAll(IExtension.SQLITE, "_Schema" + IExtension.XLS);
+        jdbc.dbParameters.getName().replaceAll(IExtension.SQLITE, "_Schema" + IExtension.XLSX);
     if (overwrite && FSOTests.fileExists(filePathName)) {
       FSOTests.fileDelete(filePathName);
     }
@@ -417,27 +490,55 @@ public static void exportTableViewSchemaSQLite(
     sqlStringBuilder.append(JDBCConstants.ORDER_BY + "[type],[name];");
     List<Map<String, String>> tableViewListMap =
         jdbc.queryResultsString(sqlStringBuilder.toString(), false);
-    final XLS excel = new XLS(filePathName, sheetName);
-    List<String> headingList = Arrays.asList("Type", "Name", "Field");
-    excel.createHeadings(sheetName, headingList);
-    int recordIndex = 0;
-    for (Map<String, String> tableViewMap : tableViewListMap) {
-      String objectType = tableViewMap.get("type");
-      String objectName = tableViewMap.get("name");
-      List<String> fieldNameList = jdbc.getFieldNamesList(objectName);
-      for (String fieldName : fieldNameList) {
-        recordIndex++;
-        excel.writeCell(sheetName, 0, recordIndex, objectType);
-        excel.writeCell(sheetName, 1, recordIndex, objectName);
-        excel.writeCell(sheetName, 2, recordIndex, fieldName);
+    try (XLSXStreamWriter excel = new XLSXStreamWriter(filePathName)) {
+      excel.startSheet(sheetName, Arrays.asList("Type", "Name", "Field"));
+      for (Map<String, String> tableViewMap : tableViewListMap) {
+        String objectType = tableViewMap.get("type");
+        String objectName = tableViewMap.get("name");
+        List<String> fieldNameList = jdbc.getFieldNamesList(objectName);
+        for (String fieldName : fieldNameList) {
+          excel.appendRow(objectType, objectName, fieldName);
+        }
+      }
+      // Always leave the first sheet selected.
+      excel.setActiveSheet(0);
+    } finally {
+      jdbc.close();
+    }
+  }
+
+  private static boolean isXlsx(String filePathName) {
+    return filePathName.toLowerCase(Locale.ENGLISH).endsWith(IExtension.XLSX);
+  }
+
+  /**
+   * Streams the results of a query through a callback, one row at a time.
+   *
+   * @param sql the query
+   * @param rowCallback invoked once per row with the (reused) cursor
+   * @return the number of rows processed
+   * @throws Exception if the query fails or the callback throws
+   */
+  public int forEachRow(String sql, RowCallback rowCallback) throws Exception {
+    return forEachRow(sql, getDefaultFetchSize(), rowCallback);
+  }
+
+  /**
+   * Streams the results of a query through a callback, one row at a time.
+   *
+   * @param sql the query
+   * @param fetchSize rows the driver fetches per round trip
+   * @param rowCallback invoked once per row with the (reused) cursor
+   * @return the number of rows processed
+   * @throws Exception if the query fails or the callback throws
+   */
+  public int forEachRow(String sql, int fetchSize, RowCallback rowCallback) throws Exception {
+    try (RowCursor row = openCursor(sql, fetchSize)) {
+      while (row.next()) {
+        rowCallback.accept(row);
       }
+      return row.getRowNumber();
     }
-    excel.autoSizeColumns(sheetName);
-    // Always leave the first sheet selected.
-    excel.setSheet(0);
-    excel.save();
-    excel.close();
-    jdbc.close();
   }
 
   private String getDatabase() {
@@ -479,6 +580,8 @@ public List<String> getFieldNamesList(String tableName, boolean sqlite) {
     } catch (final Exception e) {
       LOG.error("Error in JDBC operation", e);
       return Collections.emptyList();
+    } finally {
+      closeResources();
     }
   }
 
@@ -505,6 +608,117 @@ private void getStatement() {
     }
   }
 
+  /**
+   * Opens a batched bulk loader for a table using the default batch size ({@code JDBC_BATCH_SIZE}
+   * / {@code jdbc.batch.size}, default 1000).
+   *
+   * @param tableName the table
+   * @param fieldList the columns, or an empty list when rows are added as maps
+   * @return an open loader; closing it flushes pending rows and returns the connection
+   * @throws SQLException if the connection cannot be obtained
+   */
+  public BatchInsert openBatchInsert(String tableName, List<String> fieldList)
+      throws SQLException {
+    return openBatchInsert(
+        tableName,
+        fieldList,
+        TuningConfig.getInt("JDBC_BATCH_SIZE", "jdbc.batch.size", DEFAULT_BATCH_SIZE));
+  }
+
+  /**
+   * Opens a batched bulk loader for a table.
+   *
+   * @param tableName the table
+   * @param fieldList the columns, or an empty list when rows are added as maps
+   * @param batchSize rows per executeBatch/commit
+   * @return an open loader; closing it flushes pending rows and returns the connection
+   * @throws SQLException if the connection cannot be obtained
+   */
+  public BatchInsert openBatchInsert(String tableName, List<String> fieldList, int batchSize)
+      throws SQLException {
+    return openBatchInsert(tableName, fieldList, batchSize, false);
+  }
+
+  /**
+   * Opens a batched bulk loader that runs as one transaction with the default batch size: nothing
+   * is stored until {@link BatchInsert#commit()}, and closing it without a commit rolls back every
+   * row and every {@link BatchInsert#executeUpdate(String)} statement.
+   *
+   * @param tableName the table
+   * @param fieldList the columns, or an empty list when rows are added as maps
+   * @return an open loader; closing it returns the connection
+   * @throws SQLException if the connection cannot be obtained
+   */
+  public BatchInsert openBatchInsertTransaction(String tableName, List<String> fieldList)
+      throws SQLException {
+    return openBatchInsert(
+        tableName,
+        fieldList,
+        TuningConfig.getInt("JDBC_BATCH_SIZE", "jdbc.batch.size", DEFAULT_BATCH_SIZE),
+        true);
+  }
+
+  private BatchInsert openBatchInsert(
+      String tableName, List<String> fieldList, int batchSize, boolean singleTransaction)
+      throws SQLException {
+    connect(dbParameters);
+    if (connection == null) {
+      throw new SQLException("No connection to Database: [" + getDatabase() + "]");
+    }
+    try {
+      connection.setAutoCommit(false);
+      return new BatchInsert(
+          connection, tableName, fieldList, batchSize, singleTransaction, this::closeResources);
+    } catch (final SQLException | RuntimeException e) {
+      closeResources();
+      throw e;
+    }
+  }
+
+  /**
+   * Opens a forward-only, read-only cursor over a query without materializing its rows.
+   *
+   * @param sql the query
+   * @return an open cursor; closing it returns the connection to the pool
+   * @throws SQLException if the connection cannot be obtained or the query fails
+   */
+  public RowCursor openCursor(String sql) throws SQLException {
+    return openCursor(sql, getDefaultFetchSize());
+  }
+
+  /**
+   * Opens a forward-only, read-only cursor over a query without materializing its rows.
+   *
+   * @param sql the query
+   * @param fetchSize rows the driver fetches per round trip (a hint; ignored by some drivers)
+   * @return an open cursor; closing it returns the connection to the pool
+   * @throws SQLException if the connection cannot be obtained or the query fails
+   */
+  public RowCursor openCursor(String sql, int fetchSize) throws SQLException {
+    LOG.debug("sql: [{}], fetchSize: [{}]", sql, fetchSize);
+    connect(dbParameters);
+    if (connection == null) {
+      throw new SQLException("No connection to Database: [" + getDatabase() + "]");
+    }
+    try {
+      if (statement != null) {
+        statement.close();
+      }
+      statement =
+          connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      resultSet = statement.executeQuery(sql);
+      return new RowCursor(resultSet, this::closeResources);
+    } catch (final SQLException e) {
+      closeResources();
+      throw e;
+    }
+  }
+
+  private static int getDefaultFetchSize() {
+    return TuningConfig.getInt("JDBC_FETCH_SIZE", "jdbc.fetch.size", DEFAULT_FETCH_SIZE);
+  }
+
   public ResultSet queryResults(String sql) {
     connect(dbParameters);
     try {
@@ -559,6 +773,8 @@ public String queryResults(String sql, String delimeter, boolean includeColumnNa
     } catch (final Exception e) {
       LOG.error("Error in JDBC operation", e);
       return null;
+    } finally {
+      closeResources();
     }
   }
 
@@ -587,6 +803,8 @@ public List<Map<Integer, String>> queryResultsIndex(String sql, boolean includeC
     } catch (final Exception e) {
       LOG.error("Error in JDBC operation", e);
       return Collections.emptyList();
+    } finally {
+      closeResources();
     }
   }
 
@@ -618,6 +836,8 @@ public List<String> queryResultsList(String sql, boolean includeColumnNames) {
     } catch (final Exception e) {
       LOG.error("Error in JDBC operation", e);
       return Collections.emptyList();
+    } finally {
+      closeResources();
     }
   }
 
@@ -649,6 +869,8 @@ public List<Map<String, String>> queryResultsString(String sql, boolean includeC
     } catch (final Exception e) {
       LOG.error("Error in JDBC operation", e);
       return Collections.emptyList();
+    } finally {
+      closeResources();
     }
   }
 
@@ -691,7 +913,7 @@ public List<Map<String, String>> queryResultsStringPrepared(
   }
 
   public boolean renameTable(String tableNameOld, String tableNameNew) throws Exception {
-    LOG.info("{}]", Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName());
+    LOG.info("{}{}]", Constants.CLASS_METHOD_DEBUG, CallerContext.logClassMethodDebugName());
     StringBuilder stringBuilder =
         new StringBuilder("\n" + JDBCConstants.ALTER_TABLE + "[" + tableNameOld + "]");
     stringBuilder.append("\nRENAME TO [" + tableNameNew + "];");
@@ -707,7 +929,7 @@ private void setDatabase(String database) {
     this.database = database;
   }
 
-  private void bindParameters(PreparedStatement preparedStatement, List<Object> parameters)
+  static void bindParameters(PreparedStatement preparedStatement, List<?> parameters)
       throws SQLException {
     if (parameters == null) {
       return;
@@ -0,0 +1,120 @@
+package com.cjs.qa.jdbc;
+
+import java.lang.ref.Cleaner;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dynamic proxy around a pooled physical {@link Connection}.
+ *
+ * <p>{@code close()} returns the physical connection to its {@link ConnectionPool} rather than
+ * closing it, after closing any statements created through the proxy. Every other call is delegated
+ * to the physical connection until the proxy has been closed. If a proxy is garbage collected
+ * without being closed, a {@link Cleaner} reclaims the physical connection so an abandoned {@link
+ * JDBC} instance cannot hold a pool slot forever.
+ */
+final class PooledConnection implements InvocationHandler {
+
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final Connection physical;
+  private final State state;
+  private Cleaner.Cleanable cleanable;
+
+  private PooledConnection(ConnectionPool pool, Connection physical) {
+    this.physical = physical;
+    this.state = new State(pool, physical);
+  }
+
+  static Connection wrap(ConnectionPool pool, Connection physical) {
+    final PooledConnection handler = new PooledConnection(pool, physical);
+    final Connection proxy =
+        (Connection)
+            Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+    handler.cleanable = CLEANER.register(proxy, handler.state);
+    return proxy;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    switch (method.getName()) {
+      case "close" -> {
+        state.explicitClose = true;
+        cleanable.clean();
+        return null;
+      }
+      case "isClosed" -> {
+        return state.released.get() || physical.isClosed();
+      }
+      case "equals" -> {
+        return proxy == args[0];
+      }
+      case "hashCode" -> {
+        return System.identityHashCode(proxy);
+      }
+      case "toString" -> {
+        return "PooledConnection[" + physical + "]";
+      }
+      default -> {
+        if (state.released.get()) {
+          throw new SQLException("Connection has already been returned to the pool");
+        }
+        try {
+          final Object result = method.invoke(physical, args);
+          if (result instanceof Statement statement) {
+            state.track(statement);
+          }
+          return result;
+        } catch (InvocationTargetException e) {
+          throw e.getCause();
+        }
+      }
+    }
+  }
+
+  /** Release action shared by explicit close() and the Cleaner; must not reference the proxy. */
+  private static final class State implements Runnable {
+
+    private final ConnectionPool pool;
+    private final Connection physical;
+    private final List<Statement> statements = new ArrayList<>();
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean explicitClose;
+
+    private State(ConnectionPool pool, Connection physical) {
+      this.pool = pool;
+      this.physical = physical;
+    }
+
+    private synchronized void track(Statement statement) {
+      statements.add(statement);
+    }
+
+    @Override
+    public void run() {
+      if (!released.compareAndSet(false, true)) {
+        return;
+      }
+      synchronized (this) {
+        for (final Statement statement : statements) {
+          try {
+            statement.close();
+          } catch (final SQLException e) {
+            // Statement is discarded either way; the physical connection stays usable.
+          }
+        }
+        statements.clear();
+      }
+      pool.release(physical, !explicitClose);
+    }
+  }
+}
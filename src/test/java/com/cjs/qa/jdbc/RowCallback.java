@@ -0,0 +1,13 @@
+package com.cjs.qa.jdbc;
+
+/**
+ * Callback invoked once per row by {@link JDBC#forEachRow(String, RowCallback)}.
+ *
+ * <p>The same {@link RowCursor} instance is passed for every row; copy values out (or use {@link
+ * RowCursor#toMap()}) if they must outlive the callback.
+ */
+@FunctionalInterface
+public interface RowCallback {
+
+  void accept(RowCursor row) throws Exception;
+}
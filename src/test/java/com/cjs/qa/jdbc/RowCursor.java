@@ -0,0 +1,181 @@
+package com.cjs.qa.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forward-only, reusable view over a streamed query result.
+ *
+ * <p>Unlike {@link JDBC#queryResultsString(String, boolean)} and {@link
+ * JDBC#queryResultsIndex(String, boolean)}, which copy every row into a new map, a cursor reads one
+ * row at a time straight from the {@link ResultSet}, so memory use stays constant regardless of the
+ * number of rows. Column names are resolved once when the cursor is opened and values are read by
+ * zero-based column index (the same numbering {@code queryResultsIndex} uses).
+ *
+ * <pre>{@code
+ * try (RowCursor row = jdbc.openCursor(sql)) {
+ *   final int urlIndex = row.getColumnIndex("ChapterURL");
+ *   while (row.next()) {
+ *     process(row.getString(urlIndex));
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Closing the cursor closes the result set and returns the connection to the pool.
+ */
+public final class RowCursor implements AutoCloseable {
+
+  private final ResultSet resultSet;
+  private final Runnable onClose;
+  private final List<String> columnNames;
+  private final Map<String, Integer> columnIndexMap;
+  private int rowNumber = 0;
+  private boolean closed = false;
+
+  RowCursor(ResultSet resultSet, Runnable onClose) throws SQLException {
+    this.resultSet = resultSet;
+    this.onClose = onClose;
+    final ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+    final int columns = resultSetMetaData.getColumnCount();
+    final List<String> names = new ArrayList<>(columns);
+    final Map<String, Integer> indexMap = new HashMap<>();
+    for (int index = 1; index <= columns; index++) {
+      final String columnName = resultSetMetaData.getColumnName(index);
+      names.add(columnName);
+      indexMap.putIfAbsent(columnName, index - 1);
+    }
+    this.columnNames = Collections.unmodifiableList(names);
+    this.columnIndexMap = indexMap;
+  }
+
+  /**
+   * Advances to the next row.
+   *
+   * @return true if a row is available
+   * @throws SQLException if the driver fails to fetch the row
+   */
+  public boolean next() throws SQLException {
+    if (closed || !resultSet.next()) {
+      return false;
+    }
+    rowNumber++;
+    return true;
+  }
+
+  public int getColumnCount() {
+    return columnNames.size();
+  }
+
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  /**
+   * Gets the zero-based index of a column.
+   *
+   * @param columnName the column name as reported by the driver
+   * @return the index, or -1 if the query has no such column
+   */
+  public int getColumnIndex(String columnName) {
+    final Integer index = columnIndexMap.get(columnName);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Gets a value from the current row.
+   *
+   * @param columnIndex zero-based column index
+   * @return the value as a String (null for SQL NULL)
+   * @throws SQLException if the value cannot be read
+   */
+  public String getString(int columnIndex) throws SQLException {
+    return resultSet.getString(columnIndex + 1);
+  }
+
+  /**
+   * Gets a value from the current row as the driver's Java type (e.g. Integer, Double, String).
+   *
+   * @param columnIndex zero-based column index
+   * @return the value (null for SQL NULL)
+   * @throws SQLException if the value cannot be read
+   */
+  public Object getObject(int columnIndex) throws SQLException {
+    return resultSet.getObject(columnIndex + 1);
+  }
+
+  /**
+   * Gets a value from the current row.
+   *
+   * @param columnName the column name
+   * @return the value as a String (null for SQL NULL)
+   * @throws SQLException if the column does not exist or the value cannot be read
+   */
+  public String getString(String columnName) throws SQLException {
+    final int columnIndex = getColumnIndex(columnName);
+    if (columnIndex < 0) {
+      throw new SQLException("Column not found: [" + columnName + "]");
+    }
+    return getString(columnIndex);
+  }
+
+  /**
+   * Gets the one-based number of the current row; after the last row this is the row count.
+   *
+   * @return the number of rows read so far
+   */
+  public int getRowNumber() {
+    return rowNumber;
+  }
+
+  /**
+   * Copies the current row into a detached map keyed by column name.
+   *
+   * @return a new map in column order
+   * @throws SQLException if a value cannot be read
+   */
+  public Map<String, String> toMap() throws SQLException {
+    final Map<String, String> map = new LinkedHashMap<>();
+    for (int index = 0; index < columnNames.size(); index++) {
+      map.put(columnNames.get(index), getString(index));
+    }
+    return map;
+  }
+
+  /**
+   * Copies the current row into a detached map keyed by zero-based column index.
+   *
+   * @return a new map in column order
+   * @throws SQLException if a value cannot be read
+   */
+  public Map<Integer, String> toIndexMap() throws SQLException {
+    final Map<Integer, String> map = new LinkedHashMap<>();
+    for (int index = 0; index < columnNames.size(); index++) {
+      map.put(index, getString(index));
+    }
+    return map;
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      onClose.run();
+    }
+  }
+
+  @Override
+  public String toString() {
+    try {
+      return toIndexMap().toString();
+    } catch (final SQLException e) {
+      return "RowCursor[row=" + rowNumber + ", " + e.getMessage() + "]";
+    }
+  }
+}
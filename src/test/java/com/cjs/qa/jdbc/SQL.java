@@ -20,9 +20,11 @@
 import com.cjs.qa.core.Environment;
 import com.cjs.qa.core.QAException;
 import com.cjs.qa.utilities.CJSConstants;
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.CommandLineTests;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.FileAppender;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
 import com.cjs.qa.utilities.JavaHelpers;
@@ -118,124 +120,59 @@ public int exSqlGetPartyId(String eMail) {
   }
 
   private static int addDBRecord(String tableName, Map<String, String> map) {
-    StringBuilder stringBuilderFields = new StringBuilder();
-    StringBuilder stringBuilderValues = new StringBuilder();
+    final List<String> fieldList = new ArrayList<>();
+    final List<Object> valueList = new ArrayList<>();
     for (final Entry<String, String> entry : map.entrySet()) {
-      String key = entry.getKey();
-      String value = entry.getValue();
-      key = key.trim();
-      if (!"".equals(stringBuilderFields.toString())) {
-        stringBuilderFields.append(",");
-        stringBuilderValues.append(",");
-      }
-      if (value == null) {
-        value = "";
-      }
-      stringBuilderFields.append("[" + key + "]");
-      stringBuilderValues.append("'" + value + "'");
+      final String value = entry.getValue();
+      fieldList.add(entry.getKey().trim());
+      valueList.add(value == null ? "" : value);
     }
-    final StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append(JDBCConstants.INSERT_INTO);
-    stringBuilder.append("[" + tableName + "] ");
-    stringBuilder.append("(" + stringBuilderFields.toString() + ")");
-    stringBuilder.append(JDBCConstants.VALUES);
-    stringBuilder.append("(" + stringBuilderValues.toString() + ")");
-    final String sql = stringBuilder.toString();
-    LOG.debug("SQL: {}", sql);
+    final String sql = BatchInsert.getInsertSql(tableName, fieldList);
+    LOG.debug("SQL: {}, values: {}", sql, valueList);
     int recordsUpdated = 0;
     final JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
     try {
-      recordsUpdated = jdbc.executeUpdate(sql, false);
-      // jdbc.close()
+      recordsUpdated = jdbc.executeUpdatePrepared(sql, valueList, false);
     } catch (final Exception e) {
       LOG.error("Error in SQL operation", e);
     }
     return recordsUpdated;
   }
 
+  /**
+   * Inserts delimited records with a batched prepared statement (see {@link BatchInsert}).
+   *
+   * @param table the table
+   * @param listFields the columns
+   * @param listRecords one {@link Constants#DELIMETER_LIST} delimited record per row; missing
+   *     trailing values are inserted as empty strings
+   * @return the number of rows inserted
+   */
   public int addDBRecords(String table, List<String> listFields, List<String> listRecords) {
-    String sql = "";
-    StringBuilder stringBuilderMega = new StringBuilder();
-    StringBuilder stringBuilderFields = new StringBuilder();
-    StringBuilder stringBuilderValues = new StringBuilder();
-    final List<String> listSQLs = new ArrayList<>();
-    for (String listField : listFields) {
-      if (!"".equals(stringBuilderFields.toString())) {
-        stringBuilderFields.append(",");
-      }
-      stringBuilderFields.append("[" + listField + "]");
-    }
-    for (final String listRecord : listRecords) {
-      final String[] recordData = listRecord.split(Constants.DELIMETER_LIST);
-      // LOG.debug("recordData.length:[{}]", recordData.length);
-      for (int index = 0; index < listFields.size(); index++) {
-        // for (int recordIndex = 0; recordIndex < recordData.length
-        // recordIndex++)
-        // String value = recordData[index]
-        String value = "";
-        if (index > (recordData.length - 1)) {
-          value = "";
-        } else {
-          value = recordData[index];
-        }
-        if (!"".equals(stringBuilderValues.toString())) {
-          stringBuilderValues.append(",");
-        }
-        if (value == null) {
-          value = "";
-        }
-        stringBuilderValues.append("'" + value + "'");
-      }
-      final StringBuilder stringBuilder = new StringBuilder();
-      stringBuilder.append(JDBCConstants.INSERT_INTO);
-      stringBuilder.append("[" + table + "] ");
-      stringBuilder.append("(" + stringBuilderFields.toString() + ")");
-      stringBuilder.append(JDBCConstants.VALUES);
-      stringBuilder.append("(" + stringBuilderValues.toString() + ")");
-      stringBuilderValues = new StringBuilder();
-      sql = stringBuilder.toString();
-      LOG.debug("SQL: {}", sql);
-      stringBuilderMega.append(sql);
-      stringBuilderMega.append(Constants.DELIMETER_LIST);
-      listSQLs.add(sql);
-      // final JDBC jdbc = new JDBC("", DATABASE_DEFINITION)
-      // final int recordsUpdated = jdbc.executeUpdate(sql, false)
-      // LOG.debug("recordsUpdated:[{}]", recordsUpdated);
-    }
     int recordsUpdated = 0;
     final JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
-    try {
-      LOG.debug("SQL statements: {}", stringBuilderMega.toString());
-      recordsUpdated = jdbc.executeUpdate(stringBuilderMega.toString(), false);
+    try (BatchInsert batchInsert = jdbc.openBatchInsert(table, listFields)) {
+      for (final String listRecord : listRecords) {
+        final String[] recordData = listRecord.split(Constants.DELIMETER_LIST);
+        final List<String> valueList = new ArrayList<>(listFields.size());
+        for (int index = 0; index < listFields.size(); index++) {
+          String value = "";
+          if (index < recordData.length && recordData[index] != null) {
+            value = recordData[index];
+          }
+          valueList.add(value);
+        }
+        batchInsert.addRow(valueList);
+      }
+      batchInsert.flush();
+      recordsUpdated = batchInsert.getRecordsInserted();
       LOG.info("recordsUpdated: [{}]", recordsUpdated);
-      // recordsUpdated = jdbc.executeUpdates(sqls, false)
-      // jdbc.close()
     } catch (final Exception e) {
       LOG.error("Error in SQL operation", e);
     }
     return recordsUpdated;
   }
 
-  public static List<String> appendQuery(
-      String table,
-      String fields,
-      String values,
-      StringBuilder sqlStringBuilder,
-      List<String> sqlList) {
-    fields = "[" + fields.replaceAll(",", "],[") + "]";
-    values = "'" + values.replace("'", "''").replaceAll(",", "','") + "'";
-    // Append the record and create all records in the table at once later.
-    StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append(JDBCConstants.INSERT_INTO);
-    stringBuilder.append("[" + table + "] ");
-    stringBuilder.append("(" + fields + ")");
-    stringBuilder.append(JDBCConstants.VALUES);
-    stringBuilder.append("(" + values + ");");
-    sqlStringBuilder.append(stringBuilder.toString());
-    sqlList.add(stringBuilder.toString());
-    return sqlList;
-  }
-
   public static StringBuilder appendStringBuilderSQLInsertRecord(
       String tableName,
       StringBuilder sqlStringBuilder,
@@ -381,23 +318,37 @@ public static int executeVivit(
       String sql = sqlStringBuilder.toString();
       FSOTests.fileWrite(sqlFilePathName, sql, true);
       recordsAffected = execute(sql);
-      String logLine = sqlFileName + Constants.TAB + recordsAffected + Constants.NEWLINE;
-      if (!FSOTests.fileExists(VivitFoldersFiles.FILE_SQL_LOG)) {
-        FSOTests.fileWrite(
-            VivitFoldersFiles.FILE_SQL_LOG,
-            "SQL File" + Constants.TAB + "Records Updated" + Constants.NEWLINE,
-            true);
-      }
-      FSOTests.fileWrite(VivitFoldersFiles.FILE_SQL_LOG, logLine, true);
+      writeVivitSQLLog(sqlFileName, recordsAffected);
     }
     return recordsAffected;
   }
 
+  /**
+   * Records a Vivit load that did not go through a SQL file (for example a {@link BatchInsert}) in
+   * the SQL log.
+   *
+   * @param action the action label (e.g. INSERT_INTO)
+   * @param sectionName the table or namespace loaded
+   * @param recordsAffected rows affected
+   */
+  public static void logVivit(String action, String sectionName, int recordsAffected) {
+    LOG.info("{} {}", action, sectionName);
+    writeVivitSQLLog(action + "-" + sectionName + "-BATCH", recordsAffected);
+  }
+
+  private static void writeVivitSQLLog(String name, int recordsAffected) {
+    String logLine = name + Constants.TAB + recordsAffected + Constants.NEWLINE;
+    FileAppender.append(
+        VivitFoldersFiles.FILE_SQL_LOG,
+        "SQL File" + Constants.TAB + "Records Updated" + Constants.NEWLINE,
+        logLine);
+  }
+
   public static int execute(String sql) {
     LOG.debug(
         "***ClassMethodDebug***: [{}] called by [{}]",
-        JavaHelpers.getCurrentClassMethodDebugName(),
-        JavaHelpers.getCallingMethodName());
+        CallerContext.logClassMethodDebugName(),
+        CallerContext.logCallingMethodName());
     // LOG.debug("{}", sql);
     int recordsUpdated = 0;
     final JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
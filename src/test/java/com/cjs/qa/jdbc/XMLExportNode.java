@@ -0,0 +1,39 @@
+package com.cjs.qa.jdbc;
+
+import java.util.List;
+
+/**
+ * One level of a {@link HierarchicalXMLExport}: a query whose rows are nested under the rows of
+ * the parent level that share the same key values.
+ *
+ * @param sql query that returns every row of this level (it is executed once per export)
+ * @param parentKeys columns of the enclosing rows (any ancestor) whose values select this level's
+ *     rows; empty for the top level
+ * @param keys columns of this level's rows matched, in order, against {@code parentKeys}
+ * @param elementColumn column whose lower-cased value names the element written for each row, or
+ *     null to write the row's fields directly into the parent element
+ * @param wrapperElement element written around this level's rows for each parent row (even when
+ *     there are none), or null for no wrapper
+ * @param fields columns written as {@code <field>value</field>} for each row
+ * @param children nested levels written inside each row after its fields
+ */
+public record XMLExportNode(
+    String sql,
+    List<String> parentKeys,
+    List<String> keys,
+    String elementColumn,
+    String wrapperElement,
+    List<String> fields,
+    List<XMLExportNode> children) {
+
+  public XMLExportNode {
+    if (parentKeys.size() != keys.size()) {
+      throw new IllegalArgumentException(
+          "parentKeys " + parentKeys + " and keys " + keys + " must have the same size");
+    }
+    parentKeys = List.copyOf(parentKeys);
+    keys = List.copyOf(keys);
+    fields = List.copyOf(fields);
+    children = List.copyOf(children);
+  }
+}
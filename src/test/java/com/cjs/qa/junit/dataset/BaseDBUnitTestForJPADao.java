@@ -4,7 +4,6 @@
 import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Properties;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -13,7 +12,6 @@
 import org.apache.logging.log4j.LogManager;
 import org.dbunit.database.DatabaseConnection;
 import org.dbunit.database.IDatabaseConnection;
-import org.h2.Driver;
 import org.h2.tools.RunScript;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +19,8 @@
 import org.junit.jupiter.api.BeforeEach;
 
 import com.cjs.qa.core.Environment;
+import com.cjs.qa.jdbc.ConnectionPools;
+import com.cjs.qa.jdbc.DBParameters;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
@@ -60,17 +60,19 @@ protected void setEntityManager(EntityManager entityManager) {
   }
 
   /**
-   * Creates a database connection and transfers ownership to DatabaseConnection. The connection
-   * will be closed by DatabaseConnection.close() in @AfterClass.
+   * Borrows a database connection from the shared JDBC connection pool and transfers ownership to
+   * DatabaseConnection. DatabaseConnection.close() in @AfterClass returns it to the pool.
    *
-   * @param url database URL
-   * @param properties connection properties
    * @return Connection that will be managed by DatabaseConnection
    * @throws Exception if connection fails
    */
-  private static Connection createDatabaseConnection(String url, Properties properties)
-      throws Exception {
-    return Driver.load().connect(url, properties);
+  private static Connection createDatabaseConnection() throws Exception {
+    final DBParameters dbParameters = new DBParameters("H2");
+    dbParameters.setName(DBInfo.URL);
+    dbParameters.setUser(DBInfo.USER);
+    dbParameters.setPassword(DBInfo.PASSWORD);
+    dbParameters.setConnectionString(DBInfo.URL);
+    return ConnectionPools.getConnection(dbParameters);
   }
 
   @BeforeAll
@@ -81,9 +83,6 @@ static void setupTestClass() throws Exception {
         return;
       }
       LOG.debug("Setup-Class Method:[{}]", JavaHelpers.getCurrentClassName());
-      final Properties properties = new Properties();
-      properties.put("user", DBInfo.USER);
-      properties.put("password", DBInfo.PASSWORD);
 
       // Connection is wrapped by DatabaseConnection and closed in @AfterClass via
       // iDatabaseConnection.close()
@@ -92,7 +91,7 @@ static void setupTestClass() throws Exception {
       @SuppressWarnings("PMD.CloseResource") // Connection is transferred to DatabaseConnection
       Connection connection = null;
       try {
-        connection = createDatabaseConnection(DBInfo.URL, properties);
+        connection = createDatabaseConnection();
         // Transfer ownership to DatabaseConnection - it will close the connection
         // when iDatabaseConnection.close() is called in @AfterClass
         iDatabaseConnection = new DatabaseConnection(connection);
@@ -4,7 +4,6 @@
 import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Properties;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -13,7 +12,6 @@
 import org.apache.logging.log4j.LogManager;
 import org.dbunit.database.DatabaseConnection;
 import org.dbunit.database.IDatabaseConnection;
-import org.h2.Driver;
 import org.h2.tools.RunScript;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +19,8 @@
 import org.junit.jupiter.api.BeforeEach;
 
 import com.cjs.qa.core.Environment;
+import com.cjs.qa.jdbc.ConnectionPools;
+import com.cjs.qa.jdbc.DBParameters;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
@@ -60,17 +60,19 @@ protected void setEntityManager(EntityManager entityManager) {
   }
 
   /**
-   * Creates a database connection and transfers ownership to DatabaseConnection. The connection
-   * will be closed by DatabaseConnection.close() in @AfterClass.
+   * Borrows a database connection from the shared JDBC connection pool and transfers ownership to
+   * DatabaseConnection. DatabaseConnection.close() in @AfterClass returns it to the pool.
    *
-   * @param url database URL
-   * @param properties connection properties
    * @return Connection that will be managed by DatabaseConnection
    * @throws Exception if connection fails
    */
-  private static Connection createDatabaseConnection(String url, Properties properties)
-      throws Exception {
-    return Driver.load().connect(url, properties);
+  private static Connection createDatabaseConnection() throws Exception {
+    final DBParameters dbParameters = new DBParameters("H2");
+    dbParameters.setName(DBInfo.URL);
+    dbParameters.setUser(DBInfo.USER);
+    dbParameters.setPassword(DBInfo.PASSWORD);
+    dbParameters.setConnectionString(DBInfo.URL);
+    return ConnectionPools.getConnection(dbParameters);
   }
 
   @BeforeAll
@@ -81,21 +83,19 @@ static void setupTestClass() throws Exception {
         return;
       }
       LOG.debug("Setup-Class Method:[{}]", JavaHelpers.getCurrentClassName());
-      final Properties properties = new Properties();
-      properties.put("user", DBInfo.USER);
-      properties.put("password", DBInfo.PASSWORD);
 
       // Connection is wrapped by DatabaseConnection and closed in @AfterClass via
       // iDatabaseConnection.close()
       // DatabaseConnection takes ownership of the Connection and will close it
-      // Use try-with-resources to ensure connection is closed if DatabaseConnection creation fails
-      try (Connection connection = createDatabaseConnection(DBInfo.URL, properties)) {
+      // Create connection without try-with-resources to prevent premature closing
+      @SuppressWarnings("PMD.CloseResource") // Connection is transferred to DatabaseConnection
+      Connection connection = null;
+      try {
+        connection = createDatabaseConnection();
         // Transfer ownership to DatabaseConnection - it will close the connection
         // when iDatabaseConnection.close() is called in @AfterClass
         iDatabaseConnection = new DatabaseConnection(connection);
         // Connection is now owned by DatabaseConnection, so we don't close it here
-        // The try-with-resources will only close it if an exception occurs before
-        // DatabaseConnection takes ownership
         String dbLocation = Constants.PATH_PROJECT + "b2csite.dll" + IExtension.SQL;
         dbLocation = "src/test/resources/tabledef/b2csite.dll" + IExtension.SQL;
         // FileReader is closed automatically by try-with-resources
@@ -104,18 +104,25 @@ static void setupTestClass() throws Exception {
         }
         // Connection successfully transferred to DatabaseConnection
         // It will be closed by iDatabaseConnection.close() in @AfterClass
+        connection = null; // Clear reference so we don't close it below
       } catch (final Exception e) {
         // If DatabaseConnection was created, close it (which will close the underlying connection)
         if (iDatabaseConnection != null) {
           try {
             iDatabaseConnection.close();
+            iDatabaseConnection = null;
           } catch (final Exception closeException) {
-            // Connection will be closed by DatabaseConnection.close()
             LOG.warn("Error closing database connection: {}", closeException.getMessage());
           }
         }
-        // If try-with-resources didn't close the connection (shouldn't happen),
-        // it will be closed automatically when the try block exits
+        // If connection was created but DatabaseConnection wasn't, close it manually
+        if (connection != null) {
+          try {
+            connection.close();
+          } catch (final Exception closeException) {
+            LOG.warn("Error closing raw connection: {}", closeException.getMessage());
+          }
+        }
         throw e;
       }
 
@@ -0,0 +1,61 @@
+package com.cjs.qa.junit.reporting;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Thread-safe children of a node of the run model, in the order they were added.
+ *
+ * <p>{@link #add} always appends, so repeated invocations with the same name (data-provider rows,
+ * retries) are all kept; {@link #getOrAdd} and {@link #get} find the first child with a name.
+ */
+final class RChildren<T extends RStep> {
+
+  private final List<T> childList = new ArrayList<>();
+  private final Map<String, T> childMap = new HashMap<>();
+  private volatile T last;
+
+  /** Returns the first child with this name, adding it if there is none. */
+  synchronized T getOrAdd(String name, Function<String, T> factory) {
+    T child = childMap.get(String.valueOf(name));
+    if (child == null) {
+      child = factory.apply(String.valueOf(name));
+      childList.add(child);
+      childMap.put(String.valueOf(name), child);
+    }
+    last = child;
+    return child;
+  }
+
+  /** Appends a child, also when one with the same name exists. */
+  synchronized T add(T child) {
+    childList.add(child);
+    childMap.putIfAbsent(String.valueOf(child.getStepName()), child);
+    last = child;
+    return child;
+  }
+
+  synchronized T get(String name) {
+    return childMap.get(String.valueOf(name));
+  }
+
+  /** The child added or looked up last. */
+  T last() {
+    return last;
+  }
+
+  synchronized List<T> list() {
+    return new ArrayList<>(childList);
+  }
+
+  synchronized void set(List<T> children) {
+    childList.clear();
+    childMap.clear();
+    for (final T child : children) {
+      add(child);
+    }
+  }
+}
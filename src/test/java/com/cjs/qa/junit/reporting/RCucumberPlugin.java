@@ -0,0 +1,95 @@
+package com.cjs.qa.junit.reporting;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.utilities.GuardedLogger;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Cucumber plugin that records every scenario and its steps, with the durations measured by
+ * cucumber, in {@link RTestReporter#getInstance()}: the feature is the test set, the scenario name
+ * the scenario and the scenario with its line the test. The records are exported when the run
+ * finishes. It is registered in {@code src/test/resources/cucumber.properties}, so plugins passed
+ * with {@code -Dcucumber.plugin=...} (such as the json and html reports) run next to it instead of
+ * replacing it:
+ *
+ * <pre>{@code
+ * cucumber.plugin=com.cjs.qa.junit.reporting.RCucumberPlugin
+ * }</pre>
+ */
+public class RCucumberPlugin implements ConcurrentEventListener {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(RCucumberPlugin.class));
+
+  private final Map<UUID, RTest> rTestMap = new ConcurrentHashMap<>();
+
+  @Override
+  public void setEventPublisher(EventPublisher publisher) {
+    publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+    publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+    publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+    publisher.registerHandlerFor(TestRunFinished.class, this::onTestRunFinished);
+  }
+
+  private void onTestCaseStarted(TestCaseStarted event) {
+    final TestCase testCase = event.getTestCase();
+    rTestMap.put(
+        testCase.getId(),
+        RTestReporter.getInstance()
+            .startTest(
+                String.valueOf(testCase.getUri()),
+                testCase.getName(),
+                testCase.getName() + ":" + testCase.getLocation().getLine()));
+  }
+
+  private void onTestStepFinished(TestStepFinished event) {
+    final RTest rTest = rTestMap.get(event.getTestCase().getId());
+    if (rTest != null && event.getTestStep() instanceof PickleStepTestStep pickleStepTestStep) {
+      RTestReporter.getInstance()
+          .addStepStatus(
+              rTest,
+              pickleStepTestStep.getStep().getKeyword() + pickleStepTestStep.getStep().getText(),
+              getStatus(event.getResult().getStatus()),
+              event.getResult().getDuration().toNanos());
+    }
+  }
+
+  private void onTestCaseFinished(TestCaseFinished event) {
+    final RTest rTest = rTestMap.remove(event.getTestCase().getId());
+    if (rTest != null) {
+      RTestReporter.getInstance().finishTest(rTest, getStatus(event.getResult().getStatus()));
+    }
+  }
+
+  private void onTestRunFinished(TestRunFinished event) {
+    try {
+      RTestReporter.getInstance().reportAll();
+      RTestReporter.getInstance().export();
+    } catch (final IOException e) {
+      LOG.warn("Failed to export test records: {}", e.getMessage());
+    }
+  }
+
+  private static String getStatus(Status status) {
+    return switch (status) {
+      case PASSED -> RTestReporter.STATUS_SUCCEEDED;
+      case SKIPPED, PENDING, UNDEFINED -> RTestReporter.STATUS_SKIPPED;
+      default -> RTestReporter.STATUS_FAILED;
+    };
+  }
+}
@@ -1,49 +1,48 @@
 package com.cjs.qa.junit.reporting;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/** A scenario (test method or cucumber scenario) of the run model and its tests. */
 public class RScenario extends RTest {
 
-  private String scenarioName;
-  private String scenarioStatus;
-  private List<RTest> rTest = new ArrayList<>();
+  private final RChildren<RTest> rTest = new RChildren<>();
 
   public RScenario(String stepName, String stepStatus) {
     super(stepName, stepStatus);
-    setScenarioName(scenarioName);
-    setScenarioStatus(scenarioStatus);
   }
 
-  public void addTest(String testName, String testStatus) {
-    getRTest().add(new RTest(testName, testStatus));
+  public RTest addTest(String testName, String testStatus) {
+    return rTest.add(new RTest(testName, testStatus));
   }
 
   public RTest cRTest() {
-    return getRTest().get(getRTest().size() - 1);
+    return rTest.last();
   }
 
+  /**
+   * @return a snapshot of the tests in the order they were added
+   */
   public List<RTest> getRTest() {
-    return rTest;
+    return rTest.list();
   }
 
   public String getScenarioName() {
-    return scenarioName;
+    return getStepName();
   }
 
   public String getScenarioStatus() {
-    return scenarioStatus;
+    return getStepStatus();
   }
 
   public void setRTest(List<RTest> rTestList) {
-    this.rTest = rTestList;
+    rTest.set(rTestList);
   }
 
   public void setScenarioName(String scenarioName) {
-    this.scenarioName = scenarioName;
+    setStepName(scenarioName);
   }
 
   public void setScenarioStatus(String scenarioStatus) {
-    this.scenarioStatus = scenarioStatus;
+    setStepStatus(scenarioStatus);
   }
 }
@@ -1,15 +1,77 @@
 package com.cjs.qa.junit.reporting;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A timed step of the run model; the base of {@link RTest}, {@link RScenario}, {@link RTestSet}
+ * and {@link RTestRun}.
+ *
+ * <p>Timing starts when the step is created and ends with {@link #finish(String)}, using {@link
+ * System#nanoTime()}; steps that were timed elsewhere (e.g. by cucumber) are finished with {@link
+ * #finish(String, long)}. Name, status and duration are volatile so that a report can read a step
+ * while another thread finishes it.
+ */
 public class RStep {
 
-  private String stepName;
-  private String stepStatus;
+  private volatile String stepName;
+  private volatile String stepStatus;
+  private final long startMillis = System.currentTimeMillis();
+  private final long startNanos = System.nanoTime();
+  private volatile long durationNanos = -1;
 
   public RStep(String stepName, String stepStatus) {
     setStepName(stepName);
     setStepStatus(stepStatus);
   }
 
+  /**
+   * Ends the step now.
+   *
+   * @param status the final status, e.g. "Succeeded"
+   */
+  public void finish(String status) {
+    finish(status, System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Ends the step with a duration measured elsewhere.
+   *
+   * @param status the final status, e.g. "Succeeded"
+   * @param durationNanos the duration of the step
+   */
+  public void finish(String status, long durationNanos) {
+    setStepStatus(status);
+    this.durationNanos = durationNanos;
+  }
+
+  /**
+   * @return true once {@link #finish} was called
+   */
+  public boolean isFinished() {
+    return durationNanos >= 0;
+  }
+
+  /**
+   * @return the duration in nanoseconds, or -1 while the step is running
+   */
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * @return the duration in milliseconds, or -1 while the step is running
+   */
+  public long getDurationMillis() {
+    return durationNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(durationNanos);
+  }
+
+  /**
+   * @return wall-clock time the step started, in epoch milliseconds
+   */
+  public long getStartMillis() {
+    return startMillis;
+  }
+
   public String getStepName() {
     return stepName;
   }
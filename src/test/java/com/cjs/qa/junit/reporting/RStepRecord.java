@@ -0,0 +1,24 @@
+package com.cjs.qa.junit.reporting;
+
+/**
+ * One line of the JSON-lines export of {@link RTestReporter}: a test (step is null) or one of its
+ * steps.
+ *
+ * @param testRun the run name
+ * @param testSet the test set name (test class, TestNG test or cucumber feature)
+ * @param scenario the scenario name (test method or cucumber scenario)
+ * @param test the test name
+ * @param step the step name, or null for the test itself
+ * @param status the final status, or "Starting" if it never finished
+ * @param startMillis wall-clock start time in epoch milliseconds
+ * @param durationNanos the duration, or -1 if it never finished
+ */
+public record RStepRecord(
+    String testRun,
+    String testSet,
+    String scenario,
+    String test,
+    String step,
+    String status,
+    long startMillis,
+    long durationNanos) {}
@@ -2,51 +2,85 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.junit.runner.Description;
 
+/** A test of the run model and its steps; steps may be added from several threads. */
 public class RTest extends RStep {
 
-  private String testName;
-  private String testStatus;
-  private List<RStep> rStep = new ArrayList<>();
+  private final Queue<RStep> rStep = new ConcurrentLinkedQueue<>();
+  private volatile RStep lastStep;
 
   public RTest(String stepName, String stepStatus) {
     super(stepName, stepStatus);
-    setTestName(testName);
-    setTestStatus(testStatus);
   }
 
   public void addStep(Description description, String status) {
-    final String name = description.toString();
-    getRStep().add(new RStep(name, status));
+    addStep(description.toString(), status, 0);
+  }
+
+  /**
+   * Adds a step that already finished.
+   *
+   * @param stepName the step name
+   * @param status the step status
+   * @param durationNanos the duration of the step
+   * @return the step
+   */
+  public RStep addStep(String stepName, String status, long durationNanos) {
+    final RStep step = new RStep(stepName, status);
+    step.finish(status, durationNanos);
+    return addStep(step);
+  }
+
+  /**
+   * Adds a running step; end it with {@link RStep#finish(String)}.
+   *
+   * @param stepName the step name
+   * @return the step
+   */
+  public RStep startStep(String stepName) {
+    return addStep(new RStep(stepName, "Starting"));
+  }
+
+  private RStep addStep(RStep step) {
+    rStep.add(step);
+    lastStep = step;
+    return step;
   }
 
   public RStep cRStep() {
-    return getRStep().get(getRStep().size() - 1);
+    return lastStep;
   }
 
+  /**
+   * @return a snapshot of the steps in the order they were added
+   */
   public List<RStep> getRStep() {
-    return rStep;
+    return new ArrayList<>(rStep);
   }
 
   public String getTestName() {
-    return testName;
+    return getStepName();
   }
 
   public String getTestStatus() {
-    return testStatus;
+    return getStepStatus();
   }
 
   public void setRStep(List<RStep> rStepList) {
-    this.rStep = rStepList;
+    rStep.clear();
+    rStep.addAll(rStepList);
+    lastStep = rStepList.isEmpty() ? null : rStepList.get(rStepList.size() - 1);
   }
 
   public void setTestName(String testName) {
-    this.testName = testName;
+    setStepName(testName);
   }
 
   public void setTestStatus(String testStatus) {
-    this.testStatus = testStatus;
+    setStepStatus(testStatus);
   }
 }
@@ -0,0 +1,82 @@
+package com.cjs.qa.junit.reporting;
+
+import java.io.IOException;
+
+import org.apache.logging.log4j.LogManager;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import com.cjs.qa.utilities.GuardedLogger;
+
+/**
+ * TestNG listener that records every test in {@link RTestReporter#getInstance()}: the TestNG test
+ * is the test set, the test class the scenario and the method the test. The records are exported
+ * when a suite finishes.
+ *
+ * <pre>{@code
+ * <listeners>
+ *     <listener class-name="com.cjs.qa.junit.reporting.RTestListener"/>
+ * </listeners>
+ * }</pre>
+ */
+public class RTestListener implements ITestListener, ISuiteListener {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(RTestListener.class));
+  private static final String ATTRIBUTE_R_TEST = RTest.class.getName();
+
+  @Override
+  public void onTestStart(ITestResult result) {
+    result.setAttribute(ATTRIBUTE_R_TEST, startTest(result));
+  }
+
+  @Override
+  public void onTestSuccess(ITestResult result) {
+    finishTest(result, RTestReporter.STATUS_SUCCEEDED);
+  }
+
+  @Override
+  public void onTestFailure(ITestResult result) {
+    finishTest(result, RTestReporter.STATUS_FAILED);
+  }
+
+  @Override
+  public void onTestFailedWithTimeout(ITestResult result) {
+    finishTest(result, RTestReporter.STATUS_FAILED);
+  }
+
+  @Override
+  public void onTestSkipped(ITestResult result) {
+    finishTest(result, RTestReporter.STATUS_SKIPPED);
+  }
+
+  @Override
+  public void onFinish(ISuite suite) {
+    try {
+      RTestReporter.getInstance().reportAll();
+      RTestReporter.getInstance().export();
+    } catch (final IOException e) {
+      LOG.warn("Failed to export test records of [{}]: {}", suite.getName(), e.getMessage());
+    }
+  }
+
+  private static RTest startTest(ITestResult result) {
+    return RTestReporter.getInstance()
+        .startTest(
+            result.getTestContext() == null ? "Unknown" : result.getTestContext().getName(),
+            result.getTestClass().getName(),
+            result.getName());
+  }
+
+  private static void finishTest(ITestResult result, String status) {
+    RTest rTest = (RTest) result.getAttribute(ATTRIBUTE_R_TEST);
+    if (rTest == null) {
+      // Skipped before it started, e.g. by a failed configuration method.
+      rTest = startTest(result);
+    }
+    result.removeAttribute(ATTRIBUTE_R_TEST);
+    RTestReporter.getInstance().finishTest(rTest, status);
+  }
+}
@@ -1,97 +1,311 @@
 package com.cjs.qa.junit.reporting;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.LogManager;
-import org.junit.runner.Description;
 
-import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 
+/**
+ * Thread-safe in-memory model of a test run, fed by {@link RTestWatcher} (JUnit), {@link
+ * RTestListener} (TestNG) and {@link RCucumberPlugin} (cucumber).
+ *
+ * <p>Tests are kept as run / test set / scenario / test / step ({@link RTestRun}, {@link RTestSet},
+ * {@link RScenario}, {@link RTest}, {@link RStep}); each node is timed with {@link
+ * System#nanoTime()}. Status counters are {@link LongAdder}s, so parallel callbacks only add to a
+ * cell instead of contending on a lock, and nothing is formatted or written until the run ends.
+ * {@link #export()} then writes one JSON line per test and per step ({@link RStepRecord}), which
+ * {@link #readJsonLines(Path)} reads back for reports; every JVM writes its own file.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code RTEST_REPORT_DIRECTORY} / {@code rtest.report.directory} - directory of the
+ *       exported files (target/rtest-reports)
+ * </ul>
+ */
 public class RTestReporter {
 
   private static final GuardedLogger LOG =
       new GuardedLogger(LogManager.getLogger(RTestReporter.class));
 
-  private List<Map<String, Map<String, String>>> listMapTests = new ArrayList<>();
-  private Map<String, Integer> mapCounts = new HashMap<>();
-  private List<String> listStatus =
-      Arrays.asList("Failed;Finished;Skipped;Starting;Succeeded".split(Constants.NEWLINE));
+  public static final String STATUS_DISABLED = "Disabled";
+  public static final String STATUS_FAILED = "Failed";
+  public static final String STATUS_FINISHED = "Finished";
+  public static final String STATUS_SKIPPED = "Skipped";
+  public static final String STATUS_STARTING = "Starting";
+  public static final String STATUS_SUCCEEDED = "Succeeded";
+  public static final String EXPORT_EXTENSION = ".jsonl";
 
-  public RTestReporter() {
-    setMapCounts(new HashMap<>());
-    for (final String status : getListStatus()) {
-      mapCounts.put(status, 0);
+  private static final String DIRECTORY = getDirectory();
+  private static final Gson GSON = new Gson();
+  private static final RTestReporter INSTANCE =
+      new RTestReporter("Run " + ProcessHandle.current().pid());
+
+  private final RTestRun rTestRun;
+  private final Map<String, LongAdder> mapCounts = new ConcurrentHashMap<>();
+  private final List<String> listStatus =
+      List.of(
+          STATUS_DISABLED,
+          STATUS_FAILED,
+          STATUS_FINISHED,
+          STATUS_SKIPPED,
+          STATUS_STARTING,
+          STATUS_SUCCEEDED);
+
+  /**
+   * @param testRunName the name of the run
+   */
+  public RTestReporter(String testRunName) {
+    rTestRun = new RTestRun(testRunName, STATUS_STARTING);
+    for (final String status : listStatus) {
+      mapCounts.put(status, new LongAdder());
     }
   }
 
-  public void addStepStatus(String stepName, Description description, String status) {
-    final Map<String, String> mapStatus = new HashMap<>();
-    mapStatus.put(description.toString(), status);
-    mapCounts.put(status, mapCounts.get(status) + 1);
+  /**
+   * @return the reporter of this JVM, shared by the listeners
+   */
+  public static RTestReporter getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Starts timing a test.
+   *
+   * @param testSetName the test set, e.g. the test class
+   * @param scenarioName the scenario, e.g. the test method
+   * @param testName the test, e.g. the display name of the invocation
+   * @return the running test; end it with {@link #finishTest(RTest, String)}
+   */
+  public RTest startTest(String testSetName, String scenarioName, String testName) {
+    final RTest rTest =
+        rTestRun
+            .getOrAddTestSet(testSetName)
+            .getOrAddScenario(scenarioName)
+            .addTest(testName, STATUS_STARTING);
+    count(STATUS_STARTING);
+    return rTest;
+  }
+
+  /**
+   * Starts timing a test that has no test set or scenario of its own.
+   *
+   * @param testName the test name
+   * @return the running test
+   */
+  public RTest addTest(String testName) {
+    return startTest(rTestRun.getTestRunName(), testName, testName);
+  }
+
+  /**
+   * Ends a test and counts its status.
+   *
+   * @param rTest the test from {@link #startTest}
+   * @param status the final status, e.g. {@link #STATUS_SUCCEEDED}
+   */
+  public void finishTest(RTest rTest, String status) {
+    rTest.finish(status);
+    count(status);
+    count(STATUS_FINISHED);
+  }
+
+  /**
+   * Adds a finished step to a test.
+   *
+   * @param rTest the test
+   * @param stepName the step name
+   * @param status the step status
+   * @param durationNanos the duration of the step
+   * @return the step
+   */
+  public RStep addStepStatus(RTest rTest, String stepName, String status, long durationNanos) {
+    return rTest.addStep(stepName, status, durationNanos);
   }
 
   public List<String> getListStatus() {
     return listStatus;
   }
 
-  public Map<String, Integer> getMapCounts() {
-    return mapCounts;
+  /**
+   * @return a snapshot of the number of tests per status
+   */
+  public Map<String, Long> getMapCounts() {
+    final Map<String, Long> counts = new LinkedHashMap<>();
+    for (final String status : listStatus) {
+      counts.put(status, mapCounts.get(status).sum());
+    }
+    for (final Map.Entry<String, LongAdder> entry : mapCounts.entrySet()) {
+      counts.putIfAbsent(entry.getKey(), entry.getValue().sum());
+    }
+    return counts;
+  }
+
+  public RTestRun getRTestRun() {
+    return rTestRun;
+  }
+
+  /**
+   * Logs a test and its steps with their durations.
+   *
+   * @param rTest the test
+   */
+  public void reportTest(RTest rTest) {
+    if (!LOG.isDebugEnabled()) {
+      return;
+    }
+    LOG.debug(
+        "{}:[{}] [{}]ms", rTest.getTestName(), rTest.getTestStatus(), rTest.getDurationMillis());
+    for (final RStep rStep : rTest.getRStep()) {
+      LOG.debug(
+          "  {}:[{}] [{}]ms",
+          rStep.getStepName(),
+          rStep.getStepStatus(),
+          rStep.getDurationMillis());
+    }
   }
 
+  /** Logs every test with its steps, then the counts. */
   public void reportAll() {
-    for (int indexTest = 0; indexTest < getListMapTests().size(); indexTest++) {
-      final Map<String, Map<String, String>> mapTest = getListMapTests().get(indexTest);
-      for (final String keyTest : mapTest.keySet()) {
-        final Map<String, String> mapSteps = mapTest.get(keyTest);
-        for (final String keyStep : mapSteps.keySet()) {
-          final String value = mapSteps.get(keyStep);
-          LOG.debug("{};[{}]", keyStep, value);
+    if (!LOG.isDebugEnabled()) {
+      return;
+    }
+    for (final RTestSet rTestSet : rTestRun.getRTestSet()) {
+      for (final RScenario rScenario : rTestSet.getRScenario()) {
+        for (final RTest rTest : rScenario.getRTest()) {
+          reportTest(rTest);
         }
       }
     }
-
-    int count = 0;
-    for (final Entry<String, Integer> entry : mapCounts.entrySet()) {
+    long count = 0;
+    for (final Map.Entry<String, Long> entry : getMapCounts().entrySet()) {
       switch (entry.getKey()) {
-        case "Finished":
-        case "Starting":
-          break;
-        default:
-          count += entry.getValue();
-          break;
+        case STATUS_FINISHED, STATUS_STARTING -> {
+          // Not a result.
+        }
+        default -> count += entry.getValue();
       }
       LOG.debug("{}:[{}]", entry.getKey(), entry.getValue());
     }
-    LOG.debug("Count Tests:[[{}]", count + "]");
+    LOG.debug("Count Tests:[{}]", count);
+  }
+
+  /**
+   * @return one record per test and per step, in the order they were added
+   */
+  public List<RStepRecord> getRecords() {
+    final List<RStepRecord> recordList = new ArrayList<>();
+    final String testRunName = rTestRun.getTestRunName();
+    for (final RTestSet rTestSet : rTestRun.getRTestSet()) {
+      for (final RScenario rScenario : rTestSet.getRScenario()) {
+        for (final RTest rTest : rScenario.getRTest()) {
+          recordList.add(createRecord(testRunName, rTestSet, rScenario, rTest, null, rTest));
+          for (final RStep rStep : rTest.getRStep()) {
+            recordList.add(
+                createRecord(testRunName, rTestSet, rScenario, rTest, rStep.getStepName(), rStep));
+          }
+        }
+      }
+    }
+    return recordList;
   }
 
-  public void setListStatus(List<String> listStatus) {
-    this.listStatus = listStatus;
+  /**
+   * Writes {@link #getRecords()} to a file, one JSON object per line.
+   *
+   * @param file the file; replaced if it exists
+   * @return records written
+   * @throws IOException if the file cannot be written
+   */
+  public int writeJsonLines(Path file) throws IOException {
+    final List<RStepRecord> recordList = getRecords();
+    final Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    try (BufferedWriter bufferedWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      for (final RStepRecord rStepRecord : recordList) {
+        bufferedWriter.write(GSON.toJson(rStepRecord));
+        bufferedWriter.newLine();
+      }
+    }
+    return recordList.size();
   }
 
-  public void setMapCounts(Map<String, Integer> mapCounts) {
-    this.mapCounts = mapCounts;
+  /**
+   * Writes the records to {@code rtest-<pid>.jsonl} in the report directory.
+   *
+   * @return the file
+   * @throws IOException if the file cannot be written
+   */
+  public Path export() throws IOException {
+    final Path file =
+        Path.of(DIRECTORY, "rtest-" + ProcessHandle.current().pid() + EXPORT_EXTENSION);
+    final int records = writeJsonLines(file);
+    LOG.info("Wrote [{}] test and step records to [{}]", records, file);
+    return file;
   }
 
-  public void addTest(String testName) {
-    // TODO Auto-generated method stub
+  /**
+   * Reads a file written by {@link #writeJsonLines(Path)}; unreadable lines are skipped.
+   *
+   * @param file the file
+   * @return the records
+   * @throws IOException if the file cannot be read
+   */
+  public static List<RStepRecord> readJsonLines(Path file) throws IOException {
+    final List<RStepRecord> recordList = new ArrayList<>();
+    for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+      if (line.isBlank()) {
+        continue;
+      }
+      try {
+        recordList.add(GSON.fromJson(line, RStepRecord.class));
+      } catch (final JsonParseException e) {
+        LOG.warn("Skipping unreadable record in [{}]: {}", file, e.getMessage());
+      }
+    }
+    return recordList;
   }
 
-  public void reportTest(String testName) {
-    // TODO Auto-generated method stub
+  private void count(String status) {
+    mapCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
   }
 
-  public List<Map<String, Map<String, String>>> getListMapTests() {
-    return listMapTests;
+  private static RStepRecord createRecord(
+      String testRunName,
+      RTestSet rTestSet,
+      RScenario rScenario,
+      RTest rTest,
+      String stepName,
+      RStep rStep) {
+    return new RStepRecord(
+        testRunName,
+        rTestSet.getTestSetName(),
+        rScenario.getScenarioName(),
+        rTest.getTestName(),
+        stepName,
+        rStep.getStepStatus(),
+        rStep.getStartMillis(),
+        rStep.getDurationNanos());
   }
 
-  public void setListMapTests(List<Map<String, Map<String, String>>> listMapTests) {
-    this.listMapTests = listMapTests;
+  private static String getDirectory() {
+    final String directory =
+        TuningConfig.getValue("RTEST_REPORT_DIRECTORY", "rtest.report.directory");
+    return directory == null ? "target/rtest-reports" : directory;
   }
 }
@@ -1,49 +1,56 @@
 package com.cjs.qa.junit.reporting;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/** The root of the run model: the test sets of one JVM. */
 public class RTestRun extends RTestSet {
 
-  private String testRunName;
-  private String testRunStatus;
-  private List<RTestSet> rTestSet = new ArrayList<>();
+  private final RChildren<RTestSet> rTestSet = new RChildren<>();
 
   public RTestRun(String stepName, String stepStatus) {
     super(stepName, stepStatus);
-    setTestRunName(testRunName);
-    setTestRunStatus(testRunStatus);
   }
 
-  public void addTestSet(String testSetName, String testSetStatus) {
-    getRTestSet().add(new RTestSet(testSetName, testSetStatus));
+  public RTestSet addTestSet(String testSetName, String testSetStatus) {
+    return rTestSet.add(new RTestSet(testSetName, testSetStatus));
+  }
+
+  /**
+   * @param testSetName the test set name
+   * @return the test set with this name, added if there is none
+   */
+  public RTestSet getOrAddTestSet(String testSetName) {
+    return rTestSet.getOrAdd(testSetName, name -> new RTestSet(name, "Starting"));
   }
 
   public RTestSet cRTestSet() {
-    return getRTestSet().get(getRTestSet().size() - 1);
+    return rTestSet.last();
   }
 
+  /**
+   * @return a snapshot of the test sets in the order they were added
+   */
   public List<RTestSet> getRTestSet() {
-    return rTestSet;
+    return rTestSet.list();
   }
 
   public String getTestRunName() {
-    return testRunName;
+    return getStepName();
   }
 
   public String getTestRunStatus() {
-    return testRunStatus;
+    return getStepStatus();
   }
 
   public void setRTestSet(List<RTestSet> rTestSetList) {
-    this.rTestSet = rTestSetList;
+    rTestSet.set(rTestSetList);
   }
 
   public void setTestRunName(String testRunName) {
-    this.testRunName = testRunName;
+    setStepName(testRunName);
   }
 
   public void setTestRunStatus(String testRunStatus) {
-    this.testRunStatus = testRunStatus;
+    setStepStatus(testRunStatus);
   }
 }
@@ -1,49 +1,56 @@
 package com.cjs.qa.junit.reporting;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/** A test set (test class, TestNG test or cucumber feature) of the run model and its scenarios. */
 public class RTestSet extends RScenario {
 
-  private String testSetName;
-  private String testSetStatus;
-  private List<RScenario> rScenario = new ArrayList<>();
+  private final RChildren<RScenario> rScenario = new RChildren<>();
 
   public RTestSet(String stepName, String stepStatus) {
     super(stepName, stepStatus);
-    setTestSetName(testSetName);
-    setTestSetStatus(testSetStatus);
   }
 
-  public void addScenario(String scenarioName, String scenarioStatus) {
-    getRScenario().add(new RScenario(scenarioName, scenarioStatus));
+  public RScenario addScenario(String scenarioName, String scenarioStatus) {
+    return rScenario.add(new RScenario(scenarioName, scenarioStatus));
   }
 
+  /**
+   * @param scenarioName the scenario name
+   * @return the scenario with this name, added if there is none
+   */
+  public RScenario getOrAddScenario(String scenarioName) {
+    return rScenario.getOrAdd(scenarioName, name -> new RScenario(name, "Starting"));
+  }
+
+  /**
+   * @return a snapshot of the scenarios in the order they were added
+   */
   public List<RScenario> getRScenario() {
-    return rScenario;
+    return rScenario.list();
   }
 
   public RScenario cRScenario() {
-    return getRScenario().get(getRScenario().size() - 1);
+    return rScenario.last();
   }
 
   public String getTestSetName() {
-    return testSetName;
+    return getStepName();
   }
 
   public String getTestSetStatus() {
-    return testSetStatus;
+    return getStepStatus();
   }
 
   public void setRScenario(List<RScenario> rScenarioList) {
-    this.rScenario = rScenarioList;
+    rScenario.set(rScenarioList);
   }
 
   public void setTestSetName(String testSetName) {
-    this.testSetName = testSetName;
+    setStepName(testSetName);
   }
 
   public void setTestSetStatus(String testSetStatus) {
-    this.testSetStatus = testSetStatus;
+    setStepStatus(testSetStatus);
   }
 }
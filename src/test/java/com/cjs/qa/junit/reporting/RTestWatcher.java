@@ -1,73 +1,93 @@
 package com.cjs.qa.junit.reporting;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestWatcher;
-import org.junit.runner.Description;
 
 import com.cjs.qa.utilities.GuardedLogger;
 
 /**
- * JUnit 6 TestWatcher extension for test lifecycle callbacks.
+ * JUnit 6 extension that records every test in {@link RTestReporter#getInstance()}: the test
+ * class is the test set, the method the scenario and the display name the test. Timing starts just
+ * before the test method runs, and the records are exported when the whole run is finished.
  *
- * <p>Note: This class has been migrated from JUnit 4 TestRule to JUnit 6 Extension API. To use this
- * watcher, annotate your test class with: {@code @ExtendWith(RTestWatcher.class)}
+ * <p>Note: This class has been migrated from JUnit 4 TestRule to JUnit 6 Extension API. It is
+ * registered for every JUnit test through {@code META-INF/services} and extension auto-detection
+ * ({@code junit.jupiter.extensions.autodetection.enabled}, set by the surefire configuration);
+ * outside surefire annotate the test class with {@code @ExtendWith(RTestWatcher.class)}.
  */
-public class RTestWatcher implements TestWatcher {
+public class RTestWatcher implements BeforeTestExecutionCallback, TestWatcher {
 
   private static final GuardedLogger LOG =
       new GuardedLogger(LogManager.getLogger(RTestWatcher.class));
-  private static final RTestRun R_TEST_RUN = new RTestRun(null, null);
+  private static final ExtensionContext.Namespace NAMESPACE =
+      ExtensionContext.Namespace.create(RTestWatcher.class);
 
-  /**
-   * Creates a Description-like object from ExtensionContext for compatibility with RTest.addStep
-   */
-  private Description createDescription(ExtensionContext context) {
-    String className = context.getTestClass().map(Class::getName).orElse("Unknown");
-    String methodName = context.getTestMethod().map(Method::getName).orElse("Unknown");
-    String displayName = context.getDisplayName();
-    return Description.createTestDescription(className, methodName + " - " + displayName);
+  @Override
+  public void beforeTestExecution(ExtensionContext context) {
+    // Closed by JUnit when the root context ends, i.e. once per run.
+    context.getRoot().getStore(NAMESPACE).computeIfAbsent(Exporter.class, key -> new Exporter());
+    context.getStore(NAMESPACE).put(RTest.class, startTest(context));
   }
 
   @Override
   public void testFailed(ExtensionContext context, Throwable cause) {
-    R_TEST_RUN.cRTestSet().cRScenario().cRTest().addStep(createDescription(context), "Failed");
-    LOG.debug(
-        "Test failed: {}|{}|{}",
-        context.getTestClass().map(Class::getName).orElse("Unknown"),
-        context.getTestMethod().map(Method::getName).orElse("Unknown"),
-        context.getDisplayName());
+    finishTest(context, RTestReporter.STATUS_FAILED);
   }
 
   @Override
   public void testAborted(ExtensionContext context, Throwable cause) {
-    R_TEST_RUN.cRTestSet().cRScenario().cRTest().addStep(createDescription(context), "Skipped");
-    LOG.debug(
-        "Test skipped: {}|{}|{}",
-        context.getTestClass().map(Class::getName).orElse("Unknown"),
-        context.getTestMethod().map(Method::getName).orElse("Unknown"),
-        context.getDisplayName());
+    finishTest(context, RTestReporter.STATUS_SKIPPED);
   }
 
   @Override
   public void testSuccessful(ExtensionContext context) {
-    R_TEST_RUN.cRTestSet().cRScenario().cRTest().addStep(createDescription(context), "Succeeded");
-    LOG.debug(
-        "Test succeeded: {}|{}|{}",
-        context.getTestClass().map(Class::getName).orElse("Unknown"),
-        context.getTestMethod().map(Method::getName).orElse("Unknown"),
-        context.getDisplayName());
+    finishTest(context, RTestReporter.STATUS_SUCCEEDED);
   }
 
   @Override
-  public void testDisabled(ExtensionContext context, java.util.Optional<String> reason) {
-    R_TEST_RUN.cRTestSet().cRScenario().cRTest().addStep(createDescription(context), "Disabled");
+  public void testDisabled(ExtensionContext context, Optional<String> reason) {
+    finishTest(context, RTestReporter.STATUS_DISABLED);
+  }
+
+  private static RTest startTest(ExtensionContext context) {
+    return RTestReporter.getInstance()
+        .startTest(
+            context.getTestClass().map(Class::getName).orElse("Unknown"),
+            context.getTestMethod().map(Method::getName).orElse("Unknown"),
+            context.getDisplayName());
+  }
+
+  private static void finishTest(ExtensionContext context, String status) {
+    RTest rTest = context.getStore(NAMESPACE).remove(RTest.class, RTest.class);
+    if (rTest == null) {
+      // Disabled tests and failures before the test method never started.
+      rTest = startTest(context);
+    }
+    RTestReporter.getInstance().finishTest(rTest, status);
     LOG.debug(
-        "Test disabled: {}|{}|{}",
+        "Test {}: {}|{} [{}]ms",
+        status,
         context.getTestClass().map(Class::getName).orElse("Unknown"),
-        context.getTestMethod().map(Method::getName).orElse("Unknown"),
-        context.getDisplayName());
+        context.getDisplayName(),
+        rTest.getDurationMillis());
+  }
+
+  /** Exports the records of the run. */
+  private static final class Exporter implements AutoCloseable {
+    @Override
+    public void close() {
+      try {
+        RTestReporter.getInstance().reportAll();
+        RTestReporter.getInstance().export();
+      } catch (final IOException e) {
+        LOG.warn("Failed to export test records: {}", e.getMessage());
+      }
+    }
   }
 }
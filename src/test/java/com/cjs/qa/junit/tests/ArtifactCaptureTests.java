@@ -0,0 +1,59 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.utilities.ArtifactCapture;
+import com.cjs.qa.utilities.ArtifactCaptureMetrics;
+
+public class ArtifactCaptureTests {
+
+  @TempDir Path tempDir;
+
+  private static ArtifactCaptureMetrics getMetrics(String kind) {
+    return ArtifactCapture.getMetrics().stream()
+        .filter(metrics -> metrics.kind().equals(kind))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  @Test
+  public void writeFileCreatesDirectoriesInBackground() throws IOException {
+    final byte[] content = "page".getBytes(StandardCharsets.UTF_8);
+    final File file = tempDir.resolve("nested").resolve("page.html").toFile();
+    ArtifactCapture.writeFile("test-write", file, 0, () -> content);
+    assertTrue(ArtifactCapture.flush(Duration.ofSeconds(10)), "Flushed");
+    assertArrayEquals(content, Files.readAllBytes(file.toPath()), "File content");
+    final ArtifactCaptureMetrics metrics = getMetrics("test-write");
+    assertEquals(1, metrics.written(), "Written");
+    assertEquals(content.length, metrics.bytes(), "Bytes");
+  }
+
+  @Test
+  public void failedBodyIsCounted() {
+    final CompletableFuture<Void> future =
+        ArtifactCapture.writeFile(
+            "test-failure",
+            tempDir.resolve("failed.png").toFile(),
+            0,
+            () -> {
+              throw new IOException("Session closed");
+            });
+    assertThrows(ExecutionException.class, future::get, "Failure reaches the future");
+    assertEquals(1, getMetrics("test-failure").failed(), "Failure counted");
+  }
+}
@@ -0,0 +1,122 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.jdbc.BatchInsert;
+import com.cjs.qa.jdbc.DBParameters;
+import com.cjs.qa.jdbc.JDBC;
+import com.cjs.qa.jdbc.RowCursor;
+
+public class BatchInsertTests {
+
+  private JDBC jdbc = null;
+
+  @BeforeEach
+  void createTable() throws Exception {
+    final DBParameters dbParameters = new DBParameters("H2");
+    dbParameters.setConnectionString(
+        "jdbc:h2:mem:batchInsertTests;MODE=MSSQLServer;DB_CLOSE_DELAY=-1");
+    dbParameters.setUser("sa");
+    dbParameters.setPassword("");
+    jdbc = new JDBC("", "");
+    jdbc.setDbParameters(dbParameters);
+    jdbc.executeUpdate("DROP TABLE IF EXISTS [BatchTest]", false);
+    jdbc.executeUpdate("CREATE TABLE [BatchTest] ([ID] INT, [Name] VARCHAR(20))", false);
+  }
+
+  @Test
+  public void rowsAreInsertedInBatches() throws SQLException {
+    try (BatchInsert batchInsert = jdbc.openBatchInsert("BatchTest", List.of("ID", "Name"), 2)) {
+      for (int id = 1; id <= 5; id++) {
+        batchInsert.addRow(Arrays.asList(id, "O'Name " + id));
+      }
+      assertEquals(4, batchInsert.getRecordsInserted(), "Two full batches should be committed");
+      assertEquals(1, batchInsert.getPending(), "The last row should still be queued");
+    }
+    assertEquals(5, countRows());
+    assertEquals(
+        "O'Name 3",
+        getString("SELECT [Name] FROM [BatchTest] WHERE [ID] = 3"),
+        "Quotes should be bound, not escaped");
+  }
+
+  @Test
+  public void recordsUseMapKeysAsColumns() throws SQLException {
+    try (BatchInsert batchInsert = jdbc.openBatchInsert("BatchTest", List.of())) {
+      final Map<String, Object> record = new LinkedHashMap<>();
+      record.put("Name", "first");
+      record.put("ID", 1);
+      batchInsert.addRecord(record);
+      batchInsert.addRecord(Map.of("ID", 2));
+      final Map<String, Object> recordWithNull = new LinkedHashMap<>();
+      recordWithNull.put("ID", 3);
+      recordWithNull.put("Name", null);
+      batchInsert.addRecord(recordWithNull);
+    }
+    assertEquals(3, countRows());
+    assertEquals(
+        "",
+        getString("SELECT [Name] FROM [BatchTest] WHERE [ID] = 3"),
+        "A null value should be stored as an empty string");
+  }
+
+  @Test
+  public void rowWithWrongValueCountIsRejected() throws SQLException {
+    try (BatchInsert batchInsert = jdbc.openBatchInsert("BatchTest", List.of("ID", "Name"))) {
+      assertThrows(IllegalArgumentException.class, () -> batchInsert.addRow(List.of(1)));
+    }
+    assertEquals(0, countRows());
+  }
+
+  @Test
+  public void uncommittedTransactionIsRolledBack() throws Exception {
+    jdbc.executeUpdate("INSERT INTO [BatchTest] ([ID], [Name]) VALUES (0, 'kept')", false);
+    try (BatchInsert batchInsert =
+        jdbc.openBatchInsertTransaction("BatchTest", List.of("ID", "Name"))) {
+      batchInsert.executeUpdate("DELETE FROM [BatchTest]");
+      for (int id = 1; id <= 3; id++) {
+        batchInsert.addRow(Arrays.asList(id, "Name " + id));
+      }
+      batchInsert.flush();
+    }
+    assertEquals(1, countRows(), "The delete and the rows should be rolled back together");
+    assertEquals("kept", getString("SELECT [Name] FROM [BatchTest] WHERE [ID] = 0"));
+  }
+
+  @Test
+  public void committedTransactionIsStored() throws Exception {
+    jdbc.executeUpdate("INSERT INTO [BatchTest] ([ID], [Name]) VALUES (0, 'replaced')", false);
+    try (BatchInsert batchInsert =
+        jdbc.openBatchInsertTransaction("BatchTest", List.of("ID", "Name"))) {
+      batchInsert.executeUpdate("DELETE FROM [BatchTest]");
+      for (int id = 1; id <= 3; id++) {
+        batchInsert.addRow(Arrays.asList(id, "Name " + id));
+      }
+      batchInsert.commit();
+      assertEquals(3, batchInsert.getRecordsInserted());
+    }
+    assertEquals(3, countRows());
+    assertNull(getString("SELECT [Name] FROM [BatchTest] WHERE [ID] = 0"));
+  }
+
+  private int countRows() throws SQLException {
+    return Integer.parseInt(getString("SELECT COUNT(*) FROM [BatchTest]"));
+  }
+
+  private String getString(String sql) throws SQLException {
+    try (RowCursor row = jdbc.openCursor(sql)) {
+      return row.next() ? row.getString(0) : null;
+    }
+  }
+}
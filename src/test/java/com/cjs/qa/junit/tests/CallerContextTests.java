@@ -0,0 +1,91 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.utilities.CallerContext;
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.JavaHelpers;
+
+public class CallerContextTests {
+
+  private static final String LOGGER_NAME = CallerContextTests.class.getName() + ".deferred";
+  private static final GuardedLogger LOG = new GuardedLogger(LogManager.getLogger(LOGGER_NAME));
+
+  private static String callingMethodName() {
+    return callingMethodNameHelper();
+  }
+
+  private static String callingMethodNameHelper() {
+    return JavaHelpers.getCallingMethodName();
+  }
+
+  private static String logCallingMethodName() {
+    return logCallingMethodNameHelper();
+  }
+
+  private static String logCallingMethodNameHelper() {
+    final CallerContext.Deferred deferred = CallerContext.logCallingMethodName();
+    LOG.debug("{}", deferred::get);
+    return deferred.get();
+  }
+
+  @Test
+  public void namesMatchTheStackTrace() {
+    final StackTraceElement stackTraceElement = new Throwable().getStackTrace()[0];
+    final int lineNumber = stackTraceElement.getLineNumber() + 2;
+    final String classMethodDebugName = JavaHelpers.getCurrentClassMethodDebugName();
+    assertEquals(
+        "CallerContextTests.namesMatchTheStackTrace(CallerContextTests.java:" + lineNumber + ")",
+        classMethodDebugName,
+        "Class method debug name");
+    assertEquals(
+        "CallerContextTests.namesMatchTheStackTrace",
+        JavaHelpers.getCurrentClassMethodName(),
+        "Class method name");
+    assertEquals(
+        stackTraceElement.getClassName() + ".namesMatchTheStackTrace",
+        JavaHelpers.getCurrentPackageClassMethodName(),
+        "Package class method name");
+    assertEquals("CallerContextTests", JavaHelpers.getCurrentClassName(), "Class name");
+    assertEquals("namesMatchTheStackTrace", callingMethodName(), "Calling method name");
+    final CallerContext callerContext = CallerContext.current();
+    assertEquals(
+        new Throwable().getStackTrace()[0].getLineNumber() - 2,
+        callerContext.lineNumber(),
+        "Line number");
+    assertEquals(
+        callerContext.className() + ".namesMatchTheStackTrace(CallerContextTests.java:"
+            + callerContext.lineNumber()
+            + ")",
+        callerContext.toString(),
+        "Stack trace format");
+  }
+
+  @Test
+  public void deferredNamesAreResolvedOnlyWhenLogged() {
+    Configurator.setLevel(LOGGER_NAME, Level.DEBUG);
+    final CallerContext.Deferred deferred = CallerContext.logClassMethodName();
+    LOG.debug("{}", deferred::get);
+    assertEquals(
+        "CallerContextTests.deferredNamesAreResolvedOnlyWhenLogged",
+        deferred.get(),
+        "Log statement method");
+    assertEquals(
+        "deferredNamesAreResolvedOnlyWhenLogged",
+        logCallingMethodName(),
+        "Same frame as JavaHelpers.getCallingMethodName");
+
+    Configurator.setLevel(LOGGER_NAME, Level.INFO);
+    final AtomicInteger evaluations = new AtomicInteger();
+    LOG.debug("{}", evaluations::incrementAndGet);
+    assertEquals(0, evaluations.get(), "Not evaluated below the level");
+    assertEquals("Unknown", CallerContext.logClassMethodName().get(), "Not rendered by a logger");
+  }
+}
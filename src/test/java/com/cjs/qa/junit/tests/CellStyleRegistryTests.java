@@ -0,0 +1,69 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Path;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.microsoft.excel.CellStyleRegistry;
+import com.cjs.qa.microsoft.excel.IExcel;
+import com.cjs.qa.microsoft.excel.xls.XLS;
+
+public class CellStyleRegistryTests {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void variantsAreCreatedOnce() throws Exception {
+    try (HSSFWorkbook workbook = new HSSFWorkbook()) {
+      final CellStyle base = workbook.createCellStyle();
+      final CellStyleRegistry styleRegistry = new CellStyleRegistry(workbook);
+      final CellStyleRegistry.Variant red =
+          CellStyleRegistry.Variant.fontColor(IndexedColors.RED.getIndex(), true);
+      final int fonts = workbook.getNumberOfFonts();
+      final CellStyle first = styleRegistry.derive(base, red);
+      assertNotSame(base, first, "New style");
+      assertSame(first, styleRegistry.derive(base, red), "Cached");
+      assertEquals(fonts + 1, workbook.getNumberOfFonts(), "One font");
+      assertEquals(
+          first.getIndex(),
+          new CellStyleRegistry(workbook).derive(base, red).getIndex(),
+          "Found in workbook by another registry");
+      final CellStyle top =
+          styleRegistry.derive(
+              first, CellStyleRegistry.Variant.verticalAlignment(VerticalAlignment.TOP));
+      assertEquals(VerticalAlignment.TOP, top.getVerticalAlignment(), "Alignment");
+      assertEquals(first.getFontIndex(), top.getFontIndex(), "Font kept");
+      assertEquals(2, styleRegistry.getCreatedCount(), "Created");
+    }
+  }
+
+  @Test
+  public void writeRangeAppliesValuesAndStyles() throws Throwable {
+    final String fileName = tempDir.resolve("range.xls").toString();
+    final String sheetName = "Data";
+    final XLS excel = new XLS(fileName, sheetName);
+    excel.writeRange(
+        sheetName,
+        1,
+        2,
+        new Object[][] {{"Name", "Count"}, {"Alpha", 3}, {null, "text"}},
+        new String[][] {{IExcel.FORMAT_NAME_HEADING, IExcel.FORMAT_NAME_HEADING}});
+    assertEquals("Name", excel.readCell(sheetName, 1, 2), "Heading");
+    assertEquals("3", excel.readCell(sheetName, 2, 3), "Number");
+    assertEquals("text", excel.readCell(sheetName, 2, 4), "Text");
+    final CellStyle heading =
+        excel.getWorkbook().getSheet(sheetName).getRow(2).getCell(1).getCellStyle();
+    assertEquals(FillPatternType.SOLID_FOREGROUND, heading.getFillPattern(), "Heading fill");
+    excel.close();
+  }
+}
@@ -0,0 +1,91 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.jdbc.ConnectionPool;
+import com.cjs.qa.jdbc.ConnectionPoolMetrics;
+import com.cjs.qa.jdbc.DBParameters;
+import com.cjs.qa.utilities.GuardedLogger;
+
+public class ConnectionPoolTests {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(ConnectionPoolTests.class));
+  private ConnectionPool connectionPool = null;
+
+  @BeforeEach
+  void createPool() {
+    final DBParameters dbParameters = new DBParameters("H2");
+    dbParameters.setConnectionString("jdbc:h2:mem:connectionPoolTests;DB_CLOSE_DELAY=-1");
+    dbParameters.setUser("sa");
+    dbParameters.setPassword("");
+    connectionPool = new ConnectionPool(dbParameters, 1, 200L, 60000L, 0L, 5);
+  }
+
+  @AfterEach
+  void closePool() {
+    connectionPool.close();
+  }
+
+  @Test
+  public void connectionIsReused() throws SQLException {
+    try (Connection connection = connectionPool.borrow()) {
+      assertTrue(connection.isValid(1), "Borrowed connection should be valid");
+    }
+    try (Connection connection = connectionPool.borrow()) {
+      assertTrue(connection.isValid(1), "Reused connection should be valid");
+    }
+    final ConnectionPoolMetrics metrics = connectionPool.getMetrics();
+    LOG.info("{}", metrics);
+    assertEquals(1, metrics.created(), "Only one physical connection should be opened");
+    assertEquals(2, metrics.borrowed(), "Both borrows should be counted");
+    assertEquals(0, metrics.active(), "No connection should remain borrowed");
+    assertEquals(1, metrics.idle(), "The connection should be back in the pool");
+  }
+
+  @Test
+  public void borrowTimesOutWhenPoolIsExhausted() throws SQLException {
+    try (Connection connection = connectionPool.borrow()) {
+      assertThrows(SQLException.class, connectionPool::borrow);
+      assertNotNull(connection);
+    }
+    assertEquals(1, connectionPool.getMetrics().borrowTimeouts(), "Timeout should be counted");
+  }
+
+  @Test
+  public void closeReturnsConnectionAndClosesStatements() throws SQLException {
+    final Statement statement;
+    try (Connection connection = connectionPool.borrow()) {
+      statement = connection.createStatement();
+      try (ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+        assertTrue(resultSet.next(), "Query should return a row");
+      }
+      connection.setAutoCommit(false);
+    }
+    assertTrue(statement.isClosed(), "Statements should be closed when the connection returns");
+    try (Connection connection = connectionPool.borrow()) {
+      assertTrue(connection.getAutoCommit(), "Returned connection should be reset to auto-commit");
+    }
+  }
+
+  @Test
+  public void closedProxyRejectsCalls() throws SQLException {
+    final Connection connection = connectionPool.borrow();
+    connection.close();
+    assertTrue(connection.isClosed(), "Proxy should report closed after release");
+    assertThrows(SQLException.class, connection::createStatement);
+  }
+}
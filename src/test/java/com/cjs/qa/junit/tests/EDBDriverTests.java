@@ -14,7 +14,7 @@ public class EDBDriverTests {
   private static final GuardedLogger LOG =
       new GuardedLogger(LogManager.getLogger(EDBDriverTests.class));
   private final List<String> databaseTypeList =
-      Arrays.asList("DB2", "MICROSOFT", "QUICKBOOKS", "SQLITE", "SQLSERVER", "UCANACCESS");
+      Arrays.asList("DB2", "H2", "MICROSOFT", "QUICKBOOKS", "SQLITE", "SQLSERVER", "UCANACCESS");
 
   private List<String> getDatabaseTypeList() {
     return databaseTypeList;
@@ -0,0 +1,110 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.cjs.qa.selenium.ElementCache;
+
+public class ElementCacheTests {
+
+  private final AtomicInteger findCount = new AtomicInteger();
+  private final AtomicBoolean stale = new AtomicBoolean();
+
+  /** A driver whose findElement returns a new element, valid until {@link #stale} is set. */
+  private WebDriver getWebDriver() {
+    return (WebDriver)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {WebDriver.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "findElement" -> {
+                    findCount.incrementAndGet();
+                    stale.set(false);
+                    yield getWebElement();
+                  }
+                  case "findElements" -> {
+                    findCount.incrementAndGet();
+                    stale.set(false);
+                    yield List.of(getWebElement());
+                  }
+                  case "toString" -> "FakeDriver";
+                  default -> null;
+                });
+  }
+
+  private WebElement getWebElement() {
+    return (WebElement)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "isDisplayed" -> {
+                    if (stale.get()) {
+                      throw new StaleElementReferenceException("stale");
+                    }
+                    yield true;
+                  }
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "FakeElement";
+                  default -> null;
+                });
+  }
+
+  @Test
+  public void resolvedElementIsReused() {
+    final WebDriver webDriver = getWebDriver();
+    final ElementCache elementCache = new ElementCache(() -> webDriver);
+    final By by = By.id("userName");
+    final WebElement first = elementCache.waitVisible(by, 0);
+    assertSame(first, elementCache.waitVisible(by, 0), "Cached element returned");
+    assertEquals(1, findCount.get(), "Locator resolved once");
+  }
+
+  @Test
+  public void staleElementIsResolvedAgain() {
+    final WebDriver webDriver = getWebDriver();
+    final ElementCache elementCache = new ElementCache(() -> webDriver);
+    final By by = By.id("userName");
+    final WebElement first = elementCache.waitVisible(by, 0);
+    final long staleBefore = ElementCache.getMetrics().stale();
+    stale.set(true);
+    assertNotSame(first, elementCache.waitVisible(by, 0), "Stale element replaced");
+    assertEquals(2, findCount.get(), "Locator resolved again");
+    assertTrue(ElementCache.getMetrics().stale() > staleBefore, "Stale lookup counted");
+  }
+
+  @Test
+  public void invalidateForgetsElements() {
+    final WebDriver webDriver = getWebDriver();
+    final ElementCache elementCache = new ElementCache(() -> webDriver);
+    final By by = By.id("userName");
+    elementCache.waitVisible(by, 0);
+    elementCache.invalidate();
+    elementCache.waitVisible(by, 0);
+    assertEquals(2, findCount.get(), "Locator resolved after invalidation");
+  }
+
+  @Test
+  public void waitIsSharedPerTimeout() {
+    final WebDriver webDriver = getWebDriver();
+    final ElementCache elementCache = new ElementCache(() -> webDriver);
+    assertSame(elementCache.getWait(5), elementCache.getWait(5), "Same timeout");
+    assertNotSame(elementCache.getWait(5), elementCache.getWait(10), "Different timeout");
+  }
+}
@@ -1,6 +1,7 @@
 package com.cjs.qa.junit.tests;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -10,6 +11,7 @@
 import org.junit.jupiter.api.Test;
 
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.microsoft.excel.IExcel;
 import com.cjs.qa.microsoft.excel.xls.XLS;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.Convert;
@@ -97,39 +99,29 @@ private void createStatisticalReport() throws QAException, IOException {
             + DateHelpersTests.getCurrentDateTime(DateHelpersTests.FORMAT_DATE_TIME_STAMP)
             + IExtension.XLS;
     final XLS excel = new XLS(filePathName, sheetName);
-    int row = 1;
-    // excel.writeCell(sheetName, 0, 0, "Method")
-    excel.writeCell(sheetName, 1, 0, PATH_LIST.get(0));
-    excel.writeCell(sheetName, 2, 0, "Files");
-    excel.writeCell(sheetName, 3, 0, getExcelTimingControl().getFileList().size());
-    excel.writeCell(sheetName, 4, 0, PATH_LIST.get(1));
-    excel.writeCell(sheetName, 5, 0, "Files");
-    excel.writeCell(sheetName, 6, 0, getExcelTimingTest().getFileList().size());
-    // excel.writeCell(sheetName, 7, 0, "Difference")
-    excel.writeCell(sheetName, 0, row, "Method");
-    excel.writeCell(sheetName, 1, row, "Calls");
-    excel.writeCell(sheetName, 2, row, "Time");
-    excel.writeCell(sheetName, 3, row, "Average");
-    excel.writeCell(sheetName, 4, row, "Calls");
-    excel.writeCell(sheetName, 5, row, "Time");
-    excel.writeCell(sheetName, 6, row, "Average");
-    excel.writeCell(sheetName, 7, row, "Difference");
-    for (int column = 0; column < 8; column++) {
-      excel.setFormatHeading(sheetName, column, 0);
-      excel.setFormatHeading(sheetName, column, row);
-    }
+    final List<Object[]> rowList = new ArrayList<>();
+    rowList.add(
+        new Object[] {
+          "",
+          PATH_LIST.get(0),
+          "Files",
+          getExcelTimingControl().getFileList().size(),
+          PATH_LIST.get(1),
+          "Files",
+          getExcelTimingTest().getFileList().size(),
+          ""
+        });
+    rowList.add(
+        new Object[] {
+          "Method", "Calls", "Time", "Average", "Calls", "Time", "Average", "Difference"
+        });
     for (final Entry<String, Integer> entry :
         getExcelTimingControl().getMethodCallsMap().entrySet()) {
-      row++;
       final String methodNameControl = entry.getKey();
       final Integer methodCallsControl = entry.getValue();
       final Double methodTimeControl =
           getExcelTimingControl().getMethodTimingMap().get(methodNameControl);
       final Double methodTimeControlAverage = methodTimeControl / methodCallsControl;
-      excel.writeCell(sheetName, 0, row, methodNameControl);
-      excel.writeCell(sheetName, 1, row, methodCallsControl);
-      excel.writeCell(sheetName, 2, row, methodTimeControl);
-      excel.writeCell(sheetName, 3, row, methodTimeControlAverage);
       LOG.debug(
           "methodNameControl: [{}], methodCallsControl: [{}], methodTimeControl: [{}], methodTimeControlAverage: [{}]",
           methodNameControl,
@@ -147,32 +139,36 @@ private void createStatisticalReport() throws QAException, IOException {
           methodCallsTest,
           methodTimeTest,
           methodTimeTestAverage);
-      excel.writeCell(sheetName, 4, row, methodCallsTest);
-      excel.writeCell(sheetName, 5, row, methodTimeTest);
-      excel.writeCell(sheetName, 6, row, methodTimeTestAverage);
-      excel.writeCell(sheetName, 7, row, methodTimeTestAverage - methodTimeControlAverage);
-      // getExcelTimingControl().getMethodCallsMap().remove(methodNameControl)
-      // getExcelTimingControl().getMethodTimingMap().remove(methodNameControl)
-      // getExcelTimingTest().getMethodCallsMap().remove(methodNameControl)
-      // getExcelTimingTest().getMethodTimingMap().remove(methodNameControl)
+      rowList.add(
+          new Object[] {
+            methodNameControl,
+            methodCallsControl,
+            methodTimeControl,
+            methodTimeControlAverage,
+            methodCallsTest,
+            methodTimeTest,
+            methodTimeTestAverage,
+            methodTimeTestAverage - methodTimeControlAverage
+          });
     }
-    row++;
+    // Write the whole table at once; the two heading rows are formatted as a block.
+    excel.writeRange(sheetName, 0, 0, rowList.toArray(new Object[0][]), null);
+    excel.formatRange(sheetName, 0, 0, 7, 1, IExcel.FORMAT_NAME_HEADING);
+    final int row = rowList.size();
     excel.writeCell(sheetName, 0, row, "Totals");
-    for (int column = 0; column < 8; column++) {
-      if (column >= 1) {
-        excel.writeCellFormula(
-            sheetName,
-            column,
-            row,
-            "Sum("
-                + Convert.fromNumberToLetterExcel(column)
-                + "3:"
-                + Convert.fromNumberToLetterExcel(column)
-                + row
-                + ")");
-      }
-      excel.setFormatHeading(sheetName, column, row);
+    for (int column = 1; column < 8; column++) {
+      excel.writeCellFormula(
+          sheetName,
+          column,
+          row,
+          "Sum("
+              + Convert.fromNumberToLetterExcel(column)
+              + "3:"
+              + Convert.fromNumberToLetterExcel(column)
+              + row
+              + ")");
     }
+    excel.formatRange(sheetName, 0, row, 7, row, IExcel.FORMAT_NAME_HEADING);
     excel.autoSizeColumns(sheetName);
     excel.save();
     excel.close();
@@ -0,0 +1,52 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.FileAppender;
+
+public class FileAppenderTests {
+
+  private static final String HEADER = "Name\tCount\n";
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void parallelAppendsKeepWholeLines() throws Exception {
+    final String fileName = tempDir.resolve("logs").resolve("SQL.log").toString();
+    IntStream.range(0, 1000)
+        .parallel()
+        .forEach(index -> FileAppender.append(fileName, HEADER, "line-" + index + "\t1\n"));
+    FileAppender.close(fileName);
+    final List<String> lineList = Files.readAllLines(Path.of(fileName), StandardCharsets.UTF_8);
+    assertEquals(1001, lineList.size(), "Header and lines");
+    assertEquals("Name\tCount", lineList.get(0), "Header first");
+    for (final String line : lineList.subList(1, lineList.size())) {
+      assertTrue(line.matches("line-\\d+\t1"), "Whole line: " + line);
+    }
+    FileAppender.append(fileName, HEADER, "again\t2\n");
+    FileAppender.close(fileName);
+    assertEquals(
+        1002, Files.readAllLines(Path.of(fileName)).size(), "No header for a non-empty file");
+  }
+
+  @Test
+  public void fileWriteFlushesBufferedText() throws Exception {
+    final String fileName = tempDir.resolve("Log.log").toString();
+    FileAppender.append(fileName, "first\n");
+    FSOTests.fileWrite(fileName, "second\n", true);
+    assertEquals(
+        List.of("first", "second"), Files.readAllLines(Path.of(fileName)), "Order kept");
+    FileAppender.close(fileName);
+  }
+}
@@ -0,0 +1,186 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.cjs.qa.bts.pages.BiUnderwritingPage;
+import com.cjs.qa.selenium.FormFillResult;
+import com.cjs.qa.selenium.FormFiller;
+import com.cjs.qa.selenium.FormValue;
+import com.cjs.qa.selenium.SeleniumWebDriverEventListener;
+
+import io.cucumber.datatable.DataTable;
+
+public class FormFillerTests {
+
+  private static final By EDIT_NAME = By.id("name");
+  private static final By EDIT_PASSWORD = By.id("password");
+  private static final By DROPDOWN_STATE = By.id("state");
+  private static final By CHECKBOX_TERMS = By.id("terms");
+
+  private final List<By> locatedList = new ArrayList<>();
+  private final List<String> scriptList = new ArrayList<>();
+  private final List<List<?>> argumentsList = new ArrayList<>();
+
+  /** A driver that answers nothing; the fakes below stand in for every round trip. */
+  private static WebDriver getWebDriver() {
+    return (WebDriver)
+        Proxy.newProxyInstance(
+            FormFillerTests.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class},
+            (proxy, method, args) -> "toString".equals(method.getName()) ? "FakeDriver" : null);
+  }
+
+  private WebElement locate(By by) {
+    locatedList.add(by);
+    return (WebElement)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "FakeElement:" + by;
+                  default -> null;
+                });
+  }
+
+  /**
+   * A filler whose fill script reports the given option errors and whose read-back script returns
+   * the given values.
+   */
+  private FormFiller getFormFiller(List<Long> errorList, List<String> actualList) {
+    return new FormFiller(
+        getWebDriver(),
+        this::locate,
+        (script, arguments) -> {
+          scriptList.add(script);
+          argumentsList.add((List<?>) arguments);
+          return scriptList.size() == 1 ? errorList : actualList;
+        },
+        new SeleniumWebDriverEventListener());
+  }
+
+  private static Map<By, FormValue> getFieldMap() {
+    final Map<By, FormValue> fieldMap = new LinkedHashMap<>();
+    fieldMap.put(EDIT_NAME, FormValue.edit("Chris"));
+    fieldMap.put(EDIT_PASSWORD, FormValue.password("secret"));
+    fieldMap.put(DROPDOWN_STATE, FormValue.dropdown("Iowa"));
+    fieldMap.put(CHECKBOX_TERMS, FormValue.checkbox("Checked"));
+    return fieldMap;
+  }
+
+  @Test
+  public void oneFillScriptAndOneReadBackScriptPerBatch() {
+    final FormFillResult result =
+        getFormFiller(List.of(), List.of("Chris", "secret", "Iowa", "checked")).fill(getFieldMap());
+    assertTrue(result.isComplete(), result.mismatchList().toString());
+    assertEquals(4, result.fields(), "Fields");
+    assertEquals(
+        List.of(EDIT_NAME, EDIT_PASSWORD, DROPDOWN_STATE, CHECKBOX_TERMS),
+        locatedList,
+        "Each field located once, in order");
+    assertEquals(2, scriptList.size(), "One fill and one read-back script");
+    assertNotEquals(scriptList.get(0), scriptList.get(1), "Fill, then read back");
+    assertEquals(4, argumentsList.get(0).size(), "Every field in the fill script");
+    assertEquals(argumentsList.get(0), argumentsList.get(1), "Read back the same fields");
+    final Map<?, ?> checkbox = (Map<?, ?>) argumentsList.get(0).get(3);
+    assertEquals("CHECKBOX", checkbox.get("type"), "Type");
+    assertEquals("checked", checkbox.get("value"), "Checkbox value in lower case");
+  }
+
+  @Test
+  public void mismatchesAndMissingOptionsAreReported() {
+    final FormFillResult result =
+        getFormFiller(List.of(2L), List.of("Chris", "changed", "", "unchecked"))
+            .fill(getFieldMap());
+    assertFalse(result.isComplete(), "Not complete");
+    assertEquals(3, result.mismatchList().size(), result.mismatchList().toString());
+    assertTrue(
+        result.mismatchList().get(0).contains("[Iowa] is not an option of [" + DROPDOWN_STATE),
+        result.mismatchList().get(0));
+    assertTrue(
+        result.mismatchList().get(1).contains("was not set for [" + EDIT_PASSWORD),
+        result.mismatchList().get(1));
+    assertFalse(result.mismatchList().get(1).contains("secret"), "Password masked");
+    assertFalse(result.mismatchList().get(1).contains("changed"), "Actual password masked");
+    assertTrue(
+        result.mismatchList().get(2).contains("was not set for [" + CHECKBOX_TERMS),
+        result.mismatchList().get(2));
+  }
+
+  @Test
+  public void unsupportedCheckboxValueIsSkipped() {
+    final Map<By, FormValue> fieldMap = new LinkedHashMap<>();
+    fieldMap.put(EDIT_NAME, FormValue.edit("Chris"));
+    fieldMap.put(CHECKBOX_TERMS, FormValue.checkbox("maybe"));
+    final FormFillResult result = getFormFiller(List.of(), List.of("Chris")).fill(fieldMap);
+    assertTrue(result.isComplete(), result.mismatchList().toString());
+    assertEquals(List.of(EDIT_NAME), locatedList, "Checkbox not located");
+  }
+
+  @Test
+  public void dependentFieldsAreFilledAfterTheBatch() {
+    final List<String> eventList = new ArrayList<>();
+    final BiUnderwritingPage biUnderwritingPage =
+        new BiUnderwritingPage(getWebDriver()) {
+          @Override
+          protected FormFillResult populateFields(Map<By, FormValue> fieldMap) {
+            eventList.add("batch:" + fieldMap.values());
+            return new FormFillResult(fieldMap.size(), List.of(), 0);
+          }
+
+          @Override
+          public void setEditBusinessGroup(String value) {
+            eventList.add("business group:" + value);
+          }
+
+          @Override
+          public void selectDropdownBusinessGroupLookup(String value) {
+            eventList.add("business group lookup:" + value);
+          }
+
+          @Override
+          public void selectDropdownDoesEmploymentPracticesLiabilityInsuranceApply(String value) {
+            eventList.add("epl:" + value);
+          }
+
+          @Override
+          public void setEditEnterEmploymentPracticesLiabilityRetroactiveDate(String value) {
+            eventList.add("epl retroactive date:" + value);
+          }
+        };
+    biUnderwritingPage.populatePage(
+        DataTable.create(
+            List.of(
+                List.of("Enter Employment Practices Liability Retroactive Date", "01/01/2026"),
+                List.of("Business Group Lookup", "ACME Holdings"),
+                List.of("SIC Code", "1234"),
+                List.of("Does Employment Practices Liability Insurance Apply", "Yes"),
+                List.of("Business Group", "ACME"),
+                List.of("Rating Tier", "2"))));
+    assertEquals(
+        List.of(
+            "batch:[EDIT:[1234], DROPDOWN:[2]]",
+            "business group:ACME",
+            "business group lookup:ACME Holdings",
+            "epl:Yes",
+            "epl retroactive date:01/01/2026"),
+        eventList,
+        "Dependent fields after the batch, each after the field it depends on");
+  }
+}
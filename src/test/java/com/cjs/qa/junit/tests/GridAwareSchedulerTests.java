@@ -0,0 +1,115 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.testng.IInvokedMethod;
+import org.testng.ITestClass;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import com.cjs.qa.utilities.GridAwareScheduler;
+import com.cjs.qa.utilities.GridSchedulerMetrics;
+
+public class GridAwareSchedulerTests {
+
+  private enum Kind {
+    BEFORE_METHOD,
+    TEST,
+    AFTER_METHOD
+  }
+
+  private final GridAwareScheduler gridAwareScheduler = new GridAwareScheduler();
+  private final Object instance = new Object();
+
+  @SuppressWarnings("unchecked")
+  private static <T> T fake(Class<T> type, Map<String, Object> returnMap) {
+    return (T)
+        Proxy.newProxyInstance(
+            GridAwareSchedulerTests.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> type.getSimpleName();
+                  default -> returnMap.get(method.getName());
+                });
+  }
+
+  /** Runs one listener call pair for a method of a class with the given number of @AfterMethods. */
+  private void invoke(Kind kind, String browser, int afterMethods, int status) {
+    final XmlTest xmlTest = new XmlTest(new XmlSuite());
+    if (browser != null) {
+      xmlTest.setParameters(Map.of("browser", browser));
+    }
+    final ITestClass testClass =
+        fake(ITestClass.class, Map.of("getAfterTestMethods", new ITestNGMethod[afterMethods]));
+    final ITestNGMethod testNGMethod =
+        fake(
+            ITestNGMethod.class,
+            Map.of(
+                "getTestClass", testClass,
+                "isBeforeMethodConfiguration", kind == Kind.BEFORE_METHOD,
+                "isAfterMethodConfiguration", kind == Kind.AFTER_METHOD));
+    final IInvokedMethod invokedMethod =
+        fake(
+            IInvokedMethod.class,
+            Map.of("getTestMethod", testNGMethod, "isTestMethod", kind == Kind.TEST));
+    final ITestContext testContext =
+        fake(ITestContext.class, Map.of("getCurrentXmlTest", xmlTest));
+    final ITestResult testResult =
+        fake(
+            ITestResult.class,
+            Map.of("getInstance", instance, "getTestContext", testContext, "getStatus", status));
+    gridAwareScheduler.beforeInvocation(invokedMethod, testResult);
+    gridAwareScheduler.afterInvocation(invokedMethod, testResult);
+  }
+
+  private static int getInFlight(String browserName) {
+    return GridAwareScheduler.getMetrics().stream()
+        .filter(metrics -> metrics.browserName().equals(browserName))
+        .mapToInt(GridSchedulerMetrics::inFlight)
+        .findFirst()
+        .orElse(0);
+  }
+
+  @Test
+  public void slotIsHeldFromBeforeMethodToLastAfterMethod() {
+    final String browser = "sequence-browser";
+    invoke(Kind.BEFORE_METHOD, browser, 2, ITestResult.SUCCESS);
+    assertEquals(1, getInFlight(browser), "Slot taken by @BeforeMethod");
+    invoke(Kind.TEST, browser, 2, ITestResult.SUCCESS);
+    assertEquals(1, getInFlight(browser), "Slot kept through the test");
+    invoke(Kind.AFTER_METHOD, browser, 2, ITestResult.SUCCESS);
+    assertEquals(1, getInFlight(browser), "Slot kept until the last @AfterMethod");
+    invoke(Kind.AFTER_METHOD, browser, 2, ITestResult.SUCCESS);
+    assertEquals(0, getInFlight(browser), "Slot released after the last @AfterMethod");
+  }
+
+  @Test
+  public void failedBeforeMethodReleasesSlot() {
+    final String browser = "failing-browser";
+    invoke(Kind.BEFORE_METHOD, browser, 1, ITestResult.FAILURE);
+    assertEquals(0, getInFlight(browser), "Slot released when the session could not open");
+  }
+
+  @Test
+  public void testWithoutConfigurationUsesDefaultBrowser() {
+    final int before = getInFlight("chrome");
+    invoke(Kind.TEST, null, 0, ITestResult.SUCCESS);
+    assertEquals(before, getInFlight("chrome"), "Slot released after the test method");
+    assertEquals(
+        1,
+        GridAwareScheduler.getMetrics().stream()
+            .filter(metrics -> metrics.browserName().equals("chrome"))
+            .count(),
+        "Parameterless test throttled against chrome");
+  }
+}
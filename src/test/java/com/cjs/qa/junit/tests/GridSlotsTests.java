@@ -0,0 +1,52 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.utilities.GridSlots;
+
+public class GridSlotsTests {
+
+  /** Two UP nodes (one capped at two sessions) and one DOWN node. */
+  private static final String STATUS_JSON =
+      """
+      {"value": {"ready": true, "nodes": [
+        {"availability": "UP", "maxSessions": 2, "slots": [
+          {"stereotype": {"browserName": "chrome"}, "session": {"sessionId": "a"}},
+          {"stereotype": {"browserName": "chrome"}, "session": null},
+          {"stereotype": {"browserName": "chrome"}, "session": null},
+          {"stereotype": {"browserName": "firefox"}, "session": null}]},
+        {"availability": "UP", "maxSessions": 4, "slots": [
+          {"stereotype": {"browserName": "Chrome"}, "session": null}]},
+        {"availability": "DOWN", "maxSessions": 4, "slots": [
+          {"stereotype": {"browserName": "chrome"}, "session": null}]}]}}
+      """;
+
+  @Test
+  public void parseCountsSlotsOfUpNodes() {
+    final Map<String, GridSlots> slotsMap = GridSlots.parse(STATUS_JSON);
+    assertEquals(new GridSlots("chrome", 3, 1), slotsMap.get("chrome"), "Capped chrome slots");
+    assertEquals(new GridSlots("firefox", 1, 0), slotsMap.get("firefox"), "Firefox slots");
+    assertEquals(2, slotsMap.size(), "Browsers found");
+  }
+
+  @Test
+  public void parseWithoutNodesIsEmpty() {
+    assertTrue(GridSlots.parse("{\"value\": {\"ready\": false}}").isEmpty(), "No nodes");
+  }
+
+  @Test
+  public void allowedSessionsExcludesOtherClients() {
+    final GridSlots gridSlots = new GridSlots("chrome", 4, 3);
+    assertEquals(1, gridSlots.free(), "Free slots");
+    assertEquals(2, gridSlots.allowedSessions(1), "Two busy slots belong to other clients");
+    assertEquals(4, gridSlots.allowedSessions(3), "All busy slots are ours");
+    assertEquals(1, new GridSlots("chrome", 2, 5).allowedSessions(0), "Never below one");
+    assertFalse(gridSlots.utilization() > 1, "Utilization is a fraction");
+  }
+}
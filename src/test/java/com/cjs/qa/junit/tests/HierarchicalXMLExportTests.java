@@ -0,0 +1,72 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.jdbc.DBParameters;
+import com.cjs.qa.jdbc.HierarchicalXMLExport;
+import com.cjs.qa.jdbc.JDBC;
+import com.cjs.qa.jdbc.XMLExportNode;
+
+public class HierarchicalXMLExportTests {
+
+  private JDBC jdbc = null;
+
+  @BeforeEach
+  void createTables() throws Exception {
+    final DBParameters dbParameters = new DBParameters("H2");
+    dbParameters.setConnectionString(
+        "jdbc:h2:mem:hierarchicalXMLExportTests;MODE=MSSQLServer;DB_CLOSE_DELAY=-1");
+    dbParameters.setUser("sa");
+    dbParameters.setPassword("");
+    jdbc = new JDBC("", "");
+    jdbc.setDbParameters(dbParameters);
+    jdbc.executeUpdate("DROP TABLE IF EXISTS [Company]", false);
+    jdbc.executeUpdate("DROP TABLE IF EXISTS [Env]", false);
+    jdbc.executeUpdate(
+        "CREATE TABLE [Company] ([Abbreviation] VARCHAR(10), [Name] VARCHAR(20))", false);
+    jdbc.executeUpdate(
+        "CREATE TABLE [Env] ([Company] VARCHAR(10), [Environment] VARCHAR(10))", false);
+    jdbc.executeUpdate("INSERT INTO [Company] VALUES ('AAA', 'A & A'), ('BBB', 'B')", false);
+    jdbc.executeUpdate("INSERT INTO [Env] VALUES ('AAA', 'INT'), ('AAA', 'QA')", false);
+  }
+
+  @Test
+  public void childRowsAreNestedUnderTheirParent() throws Exception {
+    final XMLExportNode environmentNode =
+        new XMLExportNode(
+            "SELECT * FROM [Env] ORDER BY [Environment]",
+            Arrays.asList("Abbreviation"),
+            Arrays.asList("Company"),
+            "Environment",
+            "Environment",
+            Arrays.asList(),
+            Arrays.asList());
+    final XMLExportNode companyNode =
+        new XMLExportNode(
+            "SELECT * FROM [Company] ORDER BY [Abbreviation]",
+            Arrays.asList(),
+            Arrays.asList(),
+            "Abbreviation",
+            null,
+            Arrays.asList("Name"),
+            Arrays.asList(environmentNode));
+    final StringWriter stringWriter = new StringWriter();
+    final HierarchicalXMLExport hierarchicalXMLExport =
+        new HierarchicalXMLExport(jdbc, "Companies", Arrays.asList(companyNode));
+    final int rows = hierarchicalXMLExport.export(stringWriter);
+    final String xml = stringWriter.toString().replaceAll("\\s+", "");
+    assertEquals(4, rows, "Two companies and two environments should be written");
+    assertTrue(
+        xml.contains(
+            "<Companies><aaa><Name>A&amp;A</Name><Environment><int></int><qa></qa></Environment>"
+                + "</aaa><bbb><Name>B</Name><Environment></Environment></bbb></Companies>"),
+        xml);
+  }
+}
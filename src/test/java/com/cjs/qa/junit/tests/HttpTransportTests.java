@@ -0,0 +1,128 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.core.QAException;
+import com.cjs.qa.core.api.HttpTransport;
+import com.cjs.qa.core.api.HttpTransportMetrics;
+import com.cjs.qa.core.api.HttpTransportResponse;
+import com.cjs.qa.core.api.WebService;
+import com.cjs.qa.rest.REST;
+import com.cjs.qa.utilities.GuardedLogger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpTransportTests {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(HttpTransportTests.class));
+  private HttpServer httpServer = null;
+  private String baseUrl = null;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    httpServer.createContext("/echo", HttpTransportTests::echo);
+    httpServer.createContext(
+        "/missing", exchange -> respond(exchange, 404, "text/plain", "not found"));
+    httpServer.start();
+    baseUrl = "http://127.0.0.1:" + httpServer.getAddress().getPort();
+  }
+
+  @AfterEach
+  void stopServer() {
+    httpServer.stop(0);
+  }
+
+  @Test
+  public void sendEchoesBodyAndMethod() throws IOException {
+    final String body = "{\"name\":\"café\"}";
+    final HttpTransportResponse response =
+        HttpTransport.send(
+            "PUT", baseUrl + "/echo", Map.of("Content-Type", "application/json"), body);
+    assertEquals(200, response.statusCode(), "Echo should succeed");
+    assertEquals("HTTP_OK", response.responseMessage(), "Status should map to its name");
+    assertEquals("OK", response.reasonPhrase(), "Status should map to its reason phrase");
+    assertEquals("PUT:" + body, response.body(), "Method and UTF-8 body should round trip");
+  }
+
+  @Test
+  public void restThrowsForErrorResponses() throws QAException {
+    final Map<String, String> map = REST.getAPIJSONResponse("", "POST", "{}", baseUrl + "/echo");
+    assertEquals("OK", map.get("responseMessage"), "Reason phrase should be recorded");
+    assertEquals("POST:{}", map.get("json"), "JSON body should be recorded");
+    assertThrows(
+        QAException.class,
+        () -> REST.getAPIJSONResponse("", "GET", "", baseUrl + "/missing"),
+        "HTTP 404 should throw");
+  }
+
+  @Test
+  public void webServiceMapsResponse() {
+    final Map<String, String> map =
+        WebService.getAPIJSONResponse("POST", baseUrl + "/echo", "{}");
+    assertEquals("200", map.get("responseCode"), "Response code should be recorded");
+    assertEquals("POST:{}", map.get("json"), "JSON body should be recorded");
+    final Map<String, String> missing =
+        WebService.getAPIJSONResponse("GET", baseUrl + "/missing", "");
+    assertEquals("404", missing.get("responseCode"), "Error code should be recorded");
+    assertFalse(missing.containsKey("json"), "Body is only kept for HTTP 200");
+  }
+
+  @Test
+  public void metricsAreCountedPerHost() throws IOException {
+    for (int index = 0; index < 3; index++) {
+      HttpTransport.head(baseUrl + "/echo");
+    }
+    final HttpTransportMetrics metrics =
+        HttpTransport.getMetrics().stream()
+            .filter(hostMetrics -> hostMetrics.host().equals(baseUrl))
+            .findFirst()
+            .orElseThrow();
+    LOG.info("{}", metrics);
+    assertEquals(3, metrics.requests(), "Every request should be counted");
+    assertEquals(0, metrics.failures(), "No request should fail");
+    assertEquals(0, metrics.inFlight(), "No request should remain in flight");
+  }
+
+  private static void echo(HttpExchange exchange) throws IOException {
+    final String requestBody;
+    try (InputStream inputStream = exchange.getRequestBody()) {
+      requestBody = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    respond(
+        exchange,
+        200,
+        "application/json; charset=UTF-8",
+        exchange.getRequestMethod() + ":" + requestBody);
+  }
+
+  private static void respond(
+      HttpExchange exchange, int statusCode, String contentType, String body) throws IOException {
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    if ("HEAD".equals(exchange.getRequestMethod())) {
+      exchange.sendResponseHeaders(statusCode, -1);
+      exchange.close();
+      return;
+    }
+    exchange.sendResponseHeaders(statusCode, bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.cjs.qa.selenium.PageReadiness;
+import com.cjs.qa.selenium.PageReadyMetrics;
+import com.cjs.qa.selenium.PageReadyResult;
+
+public class PageReadinessTests {
+
+  private static final Duration SCRIPT_TIMEOUT = Duration.ofSeconds(30);
+
+  private final AtomicInteger asyncCount = new AtomicInteger();
+  private final AtomicInteger checkCount = new AtomicInteger();
+  private final AtomicReference<Object> asyncQuietMs = new AtomicReference<>();
+  private final AtomicReference<Duration> scriptTimeout = new AtomicReference<>(SCRIPT_TIMEOUT);
+  private final Deque<String> checkReasons = new ArrayDeque<>();
+  private WebDriverException asyncException = null;
+
+  /**
+   * A driver whose executeAsyncScript returns ready or throws {@link #asyncException}, and whose
+   * executeScript returns {@link #checkReasons} in turn, repeating the last one.
+   */
+  private WebDriver getWebDriver() {
+    final WebDriver.Timeouts timeouts =
+        (WebDriver.Timeouts)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {WebDriver.Timeouts.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "getScriptTimeout" -> scriptTimeout.get();
+                      case "scriptTimeout" -> {
+                        scriptTimeout.set((Duration) args[0]);
+                        yield proxy;
+                      }
+                      default -> null;
+                    });
+    final WebDriver.Options options =
+        (WebDriver.Options)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {WebDriver.Options.class},
+                (proxy, method, args) -> "timeouts".equals(method.getName()) ? timeouts : null);
+    return (WebDriver)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "manage" -> options;
+                  case "executeAsyncScript" -> {
+                    asyncCount.incrementAndGet();
+                    asyncQuietMs.set(((Object[]) args[1])[0]);
+                    if (asyncException != null) {
+                      throw asyncException;
+                    }
+                    yield "";
+                  }
+                  case "executeScript" -> {
+                    checkCount.incrementAndGet();
+                    yield checkReasons.size() > 1 ? checkReasons.poll() : checkReasons.peek();
+                  }
+                  case "toString" -> "FakeDriver";
+                  default -> null;
+                });
+  }
+
+  @Test
+  public void pollIntervalsAreValidated() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PageReadiness(300, List.of(), 0, 1000),
+        "Initial interval must be positive");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new PageReadiness(300, List.of(), 500, 100),
+        "Max interval must not be below the initial interval");
+  }
+
+  @Test
+  public void configuredSpinnersAreListed() {
+    final PageReadiness pageReadiness = new PageReadiness(250, List.of("#spinner > img"), 50, 800);
+    assertTrue(pageReadiness.toString().contains("#spinner > img"), pageReadiness.toString());
+  }
+
+  @Test
+  public void metricsAverageWaits() {
+    assertEquals(150.0, new PageReadyMetrics("HomePage", 2, 0, 0, 300, 200).averageMillis());
+    assertEquals(0.0, new PageReadyMetrics("HomePage", 0, 0, 0, 0, 0).averageMillis());
+  }
+
+  @Test
+  public void readyOnFirstPoll() {
+    final PageReadiness pageReadiness = new PageReadiness(300, List.of(), 1, 4);
+    final PageReadyResult result =
+        pageReadiness.waitUntilReady(getWebDriver(), "ReadyPage", Duration.ofSeconds(5));
+    assertTrue(result.ready(), result.toString());
+    assertFalse(result.fallback(), "In-browser wait was used");
+    assertEquals("", result.reason(), "No reason when ready");
+    assertEquals(1, asyncCount.get(), "One async script");
+    assertEquals(0, checkCount.get(), "No executeScript polling");
+    assertEquals(300L, asyncQuietMs.get(), "Quiet window passed to the browser");
+    assertEquals(SCRIPT_TIMEOUT, scriptTimeout.get(), "Script timeout restored");
+  }
+
+  @Test
+  public void waitsForNetworkIdleAndQuietDom() {
+    asyncException = new UnsupportedCommandException("executeAsyncScript");
+    checkReasons.add("2 request(s) pending");
+    checkReasons.add("DOM changing");
+    checkReasons.add("");
+    final PageReadiness pageReadiness = new PageReadiness(300, List.of(), 1, 4);
+    final PageReadyResult result =
+        pageReadiness.waitUntilReady(getWebDriver(), "BusyPage", Duration.ofSeconds(5));
+    assertTrue(result.ready(), result.toString());
+    assertTrue(result.fallback(), "executeScript polling was used");
+    assertEquals(3, checkCount.get(), "Polled until requests and mutations stopped");
+  }
+
+  @Test
+  public void fallbackTimesOutWhenObserverScriptIsUnsupported() {
+    asyncException = new UnsupportedCommandException("executeAsyncScript");
+    checkReasons.add("readyState loading");
+    final PageReadiness pageReadiness = new PageReadiness(300, List.of(), 1, 4);
+    final PageReadyResult result =
+        pageReadiness.waitUntilReady(getWebDriver(), "SlowPage", Duration.ofMillis(50));
+    assertFalse(result.ready(), result.toString());
+    assertTrue(result.fallback(), "executeScript polling was used");
+    assertEquals("readyState loading", result.reason(), "Last reason reported");
+    assertTrue(checkCount.get() > 1, "Polled more than once: " + checkCount.get());
+    assertEquals(SCRIPT_TIMEOUT, scriptTimeout.get(), "Script timeout restored");
+  }
+
+  @Test
+  public void scriptTimeoutReportsCurrentReason() {
+    asyncException = new ScriptTimeoutException("timeout");
+    checkReasons.add("spinner #spinner > img visible");
+    final PageReadiness pageReadiness = new PageReadiness(300, List.of("#spinner > img"), 1, 4);
+    final PageReadyResult result =
+        pageReadiness.waitUntilReady(getWebDriver(), "SpinnerPage", Duration.ofMillis(50));
+    assertFalse(result.ready(), result.toString());
+    assertFalse(result.fallback(), "No polling after the in-browser wait timed out");
+    assertEquals("spinner #spinner > img visible", result.reason(), "Reason from one check");
+    assertEquals(1, checkCount.get(), "Checked once");
+    assertEquals(SCRIPT_TIMEOUT, scriptTimeout.get(), "Script timeout restored");
+  }
+}
@@ -0,0 +1,84 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.junit.reporting.RStepRecord;
+import com.cjs.qa.junit.reporting.RTest;
+import com.cjs.qa.junit.reporting.RTestReporter;
+
+public class RTestReporterTests {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void parallelTestsAreCountedAndExported() throws Exception {
+    final RTestReporter rTestReporter = new RTestReporter("Run");
+    IntStream.range(0, 200)
+        .parallel()
+        .forEach(
+            index -> {
+              final RTest rTest =
+                  rTestReporter.startTest(
+                      "Set " + index % 4, "Scenario " + index % 10, "Test " + index);
+              rTestReporter.addStepStatus(rTest, "Given a step", "Succeeded", 1_000L);
+              rTestReporter.addStepStatus(rTest, "Then a step", "Succeeded", 2_000L);
+              rTestReporter.finishTest(
+                  rTest,
+                  index % 5 == 0 ? RTestReporter.STATUS_FAILED : RTestReporter.STATUS_SUCCEEDED);
+            });
+    final Map<String, Long> counts = rTestReporter.getMapCounts();
+    assertEquals(200L, counts.get(RTestReporter.STATUS_STARTING), "Starting");
+    assertEquals(200L, counts.get(RTestReporter.STATUS_FINISHED), "Finished");
+    assertEquals(40L, counts.get(RTestReporter.STATUS_FAILED), "Failed");
+    assertEquals(160L, counts.get(RTestReporter.STATUS_SUCCEEDED), "Succeeded");
+    assertEquals(4, rTestReporter.getRTestRun().getRTestSet().size(), "Test sets");
+
+    final Path file = tempDir.resolve("rtest.jsonl");
+    assertEquals(600, rTestReporter.writeJsonLines(file), "Written");
+    final List<RStepRecord> recordList = RTestReporter.readJsonLines(file);
+    assertEquals(600, recordList.size(), "Read");
+    final RStepRecord testRecord = recordList.get(0);
+    assertNull(testRecord.step(), "Test record");
+    assertTrue(testRecord.durationNanos() >= 0, "Test timed");
+    assertEquals("Given a step", recordList.get(1).step(), "Step record");
+    assertEquals(1_000L, recordList.get(1).durationNanos(), "Step duration");
+  }
+
+  @Test
+  public void repeatedInvocationsAreAllKept() throws Exception {
+    final RTestReporter rTestReporter = new RTestReporter("Run");
+    for (int invocation = 0; invocation < 2; invocation++) {
+      final RTest rTest = rTestReporter.startTest("Set", "DataDrivenTests", "testLogin");
+      rTestReporter.finishTest(
+          rTest, invocation == 0 ? RTestReporter.STATUS_FAILED : RTestReporter.STATUS_SUCCEEDED);
+    }
+    assertEquals(2L, rTestReporter.getMapCounts().get(RTestReporter.STATUS_FINISHED), "Counted");
+    final Path file = tempDir.resolve("repeated.jsonl");
+    assertEquals(2, rTestReporter.writeJsonLines(file), "Both invocations written");
+    final List<RStepRecord> recordList = RTestReporter.readJsonLines(file);
+    assertEquals(2, recordList.size(), "Both invocations read");
+    assertEquals(RTestReporter.STATUS_FAILED, recordList.get(0).status(), "First invocation");
+    assertEquals(RTestReporter.STATUS_SUCCEEDED, recordList.get(1).status(), "Second invocation");
+  }
+
+  @Test
+  public void runningTestHasNoDuration() {
+    final RTestReporter rTestReporter = new RTestReporter("Run");
+    final RTest rTest = rTestReporter.addTest("Standalone");
+    assertEquals(-1, rTest.getDurationNanos(), "Running");
+    assertEquals(RTestReporter.STATUS_STARTING, rTest.getTestStatus(), "Status");
+    rTestReporter.finishTest(rTest, RTestReporter.STATUS_SKIPPED);
+    assertTrue(rTest.isFinished(), "Finished");
+    assertEquals(1L, rTestReporter.getMapCounts().get(RTestReporter.STATUS_SKIPPED), "Skipped");
+  }
+}
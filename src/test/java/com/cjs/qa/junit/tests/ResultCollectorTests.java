@@ -0,0 +1,117 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.microsoft.excel.IExcel;
+import com.cjs.qa.microsoft.excel.xls.XLS;
+import com.cjs.qa.utilities.ResultCollector;
+import com.cjs.qa.utilities.ScenarioResult;
+
+public class ResultCollectorTests {
+
+  @TempDir Path tempDir;
+
+  private static ScenarioResult createResult(String name, String status) {
+    final Map<String, String> summary = new HashMap<>();
+    summary.put("Test Name", name);
+    summary.put("Status", status);
+    summary.put("Browser", null);
+    final Map<String, List<Map<String, String>>> mapListTest = new HashMap<>();
+    mapListTest.put("Summary", List.of(summary));
+    final Map<Integer, String> errors = new HashMap<>();
+    if (!"passed".equals(status)) {
+      errors.put(1, name + " failed");
+    }
+    return ScenarioResult.of(mapListTest, errors);
+  }
+
+  @Test
+  public void resultsAreImmutableCopies() {
+    final Map<String, String> summary = new HashMap<>();
+    summary.put("Status", "passed");
+    final Map<String, List<Map<String, String>>> mapListTest = new HashMap<>();
+    mapListTest.put("Summary", List.of(summary));
+    final ScenarioResult scenarioResult = ScenarioResult.of(mapListTest, new HashMap<>());
+    summary.put("Status", "failed");
+    assertTrue(scenarioResult.isPassed(), "Copied");
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> scenarioResult.summary().put("Status", "failed"),
+        "Immutable");
+  }
+
+  @Test
+  public void journalsOfAllForksAreMerged() throws Throwable {
+    final List<CompletableFuture<Void>> futureList = new ArrayList<>();
+    try (ResultCollector first = new ResultCollector(tempDir.resolve("RESULTS-A.journal"));
+        ResultCollector second = new ResultCollector(tempDir.resolve("RESULTS-B.journal"))) {
+      for (int index = 0; index < 20; index++) {
+        final ResultCollector resultCollector = index % 2 == 0 ? first : second;
+        final String status = index % 5 == 0 ? "failed" : "passed";
+        final String name = "Scenario " + index;
+        futureList.add(
+            CompletableFuture.runAsync(
+                () -> resultCollector.submit(createResult(name, status))));
+      }
+      CompletableFuture.allOf(futureList.toArray(new CompletableFuture<?>[0])).join();
+      assertTrue(first.flush(Duration.ofSeconds(10)), "First flushed");
+      assertTrue(second.flush(Duration.ofSeconds(10)), "Second flushed");
+      assertEquals(10, first.getJournaledCount(), "First journaled");
+    }
+    final List<ScenarioResult> resultList = ResultCollector.readJournals(tempDir);
+    assertEquals(20, resultList.size(), "Merged");
+    for (int index = 1; index < resultList.size(); index++) {
+      assertTrue(
+          resultList.get(index - 1).recordedMillis() <= resultList.get(index).recordedMillis(),
+          "Ordered");
+    }
+    final String fileName = tempDir.resolve("RESULTS.xls").toString();
+    assertEquals(20, ResultCollector.materialize(tempDir, fileName), "Materialized");
+    assertTrue(Files.exists(tempDir.resolve("RESULTS.html")), "HTML summary");
+    final XLS excel = new XLS(fileName, IExcel.SHEET_SUMMARY);
+    assertEquals("20", excel.readCell(IExcel.SHEET_COUNTS, 0, 1), "Tests");
+    assertEquals("16", excel.readCell(IExcel.SHEET_COUNTS, 1, 1), "Passed");
+    assertEquals("4", excel.readCell(IExcel.SHEET_COUNTS, 2, 1), "Failed");
+    assertEquals(20, excel.getRowCount(IExcel.SHEET_SUMMARY), "Summary rows");
+    assertEquals(22, excel.getSheetCount(), "Failure sheets");
+    excel.close();
+  }
+
+  @Test
+  public void onlyJournalsOfTheRunAreMerged() throws Throwable {
+    try (ResultCollector earlier =
+            new ResultCollector(
+                tempDir.resolve(ResultCollector.getJournalPrefix("run1") + "host-1.journal"));
+        ResultCollector current =
+            new ResultCollector(
+                tempDir.resolve(ResultCollector.getJournalPrefix("run2") + "host-2.journal"));
+        ResultCollector otherFork =
+            new ResultCollector(
+                tempDir.resolve(ResultCollector.getJournalPrefix("run2") + "host-3.journal"))) {
+      earlier.submit(createResult("Earlier", "failed"));
+      current.submit(createResult("Current", "passed"));
+      otherFork.submit(createResult("Other Fork", "passed"));
+      assertTrue(earlier.flush(Duration.ofSeconds(10)), "Earlier flushed");
+      assertTrue(current.flush(Duration.ofSeconds(10)), "Current flushed");
+      assertTrue(otherFork.flush(Duration.ofSeconds(10)), "Other fork flushed");
+    }
+    assertEquals(2, ResultCollector.readJournals(tempDir, "run2").size(), "Current run");
+    assertEquals(3, ResultCollector.readJournals(tempDir).size(), "All runs");
+    final String fileName = tempDir.resolve("RESULTS.xls").toString();
+    assertEquals(2, ResultCollector.materialize(tempDir, fileName, "run2"), "Materialized");
+  }
+}
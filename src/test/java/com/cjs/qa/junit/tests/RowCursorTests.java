@@ -0,0 +1,70 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.jdbc.DBParameters;
+import com.cjs.qa.jdbc.JDBC;
+import com.cjs.qa.jdbc.RowCursor;
+
+public class RowCursorTests {
+
+  private JDBC jdbc = null;
+
+  @BeforeEach
+  void createTable() throws Exception {
+    final DBParameters dbParameters = new DBParameters("H2");
+    dbParameters.setConnectionString("jdbc:h2:mem:rowCursorTests;DB_CLOSE_DELAY=-1");
+    dbParameters.setUser("sa");
+    dbParameters.setPassword("");
+    jdbc = new JDBC("", "");
+    jdbc.setDbParameters(dbParameters);
+    jdbc.executeUpdate("DROP TABLE IF EXISTS CURSOR_TEST", false);
+    jdbc.executeUpdate("CREATE TABLE CURSOR_TEST (ID INT, NAME VARCHAR(20))", false);
+    jdbc.executeUpdate("INSERT INTO CURSOR_TEST VALUES (1, 'one'), (2, 'two'), (3, NULL)", false);
+  }
+
+  @Test
+  public void cursorStreamsRowsInOrder() throws SQLException {
+    try (RowCursor row = jdbc.openCursor("SELECT ID, NAME FROM CURSOR_TEST ORDER BY ID", 2)) {
+      assertEquals(List.of("ID", "NAME"), row.getColumnNames());
+      assertEquals(1, row.getColumnIndex("NAME"));
+      assertEquals(-1, row.getColumnIndex("MISSING"));
+      assertTrue(row.next(), "First row should be available");
+      assertEquals("1", row.getString(0));
+      assertEquals("one", row.getString("NAME"));
+      assertTrue(row.next(), "Second row should be available");
+      assertTrue(row.next(), "Third row should be available");
+      assertNull(row.getString("NAME"), "SQL NULL should be returned as null");
+      assertFalse(row.next(), "Cursor should be exhausted");
+      assertEquals(3, row.getRowNumber());
+      assertThrows(SQLException.class, () -> row.getString("MISSING"));
+    }
+  }
+
+  @Test
+  public void forEachRowVisitsEveryRow() throws Exception {
+    final List<String> ids = new ArrayList<>();
+    final int rows =
+        jdbc.forEachRow("SELECT ID FROM CURSOR_TEST ORDER BY ID", row -> ids.add(row.getString(0)));
+    assertEquals(3, rows);
+    assertEquals(List.of("1", "2", "3"), ids);
+  }
+
+  @Test
+  public void closedCursorReturnsNoRows() throws SQLException {
+    final RowCursor row = jdbc.openCursor("SELECT ID FROM CURSOR_TEST");
+    row.close();
+    assertFalse(row.next(), "Closed cursor should not return rows");
+  }
+}
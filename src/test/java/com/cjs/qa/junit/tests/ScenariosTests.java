@@ -270,8 +270,10 @@ void afterTestTeardown(TestInfo testInfo) {
     final boolean failures = mapTestCount.get("failed") != 0;
     if (failures) {
       captureImages();
+      getSeleniumWebDriver().discardBrowser();
+    } else {
+      getSeleniumWebDriver().killBrowser();
     }
-    getSeleniumWebDriver().killBrowser();
   }
 
   @AfterAll
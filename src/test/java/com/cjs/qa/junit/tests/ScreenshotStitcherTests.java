@@ -0,0 +1,75 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.selenium.ScreenshotStitcher;
+import com.cjs.qa.selenium.ScreenshotStitcher.Frame;
+import com.cjs.qa.utilities.StreamingPngWriter;
+
+public class ScreenshotStitcherTests {
+
+  private static final int WIDTH = 5;
+  private static final int FRAME_HEIGHT = 8;
+
+  /** A viewport of a page whose row y has the colour y, starting at page row offsetY. */
+  private static Frame createFrame(int offsetY) throws IOException {
+    final BufferedImage image = new BufferedImage(WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < FRAME_HEIGHT; y++) {
+      for (int x = 0; x < WIDTH; x++) {
+        image.setRGB(x, y, offsetY + y);
+      }
+    }
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", outputStream);
+    return new Frame(outputStream.toByteArray(), offsetY);
+  }
+
+  private static BufferedImage stitch(Frame... frames) throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ScreenshotStitcher.stitch(List.of(frames), outputStream);
+    return ImageIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+  }
+
+  @Test
+  public void overlappingFramesAreCropped() throws IOException {
+    // The last frame overlaps because the page could not scroll a full step.
+    final BufferedImage image = stitch(createFrame(0), createFrame(8), createFrame(11));
+    assertEquals(WIDTH, image.getWidth(), "Width");
+    assertEquals(19, image.getHeight(), "Height reaches the bottom of the last frame");
+    for (int y = 0; y < image.getHeight(); y++) {
+      assertEquals(y, image.getRGB(WIDTH - 1, y) & 0xFFFFFF, "Page row " + y);
+    }
+  }
+
+  @Test
+  public void gapsAreFilledWithWhite() throws IOException {
+    final BufferedImage image = stitch(createFrame(0), createFrame(10));
+    assertEquals(18, image.getHeight(), "Height");
+    assertEquals(0xFFFFFF, image.getRGB(0, 9) & 0xFFFFFF, "Gap row");
+    assertEquals(10, image.getRGB(0, 10) & 0xFFFFFF, "Second frame");
+  }
+
+  @Test
+  public void pngWriterRoundTrip() throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    final int[] row = {0x123456, 0xFFFFFF, 0x000000};
+    try (StreamingPngWriter writer = new StreamingPngWriter(outputStream, 3, 2)) {
+      writer.writeRow(row);
+      writer.writeRow(row);
+    }
+    final BufferedImage image = ImageIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+    assertEquals(0x123456, image.getRGB(0, 1) & 0xFFFFFF, "First pixel");
+    assertEquals(0xFFFFFF, image.getRGB(1, 1) & 0xFFFFFF, "Second pixel");
+    assertEquals(0x000000, image.getRGB(2, 1) & 0xFFFFFF, "Third pixel");
+  }
+}
@@ -0,0 +1,93 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import com.cjs.qa.selenium.WebDriverSessionPool;
+
+public class WebDriverSessionPoolTests {
+
+  private final AtomicInteger quitCount = new AtomicInteger();
+
+  /** A session that accepts every reset command and counts quit calls. */
+  private WebDriver createWebDriver() {
+    final WebDriver.Options options =
+        (WebDriver.Options)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {WebDriver.Options.class},
+                (proxy, method, args) -> null);
+    return (WebDriver)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {WebDriver.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "getWindowHandle" -> "window-1";
+                  case "getWindowHandles" -> Set.of("window-1");
+                  case "manage" -> options;
+                  case "quit" -> {
+                    quitCount.incrementAndGet();
+                    yield null;
+                  }
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "FakeDriver";
+                  default -> null;
+                });
+  }
+
+  @Test
+  public void releasedSessionIsReused() throws Throwable {
+    try (WebDriverSessionPool pool =
+        new WebDriverSessionPool("chrome", this::createWebDriver, 1, 5)) {
+      final WebDriver first = pool.acquire();
+      assertTrue(pool.release(first, false), "Session belongs to the pool");
+      assertSame(first, pool.acquire(), "Idle session handed out again");
+      assertEquals(1, pool.getMetrics().created(), "Only one session started");
+      assertEquals(1, pool.getMetrics().reused(), "Reuse counted");
+      assertEquals(0, quitCount.get(), "Nothing quit");
+    }
+  }
+
+  @Test
+  public void sessionIsRecycledAfterMaxUses() throws Throwable {
+    try (WebDriverSessionPool pool =
+        new WebDriverSessionPool("chrome", this::createWebDriver, 1, 2)) {
+      final WebDriver first = pool.acquire();
+      pool.release(first, false);
+      pool.release(pool.acquire(), false);
+      assertEquals(1, quitCount.get(), "Quit after its second use");
+      assertEquals(1, pool.getMetrics().recycled(), "Recycle counted");
+    }
+  }
+
+  @Test
+  public void failedSessionIsQuit() throws Throwable {
+    try (WebDriverSessionPool pool =
+        new WebDriverSessionPool("chrome", this::createWebDriver, 1, 5)) {
+      final WebDriver first = pool.acquire();
+      pool.release(first, true);
+      assertEquals(1, quitCount.get(), "Failed session quit");
+      assertNotSame(first, pool.acquire(), "New session after a failure");
+    }
+  }
+
+  @Test
+  public void foreignSessionIsNotReleased() throws Throwable {
+    try (WebDriverSessionPool pool =
+        new WebDriverSessionPool("chrome", this::createWebDriver, 1, 5)) {
+      assertFalse(pool.release(createWebDriver(), false), "Not borrowed from this pool");
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.selenium.WebElementTableSnapshot;
+
+public class WebElementTableSnapshotTests {
+
+  private static WebElementTableSnapshot getSnapshot() {
+    return new WebElementTableSnapshot(
+        List.of("Title", "Weeks", ""),
+        List.of(
+            List.of("Jigsaw", "1", "a"),
+            List.of("Boo 2", "2", "b"),
+            List.of("Jigsaw", "2", "c"),
+            List.of("Short row")),
+        Map.of(
+            "href",
+            List.of(
+                List.of("/1", "/w1", "/a"),
+                List.of("/2", "/w2", "/b"),
+                List.of("/3", "/w3", "/c"),
+                List.of("/4"))));
+  }
+
+  @Test
+  public void cellsAreReadByRowAndColumn() {
+    final WebElementTableSnapshot snapshot = getSnapshot();
+    assertEquals(4, snapshot.getRowCount(), "Row count");
+    assertEquals(3, snapshot.getColumnCount(), "Column count");
+    assertEquals("Boo 2", snapshot.getCellText(2, 1), "Cell text");
+    assertEquals("/w3", snapshot.getCellAttribute(3, 2, "href"), "Captured attribute");
+    assertTrue(snapshot.hasAttribute("href"), "href was captured");
+    assertFalse(snapshot.hasAttribute("class"), "class was not captured");
+    assertNull(snapshot.getCellText(4, 2), "Missing cell in a short row");
+    assertNull(snapshot.getCellText(5, 1), "Row out of range");
+    assertEquals(List.of("Jigsaw", "2", "c"), snapshot.getRowValues(3), "Row values");
+    assertEquals(List.of("1", "2", "2"), snapshot.getColumnValues(2), "Column values");
+  }
+
+  @Test
+  public void matchingRecordsUseColumnIndexes() {
+    final WebElementTableSnapshot snapshot = getSnapshot();
+    assertEquals(List.of(1, 3), snapshot.matchingRecordsList(Map.of(1, "Jigsaw")), "One column");
+    assertEquals(
+        List.of(3), snapshot.matchingRecordsList(Map.of(1, "Jigsaw", 2, "2")), "Two columns");
+    assertEquals(List.of(), snapshot.matchingRecordsList(Map.of(1, "Missing")), "No match");
+    assertEquals(List.of(1, 2, 3, 4), snapshot.matchingRecordsList(Map.of()), "No criteria");
+  }
+}
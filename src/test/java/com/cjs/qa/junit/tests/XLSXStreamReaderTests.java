@@ -0,0 +1,109 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.microsoft.excel.xlsx.XLSXStreamReader;
+import com.cjs.qa.microsoft.utilities.XlsReader;
+import com.cjs.qa.utilities.ExcelDataProvider;
+
+public class XLSXStreamReaderTests {
+
+  @TempDir Path tempDir;
+
+  private String createWorkbook() throws Exception {
+    final String fileName = tempDir.resolve("data.xlsx").toString();
+    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+      workbook.createSheet("Other").createRow(0).createCell(0).setCellValue("ignored");
+      final XSSFSheet sheet = workbook.createSheet("Login");
+      final XSSFRow heading = sheet.createRow(0);
+      heading.createCell(0).setCellValue("Email");
+      heading.createCell(1).setCellValue("Attempts");
+      heading.createCell(2).setCellValue("Active");
+      heading.createCell(3).setCellValue("Since");
+      final CellStyle dateStyle = workbook.createCellStyle();
+      dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+      final XSSFRow first = sheet.createRow(1);
+      first.createCell(0).setCellValue(" ada@example.com ");
+      first.createCell(1).setCellValue(3);
+      first.createCell(2).setCellValue(true);
+      first.createCell(3).setCellValue(new Date(0));
+      first.getCell(3).setCellStyle(dateStyle);
+      // Row 3 is missing; row 4 has a gap in column B and a formula.
+      final XSSFRow second = sheet.createRow(3);
+      second.createCell(0).setCellValue("bob@example.com");
+      second.createCell(2).setCellFormula("1.5*2+0.25");
+      second.getCell(2).setCellValue(3.25);
+      try (FileOutputStream outputStream = new FileOutputStream(fileName)) {
+        workbook.write(outputStream);
+      }
+    }
+    return fileName;
+  }
+
+  @Test
+  public void streamedRowsMatchWorkbookValues() throws Throwable {
+    final String fileName = createWorkbook();
+    final Object[][] data = ExcelDataProvider.readExcel(fileName, "Login");
+    assertEquals(2, data.length, "Header and missing row skipped");
+    assertEquals("ada@example.com", data[0][0], "Trimmed shared string");
+    assertEquals(3L, data[0][1], "Whole number");
+    assertEquals(Boolean.TRUE, data[0][2], "Boolean");
+    assertInstanceOf(Date.class, data[0][3], "Date");
+    assertArrayEquals(new Object[] {"bob@example.com", "", 3.25}, data[1], "Gap and formula");
+  }
+
+  @Test
+  public void iteratorReadsLazilyAndCloses() throws Throwable {
+    final String fileName = createWorkbook();
+    final Iterator<Object[]> iterator = ExcelDataProvider.iterateExcel(fileName, "Login", false);
+    assertEquals("Email", iterator.next()[0], "Header row kept");
+    assertEquals(2, countRemaining(iterator), "Data rows");
+    assertFalse(iterator.hasNext(), "Exhausted");
+    try (XLSXStreamReader excel = new XLSXStreamReader(Path.of(fileName).toFile())) {
+      assertEquals(List.of("Other", "Login"), excel.getSheetNames(), "Sheet order");
+      assertEquals("ignored", excel.readRows(null, false).get(0)[0], "First sheet by default");
+    }
+  }
+
+  @Test
+  public void sessionWritesOnce() throws Throwable {
+    final String fileName = createWorkbook();
+    final byte[] original = Files.readAllBytes(Path.of(fileName));
+    final XlsReader xlsReader = new XlsReader(fileName);
+    try (XlsReader.Session session = xlsReader.openSession()) {
+      assertTrue(xlsReader.setCellData("Login", "Attempts", 2, "no"), "First update");
+      assertTrue(xlsReader.setCellData("Login", "Attempts", 4, "yes"), "Second update");
+      assertArrayEquals(original, Files.readAllBytes(Path.of(fileName)), "Not written yet");
+      assertEquals("yes", xlsReader.getCellData("Login", "Attempts", 4), "Visible in memory");
+    }
+    assertFalse(xlsReader.isSessionOpen(), "Session ended");
+    assertEquals("no", new XlsReader(fileName).getCellData("Login", "Attempts", 2), "Saved");
+  }
+
+  private static int countRemaining(Iterator<Object[]> iterator) {
+    int count = 0;
+    while (iterator.hasNext()) {
+      iterator.next();
+      count++;
+    }
+    return count;
+  }
+}
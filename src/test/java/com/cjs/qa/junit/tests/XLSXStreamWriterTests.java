@@ -0,0 +1,68 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileInputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.microsoft.excel.ColumnWidthEstimator;
+import com.cjs.qa.microsoft.excel.xlsx.XLSXStreamWriter;
+
+public class XLSXStreamWriterTests {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void rowsAreTypedAndSheetsAppended() throws Throwable {
+    final String fileName = tempDir.resolve("export.xlsx").toString();
+    try (XLSXStreamWriter excel = new XLSXStreamWriter(fileName)) {
+      excel.startSheet("Events", List.of("Name", "Count", "Rate", "Percent"), 3);
+      // More rows than the in-memory window, so most of them are flushed to the temp file.
+      for (int index = 0; index < 500; index++) {
+        excel.appendRow("Event " + index, index, index / 3.0, index / 4.0);
+      }
+      assertEquals(501, excel.getRowCount(), "Heading plus rows");
+    }
+    try (XLSXStreamWriter excel = new XLSXStreamWriter(fileName)) {
+      excel.startSheet("Attendees", List.of("Name"));
+      excel.appendRow("Ada", null);
+    }
+    try (FileInputStream inputStream = new FileInputStream(fileName);
+        XSSFWorkbook workbook = new XSSFWorkbook(inputStream)) {
+      assertEquals(2, workbook.getNumberOfSheets(), "First sheet kept");
+      final XSSFSheet events = workbook.getSheet("Events");
+      assertEquals(500, events.getLastRowNum(), "Last row");
+      assertEquals("Event 499", events.getRow(500).getCell(0).getStringCellValue(), "Text");
+      assertEquals(CellType.NUMERIC, events.getRow(500).getCell(1).getCellType(), "Integer");
+      assertEquals(166.333, events.getRow(500).getCell(2).getNumericCellValue(), 0.001, "Double");
+      assertEquals(
+          "General", events.getRow(500).getCell(2).getCellStyle().getDataFormatString(), "General");
+      assertEquals(
+          "0.00", events.getRow(500).getCell(3).getCellStyle().getDataFormatString(), "Percent");
+      assertTrue(events.getColumnWidth(0) >= "Event 499".length() * 256, "Estimated width");
+      assertNull(workbook.getSheet("Attendees").getRow(1).getCell(1), "Null leaves cell empty");
+    }
+  }
+
+  @Test
+  public void estimatorUsesLongestLine() {
+    final ColumnWidthEstimator columnWidthEstimator = new ColumnWidthEstimator();
+    columnWidthEstimator.observe(2, "short\nmuch longer line");
+    columnWidthEstimator.observe(2, "mid");
+    assertEquals(3, columnWidthEstimator.getColumnCount(), "Columns");
+    assertEquals(0, columnWidthEstimator.getWidth(0), "Empty column");
+    assertEquals((16 + 2) * 256, columnWidthEstimator.getWidth(2), "Longest line plus padding");
+    columnWidthEstimator.observe(0, 1000);
+    assertEquals(
+        ColumnWidthEstimator.MAX_CHARACTERS * 256, columnWidthEstimator.getWidth(0), "Capped");
+  }
+}
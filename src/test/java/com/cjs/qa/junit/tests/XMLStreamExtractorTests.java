@@ -0,0 +1,76 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.XML;
+import com.cjs.qa.utilities.XMLStreamExtractor;
+
+public class XMLStreamExtractorTests {
+
+  private static final String XML_ATTENDEES =
+      """
+      <?xml version="1.0" encoding="utf-8"?>
+      <Events.Event.Attendees.Get>
+        <Attendees>
+          <Attendee Type="A">
+            <ID>1</ID>
+            <Name><![CDATA[Smith & Sons]]></Name>
+            <DataSet>
+              <Company ExportValue="HP">Hewlett Packard</Company>
+            </DataSet>
+          </Attendee>
+          <Attendee>
+            <ID>2</ID>
+            <ID>3</ID>
+          </Attendee>
+        </Attendees>
+      </Events.Event.Attendees.Get>
+      """;
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void recordsAreKeyedByRelativePath() throws Exception {
+    final List<Map<String, String>> recordList =
+        XMLStreamExtractor.getRecords(XML_ATTENDEES, "Attendee");
+    assertEquals(2, recordList.size(), "One map per Attendee");
+    final Map<String, String> recordMap = recordList.get(0);
+    assertEquals("A", recordMap.get("@Type"), "Record attribute");
+    assertEquals("1", recordMap.get("ID"), "Child value");
+    assertEquals("Smith & Sons", recordMap.get("Name"), "CDATA value");
+    assertEquals("Hewlett Packard", recordMap.get("DataSet/Company"), "Nested value");
+    assertEquals("HP", recordMap.get("DataSet/Company@ExportValue"), "Nested attribute");
+    assertEquals("2", recordList.get(1).get("ID"), "First occurrence wins");
+  }
+
+  @Test
+  public void recordsAreStreamedFromFile() throws Exception {
+    final String filePathName = tempDir + File.separator + "attendees.xml";
+    FSOTests.fileWrite(filePathName, XML_ATTENDEES, false);
+    final List<String> idList = new ArrayList<>();
+    final int count =
+        XMLStreamExtractor.forEachRecord(
+            new File(filePathName), "Attendee", recordMap -> idList.add(recordMap.get("ID")));
+    assertEquals(2, count, "Record count");
+    assertEquals(List.of("1", "2"), idList, "Records in document order");
+  }
+
+  @Test
+  public void getNodesReturnsValuesInsideParent() throws Exception {
+    final String xml =
+        "<Root><EventID>0</EventID><Sa.Events.All.GetIDs><EventIDs>"
+            + "<EventID>1</EventID><EventID>2</EventID></EventIDs></Sa.Events.All.GetIDs></Root>";
+    assertEquals(
+        List.of("1", "2"), XML.getNodes(xml, "Sa.Events.All.GetIDs", "EventID"), "Values");
+  }
+}
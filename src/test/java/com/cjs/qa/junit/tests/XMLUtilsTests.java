@@ -1,5 +1,16 @@
 package com.cjs.qa.junit.tests;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLStreamException;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.xml.security.Init;
 import org.junit.jupiter.api.BeforeAll;
@@ -127,6 +138,38 @@ public void fromStringToCanonicalXML() throws QAException {
     LOG.info("XML2 canonical: {}", XML.fromStringToCanonical(xml2));
   }
 
+  @Test
+  public void countChildElementsCountsOnlyDirectChildren() throws XMLStreamException {
+    final String xml =
+        "<Events.All.Search><Results ResultTotal=\"2\">"
+            + "<Item><EventID>1</EventID><Item/></Item><Item><EventID>2</EventID></Item>"
+            + "</Results><Item/></Events.All.Search>";
+    assertEquals(2, XML.countChildElements(xml, "Results", "Item"), "Nested Items are ignored");
+    assertEquals(0, XML.countChildElements("<Results/>", "Results", "Item"), "Empty page");
+  }
+
+  @Test
+  public void getNodeListIsThreadSafe() throws Exception {
+    final String xml = "<Results><Item><ID>1</ID></Item><Item><ID>2</ID></Item></Results>";
+    final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Integer>> futureList = new ArrayList<>();
+      for (int index = 0; index < 40; index++) {
+        futureList.add(
+            executorService.submit(() -> XML.getNodeList(xml, "/Results/Item/ID").getLength()));
+      }
+      for (final Future<Integer> future : futureList) {
+        assertEquals(2, future.get(), "Every thread should see both IDs");
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+    assertSame(
+        XML.compileXPath("/Results/Item"),
+        XML.compileXPath("/Results/Item"),
+        "A thread reuses its compiled expression");
+  }
+
   private String getXML1() {
     return FSOTests.fileReadAll(Constants.PATH_FILES_XML + "xml1" + IExtension.XML);
   }
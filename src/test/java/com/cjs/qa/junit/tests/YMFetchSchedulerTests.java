@@ -0,0 +1,72 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.ym.api.services.YMFetchResult;
+import com.cjs.qa.ym.api.services.YMFetchScheduler;
+
+public class YMFetchSchedulerTests {
+
+  @TempDir Path tempDir;
+
+  private String getFilePathName(String id) {
+    return tempDir + File.separator + id + ".xml";
+  }
+
+  @Test
+  public void failedIdsAreRetriedIndividually() throws InterruptedException {
+    final Map<String, AtomicInteger> callsMap = new ConcurrentHashMap<>();
+    final YMFetchScheduler scheduler = new YMFetchScheduler("Retry", 3, 0, 3, 0L);
+    final YMFetchResult result =
+        scheduler.fetchAll(
+            List.of("1", "2", "3", "bad"),
+            this::getFilePathName,
+            id -> {
+              final int call =
+                  callsMap.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+              if ("bad".equals(id)) {
+                throw new IllegalStateException("always fails");
+              }
+              return "2".equals(id) && call == 1 ? null : "<Id>" + id + "</Id>";
+            });
+    assertEquals(3, result.fetched(), "Three IDs should be fetched");
+    assertEquals(List.of("bad"), result.failedIds(), "Only the failing ID should be reported");
+    assertFalse(result.isComplete(), "A failed ID leaves the fetch incomplete");
+    assertEquals(1, callsMap.get("1").get(), "A successful ID is called once");
+    assertEquals(2, callsMap.get("2").get(), "An empty response is retried");
+    assertEquals(3, callsMap.get("bad").get(), "A failing ID is tried maxAttempts times");
+    assertEquals("<Id>2</Id>", FSOTests.fileReadAll(getFilePathName("2")), "Response is cached");
+  }
+
+  @Test
+  public void cachedIdsAreSkipped() throws InterruptedException {
+    FSOTests.fileWrite(getFilePathName("1"), "<Id>1</Id>", false);
+    final AtomicInteger calls = new AtomicInteger();
+    final YMFetchResult result =
+        new YMFetchScheduler("Cached", 2, 0, 1, 0L)
+            .fetchAll(
+                List.of("1", "2", "2"),
+                this::getFilePathName,
+                id -> {
+                  calls.incrementAndGet();
+                  return "<Id>" + id + "</Id>";
+                });
+    assertEquals(2, result.requested(), "Duplicate IDs should be ignored");
+    assertEquals(1, result.skipped(), "The cached ID should be skipped");
+    assertEquals(1, calls.get(), "Only the uncached ID should be fetched");
+    assertTrue(result.isComplete(), "Every ID should now be cached");
+  }
+}
@@ -0,0 +1,80 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.XML;
+import com.cjs.qa.ym.api.services.YMPagePrefetcher;
+
+public class YMPagePrefetcherTests {
+
+  private static final int PAGE_SIZE = 10;
+  private static final long RECORDS_TOTAL = 35;
+
+  @TempDir Path tempDir;
+
+  private String getFilePathName(long pageRecordStart) {
+    return tempDir + File.separator + pageRecordStart + ".xml";
+  }
+
+  /** Builds a page of the fake search holding records pageRecordStart..RECORDS_TOTAL. */
+  private static String getPage(long pageRecordStart) {
+    final StringBuilder stringBuilder = new StringBuilder("<Search><Results>");
+    for (long record = pageRecordStart;
+        record < pageRecordStart + PAGE_SIZE && record <= RECORDS_TOTAL;
+        record++) {
+      stringBuilder.append("<Item><ID>").append(record).append("</ID></Item>");
+    }
+    return stringBuilder.append("</Results></Search>").toString();
+  }
+
+  @Test
+  public void fetchStopsAtFirstEmptyPage() throws Throwable {
+    final Set<Long> fetchedSet = ConcurrentHashMap.newKeySet();
+    final long recordCount =
+        new YMPagePrefetcher("Search", PAGE_SIZE, 3)
+            .fetchAll(
+                1,
+                this::getFilePathName,
+                pageRecordStart -> {
+                  fetchedSet.add(pageRecordStart);
+                  return getPage(pageRecordStart);
+                },
+                xml -> XML.countChildElements(xml, "Results", "Item"));
+    assertEquals(RECORDS_TOTAL, recordCount, "Every record should be counted once");
+    assertTrue(fetchedSet.containsAll(List.of(1L, 11L, 21L, 31L, 41L)), "Pages up to the end");
+    for (final long pageRecordStart : List.of(1L, 11L, 21L, 31L)) {
+      assertTrue(FSOTests.fileExists(getFilePathName(pageRecordStart)), "Page should be cached");
+    }
+    assertFalse(FSOTests.fileExists(getFilePathName(41)), "The empty page is not cached");
+  }
+
+  @Test
+  public void cachedPagesAreNotFetched() throws Throwable {
+    FSOTests.fileWrite(getFilePathName(1), getPage(1), false);
+    final Set<Long> fetchedSet = ConcurrentHashMap.newKeySet();
+    final long recordCount =
+        new YMPagePrefetcher("Cached", PAGE_SIZE, 1)
+            .fetchAll(
+                1,
+                this::getFilePathName,
+                pageRecordStart -> {
+                  fetchedSet.add(pageRecordStart);
+                  return getPage(pageRecordStart);
+                },
+                xml -> XML.countChildElements(xml, "Results", "Item"));
+    assertEquals(RECORDS_TOTAL, recordCount, "Cached pages should still be counted");
+    assertEquals(Set.of(11L, 21L, 31L, 41L), fetchedSet, "Only uncached pages are fetched");
+  }
+}
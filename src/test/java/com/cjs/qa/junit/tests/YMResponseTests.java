@@ -0,0 +1,54 @@
+package com.cjs.qa.junit.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+
+import com.cjs.qa.ym.api.services.YMResponse;
+
+public class YMResponseTests {
+
+  private static final String XML_SUCCESS =
+      """
+      <?xml version="1.0" encoding="utf-8"?>
+      <YourMembership_Response>
+        <ErrCode>0</ErrCode>
+        <ExtendedErrorInfo></ExtendedErrorInfo>
+        <Sa.Export.Status>
+          <ExportID>abc-123</ExportID>
+          <Status>2</Status>
+          <ExportURI><![CDATA[https://example.com/export?id=1&x=2]]></ExportURI>
+        </Sa.Export.Status>
+        <Item><ID>1</ID></Item>
+        <Item><ID>2</ID></Item>
+      </YourMembership_Response>
+      """;
+
+  @Test
+  public void valuesAreReadInOnePass() throws XMLStreamException {
+    final YMResponse ymResponse = new YMResponse(XML_SUCCESS);
+    assertTrue(ymResponse.isSuccess(), "ErrCode 0 is success");
+    assertEquals("abc-123", ymResponse.getValue("ExportID"), "Leaf value");
+    assertEquals(2, ymResponse.getInt("Status", -1), "Typed value");
+    assertEquals(
+        "https://example.com/export?id=1&x=2", ymResponse.getValue("ExportURI"), "CDATA value");
+    assertEquals("1", ymResponse.getValue("ID"), "First occurrence wins");
+    assertEquals("", ymResponse.getValue("ExtendedErrorInfo"), "Empty element");
+    assertNull(ymResponse.getValue("Missing"), "Missing element");
+  }
+
+  @Test
+  public void errorResponseReportsDescription() throws XMLStreamException {
+    final YMResponse ymResponse =
+        new YMResponse(
+            "<YourMembership_Response><ErrCode>403</ErrCode>"
+                + "<ErrDesc>Method requires authentication.</ErrDesc></YourMembership_Response>");
+    assertFalse(ymResponse.isSuccess(), "Non-zero ErrCode is a failure");
+    assertEquals("Method requires authentication.", ymResponse.getErrDesc(), "ErrDesc");
+  }
+}
@@ -0,0 +1,216 @@
+package com.cjs.qa.microsoft.excel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Cell styles of one workbook, looked up by name and created at most once per combination of
+ * attributes.
+ *
+ * <p>{@code XLSCellStyles}/{@code XLSXCellStyles} keep one static list for every workbook ever
+ * opened and search it by name on each formatted cell, and formatting that changes a font or the
+ * wrapping used to create a new font or change the shared style on every call. The registry maps
+ * the named styles of its workbook once, and {@link #derive(CellStyle, Variant)} returns the same
+ * style for the same base style and changes: variants are cached, matched against styles already
+ * in the file (so reopening a report does not add duplicates), and fonts are reused through {@link
+ * Workbook#findFont}. Excel refuses files with too many styles (4,000 for .xls), so once the
+ * workbook holds {@code EXCEL_MAX_CELL_STYLES} styles no new ones are created and the base style
+ * is used instead.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code EXCEL_MAX_CELL_STYLES} / {@code excel.max.cell.styles} - styles a workbook may hold
+ *       before variants fall back to their base style (3,900)
+ * </ul>
+ */
+public final class CellStyleRegistry {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(CellStyleRegistry.class));
+
+  /** Styles a workbook may hold before variants fall back to their base style. */
+  public static final int MAX_CELL_STYLES =
+      TuningConfig.getInt("EXCEL_MAX_CELL_STYLES", "excel.max.cell.styles", 3900);
+
+  private final Workbook workbook;
+  private final Map<String, CellStyle> namedStyleMap = new HashMap<>();
+  private final Map<VariantKey, CellStyle> variantStyleMap = new HashMap<>();
+  private int createdCount;
+  private boolean limitLogged;
+
+  /**
+   * Changes applied to a base style by {@link #derive(CellStyle, Variant)}; null leaves an
+   * attribute as it is in the base style.
+   *
+   * @param fontColor font color index
+   * @param bold bold font
+   * @param wrapText wrap text
+   * @param verticalAlignment vertical alignment
+   */
+  public record Variant(
+      Short fontColor, Boolean bold, Boolean wrapText, VerticalAlignment verticalAlignment) {
+
+    public static Variant fontColor(short fontColor, boolean bold) {
+      return new Variant(fontColor, bold, null, null);
+    }
+
+    public static Variant wrapText(boolean wrapText) {
+      return new Variant(null, null, wrapText, null);
+    }
+
+    public static Variant verticalAlignment(VerticalAlignment verticalAlignment) {
+      return new Variant(null, null, null, verticalAlignment);
+    }
+  }
+
+  private record VariantKey(int baseIndex, Variant variant) {}
+
+  /**
+   * @param workbook the workbook whose styles are registered
+   */
+  public CellStyleRegistry(Workbook workbook) {
+    this.workbook = workbook;
+  }
+
+  /**
+   * Registers a named style of the workbook.
+   *
+   * @param styleName the name, e.g. {@link IExcel#FORMAT_NAME_HEADING}
+   * @param cellStyle the style; null is ignored
+   */
+  public void register(String styleName, CellStyle cellStyle) {
+    if (cellStyle != null) {
+      namedStyleMap.put(styleName, cellStyle);
+    }
+  }
+
+  /**
+   * @param styleName a registered style name
+   * @return the style, or null if no style has that name
+   */
+  public CellStyle getStyle(String styleName) {
+    return namedStyleMap.get(styleName);
+  }
+
+  /**
+   * Returns a style that equals {@code baseStyle} with the changes of {@code variant}, creating it
+   * only if neither this registry nor the workbook has one yet.
+   *
+   * @param baseStyle the style to start from; null for the workbook default
+   * @param variant the changes
+   * @return the derived style, or the base style once the workbook is at {@link #MAX_CELL_STYLES}
+   */
+  public CellStyle derive(CellStyle baseStyle, Variant variant) {
+    final CellStyle base = baseStyle == null ? workbook.getCellStyleAt(0) : baseStyle;
+    final VariantKey variantKey = new VariantKey(base.getIndex(), variant);
+    final CellStyle cached = variantStyleMap.get(variantKey);
+    if (cached != null) {
+      return cached;
+    }
+    final Font font = getFont(base, variant);
+    final boolean wrapText = variant.wrapText() == null ? base.getWrapText() : variant.wrapText();
+    final VerticalAlignment verticalAlignment =
+        variant.verticalAlignment() == null
+            ? base.getVerticalAlignment()
+            : variant.verticalAlignment();
+    CellStyle cellStyle = findStyle(base, font, wrapText, verticalAlignment);
+    if (cellStyle == null) {
+      if (workbook.getNumCellStyles() >= MAX_CELL_STYLES) {
+        if (!limitLogged) {
+          limitLogged = true;
+          LOG.warn(
+              "Workbook has {} cell styles; formatting falls back to existing styles",
+              workbook.getNumCellStyles());
+        }
+        return base;
+      }
+      cellStyle = workbook.createCellStyle();
+      cellStyle.cloneStyleFrom(base);
+      cellStyle.setFont(font);
+      cellStyle.setWrapText(wrapText);
+      cellStyle.setVerticalAlignment(verticalAlignment);
+      createdCount++;
+    }
+    variantStyleMap.put(variantKey, cellStyle);
+    return cellStyle;
+  }
+
+  /**
+   * @return styles created by this registry
+   */
+  public int getCreatedCount() {
+    return createdCount;
+  }
+
+  private Font getFont(CellStyle base, Variant variant) {
+    final Font baseFont = workbook.getFontAt(base.getFontIndex());
+    if (variant.fontColor() == null && variant.bold() == null) {
+      return baseFont;
+    }
+    final short color = variant.fontColor() == null ? baseFont.getColor() : variant.fontColor();
+    final boolean bold = variant.bold() == null ? baseFont.getBold() : variant.bold();
+    final Font existing =
+        workbook.findFont(
+            bold,
+            color,
+            baseFont.getFontHeight(),
+            baseFont.getFontName(),
+            baseFont.getItalic(),
+            baseFont.getStrikeout(),
+            baseFont.getTypeOffset(),
+            baseFont.getUnderline());
+    if (existing != null) {
+      return existing;
+    }
+    final Font font = workbook.createFont();
+    font.setBold(bold);
+    font.setColor(color);
+    font.setFontHeight(baseFont.getFontHeight());
+    font.setFontName(baseFont.getFontName());
+    font.setItalic(baseFont.getItalic());
+    font.setStrikeout(baseFont.getStrikeout());
+    font.setTypeOffset(baseFont.getTypeOffset());
+    font.setUnderline(baseFont.getUnderline());
+    return font;
+  }
+
+  /** Finds a style of the workbook that differs from {@code base} only in the given attributes. */
+  private CellStyle findStyle(
+      CellStyle base, Font font, boolean wrapText, VerticalAlignment verticalAlignment) {
+    if (font.getIndex() == base.getFontIndex()
+        && wrapText == base.getWrapText()
+        && verticalAlignment == base.getVerticalAlignment()) {
+      return base;
+    }
+    for (int index = 0; index < workbook.getNumCellStyles(); index++) {
+      final CellStyle candidate = workbook.getCellStyleAt(index);
+      if (candidate.getFontIndex() == font.getIndex()
+          && candidate.getWrapText() == wrapText
+          && candidate.getVerticalAlignment() == verticalAlignment
+          && candidate.getDataFormat() == base.getDataFormat()
+          && candidate.getAlignment() == base.getAlignment()
+          && candidate.getFillPattern() == base.getFillPattern()
+          && candidate.getFillForegroundColor() == base.getFillForegroundColor()
+          && candidate.getFillBackgroundColor() == base.getFillBackgroundColor()
+          && candidate.getBorderTop() == base.getBorderTop()
+          && candidate.getBorderBottom() == base.getBorderBottom()
+          && candidate.getBorderLeft() == base.getBorderLeft()
+          && candidate.getBorderRight() == base.getBorderRight()
+          && candidate.getIndention() == base.getIndention()
+          && candidate.getRotation() == base.getRotation()) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+}
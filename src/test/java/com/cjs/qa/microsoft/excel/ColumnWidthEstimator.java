@@ -0,0 +1,145 @@
+package com.cjs.qa.microsoft.excel;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Sizes columns from the length of their text instead of measuring it.
+ *
+ * <p>{@link Sheet#autoSizeColumn(int)} lays out every cell of the column with the cell's font, so
+ * sizing a sheet costs a full font layout per cell and one pass over the rows per column. This
+ * class keeps the longest formatted value (in characters) per column, either while rows are
+ * written ({@link #observe(int, String)}) or in a single pass over an existing sheet ({@link
+ * #autoSize(Sheet)}), and sets the width to that many characters plus padding. Proportional fonts
+ * make the result a little wider or narrower than Excel's own fit; wide values are capped at
+ * {@code MAX_CHARACTERS}.
+ */
+public final class ColumnWidthEstimator {
+
+  /** Longest width Excel accepts, in characters. */
+  public static final int MAX_CHARACTERS = 255;
+
+  private static final int PADDING_CHARACTERS = 2;
+  private static final int UNITS_PER_CHARACTER = 256;
+
+  private int[] maxLengths = new int[16];
+  private int columnCount;
+
+  /**
+   * Records a value written to a column.
+   *
+   * @param column zero-based column index
+   * @param text the value as displayed; for multi-line text the longest line counts
+   */
+  public void observe(int column, String text) {
+    if (text == null || text.isEmpty()) {
+      return;
+    }
+    int longestLine = 0;
+    int lineStart = 0;
+    for (int index = 0; index <= text.length(); index++) {
+      if (index == text.length() || text.charAt(index) == '\n') {
+        longestLine = Math.max(longestLine, index - lineStart);
+        lineStart = index + 1;
+      }
+    }
+    observe(column, longestLine);
+  }
+
+  /**
+   * Records the display length of a value written to a column.
+   *
+   * @param column zero-based column index
+   * @param length characters
+   */
+  public void observe(int column, int length) {
+    if (column >= maxLengths.length) {
+      maxLengths = Arrays.copyOf(maxLengths, Math.max(column + 1, maxLengths.length * 2));
+    }
+    if (length > maxLengths[column]) {
+      maxLengths[column] = length;
+    }
+    columnCount = Math.max(columnCount, column + 1);
+  }
+
+  /**
+   * @return one more than the highest column observed
+   */
+  public int getColumnCount() {
+    return columnCount;
+  }
+
+  /**
+   * @param column zero-based column index
+   * @return the estimated width in 1/256ths of a character, as {@link Sheet#setColumnWidth} takes
+   *     it; 0 for a column without values
+   */
+  public int getWidth(int column) {
+    if (column >= columnCount || maxLengths[column] == 0) {
+      return 0;
+    }
+    final int characters = Math.min(MAX_CHARACTERS, maxLengths[column] + PADDING_CHARACTERS);
+    return characters * UNITS_PER_CHARACTER;
+  }
+
+  /**
+   * Sets the width of every column that has values.
+   *
+   * @param sheet the sheet the values were written to
+   */
+  public void apply(Sheet sheet) {
+    for (int column = 0; column < columnCount; column++) {
+      final int width = getWidth(column);
+      if (width > 0) {
+        sheet.setColumnWidth(column, width);
+      }
+    }
+  }
+
+  /** Forgets all observed values. */
+  public void reset() {
+    Arrays.fill(maxLengths, 0);
+    columnCount = 0;
+  }
+
+  /**
+   * Sizes all columns of a sheet in one pass over its rows.
+   *
+   * @param sheet the sheet
+   * @return the estimator holding the measured lengths
+   */
+  public static ColumnWidthEstimator autoSize(Sheet sheet) {
+    final ColumnWidthEstimator columnWidthEstimator = new ColumnWidthEstimator();
+    for (final Row row : sheet) {
+      for (final Cell cell : row) {
+        columnWidthEstimator.observe(cell.getColumnIndex(), getDisplayText(cell));
+      }
+    }
+    columnWidthEstimator.apply(sheet);
+    return columnWidthEstimator;
+  }
+
+  private static String getDisplayText(Cell cell) {
+    if (cell.getCellType() != CellType.FORMULA) {
+      return IExcel.DATA_FORMATTER.formatCellValue(cell);
+    }
+    // Size formulas by their last calculated value rather than the formula text.
+    final CellStyle cellStyle = cell.getCellStyle();
+    return switch (cell.getCachedFormulaResultType()) {
+      case NUMERIC ->
+          IExcel.DATA_FORMATTER.formatRawCellContents(
+              cell.getNumericCellValue(),
+              cellStyle.getDataFormat(),
+              cellStyle.getDataFormatString());
+      case STRING -> cell.getStringCellValue();
+      case BOOLEAN -> String.valueOf(cell.getBooleanCellValue()).toUpperCase(Locale.ROOT);
+      default -> "";
+    };
+  }
+}
@@ -32,6 +32,19 @@ public interface IExcel {
   String FORMAT_NAME_NUMBER = "Number";
   String FORMAT_NAME_NUMBERPERCENT = "NumberPercent";
   String FORMAT_NAME_PERCENT = "Percent";
+  List<String> FORMAT_NAME_LIST =
+      Arrays.asList(
+          FORMAT_NAME_BOLD,
+          FORMAT_NAME_HEADING,
+          FORMAT_NAME_HYPERLINK,
+          FORMAT_NAME_NORMAL,
+          FORMAT_NAME_PASS,
+          FORMAT_NAME_FAIL,
+          FORMAT_NAME_SECTION,
+          FORMAT_NAME_STATUS,
+          FORMAT_NAME_NUMBER,
+          FORMAT_NAME_NUMBERPERCENT,
+          FORMAT_NAME_PERCENT);
   //
   String PREFIX_CREATE_CELL_FONT = "createCellFont";
   String PREFIX_CREATE_CELL_STYLE = "createCellStyle";
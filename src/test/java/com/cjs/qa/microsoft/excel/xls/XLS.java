@@ -13,11 +13,11 @@
 import org.apache.logging.log4j.LogManager;
 import org.apache.poi.common.usermodel.HyperlinkType;
 import org.apache.poi.hssf.usermodel.HSSFCellStyle;
-import org.apache.poi.hssf.usermodel.HSSFFont;
 import org.apache.poi.hssf.usermodel.HSSFRow;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.ClientAnchor;
 import org.apache.poi.ss.usermodel.ClientAnchor.AnchorType;
 import org.apache.poi.ss.usermodel.Comment;
@@ -31,6 +31,8 @@
 import org.junit.jupiter.api.Assertions;
 
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.microsoft.excel.CellStyleRegistry;
+import com.cjs.qa.microsoft.excel.ColumnWidthEstimator;
 import com.cjs.qa.microsoft.excel.IExcel;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.FSOTests;
@@ -49,6 +51,7 @@ public class XLS implements IExcel {
   private HSSFRow workRow = null;
   private HSSFCellStyle workCellStyle = null;
   private Cell workCell = null;
+  private CellStyleRegistry styleRegistry = null;
 
   public XLS(String fileName, String sheetName) throws QAException, IOException {
     final String fileNameExtensionExpected =
@@ -149,7 +152,7 @@ public boolean addLink(
     hyperlink = getCreationHelper().createHyperlink(hyperlinkType);
     hyperlink.setAddress(linkValue);
     getWorkCell().setHyperlink(hyperlink);
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HYPERLINK));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HYPERLINK));
     //
     // final CellStyle cellStyleNew = getWorkbook().createCellStyle()
     // cellStyleNew.cloneStyleFrom(XLSCellStyles.getCellStyle(getWorkbook(),
@@ -177,12 +180,14 @@ public boolean autoSizeColumn(String sheet, int column) throws QAException {
     return true;
   }
 
+  /**
+   * Sizes every column of a sheet from the length of its values in one pass over the rows; see
+   * {@link ColumnWidthEstimator}. Use {@link #autoSizeColumn(String, int)} for an exact fit.
+   */
   public boolean autoSizeColumns(String sheet) throws QAException {
-    // , int column)
-    final int columns = getColumnCount(sheet);
-    for (int column = 0; column < columns; column++) {
-      autoSizeColumn(sheet, column);
-    }
+    sheetIndex = getWorkbook().getSheetIndex(sheet);
+    setWorkSheet(getWorkbook().getSheetAt(sheetIndex));
+    ColumnWidthEstimator.autoSize(getWorkSheet());
     return true;
   }
 
@@ -389,6 +394,48 @@ private void fileWrite() throws QAException {
     }
   }
 
+  /**
+   * Applies a named style to every cell of a rectangle, creating missing rows and cells; the sheet
+   * and the style are looked up once.
+   *
+   * @param sheetName the sheet
+   * @param firstColumn zero-based first column
+   * @param firstRow zero-based first row
+   * @param lastColumn zero-based last column, inclusive
+   * @param lastRow zero-based last row, inclusive
+   * @param styleName the style, e.g. {@link IExcel#FORMAT_NAME_HEADING}
+   */
+  public void formatRange(
+      String sheetName,
+      int firstColumn,
+      int firstRow,
+      int lastColumn,
+      int lastRow,
+      String styleName)
+      throws QAException {
+    if (!sheetExists(sheetName)) {
+      return;
+    }
+    final CellStyle cellStyle = getCellStyle(styleName);
+    for (int row = firstRow; row <= lastRow; row++) {
+      setWorkRow(getWorkSheet().getRow(row));
+      if (getWorkRow() == null) {
+        setWorkRow(getWorkSheet().createRow(row));
+      }
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        setWorkCell(getWorkRow().getCell(column));
+        if (getWorkCell() == null) {
+          setWorkCell(getWorkRow().createCell(column));
+        }
+        getWorkCell().setCellStyle(cellStyle);
+      }
+    }
+  }
+
+  private CellStyle getCellStyle(String styleName) {
+    return styleRegistry.getStyle(styleName);
+  }
+
   private String getCellValue(Cell xCell) throws QAException {
     final FormulaEvaluator formulaEvaluator = null;
     return DATA_FORMATTER.formatCellValue(xCell, formulaEvaluator).trim();
@@ -591,8 +638,11 @@ public void save() throws QAException {
   public boolean setCellAlignment(String sheet, int column, int row) throws QAException {
     sheetIndex = getWorkbook().getSheetIndex(sheet);
     setWorkSheet(getWorkbook().getSheetAt(sheetIndex));
-    setWorkCellStyle((HSSFCellStyle) getWorkCell().getCellStyle());
-    getWorkCellStyle().setVerticalAlignment(VerticalAlignment.TOP);
+    getWorkCell()
+        .setCellStyle(
+            styleRegistry.derive(
+                getWorkCell().getCellStyle(),
+                CellStyleRegistry.Variant.verticalAlignment(VerticalAlignment.TOP)));
     return true;
   }
 
@@ -604,6 +654,10 @@ public boolean setCellHeight(String sheet, int column, int row, int height) thro
 
   private void setCellStyles() throws QAException {
     XLSCellStyles.setCellStyles(getWorkbook());
+    styleRegistry = new CellStyleRegistry(getWorkbook());
+    for (final String styleName : FORMAT_NAME_LIST) {
+      styleRegistry.register(styleName, XLSCellStyles.getCellStyle(getWorkbook(), styleName));
+    }
   }
 
   private void setCellValue(Object value) throws QAException {
@@ -613,15 +667,15 @@ private void setCellValue(Object value) throws QAException {
     }
     if (value instanceof Double doubleValue) {
       getWorkCell().setCellValue(doubleValue);
-      getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+      getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
     }
     if (value instanceof Float floatValue) {
       getWorkCell().setCellValue(floatValue);
-      getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+      getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
     }
     if (value instanceof Integer intValue) {
       getWorkCell().setCellValue(intValue);
-      getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+      getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
     }
     if (value instanceof String stringValue) {
       boolean isNumeric = false;
@@ -644,17 +698,17 @@ private void setCellValue(Object value) throws QAException {
               valueFloat = valueFloat / 100;
             }
             setCellValue(valueFloat);
-            getWorkCell()
-                .setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_PERCENT));
+            getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_PERCENT));
           } else {
             valueFloat = Float.valueOf(stringValue.trim()).floatValue();
             setCellValue(valueFloat);
-            getWorkCell()
-                .setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBERPERCENT));
+            getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBERPERCENT));
           }
-        } else {
+        } else if (JavaHelpers.isValidStringInteger(stringValue)) {
           getWorkCell().setCellValue(Integer.valueOf(stringValue));
-          getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+          getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
+        } else {
+          getWorkCell().setCellValue(stringValue);
         }
       } catch (final Exception e) {
         getWorkCell().setCellValue(stringValue);
@@ -671,9 +725,10 @@ public boolean setCellWidth(String sheet, int column, int row, int width) throws
   public boolean setCellWrap(String sheet, int column, int row, boolean wrap) throws QAException {
     sheetIndex = getWorkbook().getSheetIndex(sheet);
     setWorkSheet(getWorkbook().getSheetAt(sheetIndex));
-    setWorkCellStyle((HSSFCellStyle) getWorkCell().getCellStyle());
-    getWorkCellStyle().setWrapText(wrap);
-    getWorkCell().setCellStyle(getWorkCellStyle());
+    getWorkCell()
+        .setCellStyle(
+            styleRegistry.derive(
+                getWorkCell().getCellStyle(), CellStyleRegistry.Variant.wrapText(wrap)));
     return true;
   }
 
@@ -695,7 +750,7 @@ public void setFormatBold(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_BOLD));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_BOLD));
   }
 
   public void setFormatBold(String sheet, int column, int row) throws QAException {
@@ -716,7 +771,7 @@ public void setFormatFail(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_FAIL));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_FAIL));
   }
 
   public void setFormatFail(String sheet, int column, int row) throws QAException {
@@ -736,7 +791,7 @@ public boolean setFormatFontBackgroundColor(int sheet, int column, int row, Stri
       return false;
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HEADING));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HEADING));
     return true;
   }
 
@@ -758,13 +813,11 @@ public boolean setFormatFontColor(int sheet, int column, int row, String color)
       return false;
     }
     setWorkCell(getWorkRow().getCell(column));
-    setWorkCellStyle(
-        (HSSFCellStyle) XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HYPERLINK));
-    final HSSFFont hssfFont = getWorkbook().createFont();
-    hssfFont.setColor(IExcel.getFontColorIndex(color));
-    hssfFont.setBold(true);
-    getWorkCellStyle().setFont(hssfFont);
-    getWorkCell().setCellStyle(getWorkCellStyle());
+    getWorkCell()
+        .setCellStyle(
+            styleRegistry.derive(
+                getCellStyle(FORMAT_NAME_HYPERLINK),
+                CellStyleRegistry.Variant.fontColor(IExcel.getFontColorIndex(color), true)));
     return true;
   }
 
@@ -787,7 +840,7 @@ public void setFormatHeading(int sheet, int column, int row) throws QAException
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HEADING));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HEADING));
   }
 
   public void setFormatHeading(String sheet, int column, int row) throws QAException {
@@ -808,7 +861,7 @@ public void setFormatHyperlink(int sheet, int column, int row) throws QAExceptio
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HYPERLINK));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HYPERLINK));
   }
 
   public void setFormatHyperlink(String sheet, int column, int row) throws QAException {
@@ -829,7 +882,7 @@ public void setFormatNormal(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NORMAL));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NORMAL));
   }
 
   public void setFormatNormal(String sheet, int column, int row) throws QAException {
@@ -850,7 +903,7 @@ public void setFormatPass(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_PASS));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_PASS));
   }
 
   public void setFormatPass(String sheet, int column, int row) throws QAException {
@@ -871,7 +924,7 @@ public void setFormatSection(int sheet, int column, int row) throws QAException
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_SECTION));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_SECTION));
   }
 
   public void setFormatSection(String sheet, int column, int row) throws QAException {
@@ -892,7 +945,7 @@ public void setFormatStatus(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_STATUS));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_STATUS));
   }
 
   public void setFormatStatus(String sheet, int column, int row) throws QAException {
@@ -992,6 +1045,61 @@ public String writeCellFormula(String sheetName, int column, int row, String val
     return getCellValue(getWorkCell());
   }
 
+  /**
+   * Writes a block of values in one pass: the sheet is looked up and selected once, each row is
+   * fetched or created once, and named styles come from the workbook's {@link CellStyleRegistry}.
+   * Values are converted as by {@link #writeCell(String, int, int, Object)}; null and empty values
+   * leave the cell unchanged unless a style is given for it.
+   *
+   * @param sheetName the sheet; created if it does not exist
+   * @param column zero-based column of the first value of each row
+   * @param row zero-based row of the first row of values
+   * @param values the values by row; rows may differ in length
+   * @param styleNames style names in the same layout as the values, or null; a missing or null
+   *     name keeps the style chosen for the value
+   */
+  public void writeRange(
+      String sheetName, int column, int row, Object[][] values, String[][] styleNames)
+      throws QAException {
+    if (!sheetExists(sheetName)) {
+      setWorkSheet(createSheet(sheetName));
+    }
+    setSheet(sheetName);
+    for (int rowOffset = 0; rowOffset < values.length; rowOffset++) {
+      final Object[] rowValues = values[rowOffset];
+      final String[] rowStyleNames =
+          styleNames == null || rowOffset >= styleNames.length ? null : styleNames[rowOffset];
+      if (rowValues == null) {
+        continue;
+      }
+      setWorkRow(getWorkSheet().getRow(row + rowOffset));
+      if (getWorkRow() == null) {
+        setWorkRow(getWorkSheet().createRow(row + rowOffset));
+      }
+      for (int columnOffset = 0; columnOffset < rowValues.length; columnOffset++) {
+        final Object value = rowValues[columnOffset];
+        final String styleName =
+            rowStyleNames == null || columnOffset >= rowStyleNames.length
+                ? null
+                : rowStyleNames[columnOffset];
+        final boolean hasValue = value != null && !"".equals(value);
+        if (!hasValue && styleName == null) {
+          continue;
+        }
+        setWorkCell(getWorkRow().getCell(column + columnOffset));
+        if (getWorkCell() == null) {
+          setWorkCell(getWorkRow().createCell(column + columnOffset));
+        }
+        if (hasValue) {
+          setCellValue(value);
+        }
+        if (styleName != null) {
+          getWorkCell().setCellStyle(getCellStyle(styleName));
+        }
+      }
+    }
+  }
+
   private boolean writeRecord(int column, int row, String value) throws QAException {
     setWorkRow(getWorkSheet().getRow(row));
     if (getWorkRow() == null) {
@@ -13,6 +13,7 @@
 import org.apache.logging.log4j.LogManager;
 import org.apache.poi.common.usermodel.HyperlinkType;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.ClientAnchor;
 import org.apache.poi.ss.usermodel.ClientAnchor.AnchorType;
 import org.apache.poi.ss.usermodel.Comment;
@@ -24,13 +25,14 @@
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
-import org.apache.poi.xssf.usermodel.XSSFFont;
 import org.apache.poi.xssf.usermodel.XSSFRow;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Assertions;
 
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.microsoft.excel.CellStyleRegistry;
+import com.cjs.qa.microsoft.excel.ColumnWidthEstimator;
 import com.cjs.qa.microsoft.excel.IExcel;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.FSOTests;
@@ -49,6 +51,7 @@ public class XLSX implements IExcel {
   private XSSFRow workRow = null;
   private XSSFCellStyle workCellStyle = null;
   private Cell workCell = null;
+  private CellStyleRegistry styleRegistry = null;
 
   public XLSX(String fileName, String sheetName) throws QAException, IOException {
     final String fileNameExtensionExpected =
@@ -148,7 +151,7 @@ public boolean addLink(
     hyperlink = getCreationHelper().createHyperlink(hyperlinkType);
     hyperlink.setAddress(linkValue);
     getWorkCell().setHyperlink(hyperlink);
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HYPERLINK));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HYPERLINK));
     //
     // final CellStyle cellStyleNew = getWorkbook().createCellStyle();
     // cellStyleNew.cloneStyleFrom(XLSXCellStyles.getCellStyle(getWorkbook(),
@@ -176,12 +179,14 @@ public boolean autoSizeColumn(String sheet, int column) throws QAException {
     return true;
   }
 
+  /**
+   * Sizes every column of a sheet from the length of its values in one pass over the rows; see
+   * {@link ColumnWidthEstimator}. Use {@link #autoSizeColumn(String, int)} for an exact fit.
+   */
   public boolean autoSizeColumns(String sheet) throws QAException {
-    // , int column)
-    final int columns = getColumnCount(sheet);
-    for (int column = 0; column < columns; column++) {
-      autoSizeColumn(sheet, column);
-    }
+    sheetIndex = getWorkbook().getSheetIndex(sheet);
+    setWorkSheet(getWorkbook().getSheetAt(sheetIndex));
+    ColumnWidthEstimator.autoSize(getWorkSheet());
     return true;
   }
 
@@ -386,6 +391,48 @@ private void fileWrite() throws QAException {
     }
   }
 
+  /**
+   * Applies a named style to every cell of a rectangle, creating missing rows and cells; the sheet
+   * and the style are looked up once.
+   *
+   * @param sheetName the sheet
+   * @param firstColumn zero-based first column
+   * @param firstRow zero-based first row
+   * @param lastColumn zero-based last column, inclusive
+   * @param lastRow zero-based last row, inclusive
+   * @param styleName the style, e.g. {@link IExcel#FORMAT_NAME_HEADING}
+   */
+  public void formatRange(
+      String sheetName,
+      int firstColumn,
+      int firstRow,
+      int lastColumn,
+      int lastRow,
+      String styleName)
+      throws QAException {
+    if (!sheetExists(sheetName)) {
+      return;
+    }
+    final CellStyle cellStyle = getCellStyle(styleName);
+    for (int row = firstRow; row <= lastRow; row++) {
+      setWorkRow(getWorkSheet().getRow(row));
+      if (getWorkRow() == null) {
+        setWorkRow(getWorkSheet().createRow(row));
+      }
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        setWorkCell(getWorkRow().getCell(column));
+        if (getWorkCell() == null) {
+          setWorkCell(getWorkRow().createCell(column));
+        }
+        getWorkCell().setCellStyle(cellStyle);
+      }
+    }
+  }
+
+  private CellStyle getCellStyle(String styleName) {
+    return styleRegistry.getStyle(styleName);
+  }
+
   private String getCellValue(Cell xCell) throws QAException {
     final FormulaEvaluator formulaEvaluator = null;
     return DATA_FORMATTER.formatCellValue(xCell, formulaEvaluator).trim();
@@ -588,8 +635,11 @@ public void save() throws QAException {
   public boolean setCellAlignment(String sheet, int column, int row) throws QAException {
     sheetIndex = getWorkbook().getSheetIndex(sheet);
     setWorkSheet(getWorkbook().getSheetAt(sheetIndex));
-    setWorkCellStyle((XSSFCellStyle) getWorkCell().getCellStyle());
-    getWorkCellStyle().setVerticalAlignment(VerticalAlignment.TOP);
+    getWorkCell()
+        .setCellStyle(
+            styleRegistry.derive(
+                getWorkCell().getCellStyle(),
+                CellStyleRegistry.Variant.verticalAlignment(VerticalAlignment.TOP)));
     return true;
   }
 
@@ -601,6 +651,10 @@ public boolean setCellHeight(String sheet, int column, int row, int height) thro
 
   private void setCellStyles() throws QAException {
     XLSXCellStyles.setCellStyles(getWorkbook());
+    styleRegistry = new CellStyleRegistry(getWorkbook());
+    for (final String styleName : FORMAT_NAME_LIST) {
+      styleRegistry.register(styleName, XLSXCellStyles.getCellStyle(getWorkbook(), styleName));
+    }
   }
 
   private void setCellValue(Object value) throws QAException {
@@ -610,15 +664,15 @@ private void setCellValue(Object value) throws QAException {
     }
     if (value instanceof Double doubleValue) {
       getWorkCell().setCellValue(doubleValue);
-      getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+      getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
     }
     if (value instanceof Float floatValue) {
       getWorkCell().setCellValue(floatValue);
-      getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+      getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
     }
     if (value instanceof Integer intValue) {
       getWorkCell().setCellValue(intValue);
-      getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+      getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
     }
     if (value instanceof String stringValue) {
       boolean isNumeric = false;
@@ -641,19 +695,17 @@ private void setCellValue(Object value) throws QAException {
               valueFloat = valueFloat / 100;
             }
             setCellValue(valueFloat);
-            getWorkCell()
-                .setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_PERCENT));
+            getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_PERCENT));
           } else if (isNumeric) {
             valueFloat = Float.valueOf(stringValue.trim()).floatValue();
             setCellValue(valueFloat);
-            getWorkCell()
-                .setCellStyle(
-                    XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBERPERCENT));
+            getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBERPERCENT));
           }
-        } else {
+        } else if (JavaHelpers.isValidStringInteger(stringValue)) {
           getWorkCell().setCellValue(Integer.valueOf(stringValue));
-          getWorkCell()
-              .setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NUMBER));
+          getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NUMBER));
+        } else {
+          getWorkCell().setCellValue(stringValue);
         }
       } catch (final Exception e) {
         getWorkCell().setCellValue(stringValue);
@@ -670,9 +722,10 @@ public boolean setCellWidth(String sheet, int column, int row, int width) throws
   public boolean setCellWrap(String sheet, int column, int row, boolean wrap) throws QAException {
     sheetIndex = getWorkbook().getSheetIndex(sheet);
     setWorkSheet(getWorkbook().getSheetAt(sheetIndex));
-    setWorkCellStyle((XSSFCellStyle) getWorkCell().getCellStyle());
-    getWorkCellStyle().setWrapText(wrap);
-    getWorkCell().setCellStyle(getWorkCellStyle());
+    getWorkCell()
+        .setCellStyle(
+            styleRegistry.derive(
+                getWorkCell().getCellStyle(), CellStyleRegistry.Variant.wrapText(wrap)));
     return true;
   }
 
@@ -694,7 +747,7 @@ public void setFormatBold(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_BOLD));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_BOLD));
   }
 
   public void setFormatBold(String sheet, int column, int row) throws QAException {
@@ -715,7 +768,7 @@ public void setFormatFail(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_FAIL));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_FAIL));
   }
 
   public void setFormatFail(String sheet, int column, int row) throws QAException {
@@ -735,7 +788,7 @@ public boolean setFormatFontBackgroundColor(int sheet, int column, int row, Stri
       return false;
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HEADING));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HEADING));
     return true;
   }
 
@@ -757,13 +810,11 @@ public boolean setFormatFontColor(int sheet, int column, int row, String color)
       return false;
     }
     setWorkCell(getWorkRow().getCell(column));
-    setWorkCellStyle(
-        (XSSFCellStyle) XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HYPERLINK));
-    final XSSFFont hssfFont = getWorkbook().createFont();
-    hssfFont.setColor(IExcel.getFontColorIndex(color));
-    hssfFont.setBold(true);
-    getWorkCellStyle().setFont(hssfFont);
-    getWorkCell().setCellStyle(getWorkCellStyle());
+    getWorkCell()
+        .setCellStyle(
+            styleRegistry.derive(
+                getCellStyle(FORMAT_NAME_HYPERLINK),
+                CellStyleRegistry.Variant.fontColor(IExcel.getFontColorIndex(color), true)));
     return true;
   }
 
@@ -786,7 +837,7 @@ public void setFormatHeading(int sheet, int column, int row) throws QAException
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HEADING));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HEADING));
   }
 
   public void setFormatHeading(String sheet, int column, int row) throws QAException {
@@ -807,7 +858,7 @@ public void setFormatHyperlink(int sheet, int column, int row) throws QAExceptio
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_HYPERLINK));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_HYPERLINK));
   }
 
   public void setFormatHyperlink(String sheet, int column, int row) throws QAException {
@@ -828,7 +879,7 @@ public void setFormatNormal(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_NORMAL));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_NORMAL));
   }
 
   public void setFormatNormal(String sheet, int column, int row) throws QAException {
@@ -849,7 +900,7 @@ public void setFormatPass(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_PASS));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_PASS));
   }
 
   public void setFormatPass(String sheet, int column, int row) throws QAException {
@@ -870,7 +921,7 @@ public void setFormatSection(int sheet, int column, int row) throws QAException
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_SECTION));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_SECTION));
   }
 
   public void setFormatSection(String sheet, int column, int row) throws QAException {
@@ -891,7 +942,7 @@ public void setFormatStatus(int sheet, int column, int row) throws QAException {
       setWorkCell(getWorkRow().createCell(column));
     }
     setWorkCell(getWorkRow().getCell(column));
-    getWorkCell().setCellStyle(XLSXCellStyles.getCellStyle(getWorkbook(), FORMAT_NAME_STATUS));
+    getWorkCell().setCellStyle(getCellStyle(FORMAT_NAME_STATUS));
   }
 
   public void setFormatStatus(String sheet, int column, int row) throws QAException {
@@ -991,6 +1042,61 @@ public String writeCellFormula(String sheetName, int column, int row, String val
     return getCellValue(getWorkCell());
   }
 
+  /**
+   * Writes a block of values in one pass: the sheet is looked up and selected once, each row is
+   * fetched or created once, and named styles come from the workbook's {@link CellStyleRegistry}.
+   * Values are converted as by {@link #writeCell(String, int, int, Object)}; null and empty values
+   * leave the cell unchanged unless a style is given for it.
+   *
+   * @param sheetName the sheet; created if it does not exist
+   * @param column zero-based column of the first value of each row
+   * @param row zero-based row of the first row of values
+   * @param values the values by row; rows may differ in length
+   * @param styleNames style names in the same layout as the values, or null; a missing or null
+   *     name keeps the style chosen for the value
+   */
+  public void writeRange(
+      String sheetName, int column, int row, Object[][] values, String[][] styleNames)
+      throws QAException {
+    if (!sheetExists(sheetName)) {
+      setWorkSheet(createSheet(sheetName));
+    }
+    setSheet(sheetName);
+    for (int rowOffset = 0; rowOffset < values.length; rowOffset++) {
+      final Object[] rowValues = values[rowOffset];
+      final String[] rowStyleNames =
+          styleNames == null || rowOffset >= styleNames.length ? null : styleNames[rowOffset];
+      if (rowValues == null) {
+        continue;
+      }
+      setWorkRow(getWorkSheet().getRow(row + rowOffset));
+      if (getWorkRow() == null) {
+        setWorkRow(getWorkSheet().createRow(row + rowOffset));
+      }
+      for (int columnOffset = 0; columnOffset < rowValues.length; columnOffset++) {
+        final Object value = rowValues[columnOffset];
+        final String styleName =
+            rowStyleNames == null || columnOffset >= rowStyleNames.length
+                ? null
+                : rowStyleNames[columnOffset];
+        final boolean hasValue = value != null && !"".equals(value);
+        if (!hasValue && styleName == null) {
+          continue;
+        }
+        setWorkCell(getWorkRow().getCell(column + columnOffset));
+        if (getWorkCell() == null) {
+          setWorkCell(getWorkRow().createCell(column + columnOffset));
+        }
+        if (hasValue) {
+          setCellValue(value);
+        }
+        if (styleName != null) {
+          getWorkCell().setCellStyle(getCellStyle(styleName));
+        }
+      }
+    }
+  }
+
   private boolean writeRecord(int column, int row, String value) throws QAException {
     setWorkRow(getWorkSheet().getRow(row));
     if (getWorkRow() == null) {
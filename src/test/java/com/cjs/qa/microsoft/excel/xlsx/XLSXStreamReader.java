@@ -0,0 +1,402 @@
+package com.cjs.qa.microsoft.excel.xlsx;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import com.cjs.qa.core.QAException;
+import com.cjs.qa.utilities.GuardedLogger;
+
+/**
+ * Read-only XLSX reader that streams rows from the sheet XML instead of building a workbook.
+ *
+ * <p>{@code WorkbookFactory.create} and {@code new XSSFWorkbook(...)} parse every sheet of the file
+ * into cell objects before the first value can be read. This reader opens the package once, loads
+ * the shared-strings table and the styles (needed to recognise dates) once, and pulls rows from the
+ * sheet XML with StAX only as they are requested, so memory use does not grow with the number of
+ * rows. Rows can be read any number of times and from any sheet while the reader is open.
+ *
+ * <p>Cell values are converted the way test data providers expect them: text is trimmed, whole
+ * numbers are {@link Long}, other numbers {@link Double}, date-formatted numbers {@link
+ * java.util.Date}, booleans {@link Boolean}, and missing or blank cells an empty string. Formula
+ * cells give their last calculated value. Rows without cells are skipped.
+ *
+ * <pre>{@code
+ * try (XLSXStreamReader excel = new XLSXStreamReader(new File(filePathName))) {
+ *   final Iterator<Object[]> rows = excel.rows("Data", true);
+ *   while (rows.hasNext()) {
+ *     final Object[] row = rows.next();
+ *   }
+ * }
+ * }</pre>
+ */
+public class XLSXStreamReader implements AutoCloseable {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(XLSXStreamReader.class));
+
+  private final String source;
+  private final OPCPackage opcPackage;
+  private final XSSFReader xssfReader;
+  private final ReadOnlySharedStringsTable sharedStrings;
+  private final StylesTable stylesTable;
+  private final Map<Integer, Boolean> dateStyleMap = new HashMap<>();
+  private final List<RowIterator> openIterators = new ArrayList<>();
+
+  /**
+   * Opens a file without reading it into memory.
+   *
+   * @param file the .xlsx file
+   * @throws QAException if the file is not a readable workbook
+   */
+  public XLSXStreamReader(File file) throws QAException {
+    this(file.getPath(), openPackage(file));
+  }
+
+  /**
+   * Opens a workbook from a stream. The compressed package is read into memory; the sheets are
+   * still parsed only as their rows are requested.
+   *
+   * @param inputStream the .xlsx content; not closed by this reader
+   * @throws QAException if the stream is not a readable workbook
+   */
+  public XLSXStreamReader(InputStream inputStream) throws QAException {
+    this("stream", openPackage(inputStream));
+  }
+
+  private XLSXStreamReader(String source, OPCPackage opcPackage) throws QAException {
+    this.source = source;
+    this.opcPackage = opcPackage;
+    try {
+      this.xssfReader = new XSSFReader(opcPackage);
+      this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+      this.stylesTable = xssfReader.getStylesTable();
+    } catch (final Exception e) {
+      opcPackage.revert();
+      throw new QAException("Error Reading Workbook [" + source + "].", e);
+    }
+  }
+
+  /**
+   * @return the sheet names in workbook order
+   * @throws QAException if the workbook cannot be read
+   */
+  public List<String> getSheetNames() throws QAException {
+    final List<String> sheetNames = new ArrayList<>();
+    try {
+      final XSSFReader.SheetIterator sheetIterator =
+          (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+      while (sheetIterator.hasNext()) {
+        try (InputStream inputStream = sheetIterator.next()) {
+          sheetNames.add(sheetIterator.getSheetName());
+        }
+      }
+    } catch (final Exception e) {
+      throw new QAException("Error Reading Sheets of [" + source + "].", e);
+    }
+    return sheetNames;
+  }
+
+  /**
+   * Returns the rows of a sheet, parsed one at a time as the iterator advances. The iterator
+   * releases its part of the file when it is exhausted, or at the latest when this reader is
+   * closed.
+   *
+   * @param sheetName the sheet, or null or empty for the first sheet
+   * @param skipHeaderRow true to skip spreadsheet row 1
+   * @return the rows of the sheet
+   * @throws QAException if the sheet does not exist or cannot be read
+   */
+  public Iterator<Object[]> rows(String sheetName, boolean skipHeaderRow) throws QAException {
+    final InputStream inputStream = openSheet(sheetName);
+    try {
+      final XMLStreamReader xmlStreamReader =
+          XMLHelper.newXMLInputFactory().createXMLStreamReader(inputStream);
+      final RowIterator rowIterator =
+          new RowIterator(inputStream, xmlStreamReader, skipHeaderRow ? 1 : 0);
+      openIterators.add(rowIterator);
+      return rowIterator;
+    } catch (final XMLStreamException e) {
+      closeQuietly(inputStream);
+      throw new QAException("Error Reading Sheet [" + sheetName + "] of [" + source + "].", e);
+    }
+  }
+
+  /**
+   * Reads all rows of a sheet.
+   *
+   * @param sheetName the sheet, or null or empty for the first sheet
+   * @param skipHeaderRow true to skip spreadsheet row 1
+   * @return the rows of the sheet
+   * @throws QAException if the sheet does not exist or cannot be read
+   */
+  public List<Object[]> readRows(String sheetName, boolean skipHeaderRow) throws QAException {
+    final List<Object[]> rowList = new ArrayList<>();
+    final Iterator<Object[]> iterator = rows(sheetName, skipHeaderRow);
+    try {
+      iterator.forEachRemaining(rowList::add);
+    } catch (final IllegalStateException e) {
+      throw new QAException(e.getMessage(), e.getCause());
+    }
+    return rowList;
+  }
+
+  /** Closes open row iterators and the file. */
+  @Override
+  public void close() {
+    for (final RowIterator rowIterator : new ArrayList<>(openIterators)) {
+      rowIterator.close();
+    }
+    // revert() releases the package without trying to save it.
+    opcPackage.revert();
+  }
+
+  private InputStream openSheet(String sheetName) throws QAException {
+    final boolean firstSheet = sheetName == null || sheetName.trim().isEmpty();
+    try {
+      final XSSFReader.SheetIterator sheetIterator =
+          (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+      while (sheetIterator.hasNext()) {
+        final InputStream inputStream = sheetIterator.next();
+        if (firstSheet || sheetIterator.getSheetName().equals(sheetName)) {
+          LOG.debug("Streaming sheet [{}] of [{}]", sheetIterator.getSheetName(), source);
+          return inputStream;
+        }
+        inputStream.close();
+      }
+    } catch (final Exception e) {
+      throw new QAException("Error Reading Sheets of [" + source + "].", e);
+    }
+    throw new QAException("Sheet [" + sheetName + "] not found in [" + source + "].");
+  }
+
+  private Object toValue(String type, String style, String value, String inlineText) {
+    if ("inlineStr".equals(type)) {
+      return inlineText.trim();
+    }
+    if (value == null) {
+      return "";
+    }
+    return switch (type == null ? "n" : type) {
+      case "s" -> sharedStrings.getItemAt(Integer.parseInt(value)).getString().trim();
+      case "str", "e" -> value.trim();
+      case "b" -> "1".equals(value) || "true".equalsIgnoreCase(value);
+      default -> toNumber(style, value);
+    };
+  }
+
+  private Object toNumber(String style, String value) {
+    final double numericValue = Double.parseDouble(value);
+    if (style != null && isDateStyle(Integer.parseInt(style))) {
+      return DateUtil.getJavaDate(numericValue);
+    }
+    if (numericValue == (long) numericValue) {
+      return (long) numericValue;
+    }
+    return numericValue;
+  }
+
+  private boolean isDateStyle(int styleIndex) {
+    if (stylesTable == null) {
+      return false;
+    }
+    return dateStyleMap.computeIfAbsent(
+        styleIndex,
+        key -> {
+          final XSSFCellStyle cellStyle = stylesTable.getStyleAt(key);
+          return cellStyle != null
+              && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+        });
+  }
+
+  /**
+   * Zero-based column of a cell reference such as "AB12".
+   *
+   * @param reference the cell reference
+   * @return the column index
+   */
+  static int getColumnIndex(String reference) {
+    int column = 0;
+    for (int index = 0; index < reference.length(); index++) {
+      final char character = reference.charAt(index);
+      if (character < 'A' || character > 'Z') {
+        break;
+      }
+      column = column * 26 + (character - 'A' + 1);
+    }
+    return column - 1;
+  }
+
+  private static OPCPackage openPackage(File file) throws QAException {
+    try {
+      return OPCPackage.open(file, PackageAccess.READ);
+    } catch (final Exception e) {
+      throw new QAException("Error Opening File [" + file.getPath() + "].", e);
+    }
+  }
+
+  private static OPCPackage openPackage(InputStream inputStream) throws QAException {
+    try {
+      return OPCPackage.open(inputStream);
+    } catch (final Exception e) {
+      throw new QAException("Error Opening Workbook Stream.", e);
+    }
+  }
+
+  private static void closeQuietly(InputStream inputStream) {
+    try {
+      inputStream.close();
+    } catch (final IOException e) {
+      LOG.debug("Error closing sheet stream: {}", e.getMessage());
+    }
+  }
+
+  /** Pulls one {@code <row>} element at a time from the sheet XML. */
+  private final class RowIterator implements Iterator<Object[]> {
+    private final InputStream inputStream;
+    private final XMLStreamReader xmlStreamReader;
+    private final int firstRowIndex;
+    private Object[] nextRow;
+    private int rowIndex = -1;
+    private boolean finished;
+
+    private RowIterator(
+        InputStream inputStream, XMLStreamReader xmlStreamReader, int firstRowIndex) {
+      this.inputStream = inputStream;
+      this.xmlStreamReader = xmlStreamReader;
+      this.firstRowIndex = firstRowIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextRow == null && !finished) {
+        try {
+          nextRow = readRow();
+        } catch (final XMLStreamException | RuntimeException e) {
+          close();
+          throw new IllegalStateException("Error Reading Row of [" + source + "].", e);
+        }
+        if (nextRow == null) {
+          close();
+        }
+      }
+      return nextRow != null;
+    }
+
+    @Override
+    public Object[] next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      final Object[] row = nextRow;
+      nextRow = null;
+      return row;
+    }
+
+    private Object[] readRow() throws XMLStreamException {
+      while (xmlStreamReader.hasNext()) {
+        if (xmlStreamReader.next() == XMLStreamConstants.START_ELEMENT
+            && "row".equals(xmlStreamReader.getLocalName())) {
+          final String reference = xmlStreamReader.getAttributeValue(null, "r");
+          rowIndex = reference == null ? rowIndex + 1 : Integer.parseInt(reference) - 1;
+          final Object[] row = readCells();
+          if (rowIndex >= firstRowIndex && row.length > 0) {
+            return row;
+          }
+        }
+      }
+      return null;
+    }
+
+    private Object[] readCells() throws XMLStreamException {
+      final List<Object> valueList = new ArrayList<>();
+      int column = -1;
+      while (xmlStreamReader.hasNext()) {
+        final int event = xmlStreamReader.next();
+        if (event == XMLStreamConstants.END_ELEMENT
+            && "row".equals(xmlStreamReader.getLocalName())) {
+          break;
+        }
+        if (event == XMLStreamConstants.START_ELEMENT
+            && "c".equals(xmlStreamReader.getLocalName())) {
+          final String reference = xmlStreamReader.getAttributeValue(null, "r");
+          column = reference == null ? column + 1 : getColumnIndex(reference);
+          final Object value = readCell();
+          while (valueList.size() < column) {
+            valueList.add("");
+          }
+          valueList.add(value);
+        }
+      }
+      return valueList.toArray();
+    }
+
+    private Object readCell() throws XMLStreamException {
+      final String type = xmlStreamReader.getAttributeValue(null, "t");
+      final String style = xmlStreamReader.getAttributeValue(null, "s");
+      String value = null;
+      final StringBuilder inlineText = new StringBuilder();
+      while (xmlStreamReader.hasNext()) {
+        final int event = xmlStreamReader.next();
+        if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xmlStreamReader.getLocalName())) {
+          break;
+        }
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          switch (xmlStreamReader.getLocalName()) {
+            case "v" -> value = xmlStreamReader.getElementText();
+            case "t" -> inlineText.append(xmlStreamReader.getElementText());
+            case "rPh" -> skipElement();
+            default -> {
+              // Formulas (f) and run formatting are not part of the value.
+            }
+          }
+        }
+      }
+      return toValue(type, style, value, inlineText.toString());
+    }
+
+    /** Skips the current element, such as a phonetic run whose text is not part of the value. */
+    private void skipElement() throws XMLStreamException {
+      int depth = 1;
+      while (depth > 0 && xmlStreamReader.hasNext()) {
+        final int event = xmlStreamReader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          depth--;
+        }
+      }
+    }
+
+    private void close() {
+      finished = true;
+      openIterators.remove(this);
+      try {
+        xmlStreamReader.close();
+      } catch (final XMLStreamException e) {
+        LOG.debug("Error closing sheet parser: {}", e.getMessage());
+      }
+      closeQuietly(inputStream);
+    }
+  }
+}
@@ -0,0 +1,321 @@
+package com.cjs.qa.microsoft.excel.xlsx;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import com.cjs.qa.core.QAException;
+import com.cjs.qa.microsoft.excel.ColumnWidthEstimator;
+import com.cjs.qa.microsoft.excel.IExcel;
+import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Append-only XLSX writer for large exports.
+ *
+ * <p>{@link XLSX} keeps every row of the workbook in memory and rewrites the file whenever a sheet
+ * is added. This writer uses an {@link SXSSFWorkbook}: only the last {@code
+ * EXCEL_STREAM_ROW_WINDOW} rows of the current sheet are in memory and older rows are flushed to a
+ * (gzip-compressed) temp file, so heap use does not grow with the number of rows. Column widths are
+ * estimated while rows are appended ({@link ColumnWidthEstimator}) instead of measured afterwards.
+ *
+ * <p>If the file already exists its sheets are kept and new sheets are appended; a sheet with the
+ * same name as a new one is replaced. Rows can only be appended, never read back or changed.
+ *
+ * <pre>{@code
+ * try (XLSXStreamWriter excel = new XLSXStreamWriter(filePathName)) {
+ *   excel.startSheet("Data", List.of("Name", "Count"));
+ *   excel.appendRow("Alpha", 3);
+ * }
+ * }</pre>
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code EXCEL_STREAM_ROW_WINDOW} / {@code excel.stream.row.window} - rows kept in memory per
+ *       sheet (100)
+ *   <li>{@code EXCEL_STREAM_COMPRESS_TEMP_FILES} / {@code excel.stream.compress.temp.files} -
+ *       gzip the flushed rows (true)
+ * </ul>
+ */
+public class XLSXStreamWriter implements AutoCloseable {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(XLSXStreamWriter.class));
+
+  private static final int ROW_WINDOW =
+      TuningConfig.getInt("EXCEL_STREAM_ROW_WINDOW", "excel.stream.row.window", 100);
+  private static final boolean COMPRESS_TEMP_FILES =
+      TuningConfig.getBoolean(
+          "EXCEL_STREAM_COMPRESS_TEMP_FILES", "excel.stream.compress.temp.files", true);
+  private static final String FORMAT_GENERAL = "General";
+  private static final int GENERAL_MAX_CHARACTERS = 11;
+  private static final String FORMAT_DATE = "yyyy-mm-dd";
+  private static final String FORMAT_DATE_TIME = "yyyy-mm-dd hh:mm:ss";
+
+  private final String fileName;
+  private final SXSSFWorkbook workbook;
+  private final ColumnWidthEstimator columnWidthEstimator = new ColumnWidthEstimator();
+  private final Set<Integer> percentColumnSet = new HashSet<>();
+  private final CellStyle headingStyle;
+  private final CellStyle integerStyle;
+  private final CellStyle decimalStyle;
+  private final CellStyle percentStyle;
+  private final CellStyle dateStyle;
+  private final CellStyle dateTimeStyle;
+  private SXSSFSheet sheet;
+  private int rowIndex;
+  private long rowsWritten;
+  private boolean closed;
+  private final long startNanos = System.nanoTime();
+
+  /**
+   * Opens the workbook; nothing is written until {@link #close()}.
+   *
+   * @param fileName the .xlsx file; its sheets are kept if it exists
+   * @throws QAException if the existing file cannot be read
+   */
+  public XLSXStreamWriter(String fileName) throws QAException {
+    this.fileName = fileName;
+    final XSSFWorkbook xssfWorkbook;
+    if (FSOTests.fileExists(fileName)) {
+      try (InputStream inputStream = new FileInputStream(fileName)) {
+        xssfWorkbook = new XSSFWorkbook(inputStream);
+      } catch (final IOException e) {
+        throw new QAException("Error Reading File [" + fileName + "].", e);
+      }
+    } else {
+      xssfWorkbook = new XSSFWorkbook();
+    }
+    XLSXCellStyles.setCellStyles(xssfWorkbook);
+    this.workbook = new SXSSFWorkbook(xssfWorkbook, ROW_WINDOW, COMPRESS_TEMP_FILES);
+    this.headingStyle = XLSXCellStyles.getCellStyle(xssfWorkbook, IExcel.FORMAT_NAME_HEADING);
+    this.integerStyle = XLSXCellStyles.getCellStyle(xssfWorkbook, IExcel.FORMAT_NAME_NUMBER);
+    this.percentStyle =
+        XLSXCellStyles.getCellStyle(xssfWorkbook, IExcel.FORMAT_NAME_NUMBERPERCENT);
+    this.decimalStyle = createStyle(integerStyle, FORMAT_GENERAL);
+    this.dateStyle = createStyle(null, FORMAT_DATE);
+    this.dateTimeStyle = createStyle(null, FORMAT_DATE_TIME);
+  }
+
+  /**
+   * Starts a new sheet and writes its heading row. The previous sheet is finished and can no longer
+   * be written to.
+   *
+   * @param sheetName the sheet name; an existing sheet with this name is replaced
+   * @param headings column headings, or an empty list for no heading row
+   * @throws QAException if the writer is closed
+   */
+  public void startSheet(String sheetName, List<String> headings) throws QAException {
+    startSheet(sheetName, headings, new int[0]);
+  }
+
+  /**
+   * Starts a new sheet whose percent columns show numbers with two decimals ("0.00"). Numbers in
+   * the other columns use the general format.
+   *
+   * @param sheetName the sheet name; an existing sheet with this name is replaced
+   * @param headings column headings, or an empty list for no heading row
+   * @param percentColumns zero-based indexes of the percent columns
+   * @throws QAException if the writer is closed
+   */
+  public void startSheet(String sheetName, List<String> headings, int... percentColumns)
+      throws QAException {
+    if (closed) {
+      throw new QAException("Workbook [" + fileName + "] is closed.");
+    }
+    finishSheet();
+    final int existingIndex = workbook.getSheetIndex(sheetName);
+    if (existingIndex >= 0) {
+      workbook.removeSheetAt(existingIndex);
+    }
+    sheet = workbook.createSheet(sheetName);
+    rowIndex = 0;
+    for (final int percentColumn : percentColumns) {
+      percentColumnSet.add(percentColumn);
+    }
+    if (!headings.isEmpty()) {
+      final Row row = sheet.createRow(rowIndex++);
+      for (int column = 0; column < headings.size(); column++) {
+        final Cell cell = row.createCell(column);
+        cell.setCellValue(headings.get(column));
+        cell.setCellStyle(headingStyle);
+        columnWidthEstimator.observe(column, headings.get(column));
+      }
+    }
+  }
+
+  /**
+   * Appends a row to the current sheet. Cells are typed by value: numbers, booleans and dates are
+   * written as such, null and empty strings leave the cell empty, and anything else is written as
+   * text. Integers use the number format; other numbers use "0.00" in percent columns and the
+   * general format elsewhere.
+   *
+   * @param values the cell values, starting at column A
+   * @throws QAException if no sheet has been started
+   */
+  public void appendRow(List<?> values) throws QAException {
+    if (sheet == null) {
+      throw new QAException("No sheet started in [" + fileName + "].");
+    }
+    final Row row = sheet.createRow(rowIndex++);
+    for (int column = 0; column < values.size(); column++) {
+      final Object value = values.get(column);
+      if (value == null || "".equals(value)) {
+        continue;
+      }
+      writeCell(row.createCell(column), column, value);
+    }
+    rowsWritten++;
+  }
+
+  /**
+   * Appends a row to the current sheet; see {@link #appendRow(List)}.
+   *
+   * @param values the cell values, starting at column A
+   * @throws QAException if no sheet has been started
+   */
+  public void appendRow(Object... values) throws QAException {
+    appendRow(Arrays.asList(values));
+  }
+
+  /**
+   * @return rows in the current sheet, including the heading row
+   */
+  public int getRowCount() {
+    return rowIndex;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  /**
+   * Selects the sheet shown when the file is opened.
+   *
+   * @param sheetIndex zero-based sheet index
+   */
+  public void setActiveSheet(int sheetIndex) {
+    workbook.setActiveSheet(sheetIndex);
+    for (int index = 0; index < workbook.getNumberOfSheets(); index++) {
+      workbook.getSheetAt(index).setSelected(index == sheetIndex);
+    }
+  }
+
+  /**
+   * Writes the workbook and deletes its temp files.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      finishSheet();
+      try (OutputStream outputStream = new FileOutputStream(fileName)) {
+        workbook.write(outputStream);
+      }
+      LOG.debug(
+          "Wrote [{}] rows to [{}] in [{}]ms",
+          rowsWritten,
+          fileName,
+          (System.nanoTime() - startNanos) / 1_000_000);
+    } finally {
+      workbook.close();
+    }
+  }
+
+  private void writeCell(Cell cell, int column, Object value) {
+    if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+      final long longValue = ((Number) value).longValue();
+      cell.setCellValue(longValue);
+      cell.setCellStyle(integerStyle);
+      columnWidthEstimator.observe(column, estimateIntegerLength(longValue));
+    } else if (value instanceof Number number) {
+      final double doubleValue = number.doubleValue();
+      cell.setCellValue(doubleValue);
+      if (percentColumnSet.contains(column)) {
+        cell.setCellStyle(percentStyle);
+        columnWidthEstimator.observe(column, estimateDecimalLength(doubleValue));
+      } else {
+        cell.setCellStyle(decimalStyle);
+        columnWidthEstimator.observe(column, estimateGeneralLength(doubleValue));
+      }
+    } else if (value instanceof Boolean boolValue) {
+      cell.setCellValue(boolValue);
+      columnWidthEstimator.observe(column, 5);
+    } else if (value instanceof LocalDateTime localDateTime) {
+      cell.setCellValue(localDateTime);
+      cell.setCellStyle(dateTimeStyle);
+      columnWidthEstimator.observe(column, FORMAT_DATE_TIME.length());
+    } else if (value instanceof LocalDate localDate) {
+      cell.setCellValue(localDate);
+      cell.setCellStyle(dateStyle);
+      columnWidthEstimator.observe(column, FORMAT_DATE.length());
+    } else if (value instanceof Date date) {
+      cell.setCellValue(date);
+      cell.setCellStyle(dateTimeStyle);
+      columnWidthEstimator.observe(column, FORMAT_DATE_TIME.length());
+    } else {
+      final String text = value.toString();
+      cell.setCellValue(text);
+      columnWidthEstimator.observe(column, text);
+    }
+  }
+
+  /** Length of an integer formatted with thousands separators. */
+  private static int estimateIntegerLength(long value) {
+    final int digits = Long.toString(Math.abs(value)).length();
+    return digits + (digits - 1) / 3 + (value < 0 ? 1 : 0);
+  }
+
+  /** Length of a number formatted with two decimals. */
+  private static int estimateDecimalLength(double value) {
+    final int digits = Long.toString((long) Math.abs(value)).length();
+    return digits + 3 + (value < 0 ? 1 : 0);
+  }
+
+  /** Length of a number in the general format, which shows at most 11 characters. */
+  private static int estimateGeneralLength(double value) {
+    return Math.min(Double.toString(value).length(), GENERAL_MAX_CHARACTERS);
+  }
+
+  private CellStyle createStyle(CellStyle baseStyle, String format) {
+    final CellStyle cellStyle = workbook.createCellStyle();
+    if (baseStyle != null) {
+      cellStyle.cloneStyleFrom(baseStyle);
+    }
+    cellStyle.setDataFormat(workbook.createDataFormat().getFormat(format));
+    return cellStyle;
+  }
+
+  private void finishSheet() {
+    if (sheet != null) {
+      columnWidthEstimator.apply(sheet);
+      columnWidthEstimator.reset();
+      percentColumnSet.clear();
+      sheet = null;
+    }
+  }
+}
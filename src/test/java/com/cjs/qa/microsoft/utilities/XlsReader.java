@@ -2,8 +2,14 @@
 
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.poi.common.usermodel.HyperlinkType;
@@ -26,6 +32,21 @@
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 
+/**
+ * Reads and updates named cells of an .xlsx test data workbook.
+ *
+ * <p>Outside a session every update re-reads the file, changes one cell and writes the file again.
+ * To change many cells, open a {@link Session}: updates then stay in the workbook that is already
+ * in memory, column autosizing is done once per column, and the file is written once when the
+ * session is closed.
+ *
+ * <pre>{@code
+ * try (XlsReader.Session session = xlsReader.openSession()) {
+ *   xlsReader.setCellData("Results", "Status", 2, "Pass");
+ *   xlsReader.setCellData("Results", "Status", 3, "Fail");
+ * }
+ * }</pre>
+ */
 public class XlsReader {
 
   private static final GuardedLogger LOG = new GuardedLogger(LogManager.getLogger(XlsReader.class));
@@ -53,6 +74,15 @@ public class XlsReader {
   @SuppressWarnings("PMD.SingularField")
   private XSSFCell cell = null;
 
+  /** Heading text to column index, per sheet; cleared whenever a heading row may change. */
+  private final Map<String, Map<String, Integer>> headingColumnMap = new HashMap<>();
+
+  private Session session;
+  private boolean modified;
+  private final Map<String, Set<Integer>> autoSizeColumnMap = new LinkedHashMap<>();
+  private CellStyle wrapTextStyle;
+  private CellStyle hyperlinkStyle;
+
   public XlsReader(String path) {
     this.path = path;
     try {
@@ -130,13 +160,7 @@ public String getCellData(String sheetName, String columnName, int rowNumber) {
         return "";
       }
       sheet = workbook.getSheetAt(sheetIndex);
-      row = sheet.getRow(0);
-      int columnNumber = -1;
-      for (int rowIndex = 0; rowIndex < row.getLastCellNum(); rowIndex++) {
-        if (row.getCell(rowIndex).getStringCellValue().trim().equals(columnName.trim())) {
-          columnNumber = rowIndex;
-        }
-      }
+      final int columnNumber = getColumnNumber(sheet, columnName.trim());
       if (columnNumber == -1) {
         LOG.warn("The [{}] Column could not be found on the [{}] sheet.", columnName, sheetName);
         return "";
@@ -222,8 +246,7 @@ public String getCellData(String sheetName, int columnNumber, int rowNumber) {
 
   public boolean setCellData(String sheetName, String columnName, int rowNumber, String data) {
     try {
-      fileInputStream = new FileInputStream(path);
-      workbook = new XSSFWorkbook(fileInputStream);
+      reload();
       if (rowNumber <= 0) {
         return false;
       }
@@ -232,17 +255,11 @@ public boolean setCellData(String sheetName, String columnName, int rowNumber, S
         return false;
       }
       sheet = workbook.getSheetAt(sheetIndex);
-      row = sheet.getRow(0);
-      int columnNumber = -1;
-      for (int columnIndex = 0; columnIndex < row.getLastCellNum(); columnIndex++) {
-        if (row.getCell(columnIndex).getStringCellValue().trim().equals(columnName)) {
-          columnNumber = columnIndex;
-        }
-      }
+      final int columnNumber = getColumnNumber(sheet, columnName);
       if (columnNumber == -1) {
         return false;
       }
-      sheet.autoSizeColumn(columnNumber);
+      autoSizeColumn(sheet, columnNumber);
       row = sheet.getRow(rowNumber - 1);
       if (row == null) {
         row = sheet.createRow(rowNumber - 1);
@@ -251,13 +268,16 @@ public boolean setCellData(String sheetName, String columnName, int rowNumber, S
       if (cell == null) {
         cell = row.createCell(columnNumber);
       }
-      final CellStyle cellStyle = workbook.createCellStyle();
-      cellStyle.setWrapText(true);
-      cell.setCellStyle(cellStyle);
+      if (wrapTextStyle == null) {
+        wrapTextStyle = workbook.createCellStyle();
+        wrapTextStyle.setWrapText(true);
+      }
+      cell.setCellStyle(wrapTextStyle);
       cell.setCellValue(data);
-      fileOutputStream = new FileOutputStream(path);
-      workbook.write(fileOutputStream);
-      fileOutputStream.close();
+      if (rowNumber == 1) {
+        headingColumnMap.remove(sheetName);
+      }
+      save();
     } catch (final Exception e) {
       e.printStackTrace();
       return false;
@@ -268,8 +288,7 @@ public boolean setCellData(String sheetName, String columnName, int rowNumber, S
   public boolean setCellData(
       String sheetName, String columnName, int rowNumber, String data, String url) {
     try {
-      fileInputStream = new FileInputStream(path);
-      workbook = new XSSFWorkbook(fileInputStream);
+      reload();
       if (rowNumber <= 0) {
         return false;
       }
@@ -288,7 +307,7 @@ public boolean setCellData(
       if (columnNumber == -1) {
         return false;
       }
-      sheet.autoSizeColumn(columnNumber); // ashish
+      autoSizeColumn(sheet, columnNumber);
       row = sheet.getRow(rowNumber - 1);
       if (row == null) {
         row = sheet.createRow(rowNumber - 1);
@@ -299,19 +318,21 @@ public boolean setCellData(
       }
       cell.setCellValue(data);
       final XSSFCreationHelper createHelper = workbook.getCreationHelper();
-      final CellStyle cellStyle = workbook.createCellStyle();
-      final XSSFFont xssfFont = workbook.createFont();
-      xssfFont.setUnderline(XSSFFont.U_SINGLE);
-      xssfFont.setColor(IndexedColors.BLUE.getIndex());
-      cellStyle.setFont(xssfFont);
-      // cellStyle.setWrapText(true);
+      if (hyperlinkStyle == null) {
+        hyperlinkStyle = workbook.createCellStyle();
+        final XSSFFont xssfFont = workbook.createFont();
+        xssfFont.setUnderline(XSSFFont.U_SINGLE);
+        xssfFont.setColor(IndexedColors.BLUE.getIndex());
+        hyperlinkStyle.setFont(xssfFont);
+      }
       final XSSFHyperlink xssfHyperlink = createHelper.createHyperlink(HyperlinkType.URL);
       xssfHyperlink.setAddress(url);
       cell.setHyperlink(xssfHyperlink);
-      cell.setCellStyle(cellStyle);
-      fileOutputStream = new FileOutputStream(path);
-      workbook.write(fileOutputStream);
-      fileOutputStream.close();
+      cell.setCellStyle(hyperlinkStyle);
+      if (rowNumber == 1) {
+        headingColumnMap.remove(sheetName);
+      }
+      save();
     } catch (final Exception e) {
       e.printStackTrace();
       return false;
@@ -322,9 +343,7 @@ public boolean setCellData(
   public boolean addSheet(String sheetName) {
     try {
       workbook.createSheet(sheetName);
-      try (FileOutputStream fileOutputStream = new FileOutputStream(path)) {
-        workbook.write(fileOutputStream);
-      }
+      save();
     } catch (final Exception e) {
       e.printStackTrace();
       return false;
@@ -339,9 +358,9 @@ public boolean removeSheet(String sheetName) {
     }
     try {
       workbook.removeSheetAt(sheetIndex);
-      try (FileOutputStream fileOutputStream = new FileOutputStream(path)) {
-        workbook.write(fileOutputStream);
-      }
+      headingColumnMap.remove(sheetName);
+      autoSizeColumnMap.remove(sheetName);
+      save();
     } catch (final Exception e) {
       e.printStackTrace();
       return false;
@@ -351,8 +370,7 @@ public boolean removeSheet(String sheetName) {
 
   public boolean addColumn(String sheetName, String columnName) {
     try {
-      fileInputStream = new FileInputStream(path);
-      workbook = new XSSFWorkbook(fileInputStream);
+      reload();
       final int index = workbook.getSheetIndex(sheetName);
       if (index == -1) {
         return false;
@@ -373,9 +391,8 @@ public boolean addColumn(String sheetName, String columnName) {
       }
       cell.setCellValue(columnName);
       cell.setCellStyle(xssfCellStyle);
-      fileOutputStream = new FileOutputStream(path);
-      workbook.write(fileOutputStream);
-      fileOutputStream.close();
+      headingColumnMap.remove(sheetName);
+      save();
     } catch (final Exception e) {
       e.printStackTrace();
       return false;
@@ -388,8 +405,7 @@ public boolean removeColumn(String sheetName, int columnNumber) {
       if (!isSheetExist(sheetName)) {
         return false;
       }
-      fileInputStream = new FileInputStream(path);
-      workbook = new XSSFWorkbook(fileInputStream);
+      reload();
       sheet = workbook.getSheet(sheetName);
       final XSSFCellStyle xssfCellStyle = workbook.createCellStyle();
       xssfCellStyle.setFillForegroundColor(
@@ -405,9 +421,8 @@ public boolean removeColumn(String sheetName, int columnNumber) {
           }
         }
       }
-      fileOutputStream = new FileOutputStream(path);
-      workbook.write(fileOutputStream);
-      fileOutputStream.close();
+      headingColumnMap.remove(sheetName);
+      save();
     } catch (final Exception e) {
       e.printStackTrace();
       return false;
@@ -476,4 +491,137 @@ public int getCellRowNum(String sheetName, String columnName, String cellValue)
     }
     return -1;
   }
+
+  /**
+   * Starts a session: until the returned session is closed, updates change only the workbook in
+   * memory and the file is written once at the end.
+   *
+   * @return the session; close it to write the file
+   * @throws IllegalStateException if a session is already open
+   */
+  public Session openSession() {
+    if (session != null) {
+      throw new IllegalStateException("A session is already open for [" + path + "].");
+    }
+    session = new Session();
+    modified = false;
+    return session;
+  }
+
+  /**
+   * @return true while a session is open
+   */
+  public boolean isSessionOpen() {
+    return session != null;
+  }
+
+  /**
+   * Column of a heading in row 1 of a sheet; when a heading occurs twice the last one counts.
+   *
+   * @return the column index, or -1 if there is no such heading
+   */
+  private int getColumnNumber(XSSFSheet xssfSheet, String columnName) {
+    final Map<String, Integer> columnMap =
+        headingColumnMap.computeIfAbsent(
+            xssfSheet.getSheetName(),
+            key -> {
+              final Map<String, Integer> headingMap = new HashMap<>();
+              final XSSFRow headingRow = xssfSheet.getRow(0);
+              if (headingRow != null) {
+                for (int columnIndex = 0;
+                    columnIndex < headingRow.getLastCellNum();
+                    columnIndex++) {
+                  final XSSFCell headingCell = headingRow.getCell(columnIndex);
+                  if (headingCell != null && headingCell.getCellType() == CellType.STRING) {
+                    headingMap.put(headingCell.getStringCellValue().trim(), columnIndex);
+                  }
+                }
+              }
+              return headingMap;
+            });
+    return columnMap.getOrDefault(columnName, -1);
+  }
+
+  /** Re-reads the file before an update, unless a session keeps the workbook in memory. */
+  private void reload() throws IOException {
+    if (session != null) {
+      return;
+    }
+    try (FileInputStream inputStream = new FileInputStream(path)) {
+      fileInputStream = inputStream;
+      workbook = new XSSFWorkbook(inputStream);
+    }
+    headingColumnMap.clear();
+    wrapTextStyle = null;
+    hyperlinkStyle = null;
+  }
+
+  private void autoSizeColumn(XSSFSheet xssfSheet, int columnNumber) {
+    if (session == null) {
+      xssfSheet.autoSizeColumn(columnNumber);
+    } else {
+      autoSizeColumnMap
+          .computeIfAbsent(xssfSheet.getSheetName(), key -> new LinkedHashSet<>())
+          .add(columnNumber);
+    }
+  }
+
+  /** Writes the workbook after an update, or only marks it modified during a session. */
+  private void save() throws IOException {
+    if (session != null) {
+      modified = true;
+      return;
+    }
+    write();
+  }
+
+  private void write() throws IOException {
+    try (FileOutputStream outputStream = new FileOutputStream(path)) {
+      fileOutputStream = outputStream;
+      workbook.write(outputStream);
+    }
+  }
+
+  /** Batches updates of this reader; see {@link #openSession()}. */
+  public final class Session implements AutoCloseable {
+
+    private Session() {}
+
+    /**
+     * Writes the updates made so far without ending the session.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void save() throws IOException {
+      if (!modified) {
+        return;
+      }
+      for (final Map.Entry<String, Set<Integer>> entry : autoSizeColumnMap.entrySet()) {
+        final XSSFSheet xssfSheet = workbook.getSheet(entry.getKey());
+        if (xssfSheet != null) {
+          entry.getValue().forEach(xssfSheet::autoSizeColumn);
+        }
+      }
+      autoSizeColumnMap.clear();
+      write();
+      modified = false;
+    }
+
+    /**
+     * Writes the updates and ends the session.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+      if (session != this) {
+        return;
+      }
+      try {
+        save();
+      } finally {
+        session = null;
+      }
+    }
+  }
 }
@@ -1,10 +1,6 @@
 package com.cjs.qa.oracle.api.services;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -15,6 +11,8 @@
 import org.junit.jupiter.api.Assertions;
 
 import com.cjs.qa.core.Environment;
+import com.cjs.qa.core.api.HttpTransport;
+import com.cjs.qa.core.api.HttpTransportResponse;
 import com.cjs.qa.core.api.WebService;
 import com.cjs.qa.utilities.CJSConstants;
 import com.cjs.qa.utilities.Constants;
@@ -239,26 +237,15 @@ public Map<String, String> forgotPassword(String eMail) {
     map.put("API_Method", JavaHelpers.getCurrentMethodName().toString());
     final String requestURL = baseAPISSO + "/Auth/ForgotPassword" + "?emailAddress=" + eMail;
     String json = "";
-    String line = "s";
     try {
-      final URL oURL = URI.create(requestURL).toURL();
-      final HttpURLConnection oHttpURLConnection = (HttpURLConnection) oURL.openConnection();
-      oHttpURLConnection.setRequestMethod("GET");
-      final String responseCode = String.valueOf(oHttpURLConnection.getResponseCode());
-      final String responseMessage = String.valueOf(oHttpURLConnection.getResponseMessage());
-      try (BufferedReader oBufferedReader =
-          new BufferedReader(new InputStreamReader(oHttpURLConnection.getInputStream()))) {
-        while ((line = oBufferedReader.readLine()) != null) {
-          json += line;
-        }
+      final HttpTransportResponse response = HttpTransport.send("GET", requestURL, Map.of(), null);
+      json = response.body();
+      if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+        LOG.warn("Response Code: {}", response.statusCode());
+        LOG.warn("Response Message: {}", response.reasonPhrase());
       }
-      if (!"200".equals(responseCode)) {
-        LOG.warn("Response Code: {}", responseCode);
-        LOG.warn("Response Message: {}", responseMessage);
-      }
-      oHttpURLConnection.disconnect();
     } catch (final Exception e) {
-      e.printStackTrace();
+      LOG.error("Error in SSOService forgotPassword", e);
     }
     map.put("JSON", json);
     if (!json.contains(OracleConstants.API_JSON_SUCCESS)) {
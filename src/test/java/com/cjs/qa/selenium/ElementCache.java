@@ -0,0 +1,153 @@
+package com.cjs.qa.selenium;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Remembers the element each locator resolved to, and one {@link WebDriverWait} per timeout, for a
+ * single {@link Page}.
+ *
+ * <p>{@code visibilityOfElementLocated} costs a {@code findElement} and an {@code isDisplayed}
+ * round trip every time, even when a populate or validate sequence uses the same locator several
+ * times. Here a locator that has already been resolved is checked with {@code isDisplayed} on the
+ * remembered element only. If that element has gone stale (the page re-rendered it) or is no longer
+ * displayed, it is dropped and the locator is waited for again as before.
+ *
+ * <p>The whole cache is cleared when the page's driver navigates, refreshes or switches window or
+ * frame (see {@link SeleniumWebDriverEventListener#addNavigationListener(Runnable)}). Navigation
+ * through another page object's driver is not seen here; the staleness check covers it.
+ *
+ * <p>Like {@link Page}, an instance is meant to be used by one thread. Hit and miss counts are
+ * summed over all instances and are available from {@link #getMetrics()}.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code PAGE_ELEMENT_CACHE_ENABLED} / {@code page.element.cache.enabled} - remember resolved
+ *       elements (true)
+ *   <li>{@code PAGE_ELEMENT_CACHE_SIZE} / {@code page.element.cache.size} - locators remembered per
+ *       page (256)
+ * </ul>
+ */
+public final class ElementCache {
+
+  private static final boolean ENABLED =
+      TuningConfig.getBoolean("PAGE_ELEMENT_CACHE_ENABLED", "page.element.cache.enabled", true);
+  private static final int CACHE_SIZE =
+      Math.max(1, TuningConfig.getInt("PAGE_ELEMENT_CACHE_SIZE", "page.element.cache.size", 256));
+
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+  private static final LongAdder STALE = new LongAdder();
+  private static final LongAdder INVALIDATIONS = new LongAdder();
+  private static final LongAdder WAITS_CREATED = new LongAdder();
+
+  private final Supplier<WebDriver> webDriverSupplier;
+  private final Map<Integer, WebDriverWait> waitMap = new HashMap<>();
+  private final Map<By, WebElement> elementMap =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<By, WebElement> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      };
+
+  /**
+   * @param webDriverSupplier the driver to locate with; read again after {@link #reset()}
+   */
+  public ElementCache(Supplier<WebDriver> webDriverSupplier) {
+    this.webDriverSupplier = webDriverSupplier;
+  }
+
+  /**
+   * Returns the shared wait for a timeout, creating it on first use. The wait must not be
+   * reconfigured (for example with {@code ignoring}); create a new one for that.
+   *
+   * @param seconds timeout
+   * @return the wait
+   */
+  public WebDriverWait getWait(long seconds) {
+    return waitMap.computeIfAbsent(
+        (int) seconds,
+        key -> {
+          WAITS_CREATED.increment();
+          return new WebDriverWait(webDriverSupplier.get(), Duration.ofSeconds(key));
+        });
+  }
+
+  /**
+   * Returns a visible element for the locator, reusing the element it resolved to last time if that
+   * is still attached and displayed.
+   *
+   * @param by locator
+   * @param seconds how long to wait if the locator has to be resolved again
+   * @return the visible element
+   * @throws org.openqa.selenium.TimeoutException if no element becomes visible in time
+   */
+  public WebElement waitVisible(By by, long seconds) {
+    final WebElement cached = ENABLED ? elementMap.get(by) : null;
+    if (cached != null) {
+      try {
+        if (cached.isDisplayed()) {
+          HITS.increment();
+          return cached;
+        }
+      } catch (final WebDriverException e) {
+        // Stale, or from another window or frame.
+        STALE.increment();
+      }
+      elementMap.remove(by);
+    }
+    MISSES.increment();
+    final WebElement webElement =
+        getWait(seconds).until(ExpectedConditions.visibilityOfElementLocated(by));
+    if (ENABLED) {
+      elementMap.put(by, webElement);
+    }
+    return webElement;
+  }
+
+  /** Forgets every resolved element, e.g. after navigation. */
+  public void invalidate() {
+    if (!elementMap.isEmpty()) {
+      INVALIDATIONS.increment();
+      elementMap.clear();
+    }
+  }
+
+  /** Forgets resolved elements and waits, e.g. after the page's driver has been replaced. */
+  public void reset() {
+    elementMap.clear();
+    waitMap.clear();
+  }
+
+  /**
+   * Returns a point-in-time snapshot of the counters of all instances.
+   *
+   * @return the metrics
+   */
+  public static ElementCacheMetrics getMetrics() {
+    return new ElementCacheMetrics(
+        HITS.sum(), MISSES.sum(), STALE.sum(), INVALIDATIONS.sum(), WAITS_CREATED.sum());
+  }
+
+  @Override
+  public String toString() {
+    return "ElementCache[elements:[" + elementMap.size() + "], waits:" + waitMap.keySet() + "]";
+  }
+}
@@ -0,0 +1,36 @@
+package com.cjs.qa.selenium;
+
+/**
+ * Immutable snapshot of {@link ElementCache} counters.
+ *
+ * @param hits lookups answered by a remembered element
+ * @param misses lookups that had to wait for the locator
+ * @param stale remembered elements found stale or detached
+ * @param invalidations times a non-empty cache was cleared by navigation
+ * @param waitsCreated WebDriverWait instances created
+ */
+public record ElementCacheMetrics(
+    long hits, long misses, long stale, long invalidations, long waitsCreated) {
+
+  /**
+   * Fraction of lookups answered from the cache.
+   *
+   * @return hit rate between 0 and 1, or 0 if there were no lookups
+   */
+  public double hitRate() {
+    final long lookups = hits + misses;
+    if (lookups == 0) {
+      return 0;
+    }
+    return (double) hits / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Hits:[%d], Misses:[%d], HitRate:[%.2f], Stale:[%d], Invalidations:[%d], WaitsCreated:[%d]
+    """
+        .formatted(hits, misses, hitRate(), stale, invalidations, waitsCreated)
+        .trim();
+  }
+}
@@ -0,0 +1,35 @@
+package com.cjs.qa.selenium;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link Page#populateFields}.
+ *
+ * @param fields fields that were set
+ * @param mismatchList one message per field whose read-back value differs from the requested one
+ * @param elapsedMs wall-clock time of the fill, including waiting for the fields
+ */
+public record FormFillResult(int fields, List<String> mismatchList, long elapsedMs) {
+
+  public FormFillResult {
+    mismatchList = List.copyOf(mismatchList);
+  }
+
+  /**
+   * Checks whether every field read back with the requested value.
+   *
+   * @return true if there were no mismatches
+   */
+  public boolean isComplete() {
+    return mismatchList.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Fields:[%d], Mismatches:[%d], ElapsedMs:[%d]
+    """
+        .formatted(fields, mismatchList.size(), elapsedMs)
+        .trim();
+  }
+}
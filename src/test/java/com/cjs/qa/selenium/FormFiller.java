@@ -0,0 +1,249 @@
+package com.cjs.qa.selenium;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import com.cjs.qa.utilities.GuardedLogger;
+
+/**
+ * Fills many form fields with a fixed number of WebDriver round trips.
+ *
+ * <p>Setting fields one at a time costs several commands per field. Here the fields are filled in
+ * three steps:
+ *
+ * <ol>
+ *   <li>Each field is looked up with the page's {@code waitExists}, which waits for it and reuses
+ *       the page's element cache.
+ *   <li>One script sets every value. Edits get their value through the native setter followed by
+ *       {@code input} and {@code change} events, dropdowns select the option with the requested
+ *       visible text and fire {@code change}, and checkboxes are clicked only if their state has to
+ *       change. The change-value hooks of the page's event listener are called around the script
+ *       for every edit.
+ *   <li>One script reads every field back so that values the page rejected or reformatted are
+ *       reported.
+ * </ol>
+ *
+ * <p>No key events are sent, so fields that react to individual keystrokes (type-ahead lookups)
+ * should still be set with {@code setEdit}.
+ *
+ * <p>Pages use it through {@link Page#populateFields}; the element locator and script executor are
+ * passed in so that the round trips can be checked without a browser.
+ */
+public final class FormFiller {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(FormFiller.class));
+
+  private static final String SCRIPT_APPLY =
+      """
+      var fields = arguments[0];
+      var errors = [];
+      function fire(element, type) {
+        element.dispatchEvent(new Event(type, { bubbles: true }));
+      }
+      function normalize(text) {
+        return (text || '').replace(/\\s+/g, ' ').trim();
+      }
+      function setValue(element, value) {
+        var prototype = Object.getPrototypeOf(element);
+        var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');
+        if (descriptor && descriptor.set) {
+          descriptor.set.call(element, value);
+        } else {
+          element.value = value;
+        }
+      }
+      fields.forEach(function (field) {
+        var element = field.element;
+        if (field.type === 'CHECKBOX') {
+          if (element.checked !== (field.value === 'checked')) {
+            element.click();
+          }
+        } else if (field.type === 'DROPDOWN') {
+          var option = Array.prototype.find.call(element.options, function (candidate) {
+            return normalize(candidate.text) === normalize(field.value);
+          });
+          if (!option) {
+            errors.push(field.index);
+            return;
+          }
+          option.selected = true;
+          fire(element, 'input');
+          fire(element, 'change');
+        } else {
+          element.focus();
+          setValue(element, field.value);
+          fire(element, 'input');
+          fire(element, 'change');
+          element.blur();
+        }
+      });
+      return errors;
+      """;
+
+  private static final String SCRIPT_READ =
+      """
+      return arguments[0].map(function (field) {
+        var element = field.element;
+        if (field.type === 'CHECKBOX') {
+          return element.checked ? 'checked' : 'unchecked';
+        }
+        if (field.type === 'DROPDOWN') {
+          var option = element.options[element.selectedIndex];
+          return option ? option.text.replace(/\\s+/g, ' ').trim() : '';
+        }
+        return element.value;
+      });
+      """;
+
+  private final WebDriver webDriver;
+  private final Function<By, WebElement> elementLocator;
+  private final BiFunction<String, Object, Object> scriptExecutor;
+  private final SeleniumWebDriverEventListener seleniumWebDriverEventListener;
+
+  /**
+   * @param webDriver driver passed to the event listener
+   * @param elementLocator waits for a field and returns it (see {@link Page#waitExists(By)})
+   * @param scriptExecutor runs a script with one argument (see {@link
+   *     Page#executeJavaScript(String, Object)})
+   * @param seleniumWebDriverEventListener listener told about every edit that is changed
+   */
+  public FormFiller(
+      WebDriver webDriver,
+      Function<By, WebElement> elementLocator,
+      BiFunction<String, Object, Object> scriptExecutor,
+      SeleniumWebDriverEventListener seleniumWebDriverEventListener) {
+    this.webDriver = webDriver;
+    this.elementLocator = elementLocator;
+    this.scriptExecutor = scriptExecutor;
+    this.seleniumWebDriverEventListener = seleniumWebDriverEventListener;
+  }
+
+  /**
+   * @param fieldMap locators and values, filled in iteration order
+   * @return the fields filled and any read-back mismatches
+   */
+  public FormFillResult fill(Map<By, FormValue> fieldMap) {
+    final long startNanos = System.nanoTime();
+    final Map<By, FormValue> fillMap = new LinkedHashMap<>();
+    for (final Entry<By, FormValue> entry : fieldMap.entrySet()) {
+      final FormValue formValue = entry.getValue();
+      if (formValue.fieldType() == FormValue.FieldType.CHECKBOX && !isCheckboxValue(formValue)) {
+        LOG.warn("{}] is not supported for a Checkbox.", Page.LABEL_THE_VALUE + formValue.value());
+        continue;
+      }
+      fillMap.put(entry.getKey(), formValue);
+    }
+    final List<By> byList = new ArrayList<>(fillMap.keySet());
+    final Map<By, WebElement> webElementMap = new HashMap<>();
+    for (final By by : byList) {
+      webElementMap.put(by, elementLocator.apply(by));
+    }
+    final List<Map<String, Object>> argumentList = new ArrayList<>(byList.size());
+    for (int index = 0; index < byList.size(); index++) {
+      final By by = byList.get(index);
+      final FormValue formValue = fillMap.get(by);
+      final Map<String, Object> argumentMap = new HashMap<>();
+      argumentMap.put("index", index);
+      argumentMap.put("element", webElementMap.get(by));
+      argumentMap.put("type", formValue.fieldType().name());
+      argumentMap.put(
+          "value",
+          formValue.fieldType() == FormValue.FieldType.CHECKBOX
+              ? formValue.value().toLowerCase(Locale.ENGLISH)
+              : formValue.value());
+      argumentList.add(argumentMap);
+    }
+    final List<String> mismatchList = new ArrayList<>();
+    final Set<Integer> errorIndexSet = new HashSet<>();
+    fireChangeValue(fillMap, webElementMap, true);
+    final Object errors = scriptExecutor.apply(SCRIPT_APPLY, argumentList);
+    fireChangeValue(fillMap, webElementMap, false);
+    if (errors instanceof List<?> errorList) {
+      for (final Object error : errorList) {
+        final int errorIndex = ((Number) error).intValue();
+        errorIndexSet.add(errorIndex);
+        final By by = byList.get(errorIndex);
+        mismatchList.add(
+            Page.LABEL_THE_VALUE
+                + fillMap.get(by).logValue()
+                + "] is not an option of ["
+                + by
+                + "]");
+      }
+    }
+    final Object actuals = scriptExecutor.apply(SCRIPT_READ, argumentList);
+    if (actuals instanceof List<?> actualList) {
+      for (int index = 0; index < byList.size() && index < actualList.size(); index++) {
+        final By by = byList.get(index);
+        final FormValue formValue = fillMap.get(by);
+        final String actual = String.valueOf(actualList.get(index));
+        if (!errorIndexSet.contains(index) && !matches(formValue, actual)) {
+          mismatchList.add(
+              Page.LABEL_THE_VALUE
+                  + formValue.logValue()
+                  + "] was not set for ["
+                  + by
+                  + "], actual ["
+                  + (formValue.masked() ? "********" : actual)
+                  + "]");
+        }
+      }
+    }
+    for (final String mismatch : mismatchList) {
+      LOG.warn("{}", mismatch);
+    }
+    final FormFillResult result =
+        new FormFillResult(
+            byList.size(),
+            mismatchList,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    LOG.debug("populateFields: {}", result);
+    return result;
+  }
+
+  /** Calls the before or after change-value hook for every edit, as setEdit does. */
+  private void fireChangeValue(
+      Map<By, FormValue> fillMap, Map<By, WebElement> webElementMap, boolean before) {
+    for (final Entry<By, FormValue> entry : fillMap.entrySet()) {
+      if (entry.getValue().fieldType() != FormValue.FieldType.EDIT) {
+        continue;
+      }
+      final WebElement webElement = webElementMap.get(entry.getKey());
+      final CharSequence[] keysToSend = new CharSequence[] {entry.getValue().value()};
+      if (before) {
+        seleniumWebDriverEventListener.beforeChangeValueOf(webElement, webDriver, keysToSend);
+      } else {
+        seleniumWebDriverEventListener.afterChangeValueOf(webElement, webDriver, keysToSend);
+      }
+    }
+  }
+
+  private static boolean isCheckboxValue(FormValue formValue) {
+    final String value = formValue.value().toLowerCase(Locale.ENGLISH);
+    return Page.LABEL_OPTION_CHECKED.equals(value) || Page.LABEL_OPTION_UNCHECKED.equals(value);
+  }
+
+  private static boolean matches(FormValue formValue, String actual) {
+    return switch (formValue.fieldType()) {
+      case CHECKBOX -> formValue.value().equalsIgnoreCase(actual);
+      case DROPDOWN -> formValue.value().replaceAll("\\s+", " ").trim().equals(actual);
+      case EDIT -> formValue.value().equals(actual);
+    };
+  }
+}
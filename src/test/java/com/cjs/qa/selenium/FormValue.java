@@ -0,0 +1,52 @@
+package com.cjs.qa.selenium;
+
+/**
+ * A value to put into one form field with {@link Page#populateFields}, together with how the field
+ * is set.
+ *
+ * @param fieldType kind of control
+ * @param value text for an edit, visible option text for a dropdown, or {@link
+ *     Page#LABEL_OPTION_CHECKED} / {@link Page#LABEL_OPTION_UNCHECKED} for a checkbox
+ * @param masked true to keep the value out of logs and mismatch messages (passwords)
+ */
+public record FormValue(FieldType fieldType, String value, boolean masked) {
+
+  /** Kind of form control, matching the setEdit / selectDropdown / setCheckbox setters. */
+  public enum FieldType {
+    EDIT,
+    DROPDOWN,
+    CHECKBOX
+  }
+
+  public FormValue {
+    if (fieldType == null || value == null) {
+      throw new IllegalArgumentException("fieldType and value are required");
+    }
+  }
+
+  public static FormValue edit(String value) {
+    return new FormValue(FieldType.EDIT, value, false);
+  }
+
+  public static FormValue password(String value) {
+    return new FormValue(FieldType.EDIT, value, true);
+  }
+
+  public static FormValue dropdown(String value) {
+    return new FormValue(FieldType.DROPDOWN, value, false);
+  }
+
+  public static FormValue checkbox(String value) {
+    return new FormValue(FieldType.CHECKBOX, value, false);
+  }
+
+  /** Returns the value as it may be logged. */
+  public String logValue() {
+    return masked ? "********" : value;
+  }
+
+  @Override
+  public String toString() {
+    return fieldType + ":[" + logValue() + "]";
+  }
+}
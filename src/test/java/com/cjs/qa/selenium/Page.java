@@ -5,19 +5,19 @@
 import java.awt.datatransfer.StringSelection;
 import java.awt.event.KeyEvent;
 import java.io.File;
-import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
 import javax.swing.JEditorPane;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.jsoup.Jsoup;
@@ -41,10 +41,10 @@
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.Wait;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import com.cjs.qa.core.Environment;
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.utilities.ArtifactCapture;
 import com.cjs.qa.utilities.CJSConstants;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.DateHelpersTests;
@@ -103,6 +103,7 @@ public class Page extends JavaHelpers {
   // public final boolean SCROLL_TO_OBJECT = false
   private static final String FORMAT_SCREENSHOT_NUMBER = "000000";
   private static final int flashMilliseconds = 25;
+  private static final PageReadiness PAGE_READINESS = PageReadiness.fromConfig();
   private WebElement previousWebElement = null;
   private String previousBorder = null;
   private int timeoutElement = Environment.getTimeOutElement();
@@ -111,12 +112,14 @@ public class Page extends JavaHelpers {
   private int screenshotCounter = 1;
   private SeleniumWebDriverEventListener seleniumWebDriverEventListener =
       new SeleniumWebDriverEventListener();
+  private final ElementCache elementCache = new ElementCache(this::getWebDriver);
 
   /**
    * @param webDriver
    */
   public Page(WebDriver webDriver) {
     setWebDriver(webDriver);
+    seleniumWebDriverEventListener.addNavigationListener(elementCache::invalidate);
     EventFiringDecorator<WebDriver> eventFiringWebDriver =
         new EventFiringDecorator<>(seleniumWebDriverEventListener);
     setWebDriver(eventFiringWebDriver.decorate(getWebDriver()));
@@ -338,11 +341,6 @@ public void back() {
    * @param pathToSaveScreenShot
    */
   public void captureScreenshot() {
-    try {
-      FileUtils.forceMkdir(new File(Constants.PATH_SCREENSHOTS));
-    } catch (final IOException e) {
-      LOG.error("Failed to create screenshots directory", e);
-    }
     StringBuilder stringBuilder = new StringBuilder(Constants.PATH_SCREENSHOTS);
     setScreenshotCounter(getScreenshotCounter() + 1);
     String dateTimeStamp = DateHelpersTests.getCurrentDateTimeStamp();
@@ -356,12 +354,7 @@ public void captureScreenshot() {
     stringBuilder.append(".png");
     String filePathName = stringBuilder.toString();
     LOG.debug("Screenshot file name: [{}]", filePathName);
-    final File screenshot = ((TakesScreenshot) getWebDriver()).getScreenshotAs(OutputType.FILE);
-    try {
-      FileUtils.copyFile(screenshot, new File(filePathName));
-    } catch (final IOException e) {
-      LOG.error("Failed to copy screenshot to file", e);
-    }
+    captureScreenshot(filePathName);
   }
 
   /**
@@ -371,12 +364,10 @@ public void captureScreenshot() {
    * @param pathFileName
    */
   public void captureScreenshot(String pathFileName) {
-    final File screenshot = ((TakesScreenshot) getWebDriver()).getScreenshotAs(OutputType.FILE);
-    try {
-      FileUtils.copyFile(screenshot, new File(pathFileName));
-    } catch (final IOException e) {
-      LOG.error("Failed to copy screenshot to path: {}", pathFileName, e);
-    }
+    final long startNanos = System.nanoTime();
+    final byte[] screenshot = ((TakesScreenshot) getWebDriver()).getScreenshotAs(OutputType.BYTES);
+    ArtifactCapture.writeFile(
+        "screenshot", new File(pathFileName), System.nanoTime() - startNanos, () -> screenshot);
   }
 
   public void clearCookies() {
@@ -600,9 +591,7 @@ public Object executeJavaScript(String script, Object arguments, String value) {
    * @return
    */
   public WebElement findDynamicElement(By by, long timeOut) {
-    final WebDriverWait webDriverWait =
-        new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(timeOut));
-    return webDriverWait.until(ExpectedConditions.visibilityOfElementLocated(by));
+    return elementCache.waitVisible(by, timeOut);
   }
 
   /**
@@ -1144,7 +1133,8 @@ public boolean isListsEqual(List<String> stringList1, List<String> stringList2)
    */
   public boolean isTextPresent(String text) {
     try {
-      new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(5))
+      elementCache
+          .getWait(5)
           .until(ExpectedConditions.textToBePresentInElementLocated(By.tagName("body"), text));
       return true;
     } catch (final Exception e) {
@@ -1206,9 +1196,7 @@ protected boolean objectExists(By by) {
    */
   protected boolean objectExists(By by, int seconds) {
     try {
-      final WebDriverWait webDriverWait =
-          new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(seconds));
-      webDriverWait.until(ExpectedConditions.visibilityOfElementLocated(by));
+      elementCache.waitVisible(by, seconds);
     } catch (final Exception e) {
       return false;
     }
@@ -1454,6 +1442,30 @@ public void scrollUpPage() {
     }
   }
 
+  /**
+   * Fills several fields with one script to set the values and one script to read them back,
+   * instead of several commands per field (see {@link FormFiller}). Each field is waited for with
+   * {@link #waitExists(By)}. Mismatches between the requested and read-back values are logged and
+   * returned; callers must check {@link FormFillResult#isComplete()}.
+   *
+   * @param fieldMap locators and values, filled in iteration order (use a {@link
+   *     java.util.LinkedHashMap} when the order matters)
+   * @return the fields filled and any mismatches
+   */
+  protected FormFillResult populateFields(Map<By, FormValue> fieldMap) {
+    if (Environment.isLogAll()) {
+      for (final Map.Entry<By, FormValue> entry : fieldMap.entrySet()) {
+        logFieldName(entry.getKey().toString(), entry.getValue().logValue());
+      }
+    }
+    return new FormFiller(
+            getWebDriver(),
+            this::waitExists,
+            this::executeJavaScript,
+            seleniumWebDriverEventListener)
+        .fill(fieldMap);
+  }
+
   /**
    * @param by
    * @param value
@@ -1721,6 +1733,7 @@ private void setScreenshotCounter(int screenshotCounter) {
    */
   public void setWebDriver(WebDriver webDriver) {
     this.webDriver = webDriver;
+    elementCache.reset();
   }
 
   /**
@@ -1929,9 +1942,10 @@ protected WebElement waitClickable(By by) {
    * @return
    */
   protected WebElement waitClickable(WebElement webElement) {
-    final WebDriverWait webDriverWait =
-        new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(getTimeoutElement()));
-    webElement = webDriverWait.until(ExpectedConditions.elementToBeClickable(webElement));
+    webElement =
+        elementCache
+            .getWait(getTimeoutElement())
+            .until(ExpectedConditions.elementToBeClickable(webElement));
     return webElement;
   }
 
@@ -1940,16 +1954,11 @@ protected WebElement waitClickable(WebElement webElement) {
    * @return
    */
   protected WebElement waitExists(By by) {
-    // May need to update as new webDriverWait returns boolean.
-    final WebDriverWait webDriverWait =
-        new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(getTimeoutElement()));
-    return webDriverWait.until(ExpectedConditions.visibilityOfElementLocated(by));
+    return elementCache.waitVisible(by, getTimeoutElement());
   }
 
   public void waitForAlert() {
-    final Wait<WebDriver> webDriverWait =
-        new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(getTimeoutElement()));
-    webDriverWait.until(ExpectedConditions.alertIsPresent());
+    elementCache.getWait(getTimeoutElement()).until(ExpectedConditions.alertIsPresent());
   }
 
   /**
@@ -1958,8 +1967,7 @@ public void waitForAlert() {
    * @return
    */
   protected WebElement waitForElementExists(final String selector, long timeout) {
-    final Wait<WebDriver> webDriverWait =
-        new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(timeout));
+    final Wait<WebDriver> webDriverWait = elementCache.getWait(timeout);
     return webDriverWait.until(
         new Function<WebDriver, WebElement>() {
           @Override
@@ -1986,9 +1994,7 @@ public void waitForPageHeading(String headingTitle, int timeoutSec) {
   }
 
   protected void waitForPageToLoad() {
-    // getWebDriver().manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(getTimeOutPage()),
-    // TimeUnit.SECONDS)
-    sleep(3);
+    assertPageReady();
   }
 
   /**
@@ -1996,7 +2002,8 @@ protected void waitForPageToLoad() {
    * @param expectedText
    */
   protected void waitForTextInWebElement(WebElement webElement, String expectedText) {
-    new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(getTimeoutElement()))
+    elementCache
+        .getWait(getTimeoutElement())
         .until(ExpectedConditions.textToBePresentInElement(webElement, expectedText));
   }
 
@@ -2030,9 +2037,9 @@ public boolean waitForURLChange(String initialURL, int timeoutSec) {
    */
   public boolean waitForXpath(String xpath) {
     try {
-      final WebDriverWait webDriverWait =
-          new WebDriverWait(getWebDriver(), java.time.Duration.ofSeconds(getTimeoutElement()));
-      webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
+      elementCache
+          .getWait(getTimeoutElement())
+          .until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
       return true;
     } catch (final Exception e) {
       LOG.warn("Could not find xpath: [{}]", xpath);
@@ -2044,21 +2051,38 @@ public boolean waitForXpath(String xpath) {
    * @param value
    */
   public void waitHard(int value) {
-    getWebDriver().manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(value));
+    getWebDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(value));
   }
 
+  /**
+   * Waits until the document has loaded, no requests are pending, the DOM has settled and no
+   * spinner is visible (see {@link PageReadiness}). Replaces polling for the spinner image.
+   *
+   * @throws AssertionError if the page is not ready within the page timeout
+   */
   public void waitPageLoaded() {
-    boolean loading = true;
-    // final By imageLoading = By.xpath(".//img[@alt='Loading']")
-    final By imageSpinnerBy = By.xpath(".//*[@id='spinner']/img");
-    do {
-      // List<WebElement> imagesLoading = getElements(imageLoading)
-      // if ((imagesLoading.size() == 0) && !objectExists(imageSpinner,
-      // 0))
-      if (!objectExists(imageSpinnerBy, 0)) {
-        loading = false;
-      }
-    } while (loading);
+    assertPageReady();
+  }
+
+  /**
+   * Waits for the page to become ready, up to the page timeout. A timeout is returned, not thrown,
+   * so callers that can go on with a page that is still busy must check {@link
+   * PageReadyResult#ready()}.
+   *
+   * @return whether the page became ready and how long it took
+   */
+  public PageReadyResult waitPageReady() {
+    return PAGE_READINESS.waitUntilReady(
+        getWebDriver(),
+        getClass().getSimpleName(),
+        Duration.ofSeconds(Environment.getTimeOutPage()));
+  }
+
+  private void assertPageReady() {
+    final PageReadyResult pageReadyResult = waitPageReady();
+    Assertions.assertTrue(
+        pageReadyResult.ready(),
+        () -> "Page not ready within the page timeout: [" + pageReadyResult + "]");
   }
 
   /**
@@ -0,0 +1,325 @@
+package com.cjs.qa.selenium;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Waits until a page has finished loading without polling WebDriver in a tight loop.
+ *
+ * <p>A small observer is installed in the page the first time it is checked. It counts pending
+ * {@code fetch} and {@code XMLHttpRequest} calls and records the time of the last DOM mutation. A
+ * page is ready when {@code document.readyState} is {@code complete}, no request is pending, the DOM
+ * has been quiet for the configured period and none of the spinner selectors matches a visible
+ * element. Requests started before the observer was installed are not counted; the quiet period
+ * covers most of those.
+ *
+ * <p>The wait is a single {@code executeAsyncScript} call that polls inside the browser. If the
+ * browser cannot run it (for example the page navigates away mid-wait), the same check is run with
+ * {@code executeScript} at an increasing interval until the timeout.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code PAGE_READY_QUIET_MS} / {@code page.ready.quiet.ms} - DOM quiet period (300)
+ *   <li>{@code PAGE_READY_SPINNER_SELECTORS} / {@code page.ready.spinner.selectors} -
+ *       comma-separated CSS selectors of loading indicators ({@code #spinner > img})
+ *   <li>{@code PAGE_READY_POLL_INITIAL_MS} / {@code page.ready.poll.initial.ms} - first fallback
+ *       poll interval, also the in-browser interval (100)
+ *   <li>{@code PAGE_READY_POLL_MAX_MS} / {@code page.ready.poll.max.ms} - longest fallback poll
+ *       interval (1000)
+ * </ul>
+ *
+ * <p>Timings are kept per page name and are available from {@link #getMetrics()}.
+ */
+public final class PageReadiness {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(PageReadiness.class));
+
+  private static final String SCRIPT_INSTALL =
+      """
+      if (!window.__qaPageReady) {
+        var state = { pending: 0, lastMutation: Date.now() };
+        window.__qaPageReady = state;
+        if (window.fetch) {
+          var originalFetch = window.fetch;
+          window.fetch = function () {
+            state.pending++;
+            try {
+              return originalFetch.apply(this, arguments).finally(function () {
+                state.pending--;
+              });
+            } catch (error) {
+              state.pending--;
+              throw error;
+            }
+          };
+        }
+        if (window.XMLHttpRequest) {
+          var originalSend = XMLHttpRequest.prototype.send;
+          XMLHttpRequest.prototype.send = function () {
+            state.pending++;
+            this.addEventListener('loadend', function () { state.pending--; });
+            return originalSend.apply(this, arguments);
+          };
+        }
+        if (window.MutationObserver && document.documentElement) {
+          new MutationObserver(function () { state.lastMutation = Date.now(); }).observe(
+              document.documentElement,
+              { childList: true, subtree: true, attributes: true, characterData: true });
+        }
+      }
+      function qaPageReadyReason(quietMs, selectors) {
+        var state = window.__qaPageReady;
+        if (document.readyState !== 'complete') {
+          return 'readyState ' + document.readyState;
+        }
+        if (state.pending > 0) {
+          return state.pending + ' request(s) pending';
+        }
+        if (Date.now() - state.lastMutation < quietMs) {
+          return 'DOM changing';
+        }
+        for (var index = 0; index < selectors.length; index++) {
+          var elements = document.querySelectorAll(selectors[index]);
+          for (var element = 0; element < elements.length; element++) {
+            if (elements[element].getClientRects().length > 0
+                && getComputedStyle(elements[element]).visibility !== 'hidden') {
+              return 'spinner ' + selectors[index] + ' visible';
+            }
+          }
+        }
+        return '';
+      }
+      """;
+
+  private static final String SCRIPT_CHECK =
+      SCRIPT_INSTALL + "return qaPageReadyReason(arguments[0], arguments[1]);";
+
+  private static final String SCRIPT_WAIT =
+      SCRIPT_INSTALL
+          + """
+          var callback = arguments[arguments.length - 1];
+          var quietMs = arguments[0];
+          var selectors = arguments[1];
+          var intervalMs = arguments[2];
+          (function poll() {
+            if (qaPageReadyReason(quietMs, selectors) === '') {
+              callback('');
+            } else {
+              setTimeout(poll, intervalMs);
+            }
+          })();
+          """;
+
+  private static final Map<String, PageStats> PAGES = new ConcurrentHashMap<>();
+
+  private final long quietMs;
+  private final List<String> spinnerSelectorList;
+  private final long pollInitialMs;
+  private final long pollMaxMs;
+
+  /**
+   * @param quietMs how long the DOM must go without mutations
+   * @param spinnerSelectorList CSS selectors of loading indicators that must not be visible
+   * @param pollInitialMs in-browser poll interval and first fallback poll interval
+   * @param pollMaxMs longest fallback poll interval
+   */
+  public PageReadiness(
+      long quietMs, List<String> spinnerSelectorList, long pollInitialMs, long pollMaxMs) {
+    if (pollInitialMs < 1 || pollMaxMs < pollInitialMs) {
+      throw new IllegalArgumentException(
+          "Invalid poll interval: initial [" + pollInitialMs + "], max [" + pollMaxMs + "]");
+    }
+    this.quietMs = quietMs;
+    this.spinnerSelectorList = List.copyOf(spinnerSelectorList);
+    this.pollInitialMs = pollInitialMs;
+    this.pollMaxMs = pollMaxMs;
+  }
+
+  /**
+   * Creates an instance from the configured values.
+   *
+   * @return a new instance
+   */
+  public static PageReadiness fromConfig() {
+    final String selectors =
+        TuningConfig.getValue("PAGE_READY_SPINNER_SELECTORS", "page.ready.spinner.selectors");
+    final List<String> spinnerSelectorList = new ArrayList<>();
+    for (final String selector : (selectors == null ? "#spinner > img" : selectors).split(",")) {
+      if (!selector.isBlank()) {
+        spinnerSelectorList.add(selector.trim());
+      }
+    }
+    return new PageReadiness(
+        TuningConfig.getLong("PAGE_READY_QUIET_MS", "page.ready.quiet.ms", 300L),
+        spinnerSelectorList,
+        TuningConfig.getLong("PAGE_READY_POLL_INITIAL_MS", "page.ready.poll.initial.ms", 100L),
+        TuningConfig.getLong("PAGE_READY_POLL_MAX_MS", "page.ready.poll.max.ms", 1000L));
+  }
+
+  /**
+   * Waits until the page is ready or the timeout passes. A timeout is logged, not thrown.
+   *
+   * @param webDriver the driver; must implement {@link JavascriptExecutor}
+   * @param pageName name the timing is recorded under (usually the page object class)
+   * @param timeout how long to wait
+   * @return whether the page became ready, how and how long it took
+   */
+  public PageReadyResult waitUntilReady(WebDriver webDriver, String pageName, Duration timeout) {
+    final long startNanos = System.nanoTime();
+    final long deadlineNanos = startNanos + timeout.toNanos();
+    final JavascriptExecutor javascriptExecutor = (JavascriptExecutor) webDriver;
+    String reason;
+    boolean fallback = false;
+    try {
+      reason = waitAsync(webDriver, javascriptExecutor, timeout);
+    } catch (final ScriptTimeoutException e) {
+      reason = checkQuietly(javascriptExecutor);
+    } catch (final WebDriverException e) {
+      LOG.debug("Async page-ready wait failed, polling instead: {}", e.getMessage());
+      fallback = true;
+      reason = poll(javascriptExecutor, deadlineNanos);
+    }
+    final PageReadyResult result =
+        new PageReadyResult(
+            pageName,
+            reason.isEmpty(),
+            fallback,
+            reason,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    PAGES.computeIfAbsent(pageName, PageStats::new).record(result);
+    if (result.ready()) {
+      LOG.debug("{}", result);
+    } else {
+      LOG.warn("{}", result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a point-in-time snapshot of the timings of every page waited on so far.
+   *
+   * @return metrics per page
+   */
+  public static List<PageReadyMetrics> getMetrics() {
+    final List<PageReadyMetrics> metrics = new ArrayList<>();
+    for (final PageStats pageStats : PAGES.values()) {
+      metrics.add(pageStats.getMetrics());
+    }
+    return metrics;
+  }
+
+  /** Logs the timings of every page waited on so far. */
+  public static void logMetrics() {
+    for (final PageReadyMetrics metrics : getMetrics()) {
+      LOG.info("{}", metrics);
+    }
+  }
+
+  private String waitAsync(
+      WebDriver webDriver, JavascriptExecutor javascriptExecutor, Duration timeout) {
+    final WebDriver.Timeouts timeouts = webDriver.manage().timeouts();
+    final Duration scriptTimeout = timeouts.getScriptTimeout();
+    timeouts.scriptTimeout(timeout);
+    try {
+      return String.valueOf(
+          javascriptExecutor.executeAsyncScript(
+              SCRIPT_WAIT, quietMs, spinnerSelectorList, pollInitialMs));
+    } finally {
+      timeouts.scriptTimeout(scriptTimeout);
+    }
+  }
+
+  /** Runs the check with executeScript, doubling the interval up to pollMaxMs. */
+  private String poll(JavascriptExecutor javascriptExecutor, long deadlineNanos) {
+    long intervalMs = pollInitialMs;
+    String reason = checkQuietly(javascriptExecutor);
+    while (!reason.isEmpty() && System.nanoTime() < deadlineNanos) {
+      final long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+      try {
+        Thread.sleep(Math.max(1, Math.min(intervalMs, remainingMs)));
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return "interrupted";
+      }
+      intervalMs = Math.min(intervalMs * 2, pollMaxMs);
+      reason = checkQuietly(javascriptExecutor);
+    }
+    return reason;
+  }
+
+  /** Runs one readiness check; errors (e.g. during navigation) count as not ready. */
+  private String checkQuietly(JavascriptExecutor javascriptExecutor) {
+    try {
+      return String.valueOf(
+          javascriptExecutor.executeScript(SCRIPT_CHECK, quietMs, spinnerSelectorList));
+    } catch (final WebDriverException e) {
+      return "check failed: " + e.getClass().getSimpleName();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PageReadiness[quietMs:["
+        + quietMs
+        + "], spinners:"
+        + spinnerSelectorList
+        + ", pollMs:["
+        + pollInitialMs
+        + "-"
+        + pollMaxMs
+        + "]]";
+  }
+
+  /** Counters for one page name. */
+  private static final class PageStats {
+    private final String pageName;
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    private PageStats(String pageName) {
+      this.pageName = pageName;
+    }
+
+    private void record(PageReadyResult result) {
+      waits.increment();
+      if (!result.ready()) {
+        timeouts.increment();
+      }
+      if (result.fallback()) {
+        fallbacks.increment();
+      }
+      totalMillis.add(result.elapsedMs());
+      maxMillis.accumulateAndGet(result.elapsedMs(), Math::max);
+    }
+
+    private PageReadyMetrics getMetrics() {
+      return new PageReadyMetrics(
+          pageName,
+          waits.sum(),
+          timeouts.sum(),
+          fallbacks.sum(),
+          totalMillis.sum(),
+          maxMillis.get());
+    }
+  }
+}
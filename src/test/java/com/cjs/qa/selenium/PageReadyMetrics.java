@@ -0,0 +1,36 @@
+package com.cjs.qa.selenium;
+
+/**
+ * Immutable snapshot of {@link PageReadiness} timings for one page.
+ *
+ * @param pageName name the waits were recorded under
+ * @param waits waits completed
+ * @param timeouts waits that ended before the page was ready
+ * @param fallbacks waits that had to poll with executeScript
+ * @param totalMillis cumulative wait time
+ * @param maxMillis longest single wait
+ */
+public record PageReadyMetrics(
+    String pageName, long waits, long timeouts, long fallbacks, long totalMillis, long maxMillis) {
+
+  /**
+   * Average time per wait.
+   *
+   * @return average wait in milliseconds, or 0 if there were no waits
+   */
+  public double averageMillis() {
+    if (waits == 0) {
+      return 0;
+    }
+    return (double) totalMillis / waits;
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Page:[%s], Waits:[%d], Timeouts:[%d], Fallbacks:[%d], AvgMs:[%.1f], MaxMs:[%d]
+    """
+        .formatted(pageName, waits, timeouts, fallbacks, averageMillis(), maxMillis)
+        .trim();
+  }
+}
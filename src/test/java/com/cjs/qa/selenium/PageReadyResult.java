@@ -0,0 +1,23 @@
+package com.cjs.qa.selenium;
+
+/**
+ * Outcome of one {@link PageReadiness#waitUntilReady} call.
+ *
+ * @param pageName name the wait was recorded under
+ * @param ready true if the page became ready before the timeout
+ * @param fallback true if the in-browser wait failed and executeScript polling was used
+ * @param reason why the page was not ready at the end of the wait; empty when ready
+ * @param elapsedMs wall-clock time of the wait
+ */
+public record PageReadyResult(
+    String pageName, boolean ready, boolean fallback, String reason, long elapsedMs) {
+
+  @Override
+  public String toString() {
+    return """
+    Page:[%s], Ready:[%s], Fallback:[%s], Reason:[%s], ElapsedMs:[%d]
+    """
+        .formatted(pageName, ready, fallback, reason, elapsedMs)
+        .trim();
+  }
+}
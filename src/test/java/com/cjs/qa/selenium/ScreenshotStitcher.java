@@ -0,0 +1,335 @@
+package com.cjs.qa.selenium;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.firefox.HasFullPageScreenshot;
+
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.StreamingPngWriter;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Full-page screenshots without holding the whole page in memory.
+ *
+ * <p>{@link #capture(WebDriver, int, File)} first asks the browser for a full-page image:
+ * Firefox through {@link HasFullPageScreenshot}, Chrome and Edge through the DevTools {@code
+ * Page.captureScreenshot} command. Remote sessions and other browsers fall back to scrolling: each
+ * viewport is taken as PNG bytes together with the scroll offset the browser actually reached, and
+ * the frames are stitched by {@link #stitch(List, OutputStream)}.
+ *
+ * <p>Stitching decodes one frame at a time and streams its rows into a {@link StreamingPngWriter},
+ * skipping the rows already covered by the previous frame. Only the compressed frames and one
+ * decoded frame are held in memory. Scrolling has to happen on the test thread, but decoding and
+ * encoding run on a background thread; the returned future completes when the file is written.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code SCREENSHOT_NATIVE_FULL_PAGE} / {@code screenshot.native.full.page} - use the
+ *       browser's full-page capture when available (true)
+ *   <li>{@code SCREENSHOT_NATIVE_MAX_HEIGHT} / {@code screenshot.native.max.height} - tallest page
+ *       in CSS pixels captured through DevTools; Chrome renders taller pages incorrectly (16384)
+ *   <li>{@code SCREENSHOT_MAX_FRAMES} / {@code screenshot.max.frames} - most viewports captured
+ *       for one page, which stops endless-scroll pages (200)
+ *   <li>{@code SCREENSHOT_STITCH_THREADS} / {@code screenshot.stitch.threads} - background threads
+ *       that write screenshots (1)
+ * </ul>
+ */
+public final class ScreenshotStitcher {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(ScreenshotStitcher.class));
+
+  private static final boolean NATIVE_FULL_PAGE =
+      TuningConfig.getBoolean("SCREENSHOT_NATIVE_FULL_PAGE", "screenshot.native.full.page", true);
+  private static final int NATIVE_MAX_HEIGHT =
+      TuningConfig.getInt("SCREENSHOT_NATIVE_MAX_HEIGHT", "screenshot.native.max.height", 16384);
+  private static final int MAX_FRAMES =
+      TuningConfig.getInt("SCREENSHOT_MAX_FRAMES", "screenshot.max.frames", 200);
+  private static final int STITCH_THREADS =
+      TuningConfig.getInt("SCREENSHOT_STITCH_THREADS", "screenshot.stitch.threads", 1);
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+  // Scrolls to arguments[0] and returns [scrollY, devicePixelRatio, scrollHeight, innerHeight].
+  private static final String SCRIPT_SCROLL_TO =
+      "window.scrollTo(0, arguments[0]);"
+          + " var e = document.documentElement;"
+          + " return [window.pageYOffset, window.devicePixelRatio || 1,"
+          + " Math.max(e.scrollHeight, document.body ? document.body.scrollHeight : 0),"
+          + " window.innerHeight];";
+
+  private static final int PNG_HEADER_LENGTH = 24;
+  private static final int PNG_WIDTH_OFFSET = 16;
+  private static final int PNG_HEIGHT_OFFSET = 20;
+  private static final int WHITE = 0xFFFFFFFF;
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newFixedThreadPool(
+          Math.max(1, STITCH_THREADS),
+          runnable -> {
+            final Thread thread = new Thread(runnable, "screenshot-stitcher");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  static {
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(ScreenshotStitcher::drain, "screenshot-stitcher-drain"));
+  }
+
+  /**
+   * A viewport screenshot.
+   *
+   * @param png the PNG bytes as returned by the browser
+   * @param offsetY device pixels between the top of the page and the top of this frame
+   */
+  public record Frame(byte[] png, int offsetY) {}
+
+  private ScreenshotStitcher() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Captures the whole page and writes it to a PNG file in the background.
+   *
+   * @param webDriver the session; must implement {@link TakesScreenshot}
+   * @param scrollAmount CSS pixels to scroll between viewports when the page is scrolled; capped at
+   *     the viewport height so that no part of the page is skipped
+   * @param file the PNG file to write
+   * @return completes with {@code file} once it is written
+   */
+  public static CompletableFuture<File> capture(WebDriver webDriver, int scrollAmount, File file) {
+    final long startNanos = System.nanoTime();
+    final byte[] fullPage = captureNative(webDriver);
+    if (fullPage != null) {
+      return submit(file, () -> Files.write(file.toPath(), fullPage), "native", startNanos);
+    }
+    final List<Frame> frames = captureFrames(webDriver, scrollAmount);
+    return submit(
+        file,
+        () -> {
+          try (OutputStream outputStream =
+              new BufferedOutputStream(Files.newOutputStream(file.toPath()))) {
+            stitch(frames, outputStream);
+          }
+        },
+        frames.size() + " frames",
+        startNanos);
+  }
+
+  /**
+   * Scrolls through the page from the top and takes a screenshot of every viewport.
+   *
+   * @param webDriver the session; must implement {@link TakesScreenshot} and {@link
+   *     JavascriptExecutor}
+   * @param scrollAmount CSS pixels to scroll between viewports
+   * @return the frames in page order
+   */
+  public static List<Frame> captureFrames(WebDriver webDriver, int scrollAmount) {
+    final JavascriptExecutor javascriptExecutor = (JavascriptExecutor) webDriver;
+    final TakesScreenshot takesScreenshot = (TakesScreenshot) webDriver;
+    final List<Frame> frames = new ArrayList<>();
+    double targetY = 0;
+    double previousY = -1;
+    while (frames.size() < MAX_FRAMES) {
+      final List<?> position =
+          (List<?>) javascriptExecutor.executeScript(SCRIPT_SCROLL_TO, targetY);
+      final double scrollY = ((Number) position.get(0)).doubleValue();
+      final double devicePixelRatio = ((Number) position.get(1)).doubleValue();
+      final double scrollHeight = ((Number) position.get(2)).doubleValue();
+      final double innerHeight = ((Number) position.get(3)).doubleValue();
+      if (scrollY <= previousY) {
+        // The page cannot scroll any further.
+        break;
+      }
+      frames.add(
+          new Frame(
+              takesScreenshot.getScreenshotAs(OutputType.BYTES),
+              (int) Math.round(scrollY * devicePixelRatio)));
+      if (scrollY + innerHeight >= scrollHeight) {
+        break;
+      }
+      previousY = scrollY;
+      targetY = scrollY + Math.max(1, Math.min(scrollAmount, innerHeight));
+    }
+    if (frames.size() == MAX_FRAMES) {
+      LOG.warn("Screenshot stopped after {} viewports", MAX_FRAMES);
+    }
+    return frames;
+  }
+
+  /**
+   * Writes frames as one PNG. The image is as wide as the first frame and reaches the bottom of
+   * the last frame; rows a frame shares with the previous one are skipped, and gaps between frames
+   * are filled with white.
+   *
+   * @param frames frames ordered by {@link Frame#offsetY()}
+   * @param outputStream receives the PNG; not closed
+   * @throws IOException if a frame cannot be decoded or the PNG cannot be written
+   */
+  public static void stitch(List<Frame> frames, OutputStream outputStream) throws IOException {
+    if (frames.isEmpty()) {
+      throw new IOException("No screenshot frames to stitch");
+    }
+    final int width = readPngHeaderInt(frames.get(0).png(), PNG_WIDTH_OFFSET);
+    int height = 0;
+    for (final Frame frame : frames) {
+      height = Math.max(height, frame.offsetY() + readPngHeaderInt(frame.png(), PNG_HEIGHT_OFFSET));
+    }
+    final int[] row = new int[width];
+    try (StreamingPngWriter writer = new StreamingPngWriter(outputStream, width, height)) {
+      for (final Frame frame : frames) {
+        final BufferedImage image = ImageIO.read(new ByteArrayInputStream(frame.png()));
+        if (image == null) {
+          throw new IOException("Screenshot frame is not a readable image");
+        }
+        Arrays.fill(row, WHITE);
+        while (writer.getRowsWritten() < frame.offsetY()) {
+          writer.writeRow(row);
+        }
+        final int copyWidth = Math.min(width, image.getWidth());
+        final int lastY = Math.min(image.getHeight(), height - frame.offsetY());
+        for (int y = writer.getRowsWritten() - frame.offsetY(); y < lastY; y++) {
+          image.getRGB(0, y, copyWidth, 1, row, 0, width);
+          writer.writeRow(row);
+        }
+      }
+    }
+  }
+
+  /** Lets screenshots that are still being written finish before the JVM exits. */
+  private static void drain() {
+    EXECUTOR.shutdown();
+    try {
+      if (!EXECUTOR.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("Screenshots still being written after {}s", SHUTDOWN_TIMEOUT_SECONDS);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * @return the full-page PNG, or null if the browser cannot capture one
+   */
+  private static byte[] captureNative(WebDriver webDriver) {
+    if (!NATIVE_FULL_PAGE) {
+      return null;
+    }
+    try {
+      if (webDriver instanceof HasFullPageScreenshot hasFullPageScreenshot) {
+        return hasFullPageScreenshot.getFullPageScreenshotAs(OutputType.BYTES);
+      }
+      if (webDriver instanceof HasCdp hasCdp) {
+        return captureCdp(hasCdp);
+      }
+    } catch (final WebDriverException e) {
+      LOG.debug("Full-page capture failed, scrolling instead: {}", e.getMessage());
+    }
+    return null;
+  }
+
+  private static byte[] captureCdp(HasCdp hasCdp) {
+    final Map<String, Object> layoutMetrics =
+        hasCdp.executeCdpCommand("Page.getLayoutMetrics", Map.of());
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> contentSize =
+        (Map<String, Object>) layoutMetrics.get("cssContentSize");
+    if (contentSize == null) {
+      return null;
+    }
+    final double width = ((Number) contentSize.get("width")).doubleValue();
+    final double height = ((Number) contentSize.get("height")).doubleValue();
+    if (height > NATIVE_MAX_HEIGHT) {
+      return null;
+    }
+    final Map<String, Object> screenshot =
+        hasCdp.executeCdpCommand(
+            "Page.captureScreenshot",
+            Map.of(
+                "format",
+                "png",
+                "captureBeyondViewport",
+                true,
+                "clip",
+                Map.of("x", 0, "y", 0, "width", width, "height", height, "scale", 1)));
+    return Base64.getDecoder().decode((String) screenshot.get("data"));
+  }
+
+  private static CompletableFuture<File> submit(
+      File file, ScreenshotWrite screenshotWrite, String source, long startNanos) {
+    return CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                final File parent = file.getAbsoluteFile().getParentFile();
+                if (parent != null) {
+                  Files.createDirectories(parent.toPath());
+                }
+                screenshotWrite.write();
+              } catch (final IOException e) {
+                throw new ScreenshotException(file, e);
+              }
+              LOG.debug(
+                  "Screenshot [{}] written from {} in {}ms",
+                  file.getName(),
+                  source,
+                  TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+              return file;
+            },
+            EXECUTOR)
+        .whenComplete(
+            (written, throwable) -> {
+              if (throwable != null) {
+                LOG.error("Failed to write screenshot [{}]", file, throwable);
+              }
+            });
+  }
+
+  private static int readPngHeaderInt(byte[] png, int offset) throws IOException {
+    if (png.length < PNG_HEADER_LENGTH) {
+      throw new IOException("Screenshot frame is not a PNG");
+    }
+    return ((png[offset] & 0xFF) << 24)
+        | ((png[offset + 1] & 0xFF) << 16)
+        | ((png[offset + 2] & 0xFF) << 8)
+        | (png[offset + 3] & 0xFF);
+  }
+
+  @FunctionalInterface
+  private interface ScreenshotWrite {
+    void write() throws IOException;
+  }
+
+  /** Carries an {@link IOException} out of the background write. */
+  private static final class ScreenshotException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private ScreenshotException(File file, IOException cause) {
+      super("Failed to write screenshot " + file, cause);
+    }
+  }
+}
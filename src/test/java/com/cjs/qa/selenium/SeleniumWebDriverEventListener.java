@@ -1,5 +1,9 @@
 package com.cjs.qa.selenium;
 
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import org.apache.logging.log4j.LogManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -14,6 +18,60 @@ public class SeleniumWebDriverEventListener implements WebDriverListener {
   private static final GuardedLogger LOG =
       new GuardedLogger(LogManager.getLogger(SeleniumWebDriverEventListener.class));
 
+  private final List<Runnable> navigationListenerList = new CopyOnWriteArrayList<>();
+
+  /**
+   * Registers a callback run after the driver loads a URL, navigates back, forward or refreshes,
+   * switches window or frame, or closes a window.
+   *
+   * @param navigationListener the callback
+   */
+  public void addNavigationListener(Runnable navigationListener) {
+    navigationListenerList.add(navigationListener);
+  }
+
+  private void notifyNavigation() {
+    for (final Runnable navigationListener : navigationListenerList) {
+      navigationListener.run();
+    }
+  }
+
+  @Override
+  public void afterGet(WebDriver webDriver, String url) {
+    notifyNavigation();
+  }
+
+  @Override
+  public void afterTo(WebDriver.Navigation navigation, String url) {
+    notifyNavigation();
+  }
+
+  @Override
+  public void afterBack(WebDriver.Navigation navigation) {
+    notifyNavigation();
+  }
+
+  @Override
+  public void afterForward(WebDriver.Navigation navigation) {
+    notifyNavigation();
+  }
+
+  @Override
+  public void afterRefresh(WebDriver.Navigation navigation) {
+    notifyNavigation();
+  }
+
+  @Override
+  public void afterAnyTargetLocatorCall(
+      WebDriver.TargetLocator targetLocator, Method method, Object[] args, Object result) {
+    notifyNavigation();
+  }
+
+  @Override
+  public void afterClose(WebDriver webDriver) {
+    notifyNavigation();
+  }
+
   public void beforeAlertAccept(WebDriver webDriver) {
     LOG.debug("{}", JavaHelpers.getCurrentMethodName());
   }
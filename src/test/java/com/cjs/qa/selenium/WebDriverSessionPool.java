@@ -0,0 +1,295 @@
+package com.cjs.qa.selenium;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.cjs.qa.utilities.GuardedLogger;
+
+/**
+ * Pool of started WebDriver sessions for one browser and capability set.
+ *
+ * <p>Starting a session (driver setup, Grid checks, browser launch) usually takes longer than a
+ * smoke test itself. The pool keeps up to {@code size} sessions: {@link #acquire()} hands out an
+ * idle one when there is one and otherwise starts a new one, and any shortfall is started in the
+ * background so the next test finds a warm session.
+ *
+ * <p>{@link #release(WebDriver, boolean)} resets a returned session before it is reused:
+ *
+ * <ol>
+ *   <li>every window except the first is closed ({@link Page#tabCloseExtras()})
+ *   <li>local and session storage of the current page are cleared
+ *   <li>cookies of the current domain are deleted
+ *   <li>the window navigates to {@code about:blank}
+ * </ol>
+ *
+ * <p>Storage and cookies of other domains visited during the test survive the reset, so tests that
+ * depend on a clean profile should not use the pool. A session is quit instead of reused if the
+ * test failed, if it has been used {@code maxUses} times, or if the reset fails.
+ *
+ * <p>Instances are normally obtained through {@link WebDriverSessionPools}.
+ */
+public final class WebDriverSessionPool implements AutoCloseable {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(WebDriverSessionPool.class));
+
+  private static final String SCRIPT_CLEAR_STORAGE =
+      "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+  /** Starts a new session. */
+  @FunctionalInterface
+  public interface SessionFactory {
+    /**
+     * @return a new, fully initialized session owned by the pool
+     * @throws Throwable if the session cannot be started
+     */
+    WebDriver create() throws Throwable;
+  }
+
+  private final String name;
+  private final SessionFactory sessionFactory;
+  private final int size;
+  private final int maxUses;
+  private final Deque<PooledSession> idleSessions = new ConcurrentLinkedDeque<>();
+  private final Map<WebDriver, PooledSession> borrowedSessions = new ConcurrentHashMap<>();
+  private final AtomicInteger warming = new AtomicInteger();
+  private final ExecutorService warmer;
+  private final LongAdder created = new LongAdder();
+  private final LongAdder destroyed = new LongAdder();
+  private final LongAdder borrowed = new LongAdder();
+  private final LongAdder reused = new LongAdder();
+  private final LongAdder recycled = new LongAdder();
+  private final LongAdder discarded = new LongAdder();
+  private final LongAdder resetFailures = new LongAdder();
+  private final LongAdder createNanos = new LongAdder();
+  private final AtomicLong maxCreateNanos = new AtomicLong();
+  private volatile boolean closed;
+
+  /**
+   * @param name identifies the browser and capability set in logs and metrics
+   * @param sessionFactory starts new sessions; called from the pool's warm-up thread as well
+   * @param size sessions kept (borrowed plus idle)
+   * @param maxUses tests a session serves before it is quit and replaced
+   */
+  public WebDriverSessionPool(String name, SessionFactory sessionFactory, int size, int maxUses) {
+    if (size < 1 || maxUses < 1) {
+      throw new IllegalArgumentException(
+          "size and maxUses must be at least 1: size [" + size + "], maxUses [" + maxUses + "]");
+    }
+    this.name = name;
+    this.sessionFactory = sessionFactory;
+    this.size = size;
+    this.maxUses = maxUses;
+    this.warmer =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "webdriver-pool-warmer");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Hands out an idle session, or starts one if none is idle.
+   *
+   * @return a session; give it back with {@link #release(WebDriver, boolean)}
+   * @throws Throwable if a new session cannot be started
+   */
+  public WebDriver acquire() throws Throwable {
+    if (closed) {
+      throw new IllegalStateException("WebDriver session pool is closed: " + name);
+    }
+    PooledSession pooledSession = takeIdle();
+    if (pooledSession == null) {
+      pooledSession = create();
+    } else {
+      reused.increment();
+    }
+    borrowedSessions.put(pooledSession.webDriver(), pooledSession);
+    borrowed.increment();
+    warm();
+    return pooledSession.webDriver();
+  }
+
+  /**
+   * Takes back a session handed out by this pool, resetting it for reuse or quitting it.
+   *
+   * @param webDriver the session
+   * @param failed true if the test using it failed; the session is quit
+   * @return false if the session was not borrowed from this pool
+   */
+  public boolean release(WebDriver webDriver, boolean failed) {
+    final PooledSession pooledSession = borrowedSessions.remove(webDriver);
+    if (pooledSession == null) {
+      return false;
+    }
+    final int uses = pooledSession.uses() + 1;
+    if (failed) {
+      discarded.increment();
+      destroy(webDriver);
+    } else if (uses >= maxUses) {
+      recycled.increment();
+      destroy(webDriver);
+    } else if (closed || idleSessions.size() + borrowedSessions.size() >= size) {
+      destroy(webDriver);
+    } else if (!reset(webDriver)) {
+      resetFailures.increment();
+      destroy(webDriver);
+    } else {
+      idleSessions.offerFirst(new PooledSession(webDriver, uses));
+    }
+    warm();
+    return true;
+  }
+
+  /** Quits all idle sessions. Borrowed sessions are quit when they are released. */
+  @Override
+  public void close() {
+    closed = true;
+    warmer.shutdownNow();
+    PooledSession pooledSession;
+    while ((pooledSession = idleSessions.pollFirst()) != null) {
+      destroy(pooledSession.webDriver());
+    }
+    LOG.debug("Closed WebDriver session pool {}", getMetrics());
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Returns a point-in-time snapshot of the pool counters.
+   *
+   * @return the current metrics
+   */
+  public WebDriverSessionPoolMetrics getMetrics() {
+    return new WebDriverSessionPoolMetrics(
+        name,
+        size,
+        borrowedSessions.size(),
+        idleSessions.size(),
+        created.sum(),
+        destroyed.sum(),
+        borrowed.sum(),
+        reused.sum(),
+        recycled.sum(),
+        discarded.sum(),
+        resetFailures.sum(),
+        createNanos.sum(),
+        maxCreateNanos.get());
+  }
+
+  /** Starts sessions in the background until the pool holds {@code size} of them. */
+  private void warm() {
+    while (!closed) {
+      final int inWarmUp = warming.get();
+      if (idleSessions.size() + borrowedSessions.size() + inWarmUp >= size) {
+        return;
+      }
+      if (!warming.compareAndSet(inWarmUp, inWarmUp + 1)) {
+        continue;
+      }
+      try {
+        warmer.execute(this::warmOne);
+      } catch (final RejectedExecutionException e) {
+        warming.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  private void warmOne() {
+    try {
+      final PooledSession pooledSession = create();
+      if (closed) {
+        destroy(pooledSession.webDriver());
+      } else {
+        idleSessions.offerLast(pooledSession);
+      }
+    } catch (final Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      LOG.warn("Could not warm a WebDriver session for {}: {}", name, e.getMessage());
+    } finally {
+      warming.decrementAndGet();
+    }
+  }
+
+  private PooledSession takeIdle() {
+    PooledSession pooledSession;
+    while ((pooledSession = idleSessions.pollFirst()) != null) {
+      if (isAlive(pooledSession.webDriver())) {
+        return pooledSession;
+      }
+      discarded.increment();
+      destroy(pooledSession.webDriver());
+    }
+    return null;
+  }
+
+  private PooledSession create() throws Throwable {
+    final long startNanos = System.nanoTime();
+    final WebDriver webDriver = sessionFactory.create();
+    final long elapsedNanos = System.nanoTime() - startNanos;
+    created.increment();
+    createNanos.add(elapsedNanos);
+    maxCreateNanos.accumulateAndGet(elapsedNanos, Math::max);
+    LOG.debug("Started pooled WebDriver session [{}] for {}", created.sum(), name);
+    return new PooledSession(webDriver, 0);
+  }
+
+  private boolean reset(WebDriver webDriver) {
+    try {
+      if (webDriver.getWindowHandles().size() > 1) {
+        new Page(webDriver).tabCloseExtras();
+      }
+      if (webDriver instanceof JavascriptExecutor javascriptExecutor) {
+        javascriptExecutor.executeScript(SCRIPT_CLEAR_STORAGE);
+      }
+      webDriver.manage().deleteAllCookies();
+      webDriver.get("about:blank");
+      return true;
+    } catch (final WebDriverException e) {
+      LOG.debug("Discarding WebDriver session for {}: {}", name, e.getMessage());
+      return false;
+    }
+  }
+
+  private static boolean isAlive(WebDriver webDriver) {
+    try {
+      webDriver.getWindowHandle();
+      return true;
+    } catch (final WebDriverException e) {
+      return false;
+    }
+  }
+
+  private void destroy(WebDriver webDriver) {
+    try {
+      webDriver.quit();
+    } catch (final WebDriverException e) {
+      LOG.debug("Error quitting WebDriver session for {}: {}", name, e.getMessage());
+    }
+    destroyed.increment();
+  }
+
+  private record PooledSession(WebDriver webDriver, int uses) {}
+}
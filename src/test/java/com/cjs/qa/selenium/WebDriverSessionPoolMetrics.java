@@ -0,0 +1,72 @@
+package com.cjs.qa.selenium;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of {@link WebDriverSessionPool} counters.
+ *
+ * @param name browser and capability set of the pool
+ * @param size sessions the pool keeps
+ * @param active sessions currently handed out
+ * @param idle sessions waiting to be handed out
+ * @param created sessions started
+ * @param destroyed sessions quit
+ * @param borrowed sessions handed out
+ * @param reused hand-outs served by an idle session instead of a new one
+ * @param recycled sessions quit after reaching the use limit
+ * @param discarded sessions quit because the test failed or the session had died
+ * @param resetFailures sessions quit because the reset failed
+ * @param totalCreateNanos cumulative time spent starting sessions
+ * @param maxCreateNanos longest session start
+ */
+public record WebDriverSessionPoolMetrics(
+    String name,
+    int size,
+    int active,
+    int idle,
+    long created,
+    long destroyed,
+    long borrowed,
+    long reused,
+    long recycled,
+    long discarded,
+    long resetFailures,
+    long totalCreateNanos,
+    long maxCreateNanos) {
+
+  /**
+   * Average time to start a session.
+   *
+   * @return average start time in milliseconds, or 0 if no session was started
+   */
+  public double averageCreateMillis() {
+    if (created == 0) {
+      return 0;
+    }
+    return (double) totalCreateNanos / created / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Pool:[%s], Size:[%d], Active:[%d], Idle:[%d], Created:[%d], Destroyed:[%d], Borrowed:[%d], \
+    Reused:[%d], Recycled:[%d], Discarded:[%d], ResetFailures:[%d], AvgCreateMs:[%.1f], \
+    MaxCreateMs:[%d]
+    """
+        .formatted(
+            name,
+            size,
+            active,
+            idle,
+            created,
+            destroyed,
+            borrowed,
+            reused,
+            recycled,
+            discarded,
+            resetFailures,
+            averageCreateMillis(),
+            TimeUnit.NANOSECONDS.toMillis(maxCreateNanos))
+        .trim();
+  }
+}
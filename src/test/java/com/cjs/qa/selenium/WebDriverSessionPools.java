@@ -0,0 +1,124 @@
+package com.cjs.qa.selenium;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.openqa.selenium.WebDriver;
+
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * JVM-wide registry of {@link WebDriverSessionPool}s keyed by browser and capability set.
+ *
+ * <p>{@link SeleniumWebDriver#initializeWebDriver()} takes its session from here when pooling is
+ * enabled, and {@link SeleniumWebDriver#killBrowser()} gives it back, so test classes that create
+ * a {@code SeleniumWebDriver} per test reuse warm sessions without other changes.
+ *
+ * <p>Configuration (environment variable or system property):
+ *
+ * <ul>
+ *   <li>{@code WEBDRIVER_POOL_ENABLED} / {@code webdriver.pool.enabled} - reuse sessions across
+ *       tests (default false; every test starts its own browser)
+ *   <li>{@code WEBDRIVER_POOL_SIZE} / {@code webdriver.pool.size} - sessions kept per browser and
+ *       capability set (default 2)
+ *   <li>{@code WEBDRIVER_POOL_MAX_USES} / {@code webdriver.pool.max.uses} - tests a session serves
+ *       before it is replaced (default 20)
+ * </ul>
+ *
+ * <p>All idle sessions are quit by a shutdown hook.
+ */
+public final class WebDriverSessionPools {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(WebDriverSessionPools.class));
+
+  private static final int DEFAULT_SIZE = 2;
+  private static final int DEFAULT_MAX_USES = 20;
+
+  private static final Map<String, WebDriverSessionPool> POOLS = new ConcurrentHashMap<>();
+
+  static {
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(WebDriverSessionPools::closeAll, "webdriver-pool-shutdown"));
+  }
+
+  private WebDriverSessionPools() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Returns the pool for a browser and capability set, creating it on first use.
+   *
+   * @param key identifies the browser and capability set
+   * @param sessionFactory starts sessions for a new pool; ignored if the pool exists
+   * @return the shared pool
+   */
+  public static WebDriverSessionPool getPool(
+      String key, WebDriverSessionPool.SessionFactory sessionFactory) {
+    return POOLS.compute(
+        key,
+        (poolKey, pool) ->
+            pool == null || pool.isClosed() ? createPool(poolKey, sessionFactory) : pool);
+  }
+
+  /**
+   * Gives a session back to the pool it came from.
+   *
+   * @param webDriver the session
+   * @param failed true if the test using it failed; the session is quit instead of reused
+   * @return false if the session did not come from a pool, in which case the caller must quit it
+   */
+  public static boolean release(WebDriver webDriver, boolean failed) {
+    for (final WebDriverSessionPool pool : POOLS.values()) {
+      if (pool.release(webDriver, failed)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a metrics snapshot for every pool.
+   *
+   * @return one entry per pool
+   */
+  public static List<WebDriverSessionPoolMetrics> getMetrics() {
+    final List<WebDriverSessionPoolMetrics> metricsList = new ArrayList<>();
+    for (final WebDriverSessionPool pool : POOLS.values()) {
+      metricsList.add(pool.getMetrics());
+    }
+    return metricsList;
+  }
+
+  /** Closes every pool and logs its final metrics. */
+  public static void closeAll() {
+    for (final String key : new ArrayList<>(POOLS.keySet())) {
+      final WebDriverSessionPool pool = POOLS.remove(key);
+      if (pool != null) {
+        LOG.info("Closing WebDriver session pool {}", pool.getMetrics());
+        pool.close();
+      }
+    }
+  }
+
+  public static boolean isEnabled() {
+    return TuningConfig.getBoolean("WEBDRIVER_POOL_ENABLED", "webdriver.pool.enabled", false);
+  }
+
+  private static WebDriverSessionPool createPool(
+      String key, WebDriverSessionPool.SessionFactory sessionFactory) {
+    final WebDriverSessionPool pool =
+        new WebDriverSessionPool(
+            key,
+            sessionFactory,
+            TuningConfig.getInt("WEBDRIVER_POOL_SIZE", "webdriver.pool.size", DEFAULT_SIZE),
+            TuningConfig.getInt(
+                "WEBDRIVER_POOL_MAX_USES", "webdriver.pool.max.uses", DEFAULT_MAX_USES));
+    LOG.info("Created WebDriver session pool for {}", key);
+    return pool;
+  }
+}
@@ -38,6 +38,9 @@ private String getColumnNamePrefix() {
   private WebElement webElementTable = null;
   private List<WebElement> tableHeadingsList = null;
   private List<WebElement> tableRowsList = null;
+  private boolean snapshotMode = false;
+  private List<String> snapshotAttributeList = List.of();
+  private WebElementTableSnapshot snapshot = null;
 
   /**
    * @param webDriver
@@ -83,10 +86,17 @@ public boolean clickCell(int columnIndex, int row) {
    * @return
    */
   public boolean clickCell(String columnName, int row) {
-    populateTableObjects();
-    final WebElement webElementRow = getTableRowsList().get(row - 1);
-    final int column = getHeadingsNameLookup().get(columnName.toLowerCase(Locale.ENGLISH));
-    final WebElement webElementCell = webElementRow.findElement(By.xpath("./td[" + column + "]"));
+    final WebElement webElementCell;
+    if (isSnapshotMode()) {
+      setHeadingMaps();
+      webElementCell =
+          findCell(row, getHeadingsNameLookup().get(columnName.toLowerCase(Locale.ENGLISH)));
+    } else {
+      populateTableObjects();
+      final WebElement webElementRow = getTableRowsList().get(row - 1);
+      final int column = getHeadingsNameLookup().get(columnName.toLowerCase(Locale.ENGLISH));
+      webElementCell = webElementRow.findElement(By.xpath("./td[" + column + "]"));
+    }
     highlightWebElement(webElementCell);
     webElementCell.click();
     return true;
@@ -96,7 +106,10 @@ public boolean clickCell(String columnName, int row) {
    * @param fileName
    */
   public void exportTable(String fileName) {
-    populateTableObjects();
+    final WebElementTableSnapshot tableSnapshot = isSnapshotMode() ? getSnapshot() : null;
+    if (tableSnapshot == null) {
+      populateTableObjects();
+    }
     final StringBuilder stringBuilderHeadings = new StringBuilder();
     final StringBuilder stringBuilderRecords = new StringBuilder();
     final StringBuilder stringBuilder = new StringBuilder();
@@ -113,8 +126,11 @@ public void exportTable(String fileName) {
     for (int rowIndex = 1; rowIndex <= rowCount; rowIndex++) {
       stringBuilderRecords.append(Constants.NEWLINE);
       for (final int key : getHeadingsIndex().keySet()) {
-        String value = getCellText(rowIndex, key);
-        value = prepareForCSV(value);
+        String value =
+            tableSnapshot == null
+                ? getCellText(rowIndex, key)
+                : tableSnapshot.getCellText(rowIndex, key);
+        value = prepareForCSV(value == null ? "" : value);
         stringBuilderRecords.append(value + ",");
       }
     }
@@ -129,6 +145,18 @@ public void exportTable(String fileName) {
    * @return
    */
   public String getCellAttribute(int row, int columnIndex, String attribute) {
+    if (isSnapshotMode()) {
+      if (getSnapshot().hasAttribute(attribute)) {
+        return getSnapshot().getCellAttribute(row, columnIndex, attribute);
+      }
+      if (row > getSnapshot().getRowCount()) {
+        return null;
+      }
+      final WebElement webElementCell = findCell(row, columnIndex);
+      highlightWebElement(webElementCell);
+      return webElementCell.getAttribute(attribute);
+    }
+    populateTableObjects();
     final int rowIndex = row - 1;
     if (row > getTableRowsList().size()) {
       return null;
@@ -148,7 +176,7 @@ public String getCellAttribute(int row, int columnIndex, String attribute) {
    * @return
    */
   public String getCellAttribute(int row, String columnName, String attribute) {
-    populateTableObjects();
+    setHeadingMaps();
     return getCellAttribute(
         row, getHeadingsNameLookup().get(columnName.toLowerCase(Locale.ENGLISH)), attribute);
   }
@@ -159,6 +187,9 @@ public String getCellAttribute(int row, String columnName, String attribute) {
    * @return
    */
   public String getCellText(int row, int columnIndex) {
+    if (isSnapshotMode()) {
+      return getSnapshot().getCellText(row, columnIndex);
+    }
     populateTableObjects();
     final int rowIndex = row - 1;
     if (row > getTableRowsList().size()) {
@@ -178,10 +209,14 @@ public String getCellText(int row, int columnIndex) {
    * @return
    */
   public String getCellText(int row, String columnName) {
+    setHeadingMaps();
     return getCellText(row, getHeadingsNameLookup().get(columnName.toLowerCase(Locale.ENGLISH)));
   }
 
   public int getColumnCount() {
+    if (isSnapshotMode()) {
+      return getSnapshot().getHeadingList().size();
+    }
     setHeadingMaps();
     return getTableHeadingsList().size();
   }
@@ -244,6 +279,9 @@ private List<String> getColumnRowValues(By by) {
    * @return
    */
   public List<String> getColumnValues(int columnIndex) {
+    if (isSnapshotMode()) {
+      return getSnapshot().getColumnValues(columnIndex);
+    }
     return getColumnRowValues(
         By.xpath(getXpathRows() + getxPathCells().replace(".", "") + "[" + columnIndex + "]"));
   }
@@ -253,12 +291,13 @@ public List<String> getColumnValues(int columnIndex) {
    * @return
    */
   public List<String> getColumnValues(String columnName) {
-    final int columnIndex = getColumnIndex(columnName);
-    return getColumnRowValues(
-        By.xpath(getXpathRows() + getxPathCells().replace(".", "") + "[" + columnIndex + "]"));
+    return getColumnValues(getColumnIndex(columnName));
   }
 
   public int getRowCount() {
+    if (isSnapshotMode()) {
+      return getSnapshot().getRowCount();
+    }
     populateTableObjects();
     return getTableRowsList().size();
   }
@@ -276,10 +315,35 @@ private WebElement getRowIndex(int rowIndex) {
    * @return
    */
   public List<String> getRowValues(int row) {
+    if (isSnapshotMode()) {
+      return getSnapshot().getRowValues(row);
+    }
     return getColumnRowValues(
         By.xpath(getXpathRows() + "[" + row + "]" + getxPathCells().replace(".", "")));
   }
 
+  /**
+   * Finds a single cell on the page with one lookup, so snapshot mode does not load every row.
+   *
+   * @param row
+   * @param columnIndex
+   * @return
+   */
+  private WebElement findCell(int row, int columnIndex) {
+    setTable();
+    return getWebElementTable()
+        .findElement(
+            By.xpath(
+                getXpathRows()
+                    + "["
+                    + row
+                    + "]"
+                    + getxPathCells().replace(".", "")
+                    + "["
+                    + columnIndex
+                    + "]"));
+  }
+
   /**
    * @param xpath
    * @return
@@ -326,6 +390,16 @@ public boolean matchingRecordsExist(Map<String, String> map) {
    * @return
    */
   public List<Integer> matchingRecordsList(Map<String, String> map) {
+    if (isSnapshotMode()) {
+      setHeadingMaps();
+      final Map<Integer, String> columnValueMap = new HashMap<>();
+      for (final Map.Entry<String, String> entry : map.entrySet()) {
+        columnValueMap.put(
+            getHeadingsNameLookup().get(entry.getKey().toLowerCase(Locale.ENGLISH)),
+            entry.getValue());
+      }
+      return getSnapshot().matchingRecordsList(columnValueMap);
+    }
     populateTableObjects();
     final List<Integer> listRecordsSearch = new ArrayList<>();
     for (int record = 1; record <= getRowCount(); record++) {
@@ -370,22 +444,73 @@ public String prepareForCSV(String value) {
 
   public void reset() {
     this.resetTable = true;
+    this.snapshot = null;
+  }
+
+  /**
+   * Reads the whole table (headings, cell text and the snapshot attributes) in one script call and
+   * makes it the current snapshot. In snapshot mode the text and lookup methods read from it
+   * instead of the page, so call this after the table changes. {@link #clickCell} and attributes
+   * that were not captured look up the single cell on the page.
+   *
+   * @return the new snapshot
+   */
+  public WebElementTableSnapshot refreshSnapshot() {
+    setTable();
+    snapshot =
+        WebElementTableSnapshot.capture(
+            getJavascriptExecutor(),
+            getWebElementTable(),
+            getXpathHeadings(),
+            getXpathRows(),
+            getxPathCells(),
+            getSnapshotAttributeList());
+    applyHeadings(snapshot.getHeadingList());
+    setTableHeadingsList(null);
+    LOG.debug("refreshSnapshot: {}", snapshot);
+    return snapshot;
+  }
+
+  /**
+   * @return the current snapshot, taking one if there is none yet
+   */
+  public WebElementTableSnapshot getSnapshot() {
+    if (snapshot == null) {
+      refreshSnapshot();
+    }
+    return snapshot;
   }
 
   private void setHeadingMaps() {
+    if (isSnapshotMode()) {
+      // The heading maps are filled from the snapshot's headings.
+      getSnapshot();
+      return;
+    }
     setTable();
     if (!resetTable && getTableHeadingsList() != null) {
       return;
     }
     final List<WebElement> headings =
         getWebElementTable().findElements(By.xpath(getXpathHeadings()));
+    final List<String> headingTextList = new ArrayList<>();
+    for (final WebElement webElement : headings) {
+      highlightWebElement(webElement);
+      headingTextList.add(webElement.getText());
+    }
+    applyHeadings(headingTextList);
+    setTableHeadingsList(headings);
+  }
+
+  /**
+   * @param headingTextList
+   */
+  private void applyHeadings(List<String> headingTextList) {
     setHeadingsName(new HashMap<>());
     setHeadingsNameLookup(new HashMap<>());
     setHeadingsIndex(new HashMap<>());
-    for (int headingIndex = 0; headingIndex < headings.size(); headingIndex++) {
-      final WebElement webElement = headings.get(headingIndex);
-      highlightWebElement(webElement);
-      String columnName = webElement.getText();
+    for (int headingIndex = 0; headingIndex < headingTextList.size(); headingIndex++) {
+      String columnName = headingTextList.get(headingIndex);
       if (columnName.isEmpty()) {
         columnName = getColumnNamePrefix() + String.valueOf(headingIndex + 1);
       }
@@ -393,7 +518,6 @@ private void setHeadingMaps() {
       getHeadingsIndex().put(headingIndex + 1, columnName);
       getHeadingsNameLookup().put(columnName.toLowerCase(Locale.ENGLISH).trim(), headingIndex + 1);
     }
-    setTableHeadingsList(headings);
   }
 
   private void setRowList() {
@@ -419,6 +543,33 @@ public void setHighlightObjects(boolean highlightObjects) {
     this.highlightObjects = highlightObjects;
   }
 
+  public boolean isSnapshotMode() {
+    return snapshotMode;
+  }
+
+  /**
+   * Switches the text and lookup methods between the live page and an in-memory snapshot of the
+   * table (see {@link #refreshSnapshot()}).
+   *
+   * @param snapshotMode
+   */
+  public void setSnapshotMode(boolean snapshotMode) {
+    this.snapshotMode = snapshotMode;
+    this.snapshot = null;
+  }
+
+  public List<String> getSnapshotAttributeList() {
+    return snapshotAttributeList;
+  }
+
+  /**
+   * @param snapshotAttributeList cell attributes to capture with each snapshot
+   */
+  public void setSnapshotAttributeList(List<String> snapshotAttributeList) {
+    this.snapshotAttributeList = List.copyOf(snapshotAttributeList);
+    this.snapshot = null;
+  }
+
   public boolean isResetTable() {
     return resetTable;
   }
@@ -0,0 +1,305 @@
+package com.cjs.qa.selenium;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+/**
+ * An in-memory copy of an HTML table read in a single {@code executeScript} call.
+ *
+ * <p>Reading a table through WebElements costs at least one wire-protocol round trip per cell,
+ * which on a remote Selenium Grid makes a few hundred rows take minutes. {@link #capture} runs the
+ * table, heading, row and cell XPaths in the browser and returns the heading text, the text of
+ * every cell and any requested attributes at once. Values are stored by column, and the first
+ * lookup on a column builds a value-to-rows index so that repeated searches do not rescan it.
+ *
+ * <p>Rows and columns are 1-based, as in {@link WebElementTable}. Cell text is the browser's
+ * trimmed {@code innerText}, which normally matches {@link WebElement#getText()}; attributes are
+ * read with the DOM {@code getAttribute}, so unlike {@link WebElement#getAttribute(String)} they
+ * do not fall back to properties. A snapshot never changes; take a new one to see updates.
+ */
+public final class WebElementTableSnapshot {
+
+  private static final String SCRIPT =
+      """
+      var table = arguments[0];
+      var xpathHeadings = arguments[1];
+      var xpathRows = arguments[2];
+      var xPathCells = arguments[3];
+      var attributes = arguments[4];
+      function select(xpath, context) {
+        var result = document.evaluate(
+            xpath, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+        var nodes = [];
+        for (var index = 0; index < result.snapshotLength; index++) {
+          nodes.push(result.snapshotItem(index));
+        }
+        return nodes;
+      }
+      function text(node) {
+        return (node.innerText || node.textContent || '').trim();
+      }
+      var attributeValues = {};
+      attributes.forEach(function (name) { attributeValues[name] = []; });
+      var rows = [];
+      select(xpathRows, table).forEach(function (row) {
+        var cells = select(xPathCells, row);
+        rows.push(cells.map(text));
+        attributes.forEach(function (name) {
+          attributeValues[name].push(cells.map(function (cell) {
+            return cell.getAttribute(name);
+          }));
+        });
+      });
+      return {
+        headings: select(xpathHeadings, table).map(text),
+        rows: rows,
+        attributes: attributeValues
+      };
+      """;
+
+  private final List<String> headingList;
+  private final int rowCount;
+  // [column][row], both 0-based; null where a row has fewer cells than there are columns.
+  private final String[][] columnValues;
+  private final Map<String, String[][]> attributeValues;
+  private final Map<Integer, Map<String, List<Integer>>> columnIndexMap = new HashMap<>();
+
+  /**
+   * Creates a snapshot from row-major values.
+   *
+   * @param headingList heading text, one per column
+   * @param rowList cell text of each row
+   * @param attributeRowMap for each captured attribute, its value in every cell of every row
+   */
+  public WebElementTableSnapshot(
+      List<String> headingList,
+      List<List<String>> rowList,
+      Map<String, List<List<String>>> attributeRowMap) {
+    this.headingList = List.copyOf(headingList);
+    this.rowCount = rowList.size();
+    int columnCount = headingList.size();
+    for (final List<String> cellList : rowList) {
+      columnCount = Math.max(columnCount, cellList.size());
+    }
+    this.columnValues = toColumns(rowList, columnCount);
+    final Map<String, String[][]> attributeValueMap = new HashMap<>();
+    for (final Entry<String, List<List<String>>> entry : attributeRowMap.entrySet()) {
+      attributeValueMap.put(entry.getKey(), toColumns(entry.getValue(), columnCount));
+    }
+    this.attributeValues = attributeValueMap;
+  }
+
+  /**
+   * Reads a table in one script call.
+   *
+   * @param javascriptExecutor the driver
+   * @param webElementTable the table element the other XPaths are relative to
+   * @param xpathHeadings heading cells, relative to the table
+   * @param xpathRows rows, relative to the table
+   * @param xPathCells cells, relative to a row
+   * @param attributeList cell attributes to capture as well as the text
+   * @return the snapshot
+   */
+  public static WebElementTableSnapshot capture(
+      JavascriptExecutor javascriptExecutor,
+      WebElement webElementTable,
+      String xpathHeadings,
+      String xpathRows,
+      String xPathCells,
+      List<String> attributeList) {
+    final Object result =
+        javascriptExecutor.executeScript(
+            SCRIPT, webElementTable, xpathHeadings, xpathRows, xPathCells, attributeList);
+    if (!(result instanceof Map<?, ?> resultMap)) {
+      throw new IllegalStateException("Unexpected table snapshot result: " + result);
+    }
+    final Map<String, List<List<String>>> attributeRowMap = new HashMap<>();
+    if (resultMap.get("attributes") instanceof Map<?, ?> attributeMap) {
+      for (final Entry<?, ?> entry : attributeMap.entrySet()) {
+        attributeRowMap.put(String.valueOf(entry.getKey()), toRows(entry.getValue()));
+      }
+    }
+    return new WebElementTableSnapshot(
+        toStrings(resultMap.get("headings")), toRows(resultMap.get("rows")), attributeRowMap);
+  }
+
+  public List<String> getHeadingList() {
+    return headingList;
+  }
+
+  public int getColumnCount() {
+    return columnValues.length;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * @param attribute
+   * @return true if the attribute was captured with the snapshot
+   */
+  public boolean hasAttribute(String attribute) {
+    return attributeValues.containsKey(attribute);
+  }
+
+  /**
+   * @param row
+   * @param column
+   * @return the cell text, or null if there is no such cell
+   */
+  public String getCellText(int row, int column) {
+    return getValue(columnValues, row, column);
+  }
+
+  /**
+   * @param row
+   * @param column
+   * @param attribute
+   * @return the attribute value, or null if there is no such cell or attribute
+   */
+  public String getCellAttribute(int row, int column, String attribute) {
+    return getValue(attributeValues.get(attribute), row, column);
+  }
+
+  /**
+   * @param row
+   * @return the text of each cell in the row
+   */
+  public List<String> getRowValues(int row) {
+    final List<String> valueList = new ArrayList<>();
+    if (row < 1 || row > rowCount) {
+      return valueList;
+    }
+    for (final String[] values : columnValues) {
+      if (values[row - 1] != null) {
+        valueList.add(values[row - 1]);
+      }
+    }
+    return valueList;
+  }
+
+  /**
+   * @param column
+   * @return the text of the column's cell in each row that has one
+   */
+  public List<String> getColumnValues(int column) {
+    final List<String> valueList = new ArrayList<>();
+    if (column < 1 || column > columnValues.length) {
+      return valueList;
+    }
+    for (final String value : columnValues[column - 1]) {
+      if (value != null) {
+        valueList.add(value);
+      }
+    }
+    return valueList;
+  }
+
+  /**
+   * Finds the rows whose cells equal all of the given values.
+   *
+   * @param columnValueMap column number to required cell text
+   * @return matching row numbers in ascending order
+   */
+  public List<Integer> matchingRecordsList(Map<Integer, String> columnValueMap) {
+    List<Integer> recordList = null;
+    for (final Entry<Integer, String> entry : columnValueMap.entrySet()) {
+      final List<Integer> matchList =
+          getColumnIndex(entry.getKey()).getOrDefault(entry.getValue(), List.of());
+      if (recordList == null) {
+        recordList = new ArrayList<>(matchList);
+      } else {
+        recordList.retainAll(new HashSet<>(matchList));
+      }
+      if (recordList.isEmpty()) {
+        return recordList;
+      }
+    }
+    if (recordList == null) {
+      recordList = new ArrayList<>(rowCount);
+      for (int row = 1; row <= rowCount; row++) {
+        recordList.add(row);
+      }
+    }
+    return recordList;
+  }
+
+  @Override
+  public String toString() {
+    return "WebElementTableSnapshot[columns:["
+        + getColumnCount()
+        + "], rows:["
+        + rowCount
+        + "], attributes:"
+        + attributeValues.keySet()
+        + "]";
+  }
+
+  /** Builds (once per column) the map from cell text to the rows holding it. */
+  private Map<String, List<Integer>> getColumnIndex(int column) {
+    if (column < 1 || column > columnValues.length) {
+      return Map.of();
+    }
+    return columnIndexMap.computeIfAbsent(
+        column,
+        key -> {
+          final Map<String, List<Integer>> indexMap = new HashMap<>();
+          final String[] values = columnValues[column - 1];
+          for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+            if (values[rowIndex] != null) {
+              indexMap
+                  .computeIfAbsent(values[rowIndex], value -> new ArrayList<>())
+                  .add(rowIndex + 1);
+            }
+          }
+          return Collections.unmodifiableMap(indexMap);
+        });
+  }
+
+  private String getValue(String[][] values, int row, int column) {
+    if (values == null || row < 1 || row > rowCount || column < 1 || column > values.length) {
+      return null;
+    }
+    return values[column - 1][row - 1];
+  }
+
+  private static String[][] toColumns(List<List<String>> rowList, int columnCount) {
+    final String[][] values = new String[columnCount][rowList.size()];
+    for (int rowIndex = 0; rowIndex < rowList.size(); rowIndex++) {
+      final List<String> cellList = rowList.get(rowIndex);
+      for (int columnIndex = 0; columnIndex < cellList.size(); columnIndex++) {
+        values[columnIndex][rowIndex] = cellList.get(columnIndex);
+      }
+    }
+    return values;
+  }
+
+  private static List<List<String>> toRows(Object object) {
+    final List<List<String>> rowList = new ArrayList<>();
+    if (object instanceof List<?> list) {
+      for (final Object row : list) {
+        rowList.add(toStrings(row));
+      }
+    }
+    return rowList;
+  }
+
+  private static List<String> toStrings(Object object) {
+    final List<String> valueList = new ArrayList<>();
+    if (object instanceof List<?> list) {
+      for (final Object value : list) {
+        valueList.add(value == null ? null : String.valueOf(value));
+      }
+    }
+    return valueList;
+  }
+}
@@ -1,11 +1,13 @@
 package com.cjs.qa.utilities;
 
-import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
@@ -13,6 +15,9 @@
 /**
  * Utility class for Allure reporting enhancements Provides screenshot capture, logging, and
  * attachment functionality
+ *
+ * <p>Screenshots, page source and browser logs are taken on the calling thread and written to the
+ * report in the background by {@link ArtifactCapture}.
  */
 public final class AllureHelper {
 
@@ -32,8 +37,15 @@ private AllureHelper() {
   public static void captureScreenshot(WebDriver driver, String name) {
     if (driver != null) {
       try {
-        byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-        Allure.addAttachment(name, "image/png", new ByteArrayInputStream(screenshot), ".png");
+        final long startNanos = System.nanoTime();
+        final byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        ArtifactCapture.attach(
+            "screenshot",
+            name,
+            "image/png",
+            ".png",
+            System.nanoTime() - startNanos,
+            () -> screenshot);
         LOGGER.info("📸 Screenshot captured: {}", name);
       } catch (Exception e) {
         LOGGER.error("⚠️  Failed to capture screenshot: {}", e.getMessage());
@@ -131,8 +143,15 @@ public static void logBrowserInfo(WebDriver driver) {
   public static void attachPageSource(WebDriver driver) {
     if (driver != null) {
       try {
-        String pageSource = driver.getPageSource();
-        attachHtml("Page Source", pageSource);
+        final long startNanos = System.nanoTime();
+        final String pageSource = driver.getPageSource();
+        ArtifactCapture.attach(
+            "page-source",
+            "Page Source",
+            "text/html",
+            ".html",
+            System.nanoTime() - startNanos,
+            () -> pageSource.getBytes(StandardCharsets.UTF_8));
         LOGGER.info("📄 Page source attached to Allure");
       } catch (Exception e) {
         LOGGER.error("⚠️  Failed to attach page source: {}", e.getMessage());
@@ -148,12 +167,20 @@ public static void attachPageSource(WebDriver driver) {
   public static void attachBrowserLogs(WebDriver driver) {
     if (driver != null) {
       try {
-        var logs = driver.manage().logs().get("browser");
-        StringBuilder logBuilder = new StringBuilder();
-        logs.forEach((log) -> logBuilder.append(log.toString()).append("\n"));
-
-        if (logBuilder.length() > 0) {
-          attachText("Browser Console Logs", logBuilder.toString());
+        final long startNanos = System.nanoTime();
+        final List<LogEntry> logs = driver.manage().logs().get("browser").getAll();
+        if (!logs.isEmpty()) {
+          ArtifactCapture.attach(
+              "browser-logs",
+              "Browser Console Logs",
+              "text/plain",
+              ".txt",
+              System.nanoTime() - startNanos,
+              () -> {
+                StringBuilder logBuilder = new StringBuilder();
+                logs.forEach((log) -> logBuilder.append(log.toString()).append("\n"));
+                return logBuilder.toString().getBytes(StandardCharsets.UTF_8);
+              });
           LOGGER.info("📋 Browser logs attached to Allure");
         }
       } catch (Exception e) {
@@ -0,0 +1,305 @@
+package com.cjs.qa.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+/**
+ * Background pipeline for test artifacts (screenshots, page source, browser logs).
+ *
+ * <p>The test thread only takes the raw data from the browser; formatting, file writes and Allure
+ * attachment writes run on a small worker pool so that teardown of a failed test does not wait for
+ * the disk. Allure attachments are registered with the running test or step on the calling thread
+ * ({@link AllureLifecycle#prepareAttachment}) and their content is written by the worker ({@link
+ * AllureLifecycle#writeAttachment}), so they end up in the right place in the report.
+ *
+ * <p>The queue is bounded: when it is full the calling thread does the work itself, which slows
+ * tests down instead of letting unwritten screenshots pile up in memory. {@link #flush(Duration)}
+ * waits for everything submitted so far; {@link ArtifactCaptureListener} calls it when a suite
+ * finishes and a shutdown hook calls it before the JVM exits.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code ARTIFACT_CAPTURE_ASYNC} / {@code artifact.capture.async} - use the worker pool;
+ *       false writes on the calling thread (true)
+ *   <li>{@code ARTIFACT_CAPTURE_THREADS} / {@code artifact.capture.threads} - worker threads (2)
+ *   <li>{@code ARTIFACT_CAPTURE_QUEUE_SIZE} / {@code artifact.capture.queue.size} - artifacts
+ *       waiting to be written before callers write their own (64)
+ *   <li>{@code ARTIFACT_CAPTURE_FLUSH_SECONDS} / {@code artifact.capture.flush.seconds} - longest
+ *       wait for pending artifacts at suite end and JVM exit (60)
+ * </ul>
+ */
+public final class ArtifactCapture {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(ArtifactCapture.class));
+
+  private static final boolean ASYNC =
+      TuningConfig.getBoolean("ARTIFACT_CAPTURE_ASYNC", "artifact.capture.async", true);
+  private static final int THREADS =
+      TuningConfig.getInt("ARTIFACT_CAPTURE_THREADS", "artifact.capture.threads", 2);
+  private static final int QUEUE_SIZE =
+      TuningConfig.getInt("ARTIFACT_CAPTURE_QUEUE_SIZE", "artifact.capture.queue.size", 64);
+  private static final long FLUSH_SECONDS =
+      TuningConfig.getLong(
+          "ARTIFACT_CAPTURE_FLUSH_SECONDS", "artifact.capture.flush.seconds", 60L);
+
+  private static final Map<String, ArtifactStats> STATS_MAP = new ConcurrentHashMap<>();
+  private static final Set<CompletableFuture<Void>> PENDING = ConcurrentHashMap.newKeySet();
+  private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+  static {
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(ArtifactCapture::flush, "artifact-capture-shutdown"));
+  }
+
+  /** Produces the bytes of an artifact on a worker thread. */
+  @FunctionalInterface
+  public interface ArtifactBody {
+    /**
+     * @return the artifact content
+     * @throws IOException if the content cannot be produced
+     */
+    byte[] get() throws IOException;
+  }
+
+  private ArtifactCapture() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Adds an attachment to the running Allure test or step and writes its content in the
+   * background.
+   *
+   * @param kind artifact kind for metrics, e.g. "screenshot"
+   * @param name attachment name shown in the report
+   * @param type MIME type
+   * @param extension file extension including the dot
+   * @param captureNanos time the caller spent taking the raw data from the browser
+   * @param body produces the content; called on a worker thread
+   * @return completes when the attachment is written
+   */
+  public static CompletableFuture<Void> attach(
+      String kind,
+      String name,
+      String type,
+      String extension,
+      long captureNanos,
+      ArtifactBody body) {
+    final AllureLifecycle lifecycle = Allure.getLifecycle();
+    final String source = lifecycle.prepareAttachment(name, type, extension);
+    return submit(
+        kind,
+        name,
+        captureNanos,
+        () -> {
+          final byte[] bytes = body.get();
+          lifecycle.writeAttachment(source, new ByteArrayInputStream(bytes));
+          return bytes.length;
+        });
+  }
+
+  /**
+   * Writes an artifact to a file in the background, creating missing directories.
+   *
+   * @param kind artifact kind for metrics, e.g. "screenshot"
+   * @param file the file to write
+   * @param captureNanos time the caller spent taking the raw data from the browser
+   * @param body produces the content; called on a worker thread
+   * @return completes when the file is written
+   */
+  public static CompletableFuture<Void> writeFile(
+      String kind, File file, long captureNanos, ArtifactBody body) {
+    return submit(
+        kind,
+        file.getName(),
+        captureNanos,
+        () -> {
+          final byte[] bytes = body.get();
+          final File parent = file.getAbsoluteFile().getParentFile();
+          if (parent != null) {
+            Files.createDirectories(parent.toPath());
+          }
+          Files.write(file.toPath(), bytes);
+          return bytes.length;
+        });
+  }
+
+  /**
+   * Waits until every artifact submitted so far is written.
+   *
+   * @param timeout longest time to wait
+   * @return true if nothing is pending any more
+   */
+  public static boolean flush(Duration timeout) {
+    final CompletableFuture<?>[] pending = PENDING.toArray(new CompletableFuture<?>[0]);
+    if (pending.length == 0) {
+      return true;
+    }
+    try {
+      CompletableFuture.allOf(pending).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final ExecutionException e) {
+      // Failures are logged and counted per artifact.
+    } catch (final TimeoutException e) {
+      LOG.warn("{} artifacts still being written after {}", PENDING.size(), timeout);
+      return false;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Waits up to {@code ARTIFACT_CAPTURE_FLUSH_SECONDS} for pending artifacts.
+   *
+   * @return true if nothing is pending any more
+   */
+  public static boolean flush() {
+    return flush(Duration.ofSeconds(FLUSH_SECONDS));
+  }
+
+  /**
+   * Returns a point-in-time snapshot of the counters of every artifact kind.
+   *
+   * @return metrics per kind
+   */
+  public static List<ArtifactCaptureMetrics> getMetrics() {
+    final List<ArtifactCaptureMetrics> metricsList = new ArrayList<>();
+    for (final Map.Entry<String, ArtifactStats> entry : STATS_MAP.entrySet()) {
+      metricsList.add(entry.getValue().getMetrics(entry.getKey()));
+    }
+    return metricsList;
+  }
+
+  /** Logs the counters of every artifact kind. */
+  public static void logMetrics() {
+    for (final ArtifactCaptureMetrics metrics : getMetrics()) {
+      LOG.info("Artifact capture: {}", metrics);
+    }
+  }
+
+  private static CompletableFuture<Void> submit(
+      String kind, String name, long captureNanos, ArtifactWrite artifactWrite) {
+    final ArtifactStats artifactStats = STATS_MAP.computeIfAbsent(kind, key -> new ArtifactStats());
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    final long submitNanos = System.nanoTime();
+    final Runnable job =
+        () -> {
+          final long startNanos = System.nanoTime();
+          try {
+            final int bytes = artifactWrite.write();
+            artifactStats.recordWritten(
+                captureNanos, startNanos - submitNanos, System.nanoTime() - startNanos, bytes);
+            future.complete(null);
+          } catch (final Exception e) {
+            artifactStats.failed.increment();
+            LOG.error("Failed to write {} artifact [{}]: {}", kind, name, e.getMessage());
+            future.completeExceptionally(e);
+          }
+        };
+    if (!ASYNC) {
+      job.run();
+      return future;
+    }
+    PENDING.add(future);
+    future.whenComplete((result, throwable) -> PENDING.remove(future));
+    try {
+      EXECUTOR.execute(job);
+    } catch (final RejectedExecutionException e) {
+      // Queue full or shutting down: write on the calling thread.
+      artifactStats.inline.increment();
+      job.run();
+    }
+    return future;
+  }
+
+  private static ThreadPoolExecutor createExecutor() {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    final int threads = Math.max(1, THREADS);
+    final ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, QUEUE_SIZE)),
+            runnable -> {
+              final Thread thread =
+                  new Thread(runnable, "artifact-capture-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    return threadPoolExecutor;
+  }
+
+  @FunctionalInterface
+  private interface ArtifactWrite {
+    /**
+     * @return bytes written
+     */
+    int write() throws IOException;
+  }
+
+  /** Counters for one artifact kind. */
+  private static final class ArtifactStats {
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder inline = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder captureNanos = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+
+    private void recordWritten(long capture, long queue, long write, int size) {
+      written.increment();
+      bytes.add(size);
+      captureNanos.add(capture);
+      queueNanos.add(queue);
+      writeNanos.add(write);
+      maxQueueNanos.accumulateAndGet(queue, Math::max);
+      maxWriteNanos.accumulateAndGet(write, Math::max);
+    }
+
+    private ArtifactCaptureMetrics getMetrics(String kind) {
+      return new ArtifactCaptureMetrics(
+          kind,
+          written.sum(),
+          failed.sum(),
+          inline.sum(),
+          bytes.sum(),
+          captureNanos.sum(),
+          queueNanos.sum(),
+          maxQueueNanos.get(),
+          writeNanos.sum(),
+          maxWriteNanos.get());
+    }
+  }
+}
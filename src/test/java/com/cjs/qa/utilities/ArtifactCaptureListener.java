@@ -0,0 +1,23 @@
+package com.cjs.qa.utilities;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Waits for {@link ArtifactCapture} to write pending screenshots and attachments when a TestNG
+ * suite finishes, so that the Allure results are complete before the report is generated.
+ *
+ * <pre>{@code
+ * <listeners>
+ *     <listener class-name="com.cjs.qa.utilities.ArtifactCaptureListener"/>
+ * </listeners>
+ * }</pre>
+ */
+public class ArtifactCaptureListener implements ISuiteListener {
+
+  @Override
+  public void onFinish(ISuite suite) {
+    ArtifactCapture.flush();
+    ArtifactCapture.logMetrics();
+  }
+}
@@ -0,0 +1,78 @@
+package com.cjs.qa.utilities;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of {@link ArtifactCapture} counters for one artifact kind.
+ *
+ * @param kind artifact kind, e.g. "screenshot"
+ * @param written artifacts written
+ * @param failed artifacts that could not be written
+ * @param inline artifacts written on the calling thread because the queue was full
+ * @param bytes bytes written
+ * @param captureNanos cumulative time test threads spent taking the raw data
+ * @param queueNanos cumulative time artifacts waited for a worker
+ * @param maxQueueNanos longest single wait for a worker
+ * @param writeNanos cumulative time spent formatting and writing
+ * @param maxWriteNanos longest single write
+ */
+public record ArtifactCaptureMetrics(
+    String kind,
+    long written,
+    long failed,
+    long inline,
+    long bytes,
+    long captureNanos,
+    long queueNanos,
+    long maxQueueNanos,
+    long writeNanos,
+    long maxWriteNanos) {
+
+  /**
+   * @return average time a test thread spent per artifact in milliseconds
+   */
+  public double averageCaptureMillis() {
+    return averageMillis(captureNanos);
+  }
+
+  /**
+   * @return average wait for a worker in milliseconds
+   */
+  public double averageQueueMillis() {
+    return averageMillis(queueNanos);
+  }
+
+  /**
+   * @return average write time in milliseconds
+   */
+  public double averageWriteMillis() {
+    return averageMillis(writeNanos);
+  }
+
+  private double averageMillis(long nanos) {
+    if (written == 0) {
+      return 0;
+    }
+    return (double) nanos / written / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Kind:[%s], Written:[%d], Failed:[%d], Inline:[%d], Bytes:[%d], AvgCaptureMs:[%.1f], \
+    AvgQueueMs:[%.1f], MaxQueueMs:[%d], AvgWriteMs:[%.1f], MaxWriteMs:[%d]
+    """
+        .formatted(
+            kind,
+            written,
+            failed,
+            inline,
+            bytes,
+            averageCaptureMillis(),
+            averageQueueMillis(),
+            TimeUnit.NANOSECONDS.toMillis(maxQueueNanos),
+            averageWriteMillis(),
+            TimeUnit.NANOSECONDS.toMillis(maxWriteNanos))
+        .trim();
+  }
+}
@@ -0,0 +1,208 @@
+package com.cjs.qa.utilities;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Class, method and line of a frame on the current call stack, found with a {@link StackWalker}.
+ *
+ * <p>Creating a {@link Throwable} or calling {@link Thread#getStackTrace()} builds every frame of
+ * the stack; {@link #of(int)} and {@link #current()} walk only down to the frame they return.
+ *
+ * <p>Caller names that are only logged should not be looked up at all when the level is disabled.
+ * The values returned by {@link #logClassMethodName()}, {@link #logClassMethodDebugName()}, {@link
+ * #logCallingMethodName()} and {@link #deferred(int, Function)} look up the frame when they are
+ * first rendered, which {@link GuardedLogger} only does after its level check:
+ *
+ * <pre>
+ * LOG.debug("{} - {}", CallerContext.logClassMethodName(), value);
+ * </pre>
+ *
+ * <p>They find the frame relative to the {@link GuardedLogger} call that renders them, so they must
+ * be passed straight to a {@link GuardedLogger} method and not kept for later use.
+ *
+ * @param className the fully qualified class name
+ * @param methodName the method name
+ * @param fileName the source file name; null if unknown
+ * @param lineNumber the line number; negative if unknown, -2 for a native method
+ */
+public record CallerContext(String className, String methodName, String fileName, int lineNumber) {
+
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+  private static final String GUARDED_LOGGER = GuardedLogger.class.getName();
+  private static final String UNKNOWN = "Unknown";
+  private static final Map<String, String> SIMPLE_CLASS_NAME_MAP = new ConcurrentHashMap<>();
+
+  /**
+   * @return the method that called this method
+   */
+  public static CallerContext current() {
+    return walk(2);
+  }
+
+  /**
+   * Returns a frame of the current call stack.
+   *
+   * @param depth 0 for the method that calls this method, 1 for its caller, and so on
+   * @return the frame; a context with class and method "Unknown" if the stack is not that deep
+   */
+  public static CallerContext of(int depth) {
+    return walk(depth + 2);
+  }
+
+  /**
+   * Returns a value that is looked up when it is logged.
+   *
+   * @param depth 0 for the method with the log statement, 1 for its caller, and so on
+   * @param formatter renders the frame
+   * @return the value, to be passed as a parameter of a {@link GuardedLogger} method
+   */
+  public static Deferred deferred(int depth, Function<CallerContext, String> formatter) {
+    return new Deferred(depth, formatter);
+  }
+
+  /**
+   * @return "Class.method" of the log statement, when logged
+   * @see JavaHelpers#getCurrentClassMethodName()
+   */
+  public static Deferred logClassMethodName() {
+    return deferred(0, CallerContext::getClassMethodName);
+  }
+
+  /**
+   * @return "Class.method(Class.java:line)" of the log statement, when logged
+   * @see JavaHelpers#getCurrentClassMethodDebugName()
+   */
+  public static Deferred logClassMethodDebugName() {
+    return deferred(0, CallerContext::getClassMethodDebugName);
+  }
+
+  /**
+   * @return the method {@link JavaHelpers#getCallingMethodName()} returns when called in place of
+   *     the log statement, when logged
+   */
+  public static Deferred logCallingMethodName() {
+    return deferred(2, CallerContext::methodName);
+  }
+
+  private static CallerContext walk(int skipFrames) {
+    return STACK_WALKER
+        .walk(stream -> stream.skip(skipFrames).findFirst())
+        .map(CallerContext::from)
+        .orElseGet(CallerContext::unknown);
+  }
+
+  private static Optional<CallerContext> walkFromLogger(int depth) {
+    return STACK_WALKER.walk(
+        stream ->
+            stream
+                .dropWhile(stackFrame -> !GUARDED_LOGGER.equals(stackFrame.getClassName()))
+                .dropWhile(stackFrame -> GUARDED_LOGGER.equals(stackFrame.getClassName()))
+                .skip(depth)
+                .findFirst()
+                .map(CallerContext::from));
+  }
+
+  private static CallerContext from(StackFrame stackFrame) {
+    return new CallerContext(
+        stackFrame.getClassName(),
+        stackFrame.getMethodName(),
+        stackFrame.getFileName(),
+        stackFrame.isNativeMethod() ? -2 : stackFrame.getLineNumber());
+  }
+
+  private static CallerContext unknown() {
+    return new CallerContext(UNKNOWN, UNKNOWN, null, -1);
+  }
+
+  /**
+   * @return the class name without its package
+   */
+  public String getSimpleClassName() {
+    return SIMPLE_CLASS_NAME_MAP.computeIfAbsent(
+        className, name -> name.substring(name.lastIndexOf('.') + 1));
+  }
+
+  /**
+   * @return "Class.method"
+   */
+  public String getClassMethodName() {
+    return getSimpleClassName() + '.' + methodName;
+  }
+
+  /**
+   * @return "package.Class.method"
+   */
+  public String getPackageClassMethodName() {
+    return className + '.' + methodName;
+  }
+
+  /**
+   * @return "method(Class.java:line)"
+   */
+  public String getMethodDebugName() {
+    return methodName + '(' + getSource() + ')';
+  }
+
+  /**
+   * @return "Class.method(Class.java:line)"
+   */
+  public String getClassMethodDebugName() {
+    return getSimpleClassName() + '.' + getMethodDebugName();
+  }
+
+  /**
+   * @return the file and line as {@link StackTraceElement#toString()} shows them
+   */
+  private String getSource() {
+    if (lineNumber == -2) {
+      return "Native Method";
+    }
+    if (fileName == null) {
+      return "Unknown Source";
+    }
+    return lineNumber >= 0 ? fileName + ':' + lineNumber : fileName;
+  }
+
+  /**
+   * @return "package.Class.method(Class.java:line)", like {@link StackTraceElement#toString()}
+   */
+  @Override
+  public String toString() {
+    return className + '.' + getMethodDebugName();
+  }
+
+  /**
+   * A caller name that is looked up the first time it is rendered, from {@link #get()} or {@link
+   * #toString()}; later calls return the same text.
+   */
+  public static final class Deferred implements Supplier<String> {
+    private final int depth;
+    private final Function<CallerContext, String> formatter;
+    private volatile String value;
+
+    private Deferred(int depth, Function<CallerContext, String> formatter) {
+      this.depth = depth;
+      this.formatter = formatter;
+    }
+
+    @Override
+    public String get() {
+      String result = value;
+      if (result == null) {
+        result = walkFromLogger(depth).map(formatter).orElse(UNKNOWN);
+        value = result;
+      }
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      return get();
+    }
+  }
+}
@@ -4,9 +4,13 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.apache.logging.log4j.LogManager;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Row;
@@ -15,6 +19,9 @@
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.testng.annotations.DataProvider;
 
+import com.cjs.qa.core.QAException;
+import com.cjs.qa.microsoft.excel.xlsx.XLSXStreamReader;
+
 /**
  * Excel Data Provider Utility
  *
@@ -37,6 +44,17 @@
  *     // Test implementation
  * }
  * }</pre>
+ *
+ * <p>.xlsx files are read with {@link XLSXStreamReader}, which parses the sheet XML row by row
+ * instead of loading the workbook; .xls files are read with {@link WorkbookFactory}. For large
+ * sheets, {@link #iterateExcel(String, String, boolean)} hands rows to TestNG one at a time:
+ *
+ * <pre>{@code
+ * @DataProvider(name = "loginData")
+ * public Iterator<Object[]> getLoginData() {
+ *     return ExcelDataProvider.iterateExcel("test-data/login-scenarios.xlsx", "Sheet1", true);
+ * }
+ * }</pre>
  */
 public final class ExcelDataProvider {
 
@@ -72,8 +90,67 @@ public static Object[][] readExcel(String filePath, String sheetName, boolean sk
 
     List<Object[]> dataList = new ArrayList<>();
 
-    try (InputStream inputStream = getInputStream(filePath);
-        Workbook workbook = WorkbookFactory.create(inputStream)) {
+    try (InputStream inputStream = FileMagic.prepareToCheckMagic(getInputStream(filePath))) {
+      if (FileMagic.valueOf(inputStream) == FileMagic.OOXML) {
+        try (XLSXStreamReader xlsxStreamReader = new XLSXStreamReader(inputStream)) {
+          dataList = xlsxStreamReader.readRows(sheetName, skipHeaderRow);
+        }
+      } else {
+        readWorkbook(inputStream, filePath, sheetName, skipHeaderRow, dataList);
+      }
+      LOG.info("Successfully read {} rows from Excel file", dataList.size());
+    } catch (Exception | QAException e) {
+      LOG.error("Error reading Excel file: {}", filePath, e);
+      throw new RuntimeException("Failed to read Excel file: " + filePath, e);
+    }
+
+    return dataList.toArray(new Object[0][]);
+  }
+
+  /**
+   * Reads an Excel file lazily for a TestNG DataProvider returning {@code Iterator<Object[]>}.
+   *
+   * <p>For .xlsx files each row is parsed only when TestNG asks for the next invocation, so the
+   * sheet is never held in memory; the file is closed once the last row has been returned. .xls
+   * files are read completely up front.
+   *
+   * @param filePath Path to Excel file (relative to project root or absolute path)
+   * @param sheetName Name of the sheet to read (null or empty for first sheet)
+   * @param skipHeaderRow If true, skips the first row (header row)
+   * @return iterator over the test data sets
+   */
+  public static Iterator<Object[]> iterateExcel(
+      String filePath, String sheetName, boolean skipHeaderRow) {
+    LOG.info(
+        "Streaming Excel file: {} (Sheet: {})", filePath, sheetName != null ? sheetName : "first");
+    XLSXStreamReader xlsxStreamReader = null;
+    try {
+      final InputStream inputStream = FileMagic.prepareToCheckMagic(getInputStream(filePath));
+      try (inputStream) {
+        if (FileMagic.valueOf(inputStream) != FileMagic.OOXML) {
+          return Arrays.asList(readExcel(filePath, sheetName, skipHeaderRow)).iterator();
+        }
+        xlsxStreamReader = new XLSXStreamReader(inputStream);
+      }
+      return new ClosingIterator(xlsxStreamReader, xlsxStreamReader.rows(sheetName, skipHeaderRow));
+    } catch (Exception | QAException e) {
+      if (xlsxStreamReader != null) {
+        xlsxStreamReader.close();
+      }
+      LOG.error("Error reading Excel file: {}", filePath, e);
+      throw new RuntimeException("Failed to read Excel file: " + filePath, e);
+    }
+  }
+
+  /** Reads a sheet of a workbook that is not .xlsx (e.g. .xls) through the workbook model. */
+  private static void readWorkbook(
+      InputStream inputStream,
+      String filePath,
+      String sheetName,
+      boolean skipHeaderRow,
+      List<Object[]> dataList)
+      throws IOException {
+    try (Workbook workbook = WorkbookFactory.create(inputStream)) {
       Sheet sheet;
       if (sheetName == null || sheetName.trim().isEmpty()) {
         sheet = workbook.getSheetAt(0);
@@ -113,14 +190,7 @@ public static Object[][] readExcel(String filePath, String sheetName, boolean sk
           LOG.debug("Read row {}: {} columns", rowIndex, rowData.size());
         }
       }
-
-      LOG.info("Successfully read {} rows from Excel file", dataList.size());
-    } catch (Exception e) {
-      LOG.error("Error reading Excel file: {}", filePath, e);
-      throw new RuntimeException("Failed to read Excel file: " + filePath, e);
     }
-
-    return dataList.toArray(new Object[0][]);
   }
 
   /**
@@ -211,4 +281,46 @@ private static Object getCellValue(Cell cell) {
   public static Object[][] provide(String filePath, String sheetName) {
     return readExcel(filePath, sheetName);
   }
+
+  /** Closes the stream reader once TestNG has taken the last row. */
+  private static final class ClosingIterator implements Iterator<Object[]> {
+    private final XLSXStreamReader xlsxStreamReader;
+    private final Iterator<Object[]> rowIterator;
+    private boolean closed;
+
+    private ClosingIterator(XLSXStreamReader xlsxStreamReader, Iterator<Object[]> rowIterator) {
+      this.xlsxStreamReader = xlsxStreamReader;
+      this.rowIterator = rowIterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (closed) {
+        return false;
+      }
+      try {
+        if (rowIterator.hasNext()) {
+          return true;
+        }
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+      close();
+      return false;
+    }
+
+    @Override
+    public Object[] next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return rowIterator.next();
+    }
+
+    private void close() {
+      closed = true;
+      xlsxStreamReader.close();
+    }
+  }
 }
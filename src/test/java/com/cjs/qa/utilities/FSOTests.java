@@ -171,6 +171,7 @@ public static void fileDelete(File file) {
       }
     } else {
       // if file, then delete it
+      FileAppender.close(file.getPath());
       file.delete();
     }
   }
@@ -303,6 +304,9 @@ public static String fileValidateName(String filePathName) {
   }
 
   /**
+   * Opens, writes and closes the file on every call; use {@link FileAppender} for files that are
+   * appended to a line at a time.
+   *
    * @param filePathName
    * @param fileContent
    * @param append
@@ -311,6 +315,8 @@ public static void fileWrite(String filePathName, String fileContent, boolean ap
     final String folderName =
         filePathName.substring(0, filePathName.lastIndexOf(Constants.DELIMETER_PATH));
     folderCreate(folderName);
+    // Keep the order of text still buffered by FileAppender.
+    FileAppender.flush(filePathName);
     final File file = new File(filePathName);
     try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(file, append))) {
       if (append) {
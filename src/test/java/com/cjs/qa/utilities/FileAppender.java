@@ -0,0 +1,238 @@
+package com.cjs.qa.utilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Buffered appends to log files that are written a line at a time.
+ *
+ * <p>{@link FSOTests#fileWrite(String, String, boolean)} creates the folder, opens the file, writes
+ * and closes it on every call. The appender keeps one open channel per file and collects text in
+ * memory; the buffer is written when it reaches {@code FILE_APPENDER_BUFFER_SIZE} characters, every
+ * {@code FILE_APPENDER_FLUSH_MILLIS} by a background thread, on {@link #flush(String)} and {@link
+ * #close(String)}, and when the JVM exits. Appends from several threads to the same file are
+ * serialized per file, so lines are never interleaved.
+ *
+ * <p>Text that is still buffered is not visible to readers of the file; {@link
+ * FSOTests#fileWrite(String, String, boolean)} flushes the appender of a file before writing it.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code FILE_APPENDER_BUFFER_SIZE} / {@code file.appender.buffer.size} - characters buffered
+ *       per file before they are written (8,192)
+ *   <li>{@code FILE_APPENDER_FLUSH_MILLIS} / {@code file.appender.flush.millis} - longest time text
+ *       stays in the buffer (1,000)
+ * </ul>
+ */
+public final class FileAppender {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(FileAppender.class));
+
+  private static final int BUFFER_SIZE =
+      TuningConfig.getInt("FILE_APPENDER_BUFFER_SIZE", "file.appender.buffer.size", 8192);
+  private static final long FLUSH_MILLIS =
+      TuningConfig.getLong("FILE_APPENDER_FLUSH_MILLIS", "file.appender.flush.millis", 1000L);
+
+  private static final Map<Path, Appender> APPENDER_MAP = new ConcurrentHashMap<>();
+  private static final LongAdder APPENDS = new LongAdder();
+  private static final LongAdder WRITES = new LongAdder();
+
+  static {
+    final ScheduledExecutorService scheduledExecutorService =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "file-appender-flush");
+              thread.setDaemon(true);
+              return thread;
+            });
+    final long flushMillis = Math.max(1, FLUSH_MILLIS);
+    scheduledExecutorService.scheduleWithFixedDelay(
+        FileAppender::flushAll, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(FileAppender::closeAll, "file-appender-shutdown"));
+  }
+
+  private FileAppender() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Appends text to a file, creating the file and its folder if needed.
+   *
+   * @param filePathName the file
+   * @param text the text to append
+   */
+  public static void append(String filePathName, String text) {
+    append(filePathName, null, text);
+  }
+
+  /**
+   * Appends text to a file, writing a header line first if the file is new or empty.
+   *
+   * @param filePathName the file
+   * @param header text written before anything else into an empty file; null for none
+   * @param text the text to append
+   */
+  public static void append(String filePathName, String header, String text) {
+    final Path path = getPath(filePathName);
+    try {
+      Appender appender = APPENDER_MAP.computeIfAbsent(path, Appender::new);
+      while (!appender.append(header, text)) {
+        // Closed by another thread after the lookup; open a new one.
+        APPENDER_MAP.remove(path, appender);
+        appender = APPENDER_MAP.computeIfAbsent(path, Appender::new);
+      }
+      APPENDS.increment();
+    } catch (final IOException e) {
+      LOG.error("Unable to write file: [{}]: {}", filePathName, e.getMessage());
+    }
+  }
+
+  /**
+   * Writes the buffered text of a file; does nothing if nothing was appended to it.
+   *
+   * @param filePathName the file
+   */
+  public static void flush(String filePathName) {
+    final Appender appender = APPENDER_MAP.get(getPath(filePathName));
+    if (appender != null) {
+      flush(appender);
+    }
+  }
+
+  /** Writes the buffered text of every file. */
+  public static void flushAll() {
+    for (final Appender appender : APPENDER_MAP.values()) {
+      flush(appender);
+    }
+  }
+
+  /**
+   * Writes the buffered text of a file and closes its channel; the next append opens it again.
+   *
+   * @param filePathName the file
+   */
+  public static void close(String filePathName) {
+    final Appender appender = APPENDER_MAP.remove(getPath(filePathName));
+    if (appender != null) {
+      close(appender);
+    }
+  }
+
+  /** Writes the buffered text of every file and closes the channels. */
+  public static void closeAll() {
+    for (final Path path : APPENDER_MAP.keySet()) {
+      final Appender appender = APPENDER_MAP.remove(path);
+      if (appender != null) {
+        close(appender);
+      }
+    }
+    LOG.debug("File appender: [{}] appends in [{}] writes", APPENDS.sum(), WRITES.sum());
+  }
+
+  private static Path getPath(String filePathName) {
+    return Path.of(filePathName).toAbsolutePath().normalize();
+  }
+
+  private static void flush(Appender appender) {
+    try {
+      appender.flush();
+    } catch (final IOException e) {
+      LOG.error("Unable to write file: [{}]: {}", appender.path, e.getMessage());
+    }
+  }
+
+  private static void close(Appender appender) {
+    try {
+      appender.close();
+    } catch (final IOException e) {
+      LOG.error("Unable to write file: [{}]: {}", appender.path, e.getMessage());
+    }
+  }
+
+  /** The open channel and the buffer of one file. */
+  private static final class Appender {
+    private final Path path;
+    private final StringBuilder buffer = new StringBuilder();
+    private FileChannel fileChannel;
+    private boolean empty;
+    private boolean closed;
+
+    private Appender(Path path) {
+      this.path = path;
+    }
+
+    /**
+     * @return false if the appender was closed and nothing was appended
+     */
+    private synchronized boolean append(String header, String text) throws IOException {
+      if (closed) {
+        return false;
+      }
+      if (fileChannel == null) {
+        open();
+      }
+      if (empty && header != null) {
+        buffer.append(header);
+      }
+      empty = false;
+      buffer.append(text);
+      if (buffer.length() >= BUFFER_SIZE) {
+        write();
+      }
+      return true;
+    }
+
+    private synchronized void flush() throws IOException {
+      write();
+    }
+
+    private synchronized void close() throws IOException {
+      closed = true;
+      try {
+        write();
+      } finally {
+        if (fileChannel != null) {
+          fileChannel.close();
+        }
+      }
+    }
+
+    private void open() throws IOException {
+      final Path parent = path.getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      empty = fileChannel.size() == 0;
+    }
+
+    private void write() throws IOException {
+      if (buffer.length() == 0 || fileChannel == null) {
+        return;
+      }
+      final ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(buffer));
+      buffer.setLength(0);
+      while (byteBuffer.hasRemaining()) {
+        fileChannel.write(byteBuffer);
+      }
+      WRITES.increment();
+    }
+  }
+}
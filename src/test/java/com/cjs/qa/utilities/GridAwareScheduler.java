@@ -0,0 +1,401 @@
+package com.cjs.qa.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.logging.log4j.LogManager;
+import org.testng.IAlterSuiteListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import com.cjs.qa.core.QAException;
+
+/**
+ * TestNG listener that matches test parallelism to the free session slots of the Selenium Grid.
+ *
+ * <p>Suites used to hard-code {@code thread-count="4"}, which queues sessions on the hub when the
+ * Grid is smaller and leaves nodes idle when it is larger. With this listener:
+ *
+ * <ul>
+ *   <li>Before a parallel suite starts, its thread count is set to the number of slots the Grid
+ *       reports (capped by {@code GRID_SCHEDULER_MAX_THREADS}). The suite's own thread count is
+ *       kept if the Grid cannot be reached.
+ *   <li>Before each test invocation, the test waits until fewer of this JVM's tests are running on
+ *       its browser than the Grid has slots for, after subtracting sessions started by other
+ *       clients (see {@link GridSlots#allowedSessions(int)}). The browser is the test's {@code
+ *       browser} parameter, or "chrome"; only register the listener in suites whose tests use the
+ *       Grid. The Grid tests open their session in {@code @BeforeMethod} and quit it in {@code
+ *       @AfterMethod}, so the slot is taken before the first {@code @BeforeMethod} and given back
+ *       after the last {@code @AfterMethod} of the invocation (or after the test method if the
+ *       class has none). A failed {@code @BeforeMethod} gives the slot back at once.
+ *   <li>The Grid {@code /status} is read again at most every {@code GRID_SCHEDULER_REFRESH_MS} by
+ *       one of the starting tests, without holding the scheduler lock; the other tests keep using
+ *       the previous slots, so a slow Grid never blocks test starts or releases.
+ *   <li>Queue waits, peak concurrency and slot utilization per browser are logged when the suite
+ *       finishes and are available from {@link #getMetrics()}.
+ * </ul>
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * <listeners>
+ *     <listener class-name="com.cjs.qa.utilities.GridAwareScheduler"/>
+ * </listeners>
+ * }</pre>
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code GRID_SCHEDULER_REFRESH_MS} / {@code grid.scheduler.refresh.ms} - minimum time
+ *       between Grid status reads (2000)
+ *   <li>{@code GRID_SCHEDULER_MAX_WAIT_MS} / {@code grid.scheduler.max.wait.ms} - longest a test
+ *       waits for a slot before it starts anyway (600000)
+ *   <li>{@code GRID_SCHEDULER_MAX_THREADS} / {@code grid.scheduler.max.threads} - upper bound for
+ *       the suite thread count (16)
+ *   <li>{@code GRID_SCHEDULER_FALLBACK_LIMIT} / {@code grid.scheduler.fallback.limit} - tests per
+ *       browser while the Grid status is unavailable (4)
+ * </ul>
+ */
+public class GridAwareScheduler
+    implements IAlterSuiteListener, ISuiteListener, IInvokedMethodListener {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(GridAwareScheduler.class));
+
+  private static final String PARAMETER_BROWSER = "browser";
+  private static final String DEFAULT_BROWSER = "chrome";
+
+  private static final long REFRESH_MS =
+      TuningConfig.getLong("GRID_SCHEDULER_REFRESH_MS", "grid.scheduler.refresh.ms", 2000L);
+  private static final long MAX_WAIT_MS =
+      TuningConfig.getLong("GRID_SCHEDULER_MAX_WAIT_MS", "grid.scheduler.max.wait.ms", 600000L);
+  private static final int MAX_THREADS =
+      TuningConfig.getInt("GRID_SCHEDULER_MAX_THREADS", "grid.scheduler.max.threads", 16);
+  private static final int FALLBACK_LIMIT =
+      TuningConfig.getInt("GRID_SCHEDULER_FALLBACK_LIMIT", "grid.scheduler.fallback.limit", 4);
+
+  private static final ReentrantLock LOCK = new ReentrantLock();
+  private static final Condition SLOT_RELEASED = LOCK.newCondition();
+  private static final Map<String, BrowserStats> BROWSERS = new ConcurrentHashMap<>();
+  private static final AtomicBoolean REFRESHING = new AtomicBoolean();
+  // Slots held from the first @BeforeMethod to the last @AfterMethod of an invocation.
+  private static final Map<InvocationKey, HeldSlot> HELD_SLOTS = new ConcurrentHashMap<>();
+  // Guarded by LOCK.
+  private static Map<String, GridSlots> slotsMap = Map.of();
+  private static volatile long refreshedNanos;
+  private static volatile boolean refreshed;
+
+  @Override
+  public void alter(List<XmlSuite> suites) {
+    final Map<String, GridSlots> gridSlotsMap = readSlots();
+    if (gridSlotsMap.isEmpty()) {
+      return;
+    }
+    int total = 0;
+    for (final GridSlots gridSlots : gridSlotsMap.values()) {
+      total += gridSlots.total();
+    }
+    final int threadCount = Math.max(1, Math.min(total, MAX_THREADS));
+    for (final XmlSuite xmlSuite : suites) {
+      if (xmlSuite.getParallel() != XmlSuite.ParallelMode.NONE) {
+        LOG.info(
+            "Suite [{}] thread count {} -> {} from Grid slots {}",
+            xmlSuite.getName(),
+            xmlSuite.getThreadCount(),
+            threadCount,
+            gridSlotsMap.values());
+        xmlSuite.setThreadCount(threadCount);
+      }
+    }
+  }
+
+  @Override
+  public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+    final ITestNGMethod testNGMethod = method.getTestMethod();
+    if (!method.isTestMethod() && !testNGMethod.isBeforeMethodConfiguration()) {
+      return;
+    }
+    final InvocationKey invocationKey = new InvocationKey(testResult.getInstance());
+    if (HELD_SLOTS.containsKey(invocationKey)) {
+      return;
+    }
+    final String browserName = getBrowserName(testResult);
+    acquire(browserName);
+    HELD_SLOTS.put(
+        invocationKey,
+        new HeldSlot(browserName, testNGMethod.getTestClass().getAfterTestMethods().length));
+  }
+
+  @Override
+  public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+    final ITestNGMethod testNGMethod = method.getTestMethod();
+    final InvocationKey invocationKey = new InvocationKey(testResult.getInstance());
+    final HeldSlot heldSlot = HELD_SLOTS.get(invocationKey);
+    if (heldSlot == null) {
+      return;
+    }
+    final boolean releaseSlot;
+    if (testNGMethod.isBeforeMethodConfiguration()) {
+      // No session was opened, and the test and its @AfterMethods may be skipped.
+      releaseSlot = testResult.getStatus() == ITestResult.FAILURE;
+    } else if (method.isTestMethod()) {
+      releaseSlot = heldSlot.afterMethodsRemaining == 0;
+    } else if (testNGMethod.isAfterMethodConfiguration()) {
+      heldSlot.afterMethodsRemaining--;
+      releaseSlot = heldSlot.afterMethodsRemaining <= 0;
+    } else {
+      releaseSlot = false;
+    }
+    if (releaseSlot && HELD_SLOTS.remove(invocationKey) != null) {
+      release(heldSlot.browserName);
+    }
+  }
+
+  @Override
+  public void onFinish(ISuite suite) {
+    logMetrics();
+  }
+
+  /**
+   * Returns a point-in-time snapshot of the counters of every browser.
+   *
+   * @return metrics per browser
+   */
+  public static List<GridSchedulerMetrics> getMetrics() {
+    final List<GridSchedulerMetrics> metricsList = new ArrayList<>();
+    for (final BrowserStats browserStats : BROWSERS.values()) {
+      metricsList.add(browserStats.getMetrics());
+    }
+    return metricsList;
+  }
+
+  /** Logs the counters of every browser. */
+  public static void logMetrics() {
+    for (final GridSchedulerMetrics metrics : getMetrics()) {
+      LOG.info("Grid scheduler: {}", metrics);
+    }
+  }
+
+  private static void acquire(String browserName) {
+    final BrowserStats browserStats = BROWSERS.computeIfAbsent(browserName, BrowserStats::new);
+    final long startNanos = System.nanoTime();
+    final long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MS);
+    boolean queued = false;
+    boolean waiting = true;
+    while (waiting) {
+      refreshIfStale();
+      LOCK.lock();
+      try {
+        final int limit = getLimit(browserName, browserStats.inFlight);
+        final long remainingNanos = deadlineNanos - System.nanoTime();
+        if (browserStats.inFlight < limit) {
+          waiting = false;
+        } else if (remainingNanos <= 0) {
+          LOG.warn(
+              "No free [{}] Grid slot after {}ms; starting the test anyway",
+              browserName,
+              MAX_WAIT_MS);
+          waiting = false;
+        } else {
+          queued = true;
+          try {
+            SLOT_RELEASED.await(
+                Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(REFRESH_MS)),
+                TimeUnit.NANOSECONDS);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            waiting = false;
+          }
+        }
+        if (!waiting) {
+          browserStats.inFlight++;
+          browserStats.recordStart(System.nanoTime() - startNanos, queued);
+        }
+      } finally {
+        LOCK.unlock();
+      }
+    }
+  }
+
+  private static void release(String browserName) {
+    final BrowserStats browserStats = BROWSERS.get(browserName);
+    if (browserStats == null) {
+      return;
+    }
+    LOCK.lock();
+    try {
+      browserStats.inFlight = Math.max(0, browserStats.inFlight - 1);
+      SLOT_RELEASED.signalAll();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /** Must hold LOCK. */
+  private static int getLimit(String browserName, int inFlight) {
+    final GridSlots gridSlots = slotsMap.get(browserName);
+    if (gridSlots == null) {
+      return FALLBACK_LIMIT;
+    }
+    return gridSlots.allowedSessions(inFlight);
+  }
+
+  /**
+   * Reads the Grid slots if they are stale. Only one thread reads at a time and without holding
+   * LOCK; the new slots are swapped in under LOCK and waiting tests are woken to re-check them.
+   */
+  private static void refreshIfStale() {
+    if (refreshed
+        && System.nanoTime() - refreshedNanos < TimeUnit.MILLISECONDS.toNanos(REFRESH_MS)) {
+      return;
+    }
+    if (!REFRESHING.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      final Map<String, GridSlots> gridSlotsMap = readSlots();
+      for (final GridSlots gridSlots : gridSlotsMap.values()) {
+        BROWSERS.computeIfAbsent(gridSlots.browserName(), BrowserStats::new).sample(gridSlots);
+      }
+      LOCK.lock();
+      try {
+        slotsMap = gridSlotsMap;
+        SLOT_RELEASED.signalAll();
+      } finally {
+        LOCK.unlock();
+      }
+      refreshedNanos = System.nanoTime();
+      refreshed = true;
+    } finally {
+      REFRESHING.set(false);
+    }
+  }
+
+  private static Map<String, GridSlots> readSlots() {
+    final String gridUrl = SeleniumGridConfig.getGridUrl();
+    try {
+      return GridSlots.fetch(gridUrl);
+    } catch (QAException e) {
+      LOG.debug("Grid slots unavailable at {}: {}", gridUrl, e.getMessage());
+      return Map.of();
+    }
+  }
+
+  /**
+   * @return the lower-case browser parameter of the test, or "chrome" if it has none
+   */
+  private static String getBrowserName(ITestResult testResult) {
+    final String browserName =
+        testResult.getTestContext().getCurrentXmlTest().getParameter(PARAMETER_BROWSER);
+    if (browserName == null || browserName.isBlank()) {
+      return DEFAULT_BROWSER;
+    }
+    return browserName.trim().toLowerCase(Locale.ENGLISH);
+  }
+
+  /**
+   * One test invocation: the test instance on the thread that runs its {@code @BeforeMethod}, test
+   * and {@code @AfterMethod} calls.
+   */
+  private record InvocationKey(Object instance, Thread thread) {
+    private InvocationKey(Object instance) {
+      this(instance, Thread.currentThread());
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof InvocationKey other
+          && instance == other.instance
+          && thread == other.thread;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(instance) + System.identityHashCode(thread);
+    }
+  }
+
+  /** A slot held by one invocation; only used by the invocation's own thread. */
+  private static final class HeldSlot {
+    private final String browserName;
+    private int afterMethodsRemaining;
+
+    private HeldSlot(String browserName, int afterMethodsRemaining) {
+      this.browserName = browserName;
+      this.afterMethodsRemaining = afterMethodsRemaining;
+    }
+  }
+
+  /** Counters for one browser; inFlight is guarded by LOCK. */
+  private static final class BrowserStats {
+    private final String browserName;
+    private int inFlight;
+    private volatile int peakInFlight;
+    private volatile GridSlots lastSlots;
+    private final LongAdder starts = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder sampledSlots = new LongAdder();
+    private final LongAdder sampledBusy = new LongAdder();
+
+    private BrowserStats(String browserName) {
+      this.browserName = browserName;
+    }
+
+    private void recordStart(long waitNanos, boolean wasQueued) {
+      starts.increment();
+      if (wasQueued) {
+        queued.increment();
+      }
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+      peakInFlight = Math.max(peakInFlight, inFlight);
+    }
+
+    private void sample(GridSlots gridSlots) {
+      lastSlots = gridSlots;
+      sampledSlots.add(gridSlots.total());
+      sampledBusy.add(Math.min(gridSlots.busy(), gridSlots.total()));
+    }
+
+    private int getInFlight() {
+      LOCK.lock();
+      try {
+        return inFlight;
+      } finally {
+        LOCK.unlock();
+      }
+    }
+
+    private GridSchedulerMetrics getMetrics() {
+      final GridSlots gridSlots = lastSlots;
+      final long slotSum = sampledSlots.sum();
+      return new GridSchedulerMetrics(
+          browserName,
+          starts.sum(),
+          queued.sum(),
+          totalWaitNanos.sum(),
+          maxWaitNanos.get(),
+          peakInFlight,
+          getInFlight(),
+          gridSlots == null ? 0 : gridSlots.total(),
+          gridSlots == null ? 0 : gridSlots.busy(),
+          slotSum == 0 ? 0 : (double) sampledBusy.sum() / slotSum);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.cjs.qa.utilities;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of {@link GridAwareScheduler} counters for one browser.
+ *
+ * @param browserName browser the tests ran on
+ * @param starts tests started
+ * @param queued tests that had to wait for a free slot
+ * @param totalWaitNanos cumulative time tests waited for a slot
+ * @param maxWaitNanos longest single wait
+ * @param peakInFlight most tests running at once
+ * @param inFlight tests holding a slot when the snapshot was taken
+ * @param slots slots the Grid reported at the last refresh
+ * @param busySlots busy slots at the last refresh
+ * @param averageUtilization busy slots as a fraction of all slots, averaged over every refresh
+ */
+public record GridSchedulerMetrics(
+    String browserName,
+    long starts,
+    long queued,
+    long totalWaitNanos,
+    long maxWaitNanos,
+    int peakInFlight,
+    int inFlight,
+    int slots,
+    int busySlots,
+    double averageUtilization) {
+
+  /**
+   * Average time a test waited for a slot.
+   *
+   * @return average wait in milliseconds, or 0 if no test started
+   */
+  public double averageWaitMillis() {
+    if (starts == 0) {
+      return 0;
+    }
+    return (double) totalWaitNanos / starts / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Browser:[%s], Starts:[%d], Queued:[%d], AvgWaitMs:[%.1f], MaxWaitMs:[%d], \
+    PeakInFlight:[%d], InFlight:[%d], Slots:[%d], Busy:[%d], AvgUtilization:[%.2f]
+    """
+        .formatted(
+            browserName,
+            starts,
+            queued,
+            averageWaitMillis(),
+            TimeUnit.NANOSECONDS.toMillis(maxWaitNanos),
+            peakInFlight,
+            inFlight,
+            slots,
+            busySlots,
+            averageUtilization)
+        .trim();
+  }
+}
@@ -0,0 +1,129 @@
+package com.cjs.qa.utilities;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.cjs.qa.core.QAException;
+
+/**
+ * Session slots a Selenium Grid offers for one browser, as reported by its {@code /status}
+ * endpoint.
+ *
+ * <p>Only nodes whose availability is {@code UP} are counted. A node that has more slots than its
+ * {@code maxSessions} can only run {@code maxSessions} of them at once, so its slots are capped at
+ * that number; when one node offers several browsers the cap is applied per browser, which can
+ * overstate the capacity of that node.
+ *
+ * @param browserName lower-case browser name from the slot stereotype (e.g. "chrome")
+ * @param total slots that can run at the same time
+ * @param busy slots running a session
+ */
+public record GridSlots(String browserName, int total, int busy) {
+
+  /**
+   * @return slots not running a session
+   */
+  public int free() {
+    return Math.max(0, total - busy);
+  }
+
+  /**
+   * Number of sessions a client may run at once when it already runs {@code inFlight} of them.
+   * Sessions on the Grid that are not the client's are subtracted from the total; at least one is
+   * always allowed so that a client never waits for a Grid that reports no slots.
+   *
+   * @param inFlight sessions the client is running
+   * @return sessions the client may run
+   */
+  public int allowedSessions(int inFlight) {
+    final int busyForOthers = Math.max(0, busy - inFlight);
+    return Math.max(1, total - busyForOthers);
+  }
+
+  /**
+   * @return busy slots as a fraction of all slots, or 0 if there are none
+   */
+  public double utilization() {
+    if (total == 0) {
+      return 0;
+    }
+    return (double) Math.min(busy, total) / total;
+  }
+
+  /**
+   * Reads the slots of every browser from a Grid (see {@link SeleniumGridConfig#getGridStatus}).
+   *
+   * @param gridUrl the Grid hub URL, with or without {@code /wd/hub}
+   * @return slots per browser name
+   * @throws QAException if the status cannot be read
+   */
+  public static Map<String, GridSlots> fetch(String gridUrl) throws QAException {
+    return parse(SeleniumGridConfig.getGridStatus(gridUrl));
+  }
+
+  /**
+   * Counts the slots of every browser in a Grid 4 {@code /status} response.
+   *
+   * @param statusJson the response body
+   * @return slots per browser name
+   */
+  public static Map<String, GridSlots> parse(String statusJson) {
+    final Map<String, int[]> countMap = new HashMap<>();
+    final JSONArray nodes =
+        new JSONObject(statusJson).getJSONObject("value").optJSONArray("nodes");
+    if (nodes == null) {
+      return Map.of();
+    }
+    for (int nodeIndex = 0; nodeIndex < nodes.length(); nodeIndex++) {
+      final JSONObject node = nodes.getJSONObject(nodeIndex);
+      if (!"UP".equalsIgnoreCase(node.optString("availability", "UP"))) {
+        continue;
+      }
+      final JSONArray slots = node.optJSONArray("slots");
+      if (slots == null) {
+        continue;
+      }
+      final int maxSessions = node.optInt("maxSessions", slots.length());
+      // [slots, busy] of this node per browser
+      final Map<String, int[]> nodeCountMap = new HashMap<>();
+      for (int slotIndex = 0; slotIndex < slots.length(); slotIndex++) {
+        final JSONObject slot = slots.getJSONObject(slotIndex);
+        final JSONObject stereotype = slot.optJSONObject("stereotype");
+        final String browserName =
+            stereotype == null
+                ? ""
+                : stereotype.optString("browserName", "").toLowerCase(Locale.ENGLISH);
+        final int[] counts = nodeCountMap.computeIfAbsent(browserName, key -> new int[2]);
+        counts[0]++;
+        if (!slot.isNull("session") && slot.has("session")) {
+          counts[1]++;
+        }
+      }
+      for (final Map.Entry<String, int[]> entry : nodeCountMap.entrySet()) {
+        final int[] counts = countMap.computeIfAbsent(entry.getKey(), key -> new int[2]);
+        counts[0] += Math.min(entry.getValue()[0], maxSessions);
+        counts[1] += entry.getValue()[1];
+      }
+    }
+    final Map<String, GridSlots> slotsMap = new HashMap<>();
+    for (final Map.Entry<String, int[]> entry : countMap.entrySet()) {
+      slotsMap.put(
+          entry.getKey(),
+          new GridSlots(entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+    }
+    return slotsMap;
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Browser:[%s], Slots:[%d], Busy:[%d], Utilization:[%.2f]
+    """
+        .formatted(browserName, total, busy, utilization())
+        .trim();
+  }
+}
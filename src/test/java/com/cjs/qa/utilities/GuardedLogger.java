@@ -1,5 +1,7 @@
 package com.cjs.qa.utilities;
 
+import java.util.function.Supplier;
+
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
 
@@ -15,6 +17,10 @@
  *
  * <p>All existing LOG.debug(), LOG.info(), etc. calls will work without modification.
  *
+ * <p>Parameters that are costly to compute can be passed as suppliers, e.g. LOG.debug("{}", () ->
+ * describe(value)); they are evaluated only if the level is enabled. {@link CallerContext} provides
+ * deferred caller names for log statements.
+ *
  * <p>Note: PMD's GuardLogStatement rule may still flag calls to GuardedLogger methods because it
  * doesn't recognize that GuardedLogger already performs guard checks. This is a limitation of PMD's
  * static analysis. The guards are present at runtime, ensuring no unnecessary string formatting
@@ -50,6 +56,12 @@ public void debug(final String message, final Object... params) {
     }
   }
 
+  public void debug(final String message, final Supplier<?>... paramSuppliers) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(message, get(paramSuppliers));
+    }
+  }
+
   public void debug(final String message, final Object param) {
     if (logger.isDebugEnabled()) {
       logger.debug(message, param);
@@ -132,6 +144,12 @@ public void info(final String message, final Object... params) {
     }
   }
 
+  public void info(final String message, final Supplier<?>... paramSuppliers) {
+    if (logger.isInfoEnabled()) {
+      logger.info(message, get(paramSuppliers));
+    }
+  }
+
   public void info(final String message, final Object param) {
     if (logger.isInfoEnabled()) {
       logger.info(message, param);
@@ -207,6 +225,12 @@ public void warn(final String message, final Object... params) {
     }
   }
 
+  public void warn(final String message, final Supplier<?>... paramSuppliers) {
+    if (logger.isWarnEnabled()) {
+      logger.warn(message, get(paramSuppliers));
+    }
+  }
+
   public void warn(final String message, final Object param) {
     if (logger.isWarnEnabled()) {
       logger.warn(message, param);
@@ -282,6 +306,12 @@ public void error(final String message, final Object... params) {
     }
   }
 
+  public void error(final String message, final Supplier<?>... paramSuppliers) {
+    if (logger.isErrorEnabled()) {
+      logger.error(message, get(paramSuppliers));
+    }
+  }
+
   public void error(final String message, final Object param) {
     if (logger.isErrorEnabled()) {
       logger.error(message, param);
@@ -367,6 +397,12 @@ public void trace(final String message, final Object... params) {
     }
   }
 
+  public void trace(final String message, final Supplier<?>... paramSuppliers) {
+    if (logger.isTraceEnabled()) {
+      logger.trace(message, get(paramSuppliers));
+    }
+  }
+
   public void trace(final String message, final Object param) {
     if (logger.isTraceEnabled()) {
       logger.trace(message, param);
@@ -411,6 +447,12 @@ public void fatal(final String message, final Object... params) {
     }
   }
 
+  public void fatal(final String message, final Supplier<?>... paramSuppliers) {
+    if (logger.isFatalEnabled()) {
+      logger.fatal(message, get(paramSuppliers));
+    }
+  }
+
   public void fatal(final String message, final Object param) {
     if (logger.isFatalEnabled()) {
       logger.fatal(message, param);
@@ -467,6 +509,18 @@ public boolean isFatalEnabled() {
     return logger.isFatalEnabled();
   }
 
+  /**
+   * Evaluates deferred parameters; called only after the level check, so the suppliers run only for
+   * messages that are logged.
+   */
+  private static Object[] get(final Supplier<?>... paramSuppliers) {
+    final Object[] params = new Object[paramSuppliers.length];
+    for (int index = 0; index < paramSuppliers.length; index++) {
+      params[index] = paramSuppliers[index] == null ? null : paramSuppliers[index].get();
+    }
+    return params;
+  }
+
   /**
    * Returns the underlying Logger instance. Use with caution - direct access bypasses guard checks.
    *
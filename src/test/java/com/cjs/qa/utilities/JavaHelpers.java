@@ -377,19 +377,14 @@ public static String generateRandomInteger(int numberMin, int numberMax, int len
    * @return
    */
   public static String getCallingClassName() {
-    String className = Thread.currentThread().getStackTrace()[1].getClassName();
-    className = className.substring(className.lastIndexOf('.') + 1, className.length());
-    return className;
+    return CallerContext.of(0).getSimpleClassName();
   }
 
   /**
    * @return
    */
   public static int getCallingLineNumber() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    final String fullString = stackTraceElements[2].toString();
-    String lineNumber = fullString.substring(fullString.indexOf(':') + 1, fullString.length() - 1);
-    return Integer.valueOf(lineNumber);
+    return CallerContext.of(2).lineNumber();
   }
 
   /**
@@ -398,8 +393,7 @@ public static int getCallingLineNumber() {
    * @return
    */
   public static String getCallingMethodName() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    return stackTraceElements[3].getMethodName();
+    return CallerContext.of(3).methodName();
   }
 
   /**
@@ -432,15 +426,7 @@ public static List<String> getClasses(String packageName)
    * @return
    */
   public static String getCurrentClassMethodDebugName() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    final String fullString = stackTraceElements[1].toString();
-    String className = Thread.currentThread().getStackTrace()[2].getClassName();
-    String classNameTemp = className;
-    className = className.substring(className.lastIndexOf('.') + 1, className.length());
-    return Environment.noPMDUselessParentheses(
-        className
-            + fullString.substring(
-                fullString.indexOf(classNameTemp) + classNameTemp.length(), fullString.length()));
+    return CallerContext.of(1).getClassMethodDebugName();
   }
 
   /**
@@ -449,15 +435,7 @@ public static String getCurrentClassMethodDebugName() {
    * @return
    */
   public static String getCurrentClassMethodName() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    final String fullString = stackTraceElements[1].toString();
-    String className = Thread.currentThread().getStackTrace()[2].getClassName();
-    className = className.substring(className.lastIndexOf('.') + 1, className.length());
-    final int stringEnd = fullString.indexOf('(');
-    String fullName = fullString.substring(0, stringEnd);
-    final int start = fullName.lastIndexOf('.') + 1;
-    String methodName = fullName.substring(start);
-    return className + '.' + methodName;
+    return CallerContext.of(1).getClassMethodName();
   }
 
   /**
@@ -466,16 +444,11 @@ public static String getCurrentClassMethodName() {
    * @return
    */
   public static String getCurrentClassName() {
-    String className = Thread.currentThread().getStackTrace()[2].getClassName();
-    className = className.substring(className.lastIndexOf('.') + 1, className.length());
-    return className;
+    return CallerContext.of(1).getSimpleClassName();
   }
 
   public static int getCurrentLineNumber() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    final String fullString = stackTraceElements[1].toString();
-    String lineNumber = fullString.substring(fullString.indexOf(':') + 1, fullString.length() - 1);
-    return Integer.valueOf(lineNumber);
+    return CallerContext.of(1).lineNumber();
   }
 
   /**
@@ -484,11 +457,7 @@ public static int getCurrentLineNumber() {
    * @return
    */
   public static String getCurrentMethodDebugName() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    final String fullString = stackTraceElements[1].toString();
-    String className = Thread.currentThread().getStackTrace()[2].getClassName();
-    return fullString.substring(
-        fullString.indexOf(className + '.') + className.length() + 1, fullString.length());
+    return CallerContext.of(1).getMethodDebugName();
   }
 
   /**
@@ -497,8 +466,7 @@ public static String getCurrentMethodDebugName() {
    * @return
    */
   public static String getCurrentMethodName() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    return stackTraceElements[1].getMethodName();
+    return CallerContext.of(1).methodName();
   }
 
   /**
@@ -507,8 +475,7 @@ public static String getCurrentMethodName() {
    * @return
    */
   public static String getCurrentPackageClassMethodDebugName() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    return stackTraceElements[1].toString();
+    return CallerContext.of(1).toString();
   }
 
   /**
@@ -517,10 +484,7 @@ public static String getCurrentPackageClassMethodDebugName() {
    * @return
    */
   public static String getCurrentPackageClassMethodName() {
-    final StackTraceElement[] stackTraceElements = new Throwable().getStackTrace();
-    final String fullString = stackTraceElements[1].toString();
-    final int stringEnd = fullString.indexOf('(');
-    return fullString.substring(0, stringEnd);
+    return CallerContext.of(1).getPackageClassMethodName();
   }
 
   /**
@@ -529,7 +493,7 @@ public static String getCurrentPackageClassMethodName() {
    * @return
    */
   public static String getCurrentPackageClassName() {
-    return Thread.currentThread().getStackTrace()[2].getClassName();
+    return CallerContext.of(1).className();
   }
 
   /**
@@ -538,9 +502,8 @@ public static String getCurrentPackageClassName() {
    * @return
    */
   public static String getCurrentPackageName() {
-    String packageName = Thread.currentThread().getStackTrace()[2].getClassName();
-    packageName = packageName.substring(0, packageName.lastIndexOf('.'));
-    return packageName;
+    final String className = CallerContext.of(1).className();
+    return className.substring(0, className.lastIndexOf('.'));
   }
 
   /**
@@ -878,6 +841,30 @@ public static boolean isSortedUpperCaseFirst(List<String> iterable) {
     return true;
   }
 
+  /**
+   * Checks the form of a whole number (optional sign, at most 10 digits) without parsing it, so
+   * callers can skip {@link Integer#valueOf(String)} and its exception for ordinary text.
+   *
+   * @param stringNumber the text
+   * @return true if the text may be an int
+   */
+  public static boolean isValidStringInteger(String stringNumber) {
+    final int start =
+        !stringNumber.isEmpty() && (stringNumber.charAt(0) == '-' || stringNumber.charAt(0) == '+')
+            ? 1
+            : 0;
+    final int digits = stringNumber.length() - start;
+    if (digits < 1 || digits > 10) {
+      return false;
+    }
+    for (int index = start; index < stringNumber.length(); index++) {
+      if (!Character.isDigit(stringNumber.charAt(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * @param stringNumber
    * @return
@@ -10,13 +10,13 @@
 
 import org.apache.logging.log4j.LogManager;
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.cjs.qa.selenium.PageReadiness;
 
 /**
  * Page Object Generator - Generates Page Object classes from URLs.
@@ -179,20 +179,10 @@ private WebDriver createWebDriver() {
     return new ChromeDriver(options);
   }
 
-  /** Wait for page to load completely. */
+  /** Wait for page to load completely, including requests and DOM updates after onload. */
   private void waitForPageLoad(WebDriver driver) {
-    WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-    wait.until(
-        (webDriver) ->
-            "complete"
-                .equals(
-                    ((JavascriptExecutor) webDriver).executeScript("return document.readyState")));
-    // Additional wait for dynamic content
-    try {
-      Thread.sleep(2000);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-    }
+    PageReadiness.fromConfig()
+        .waitUntilReady(driver, getClass().getSimpleName(), Duration.ofSeconds(7));
   }
 
   /** Find all interactive elements on the page. */
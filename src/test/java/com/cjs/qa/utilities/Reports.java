@@ -7,6 +7,7 @@
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -43,7 +44,6 @@ private Reports() {
       Arrays.asList(STRING_COUNTS.split(Constants.DELIMETER_LIST));
   private static final Map<String, Integer> MAP_INDEX_SUMMARY = getColumnsIndex(STRING_SUMMARY);
   private static final Map<String, Integer> MAP_INDEX_COUNTS = getColumnsIndex(STRING_COUNTS);
-  private static final Map<String, String> MAP_STRING_SUMMARY = getColumnsString(STRING_SUMMARY);
   private static Map<String, Integer> resultColumns = null;
 
   public static synchronized void updateReport(File filePathName, byte[] byteArray)
@@ -75,176 +75,161 @@ public static synchronized void updateReport(File filePathName, byte[] byteArray
     }
   }
 
-  public static synchronized void createReportExcelLock(
-      Scenario scenarioObject, Map<String, List<Map<String, String>>> mapListTest)
-      throws Exception, QAException {
-    final String fileNameLock = CJSConstants.PATH_FILES_DATA + "Parallel.lck";
-    FileChannel fileChannel = null;
-    try {
-      final File file = new File(fileNameLock);
-      final Path path = FileSystems.getDefault().getPath(file.getCanonicalPath());
-      try {
-        // fileChannel = FileChannel.open(path,
-        // StandardOpenOption.WRITE);
-        fileChannel = FileChannel.open(path, StandardOpenOption.APPEND);
-      } catch (final Exception e) {
-        e.printStackTrace();
-      }
-      // Aquire lock
-      if (fileChannel != null) {
-        LOG.debug("Acquiring Lock: [{}]", fileNameLock);
-        fileChannel.lock();
-        LOG.debug("Lock Acquired: [{}]", fileNameLock);
-        // Read in the excel file as Apache POI object
-        final byte[] byteArray =
-            (mapListTest.get("Summary").toString() + Constants.NEWLINE).getBytes();
-        createReportExcel(scenarioObject, mapListTest);
-        // Write to file
-        final ByteBuffer buf = ByteBuffer.allocate(1024);
-        buf.clear();
-        buf.put(byteArray);
-        buf.flip();
-        while (buf.hasRemaining()) {
-          fileChannel.write(buf);
-        }
-      }
-    } finally {
-      // Release lock
-      if (fileChannel != null) {
-        fileChannel.close();
-        LOG.debug("Lock Released: [{}]", fileNameLock);
-      }
+  /**
+   * Records the result of a finished scenario for the results report. The scenario errors are
+   * logged to the scenario here; the result is queued with {@link ResultCollector} and the report
+   * is written once at the end of the run ({@link ResultCollector#materialize()}), so parallel
+   * scenarios do not wait for each other.
+   *
+   * @param scenarioObject the finished scenario
+   * @param mapListTest the "Summary" row and the compare sections of the scenario
+   */
+  public static void addScenarioResult(
+      Scenario scenarioObject, Map<String, List<Map<String, String>>> mapListTest) {
+    final ScenarioResult scenarioResult =
+        ScenarioResult.of(mapListTest, Environment.getScenarioErrors());
+    for (final Map.Entry<Integer, String> entry : scenarioResult.errors().entrySet()) {
+      scenarioObject.log("Scenario Failure (" + entry.getKey() + "): " + entry.getValue());
     }
+    ResultCollector.getDefault().submit(scenarioResult);
   }
 
-  private static void createReportExcel(
-      Scenario scenarioObject, Map<String, List<Map<String, String>>> mapListTest) {
-    LOG.debug("Writing Report: [{}]", mapListTest.toString());
+  /**
+   * Writes the results report: the counts, one summary row per scenario and one failure sheet per
+   * scenario, in a single pass over one workbook.
+   *
+   * @param filePathName the .xls file; must not exist yet
+   * @param resultList the results in report order
+   * @throws QAException if the workbook cannot be written
+   * @throws IOException if the workbook cannot be written
+   */
+  public static synchronized void createReport(String filePathName, List<ScenarioResult> resultList)
+      throws QAException, IOException {
+    LOG.debug("Writing Report: [{}] results to [{}]", resultList.size(), filePathName);
     final String sheetNameSummary = IExcel.SHEET_SUMMARY;
-    boolean writeData = true;
+    createResultFileDefaults(filePathName);
+    final XLS excel = new XLS(filePathName, sheetNameSummary);
     try {
-      final List<Map<String, String>> listMapSummary = mapListTest.get("Summary");
-      final Map<String, String> mapSummary = listMapSummary.get(0);
-      String filePathName = CJSConstants.PATH_FILES_DATA + "RESULTS";
-      // filePathName += ("_" + mapSummary.get("Status")).toUpperCase();
-      filePathName += IExtension.XLS;
-      if (scenarioObject.isFailed()) {
-        writeData = true;
-      }
-      if (!FSOTests.fileExists(filePathName)) {
-        createResultFileDefaults(filePathName);
-      }
-      setColumnsIndex(STRING_SUMMARY);
-      final XLS excel = new XLS(filePathName, sheetNameSummary);
-      updateCount(excel, "Tests");
-      final String sheetNameFailure =
-          Environment.getSheetFailure(
-              filePathName, DEFAULT_SHEET_COUNT, mapSummary.get("Policy Control"));
-      if ("passed".equals(mapSummary.get("Status"))) {
-        updateCount(excel, "Passed");
-        if (writeData) {
+      int passed = 0;
+      final List<Map<String, String>> summaryList = new ArrayList<>();
+      for (final ScenarioResult scenarioResult : resultList) {
+        final Map<String, String> mapSummary = new HashMap<>(scenarioResult.summary());
+        final String sheetNameFailure = JavaHelpers.formatNumber(summaryList.size() + 1, "000");
+        if (scenarioResult.isPassed()) {
+          passed++;
           mapSummary.put("Error(s)", "N/A-See Sheet (" + sheetNameFailure + ")");
         } else {
-          mapSummary.put("Error(s)", "N/A");
+          mapSummary.put("Error(s)", "See Sheet (" + sheetNameFailure + ")");
         }
-      } else {
-        updateCount(excel, "Failed");
-        mapSummary.put("Error(s)", "See Sheet (" + sheetNameFailure + ")");
+        summaryList.add(mapSummary);
       }
-      final int rowSummary = excel.getRowCount(sheetNameSummary) + 1;
-      for (final String columnName : MAP_STRING_SUMMARY.keySet()) {
-        final String value = mapSummary.get(columnName);
-        if (JavaHelpers.hasValue(value)) {
-          final int columnIndex = MAP_INDEX_SUMMARY.get(columnName);
-          excel.writeCell(sheetNameSummary, columnIndex, rowSummary, mapSummary.get(columnName));
-        }
-      }
-      excel.save();
-      final String hyperlinkTestID = JIRA_URL + mapSummary.get("Test ID");
-      if (JavaHelpers.hasValue(mapSummary.get("Test ID"))) {
-        excel.addLink(
-            sheetNameSummary,
-            resultColumns.get("Test ID"),
-            rowSummary,
-            "URL",
-            mapSummary.get("TestID"),
-            hyperlinkTestID);
-      }
-      if (writeData) {
-        if (JavaHelpers.hasValue(sheetNameFailure)) {
-          excel.createSheet(sheetNameFailure);
-          final String hyperlinkSheetSummary = "'" + sheetNameSummary + "'!A1";
-          final String hyperlinkSheetFailure = "'" + sheetNameFailure + "'!A1";
-          excel.addLink(
-              sheetNameSummary,
-              MAP_INDEX_SUMMARY.get("Error(s)"),
-              rowSummary,
-              "DOCUMENT",
-              mapSummary.get("Error(s)"),
-              hyperlinkSheetFailure);
-          // "See Sheet (" + sheetNameFailure + ")",
-          excel.addLink(
-              sheetNameFailure, 0, 0, "DOCUMENT", sheetNameSummary, hyperlinkSheetSummary);
-          for (final Integer key : Environment.getScenarioErrors().keySet()) {
-            final int rowSheetFailure = excel.getRowCount(sheetNameFailure) + 1;
-            excel.writeCell(
-                sheetNameFailure, 0, rowSheetFailure, "Failure (" + String.valueOf(key) + ")");
-            excel.autoSizeColumn(sheetNameFailure, 0);
-            excel.setCellAlignment(sheetNameFailure, 0, 0);
-            excel.writeCell(
-                sheetNameFailure, 1, rowSheetFailure, Environment.getScenarioErrors().get(key));
-            excel.autoSizeColumn(sheetNameFailure, 1);
-            excel.setCellAlignment(sheetNameFailure, 1, 0);
-            excel.setCellWrap(sheetNameFailure, 1, 0, true);
-            scenarioObject.log(
-                "Scenario Failure (" + key + "): " + Environment.getScenarioErrors().get(key));
+      final Object[] counts = new Object[LIST_COUNTS.size()];
+      Arrays.fill(counts, 0);
+      counts[MAP_INDEX_COUNTS.get("Tests")] = resultList.size();
+      counts[MAP_INDEX_COUNTS.get("Passed")] = passed;
+      counts[MAP_INDEX_COUNTS.get("Failed")] = resultList.size() - passed;
+      excel.writeRange(IExcel.SHEET_COUNTS, 0, 1, new Object[][] {counts}, null);
+      final Object[][] summaryRows = new Object[summaryList.size()][];
+      for (int index = 0; index < summaryList.size(); index++) {
+        summaryRows[index] = new Object[LIST_SUMMARY.size()];
+        for (final String columnName : LIST_SUMMARY) {
+          final String value = summaryList.get(index).get(columnName);
+          if (JavaHelpers.hasValue(value)) {
+            summaryRows[index][MAP_INDEX_SUMMARY.get(columnName)] = value;
           }
-          writeFailureData(excel, sheetNameFailure, mapListTest, "Policy");
-          writeFailureData(excel, sheetNameFailure, mapListTest, "Product");
-          writeFailureData(excel, sheetNameFailure, mapListTest, "Forms");
-          excel.autoSizeColumns(sheetNameFailure);
         }
-      } else {
-        excel.writeCell(
-            sheetNameSummary,
-            MAP_INDEX_SUMMARY.get("Error(s)"),
-            rowSummary,
-            mapSummary.get("Error(s)"));
+      }
+      excel.writeRange(sheetNameSummary, 0, 1, summaryRows, null);
+      for (int index = 0; index < resultList.size(); index++) {
+        writeFailureSheet(excel, index + 1, summaryList.get(index), resultList.get(index));
       }
       excel.autoSizeColumns(sheetNameSummary);
       excel.autoSizeColumns(IExcel.SHEET_COUNTS);
-      excel.writeCell(sheetNameSummary, 0, 0, excel.readCell(sheetNameSummary, 0, 0));
-      // excel.save();
+      excel.getWorkbook().setActiveSheet(0);
+    } finally {
       excel.close();
-    } catch (final Exception | QAException e) {
-      e.printStackTrace();
     }
   }
 
+  /**
+   * Writes the summary rows of the results report as an HTML table.
+   *
+   * @param filePathName the .html file
+   * @param resultList the results in report order
+   */
+  public static void createReportHtml(String filePathName, List<ScenarioResult> resultList) {
+    final List<Map<String, String>> summaryList = new ArrayList<>();
+    for (final ScenarioResult scenarioResult : resultList) {
+      summaryList.add(scenarioResult.summary());
+    }
+    final HTML html = new HTML(filePathName, null, null);
+    FSOTests.fileWrite(filePathName, html.createStandardTable(LIST_SUMMARY, summaryList), false);
+  }
+
+  private static void writeFailureSheet(
+      XLS excel, int rowSummary, Map<String, String> mapSummary, ScenarioResult scenarioResult)
+      throws QAException {
+    final String sheetNameSummary = IExcel.SHEET_SUMMARY;
+    final String sheetNameFailure = JavaHelpers.formatNumber(rowSummary, "000");
+    if (JavaHelpers.hasValue(mapSummary.get("Test ID"))) {
+      excel.addLink(
+          sheetNameSummary,
+          MAP_INDEX_SUMMARY.get("Test ID"),
+          rowSummary,
+          "URL",
+          mapSummary.get("Test ID"),
+          JIRA_URL + mapSummary.get("Test ID"));
+    }
+    // Workbook.createSheet, not XLS.createSheet, which saves the file for every sheet.
+    excel.getWorkbook().createSheet(sheetNameFailure);
+    excel.addLink(
+        sheetNameSummary,
+        MAP_INDEX_SUMMARY.get("Error(s)"),
+        rowSummary,
+        "DOCUMENT",
+        mapSummary.get("Error(s)"),
+        "'" + sheetNameFailure + "'!A1");
+    excel.addLink(
+        sheetNameFailure, 0, 0, "DOCUMENT", sheetNameSummary, "'" + sheetNameSummary + "'!A1");
+    int rowSheetFailure = 1;
+    for (final Map.Entry<Integer, String> entry : scenarioResult.errors().entrySet()) {
+      // setCellAlignment and setCellWrap format the cell just written.
+      excel.writeCell(sheetNameFailure, 0, rowSheetFailure, "Failure (" + entry.getKey() + ")");
+      excel.setCellAlignment(sheetNameFailure, 0, rowSheetFailure);
+      excel.writeCell(sheetNameFailure, 1, rowSheetFailure, entry.getValue());
+      excel.setCellAlignment(sheetNameFailure, 1, rowSheetFailure);
+      excel.setCellWrap(sheetNameFailure, 1, rowSheetFailure, true);
+      rowSheetFailure++;
+    }
+    writeFailureData(excel, sheetNameFailure, scenarioResult.sections(), "Policy");
+    writeFailureData(excel, sheetNameFailure, scenarioResult.sections(), "Product");
+    writeFailureData(excel, sheetNameFailure, scenarioResult.sections(), "Forms");
+    excel.autoSizeColumns(sheetNameFailure);
+  }
+
   private static void createResultFileDefaults(String filePathName)
       throws QAException, IOException {
     XLS excel = null;
     try {
       String sheetName = IExcel.SHEET_SUMMARY;
       excel = new XLS(filePathName, sheetName);
-      int row = 0;
-      for (int columnIndex = 0; columnIndex < LIST_SUMMARY.size(); columnIndex++) {
-        final String columnName = LIST_SUMMARY.get(columnIndex);
-        excel.writeCell(sheetName, columnIndex, row, columnName);
-        excel.setFormatBold(sheetName, columnIndex, row);
-        excel.setFormatFontBackgroundColor(sheetName, columnIndex, row, "grey_25");
-      }
+      excel.writeRange(
+          sheetName,
+          0,
+          0,
+          new Object[][] {LIST_SUMMARY.toArray()},
+          new String[][] {getHeadingStyles(LIST_SUMMARY.size())});
       excel.autoSizeColumns(sheetName);
       sheetName = IExcel.SHEET_COUNTS;
       excel.createSheet(sheetName);
-      row = 0;
-      for (int columnIndex = 0; columnIndex < LIST_COUNTS.size(); columnIndex++) {
-        final String columnName = LIST_COUNTS.get(columnIndex);
-        excel.writeCell(sheetName, columnIndex, row, columnName);
-        excel.setFormatBold(sheetName, columnIndex, row);
-        excel.setFormatFontBackgroundColor(sheetName, columnIndex, row, "grey_25");
-        excel.writeCell(sheetName, columnIndex, row + 1, 0);
-      }
+      final Object[] counts = new Object[LIST_COUNTS.size()];
+      Arrays.fill(counts, 0);
+      excel.writeRange(
+          sheetName,
+          0,
+          0,
+          new Object[][] {LIST_COUNTS.toArray(), counts},
+          new String[][] {getHeadingStyles(LIST_COUNTS.size())});
       excel.autoSizeColumns(sheetName);
       // excel.save();
       excel.close();
@@ -278,6 +263,13 @@ public static Map<String, String> getColumnsString(String fields) {
     return map;
   }
 
+  /** Heading style for each column of a heading row. */
+  private static String[] getHeadingStyles(int columns) {
+    final String[] styleNames = new String[columns];
+    Arrays.fill(styleNames, IExcel.FORMAT_NAME_HEADING);
+    return styleNames;
+  }
+
   public static String getLogStatus(String report) {
     return Environment.noPMDUselessParentheses(
         "dateTimeStamp:["
@@ -307,11 +299,6 @@ private static void writeFailureData(
       if (listMapSection == null) {
         return;
       }
-      int row = excel.getRowCount(sheetName) + 1;
-      int column = 0;
-      excel.writeCell(sheetName, column, row, section);
-      excel.setFormatBold(sheetName, column, row);
-      excel.setFormatFontBackgroundColor(sheetName, column, row, "grey_25");
       String fields = "";
       switch (section) {
         case "Policy":
@@ -332,50 +319,44 @@ private static void writeFailureData(
       }
       final List<String> fieldNames = Arrays.asList(fields.split(Constants.DELIMETER_LIST));
       setColumnsIndex(fields);
-      row = excel.getRowCount(sheetName) + 1;
-      for (int indexRecord = 0; indexRecord < listMapSection.size(); indexRecord++) {
-        row = excel.getRowCount(sheetName) + 1;
-        if (indexRecord == 0) {
-          for (final String fieldName : fieldNames) {
-            column = resultColumns.get(fieldName);
-            excel.writeCell(sheetName, column, row, fieldName);
-            excel.setFormatBold(sheetName, column, row);
-            excel.setFormatFontBackgroundColor(sheetName, column, row, "grey_25");
-          }
+      // Collect the section title, the field headings and the differing records, then write them
+      // below the last used row in one pass.
+      final List<Object[]> rowList = new ArrayList<>();
+      final List<String[]> styleList = new ArrayList<>();
+      rowList.add(new Object[] {section});
+      styleList.add(getHeadingStyles(1));
+      if (!listMapSection.isEmpty()) {
+        rowList.add(fieldNames.toArray());
+        styleList.add(getHeadingStyles(fieldNames.size()));
+      }
+      for (final Map<String, String> mapData : listMapSection) {
+        if ("Match".equals(mapData.get("Action"))) {
+          continue;
         }
-        row = excel.getRowCount(sheetName) + 1;
-        final Map<String, String> mapData = listMapSection.get(indexRecord);
-        final String action = mapData.get("Action");
-        if (!"Match".equals(action)) {
-          for (final String fieldName : fieldNames) {
-            column = resultColumns.get(fieldName);
-            final String fieldValue = mapData.get(fieldName);
-            if (JavaHelpers.hasValue(fieldValue)) {
-              excel.writeCell(sheetName, column, row, fieldValue);
-            }
+        final Object[] values = new Object[fieldNames.size()];
+        boolean hasData = false;
+        for (final String fieldName : fieldNames) {
+          final String fieldValue = mapData.get(fieldName);
+          if (JavaHelpers.hasValue(fieldValue)) {
+            values[resultColumns.get(fieldName)] = fieldValue;
+            hasData = true;
           }
         }
+        if (hasData) {
+          rowList.add(values);
+        }
       }
+      excel.writeRange(
+          sheetName,
+          0,
+          excel.getRowCount(sheetName) + 1,
+          rowList.toArray(new Object[0][]),
+          styleList.toArray(new String[0][]));
       for (final String fieldName : fieldNames) {
-        column = resultColumns.get(fieldName);
-        excel.autoSizeColumn(sheetName, column);
+        excel.autoSizeColumn(sheetName, resultColumns.get(fieldName));
       }
     } catch (final Exception e) {
       e.printStackTrace();
     }
   }
-
-  private static void updateCount(XLS excel, String field) throws QAException {
-    try {
-      final String sheetName = IExcel.SHEET_COUNTS;
-      final int column = MAP_INDEX_COUNTS.get(field);
-      final String value = excel.readCell(sheetName, column, 1);
-      int currentValue = Integer.valueOf(value);
-      currentValue++;
-      excel.writeCell(sheetName, column, 1, currentValue);
-      excel.save();
-    } catch (final Exception e) {
-      e.printStackTrace();
-    }
-  }
 }
@@ -0,0 +1,405 @@
+package com.cjs.qa.utilities;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.core.Environment;
+import com.cjs.qa.core.QAException;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Collects scenario results for the results report without serializing the scenarios.
+ *
+ * <p>Scenarios hand an immutable {@link ScenarioResult} to {@link #submit(ScenarioResult)}, which
+ * only adds it to a queue. A single writer thread per collector takes whatever is queued (up to
+ * {@code RESULT_COLLECTOR_BATCH_SIZE} results) and appends it to the journal of this JVM, one JSON
+ * line per result, so parallel scenarios never wait for each other or for the workbook. The report
+ * ({@code RESULTS.xls} and {@code RESULTS.html}) is written once by {@link #materialize()} at the
+ * end of the run.
+ *
+ * <p>Every JVM (each surefire fork) writes its own journal, {@code
+ * RESULTS-<run>-<computer>-<pid>.journal}, in the journal directory. {@link #materialize()} merges
+ * the journals of the current run only, in the order the scenarios finished, holding a lock on
+ * {@code RESULTS.lck} so that forks finishing at the same time do not write the report together;
+ * the fork that finishes last writes the complete report. The run id is passed to the forks by the
+ * build, so all forks of one {@code mvn} invocation share it; without one, a JVM only reports its
+ * own results. Journals of earlier runs are never read again and can be deleted. A JVM that
+ * submitted no results does not write the report.
+ *
+ * <p>Configuration (environment variable / system property):
+ *
+ * <ul>
+ *   <li>{@code RESULT_COLLECTOR_DIRECTORY} / {@code result.collector.directory} - directory of the
+ *       journals and the report ({@link CJSConstants#PATH_FILES_DATA})
+ *   <li>{@code RESULT_COLLECTOR_RUN_ID} / {@code result.collector.run.id} - id of the run whose
+ *       journals are merged (this JVM)
+ *   <li>{@code RESULT_COLLECTOR_BATCH_SIZE} / {@code result.collector.batch.size} - most results
+ *       appended to the journal in one write (100)
+ *   <li>{@code RESULT_COLLECTOR_FLUSH_SECONDS} / {@code result.collector.flush.seconds} - longest
+ *       wait for queued results at the end of the run and at JVM exit (60)
+ * </ul>
+ */
+public final class ResultCollector implements AutoCloseable {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(ResultCollector.class));
+
+  public static final String JOURNAL_EXTENSION = ".journal";
+  public static final String REPORT_NAME = "RESULTS";
+
+  private static final String DIRECTORY = getDirectory();
+  private static final String RUN_ID = getRunId();
+  private static final int BATCH_SIZE =
+      TuningConfig.getInt("RESULT_COLLECTOR_BATCH_SIZE", "result.collector.batch.size", 100);
+  private static final long FLUSH_SECONDS =
+      TuningConfig.getLong("RESULT_COLLECTOR_FLUSH_SECONDS", "result.collector.flush.seconds", 60L);
+  private static final Gson GSON = new Gson();
+  private static ResultCollector defaultCollector;
+
+  private final Path journalFile;
+  private final LinkedBlockingQueue<ScenarioResult> queue = new LinkedBlockingQueue<>();
+  private final AtomicLong submitted = new AtomicLong();
+  private final LongAdder journaled = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final Object monitor = new Object();
+  private final Thread writer;
+  // Guarded by monitor.
+  private long completed;
+
+  /**
+   * Starts a collector that appends to the given journal.
+   *
+   * @param journalFile the journal of this collector; created with its directory when the first
+   *     result is written
+   */
+  public ResultCollector(Path journalFile) {
+    this.journalFile = journalFile;
+    this.writer = new Thread(this::writeJournal, "result-collector-" + journalFile.getFileName());
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Returns the collector of this JVM, writing to {@code RESULTS-<run>-<computer>-<pid>.journal} in
+   * the journal directory. Queued results are flushed when the JVM exits.
+   *
+   * @return the collector of this JVM
+   */
+  public static synchronized ResultCollector getDefault() {
+    if (defaultCollector == null) {
+      final String journalName =
+          getJournalPrefix(RUN_ID)
+              + toFileName(Environment.getComputerName())
+              + "-"
+              + ProcessHandle.current().pid()
+              + JOURNAL_EXTENSION;
+      final ResultCollector resultCollector = new ResultCollector(Path.of(DIRECTORY, journalName));
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(resultCollector::flush, "result-collector-shutdown"));
+      defaultCollector = resultCollector;
+    }
+    return defaultCollector;
+  }
+
+  /**
+   * Queues a result for the journal; does not wait for the write.
+   *
+   * @param scenarioResult the result
+   */
+  public void submit(ScenarioResult scenarioResult) {
+    submitted.incrementAndGet();
+    queue.add(scenarioResult);
+  }
+
+  /**
+   * Waits until every result submitted so far is in the journal (or failed to be written).
+   *
+   * @param timeout longest time to wait
+   * @return true if nothing is queued any more
+   */
+  public boolean flush(Duration timeout) {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    synchronized (monitor) {
+      while (completed < submitted.get()) {
+        final long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+        if (remainingMillis <= 0) {
+          LOG.warn(
+              "{} results not yet written to [{}] after {}",
+              submitted.get() - completed,
+              journalFile,
+              timeout);
+          return false;
+        }
+        try {
+          monitor.wait(remainingMillis);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Waits up to {@code RESULT_COLLECTOR_FLUSH_SECONDS} for queued results.
+   *
+   * @return true if nothing is queued any more
+   */
+  public boolean flush() {
+    return flush(Duration.ofSeconds(FLUSH_SECONDS));
+  }
+
+  /**
+   * @return results submitted to this collector
+   */
+  public long getSubmittedCount() {
+    return submitted.get();
+  }
+
+  public Path getJournalFile() {
+    return journalFile;
+  }
+
+  /**
+   * @return results written to the journal
+   */
+  public long getJournaledCount() {
+    return journaled.sum();
+  }
+
+  /**
+   * @return results that could not be written to the journal
+   */
+  public long getFailedCount() {
+    return failed.sum();
+  }
+
+  /** Flushes queued results and stops the writer thread. */
+  @Override
+  public void close() {
+    flush();
+    writer.interrupt();
+    LOG.debug(
+        "Result collector [{}]: [{}] results in [{}] writes, [{}] failed",
+        journalFile,
+        journaled.sum(),
+        batches.sum(),
+        failed.sum());
+  }
+
+  /**
+   * Flushes the collector of this JVM and writes the report from the journals of all forks of the
+   * current run. Does nothing when this JVM submitted no results.
+   *
+   * @return results in the report, or 0 if it was not written
+   * @throws QAException if the report cannot be written
+   */
+  public static int materialize() throws QAException {
+    final ResultCollector resultCollector;
+    synchronized (ResultCollector.class) {
+      resultCollector = defaultCollector;
+    }
+    if (resultCollector == null || resultCollector.getSubmittedCount() == 0) {
+      LOG.debug("No results submitted in run [{}]; report not written", RUN_ID);
+      return 0;
+    }
+    resultCollector.flush();
+    final Path directory = Path.of(DIRECTORY);
+    return materialize(
+        directory, directory.resolve(REPORT_NAME + IExtension.XLS).toString(), RUN_ID);
+  }
+
+  /**
+   * Writes the report from all journals in a directory, replacing an existing report.
+   *
+   * @param journalDirectory the directory of the journals
+   * @param filePathName the .xls report
+   * @return results in the report
+   * @throws QAException if the journals cannot be read or the report cannot be written
+   * @see #materialize(Path, String, String)
+   */
+  public static int materialize(Path journalDirectory, String filePathName) throws QAException {
+    return materialize(journalDirectory, filePathName, null);
+  }
+
+  /**
+   * Writes the report from the journals of one run, replacing an existing report. The Excel report
+   * is written to a temporary file and moved into place, and an HTML summary is written next to it.
+   *
+   * @param journalDirectory the directory of the journals
+   * @param filePathName the .xls report
+   * @param runId the run whose journals are merged, or null for all journals in the directory
+   * @return results in the report
+   * @throws QAException if the journals cannot be read or the report cannot be written
+   */
+  public static synchronized int materialize(
+      Path journalDirectory, String filePathName, String runId) throws QAException {
+    final long startNanos = System.nanoTime();
+    final Path lockFile = journalDirectory.resolve(REPORT_NAME + ".lck");
+    try {
+      Files.createDirectories(journalDirectory);
+      try (FileChannel fileChannel =
+              FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+          FileLock fileLock = fileChannel.lock()) {
+        final List<ScenarioResult> resultList = readJournals(journalDirectory, runId);
+        final Path report = Path.of(filePathName);
+        final Path reportTemp =
+            report.resolveSibling(
+                REPORT_NAME + "-" + ProcessHandle.current().pid() + IExtension.XLS);
+        Files.deleteIfExists(reportTemp);
+        Reports.createReport(reportTemp.toString(), resultList);
+        Files.move(reportTemp, report, StandardCopyOption.REPLACE_EXISTING);
+        Reports.createReportHtml(
+            filePathName.substring(0, filePathName.lastIndexOf('.')) + IExtension.HTML,
+            resultList);
+        LOG.info(
+            "Wrote [{}] results to [{}] in [{}]ms",
+            resultList.size(),
+            filePathName,
+            (System.nanoTime() - startNanos) / 1_000_000);
+        return resultList.size();
+      }
+    } catch (final IOException e) {
+      throw new QAException("Error Writing Report [" + filePathName + "].", e);
+    }
+  }
+
+  /**
+   * Reads the results of every journal in a directory, ordered by the time the scenarios finished.
+   * Lines that cannot be parsed (e.g. the last line of a fork that was killed while writing) are
+   * skipped.
+   *
+   * @param journalDirectory the directory of the journals
+   * @return the results
+   * @throws IOException if a journal cannot be read
+   */
+  public static List<ScenarioResult> readJournals(Path journalDirectory) throws IOException {
+    return readJournals(journalDirectory, null);
+  }
+
+  /**
+   * Reads the results of the journals of one run, ordered by the time the scenarios finished.
+   *
+   * @param journalDirectory the directory of the journals
+   * @param runId the run, or null for every journal in the directory
+   * @return the results
+   * @throws IOException if a journal cannot be read
+   */
+  public static List<ScenarioResult> readJournals(Path journalDirectory, String runId)
+      throws IOException {
+    final List<ScenarioResult> resultList = new ArrayList<>();
+    if (!Files.isDirectory(journalDirectory)) {
+      return resultList;
+    }
+    final List<Path> journalList = new ArrayList<>();
+    try (DirectoryStream<Path> directoryStream =
+        Files.newDirectoryStream(
+            journalDirectory,
+            (runId == null ? "" : getJournalPrefix(runId)) + "*" + JOURNAL_EXTENSION)) {
+      directoryStream.forEach(journalList::add);
+    }
+    journalList.sort(Comparator.naturalOrder());
+    for (final Path journal : journalList) {
+      for (final String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          resultList.add(GSON.fromJson(line, ScenarioResult.class));
+        } catch (final JsonParseException e) {
+          LOG.warn("Skipping unreadable result in [{}]: {}", journal, e.getMessage());
+        }
+      }
+    }
+    resultList.sort(Comparator.comparingLong(ScenarioResult::recordedMillis));
+    return resultList;
+  }
+
+  private void writeJournal() {
+    final List<ScenarioResult> batch = new ArrayList<>();
+    while (true) {
+      try {
+        batch.add(queue.take());
+      } catch (final InterruptedException e) {
+        return;
+      }
+      queue.drainTo(batch, Math.max(1, BATCH_SIZE) - 1);
+      try {
+        final Path parent = journalFile.toAbsolutePath().getParent();
+        if (parent != null) {
+          Files.createDirectories(parent);
+        }
+        try (BufferedWriter bufferedWriter =
+            Files.newBufferedWriter(
+                journalFile,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+          for (final ScenarioResult scenarioResult : batch) {
+            bufferedWriter.write(GSON.toJson(scenarioResult));
+            bufferedWriter.newLine();
+          }
+        }
+        journaled.add(batch.size());
+        batches.increment();
+      } catch (final IOException | RuntimeException e) {
+        failed.add(batch.size());
+        LOG.error(
+            "Failed to write [{}] results to [{}]: {}", batch.size(), journalFile, e.getMessage());
+      }
+      synchronized (monitor) {
+        completed += batch.size();
+        monitor.notifyAll();
+      }
+      batch.clear();
+    }
+  }
+
+  /**
+   * Gets the start of the journal names of a run; the journal of each JVM of the run is this
+   * prefix followed by {@code <computer>-<pid>.journal}.
+   *
+   * @param runId the run
+   * @return {@code RESULTS-<run>-}
+   */
+  public static String getJournalPrefix(String runId) {
+    return REPORT_NAME + "-" + toFileName(runId) + "-";
+  }
+
+  private static String toFileName(String value) {
+    return value.replaceAll("[^A-Za-z0-9_.-]", "_");
+  }
+
+  private static String getRunId() {
+    final String runId =
+        TuningConfig.getValue("RESULT_COLLECTOR_RUN_ID", "result.collector.run.id");
+    // Unset (e.g. a single test run from the IDE): the run is this JVM.
+    return runId == null ? "pid" + ProcessHandle.current().pid() : toFileName(runId);
+  }
+
+  private static String getDirectory() {
+    final String directory =
+        TuningConfig.getValue("RESULT_COLLECTOR_DIRECTORY", "result.collector.directory");
+    return directory == null ? CJSConstants.PATH_FILES_DATA : directory;
+  }
+}
@@ -0,0 +1,81 @@
+package com.cjs.qa.utilities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable result of one finished scenario, as recorded by {@link ResultCollector} and written to
+ * the results report by {@link Reports#createReport}.
+ *
+ * <p>The maps are copied when the record is created (null values are dropped), so a scenario can
+ * keep changing its own maps after handing the result over.
+ *
+ * @param recordedMillis time the scenario finished, used to order results of several forks
+ * @param summary the "Summary" columns of the scenario, see {@link Reports#STRING_SUMMARY}
+ * @param errors scenario errors by number
+ * @param sections compare data by section ("Policy", "Product", "Forms")
+ */
+public record ScenarioResult(
+    long recordedMillis,
+    Map<String, String> summary,
+    Map<Integer, String> errors,
+    Map<String, List<Map<String, String>>> sections) {
+
+  public ScenarioResult {
+    summary = copyOf(summary);
+    errors = Collections.unmodifiableMap(new TreeMap<>(copyOf(errors)));
+    final Map<String, List<Map<String, String>>> sectionMap = new LinkedHashMap<>();
+    if (sections != null) {
+      for (final Map.Entry<String, List<Map<String, String>>> entry : sections.entrySet()) {
+        if (entry.getValue() != null) {
+          final List<Map<String, String>> rowList = new ArrayList<>();
+          for (final Map<String, String> row : entry.getValue()) {
+            rowList.add(copyOf(row));
+          }
+          sectionMap.put(entry.getKey(), Collections.unmodifiableList(rowList));
+        }
+      }
+    }
+    sections = Collections.unmodifiableMap(sectionMap);
+  }
+
+  /**
+   * Creates the result of a scenario from the maps the step definitions collect.
+   *
+   * @param mapListTest the "Summary" row and the compare sections of the scenario
+   * @param errors scenario errors by number
+   * @return the result, stamped with the current time
+   */
+  public static ScenarioResult of(
+      Map<String, List<Map<String, String>>> mapListTest, Map<Integer, String> errors) {
+    final List<Map<String, String>> listMapSummary = mapListTest.get("Summary");
+    final Map<String, String> summary =
+        listMapSummary == null || listMapSummary.isEmpty() ? Map.of() : listMapSummary.get(0);
+    final Map<String, List<Map<String, String>>> sections = new LinkedHashMap<>(mapListTest);
+    sections.remove("Summary");
+    return new ScenarioResult(System.currentTimeMillis(), summary, errors, sections);
+  }
+
+  /**
+   * @return true if the scenario status is "passed" (in any case)
+   */
+  public boolean isPassed() {
+    return "passed".equalsIgnoreCase(summary.get("Status"));
+  }
+
+  private static <K, V> Map<K, V> copyOf(Map<K, V> map) {
+    final Map<K, V> copy = new LinkedHashMap<>();
+    if (map != null) {
+      for (final Map.Entry<K, V> entry : map.entrySet()) {
+        if (entry.getKey() != null && entry.getValue() != null) {
+          copy.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    return Collections.unmodifiableMap(copy);
+  }
+}
@@ -1,10 +1,11 @@
 package com.cjs.qa.utilities;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.logging.log4j.LogManager;
 
@@ -36,7 +37,8 @@ public final class SeleniumGridConfig {
 
   private static final String ENV_VAR_NAME = "SELENIUM_REMOTE_URL";
   private static final String DEFAULT_GRID_URL = "http://localhost:4444/wd/hub";
-  private static final String STATUS_ENDPOINT = "/wd/hub/status";
+  private static final String HUB_PATH = "/wd/hub";
+  private static final String STATUS_ENDPOINT = "/status";
   private static final int CONNECTION_TIMEOUT_MS = 5000;
   private static final int READ_TIMEOUT_MS = 5000;
 
@@ -82,16 +84,41 @@ public static void validateGridVersion(String gridUrl) throws QAException {
    */
   public static boolean isGridReady(String gridUrl) throws QAException {
     try {
-      // Construct status URL
-      String statusUrl =
-          gridUrl.endsWith("/")
-              ? gridUrl + STATUS_ENDPOINT.substring(1)
-              : gridUrl + STATUS_ENDPOINT;
+      // Check if response contains "ready": true
+      String responseStr = getGridStatus(gridUrl);
+      boolean isReady =
+          responseStr.contains("\"ready\":true") || responseStr.contains("\"ready\" : true");
 
       if (LOG.isDebugEnabled()) {
-        LOG.debug("Checking Grid readiness at: {}", statusUrl);
+        LOG.debug("Grid readiness check result: {}", isReady);
       }
 
+      return isReady;
+    } catch (QAException e) {
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Grid readiness check failed: {}", e.getMessage());
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Reads the response of the Grid status endpoint.
+   *
+   * @param gridUrl The Grid hub URL, with or without {@code /wd/hub}
+   * @return The status JSON
+   * @throws QAException if the Grid does not answer with HTTP 200
+   */
+  public static String getGridStatus(String gridUrl) throws QAException {
+    String baseUrl = gridUrl.endsWith("/") ? gridUrl.substring(0, gridUrl.length() - 1) : gridUrl;
+    if (baseUrl.endsWith(HUB_PATH)) {
+      baseUrl = baseUrl.substring(0, baseUrl.length() - HUB_PATH.length());
+    }
+    String statusUrl = baseUrl + STATUS_ENDPOINT;
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Reading Grid status at: {}", statusUrl);
+    }
+    try {
       URL url = URI.create(statusUrl).toURL();
       HttpURLConnection connection = (HttpURLConnection) url.openConnection();
       connection.setRequestMethod("GET");
@@ -100,40 +127,18 @@ public static boolean isGridReady(String gridUrl) throws QAException {
 
       int responseCode = connection.getResponseCode();
       if (responseCode != HttpURLConnection.HTTP_OK) {
-        if (LOG.isDebugEnabled()) {
-          LOG.debug(
-              "Grid status check returned HTTP {}: {}",
-              responseCode,
-              connection.getResponseMessage());
-        }
-        return false;
+        throw new QAException(
+            String.format(
+                "Failed to get Grid status: HTTP %d - %s",
+                responseCode, connection.getResponseMessage()));
       }
 
-      // Read and parse response to check if ready
-      try (BufferedReader reader =
-          new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-        StringBuilder response = new StringBuilder();
-        String line;
-        while ((line = reader.readLine()) != null) {
-          response.append(line);
-        }
-
-        // Check if response contains "ready": true
-        String responseStr = response.toString();
-        boolean isReady =
-            responseStr.contains("\"ready\":true") || responseStr.contains("\"ready\" : true");
-
-        if (LOG.isDebugEnabled()) {
-          LOG.debug("Grid readiness check result: {}", isReady);
-        }
-
-        return isReady;
+      try (InputStream inputStream = connection.getInputStream()) {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
       }
-    } catch (Exception e) {
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Grid readiness check failed: {}", e.getMessage());
-      }
-      return false;
+    } catch (IOException | RuntimeException e) {
+      throw new QAException(
+          "Failed to read Grid status from " + statusUrl + ": " + e.getMessage(), e);
     }
   }
 
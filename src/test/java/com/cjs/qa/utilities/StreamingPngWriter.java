@@ -0,0 +1,205 @@
+package com.cjs.qa.utilities;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes an 8-bit RGB PNG one row at a time.
+ *
+ * <p>{@link javax.imageio.ImageIO} needs the whole image as a {@link java.awt.image.BufferedImage};
+ * for a stitched full-page screenshot that is width x height x 4 bytes of heap before encoding
+ * starts. This writer only holds one row and a small compression buffer: rows are deflated as they
+ * arrive and written out in {@code IDAT} chunks of {@code CHUNK_SIZE} bytes.
+ *
+ * <p>The image height must be known up front because it is part of the PNG header; {@link
+ * #close()} fails if fewer rows were written.
+ *
+ * <pre>{@code
+ * try (StreamingPngWriter writer = new StreamingPngWriter(outputStream, width, height)) {
+ *   for (int y = 0; y < height; y++) {
+ *     writer.writeRow(argbRow);
+ *   }
+ * }
+ * }</pre>
+ */
+public final class StreamingPngWriter implements AutoCloseable {
+
+  private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int BIT_DEPTH = 8;
+  private static final int COLOR_TYPE_RGB = 2;
+  private static final int BYTES_PER_PIXEL = 3;
+  // PNG row filter types
+  private static final int FILTER_SUB = 1;
+
+  private final DataOutputStream outputStream;
+  private final int width;
+  private final int height;
+  private final Deflater deflater;
+  private final IdatOutputStream idatOutputStream;
+  private final DeflaterOutputStream deflaterOutputStream;
+  private final byte[] rowBytes;
+  private int rowsWritten;
+  private boolean closed;
+
+  /**
+   * Writes the PNG header.
+   *
+   * @param outputStream receives the PNG; not closed by this writer
+   * @param width image width in pixels
+   * @param height image height in pixels
+   * @throws IOException if the header cannot be written
+   */
+  public StreamingPngWriter(OutputStream outputStream, int width, int height) throws IOException {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException(
+          "Image must be at least 1x1: width [" + width + "], height [" + height + "]");
+    }
+    this.outputStream = new DataOutputStream(outputStream);
+    this.width = width;
+    this.height = height;
+    this.rowBytes = new byte[1 + width * BYTES_PER_PIXEL];
+    this.deflater = new Deflater(Deflater.BEST_SPEED);
+    this.idatOutputStream = new IdatOutputStream();
+    this.deflaterOutputStream = new DeflaterOutputStream(idatOutputStream, deflater, CHUNK_SIZE);
+    this.outputStream.write(SIGNATURE);
+    final ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+    final DataOutputStream headerData = new DataOutputStream(header);
+    headerData.writeInt(width);
+    headerData.writeInt(height);
+    headerData.writeByte(BIT_DEPTH);
+    headerData.writeByte(COLOR_TYPE_RGB);
+    headerData.writeByte(0); // compression: deflate
+    headerData.writeByte(0); // filter method: adaptive
+    headerData.writeByte(0); // interlace: none
+    writeChunk("IHDR", header.toByteArray(), header.size());
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getRowsWritten() {
+    return rowsWritten;
+  }
+
+  /**
+   * Writes the next row. Alpha is dropped.
+   *
+   * @param argb at least {@code width} pixels in {@link java.awt.image.BufferedImage#getRGB} format
+   * @throws IOException if the row cannot be written
+   */
+  public void writeRow(int[] argb) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("PNG writer is closed");
+    }
+    if (rowsWritten >= height) {
+      throw new IllegalStateException("All " + height + " rows have been written");
+    }
+    // The Sub filter stores each byte as the difference to the pixel on its left, which turns the
+    // flat areas of a screenshot into runs of zeros that deflate well.
+    rowBytes[0] = FILTER_SUB;
+    int previousRed = 0;
+    int previousGreen = 0;
+    int previousBlue = 0;
+    for (int x = 0, index = 1; x < width; x++) {
+      final int red = (argb[x] >> 16) & 0xFF;
+      final int green = (argb[x] >> 8) & 0xFF;
+      final int blue = argb[x] & 0xFF;
+      rowBytes[index++] = (byte) (red - previousRed);
+      rowBytes[index++] = (byte) (green - previousGreen);
+      rowBytes[index++] = (byte) (blue - previousBlue);
+      previousRed = red;
+      previousGreen = green;
+      previousBlue = blue;
+    }
+    deflaterOutputStream.write(rowBytes);
+    rowsWritten++;
+  }
+
+  /**
+   * Flushes the remaining image data and writes the PNG trailer.
+   *
+   * @throws IOException if the data cannot be written, or if fewer than {@code height} rows were
+   *     written
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (rowsWritten != height) {
+        throw new IOException("PNG has " + rowsWritten + " of " + height + " rows");
+      }
+      deflaterOutputStream.finish();
+      idatOutputStream.flush();
+      writeChunk("IEND", new byte[0], 0);
+      outputStream.flush();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeChunk(String type, byte[] data, int length) throws IOException {
+    final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    final CRC32 crc32 = new CRC32();
+    crc32.update(typeBytes);
+    crc32.update(data, 0, length);
+    outputStream.writeInt(length);
+    outputStream.write(typeBytes);
+    outputStream.write(data, 0, length);
+    outputStream.writeInt((int) crc32.getValue());
+  }
+
+  /** Receives deflated data and writes it as IDAT chunks. */
+  private final class IdatOutputStream extends OutputStream {
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+    private int count;
+
+    @Override
+    public void write(int value) throws IOException {
+      if (count == buffer.length) {
+        flushChunk();
+      }
+      buffer[count++] = (byte) value;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      while (length > 0) {
+        if (count == buffer.length) {
+          flushChunk();
+        }
+        final int copy = Math.min(length, buffer.length - count);
+        System.arraycopy(bytes, offset, buffer, count, copy);
+        count += copy;
+        offset += copy;
+        length -= copy;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      flushChunk();
+    }
+
+    private void flushChunk() throws IOException {
+      if (count > 0) {
+        writeChunk("IDAT", buffer, count);
+        count = 0;
+      }
+    }
+  }
+}
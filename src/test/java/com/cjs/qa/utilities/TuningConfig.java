@@ -0,0 +1,117 @@
+package com.cjs.qa.utilities;
+
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Reads numeric and boolean tuning values (pool sizes, timeouts, batch sizes) from the environment
+ * or from system properties.
+ *
+ * <p>Lookup order matches {@link RetryableGridConnection}: the environment variable is checked
+ * first, then the system property, then the supplied default. Invalid values are logged and the
+ * default is used.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * int maxSize = TuningConfig.getInt("JDBC_POOL_MAX_SIZE", "jdbc.pool.max.size", 10);
+ * }</pre>
+ */
+public final class TuningConfig {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(TuningConfig.class));
+
+  private TuningConfig() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Gets a raw value from the environment variable or system property.
+   *
+   * @param envName environment variable name (e.g. "JDBC_POOL_MAX_SIZE")
+   * @param propertyName system property name (e.g. "jdbc.pool.max.size")
+   * @return the configured value, or null if neither is set
+   */
+  public static String getValue(String envName, String propertyName) {
+    String value = System.getenv(envName);
+    if (value != null && !value.isEmpty()) {
+      return value.trim();
+    }
+    value = System.getProperty(propertyName);
+    if (value != null && !value.isEmpty()) {
+      return value.trim();
+    }
+    return null;
+  }
+
+  /**
+   * Gets an int value from configuration.
+   *
+   * @param envName environment variable name
+   * @param propertyName system property name
+   * @param defaultValue value used when nothing (or an invalid value) is configured
+   * @return the configured value or the default
+   */
+  public static int getInt(String envName, String propertyName, int defaultValue) {
+    final String value = getValue(envName, propertyName);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      LOG.warn("Invalid {} value: {}. Using default: {}", propertyName, value, defaultValue);
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Gets a long value from configuration.
+   *
+   * @param envName environment variable name
+   * @param propertyName system property name
+   * @param defaultValue value used when nothing (or an invalid value) is configured
+   * @return the configured value or the default
+   */
+  public static long getLong(String envName, String propertyName, long defaultValue) {
+    final String value = getValue(envName, propertyName);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      LOG.warn("Invalid {} value: {}. Using default: {}", propertyName, value, defaultValue);
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Gets a boolean value from configuration. Accepts true/false, yes/no and 1/0.
+   *
+   * @param envName environment variable name
+   * @param propertyName system property name
+   * @param defaultValue value used when nothing (or an invalid value) is configured
+   * @return the configured value or the default
+   */
+  public static boolean getBoolean(String envName, String propertyName, boolean defaultValue) {
+    final String value = getValue(envName, propertyName);
+    if (value == null) {
+      return defaultValue;
+    }
+    switch (value.toLowerCase(Locale.ENGLISH)) {
+      case "true", "yes", "1" -> {
+        return true;
+      }
+      case "false", "no", "0" -> {
+        return false;
+      }
+      default -> {
+        LOG.warn("Invalid {} value: {}. Using default: {}", propertyName, value, defaultValue);
+        return defaultValue;
+      }
+    }
+  }
+}
@@ -5,14 +5,20 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -22,6 +28,7 @@
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.apache.logging.log4j.LogManager;
@@ -47,7 +54,32 @@ public class XML {
 
   private static final GuardedLogger LOG = new GuardedLogger(LogManager.getLogger(XML.class));
   public static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
-  public static final XPath XPATH = XPATH_FACTORY.newXPath();
+
+  /**
+   * @deprecated {@link XPath} is not thread-safe and compiling through it bypasses the expression
+   *     cache; use {@link #compileXPath(String)} or {@link #evaluateNodeList(Node, String)}.
+   */
+  @Deprecated public static final XPath XPATH = XPATH_FACTORY.newXPath();
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+  private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY =
+      createDocumentBuilderFactory();
+  private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER =
+      ThreadLocal.withInitial(XML::newDocumentBuilder);
+  public static final int XPATH_CACHE_SIZE =
+      TuningConfig.getInt("XML_XPATH_CACHE_SIZE", "xml.xpath.cache.size", 256);
+  private static final ThreadLocal<XPath> XPATH_LOCAL = ThreadLocal.withInitial(XML::newXPath);
+  private static final ThreadLocal<Map<String, XPathExpression>> XPATH_EXPRESSION_CACHE =
+      ThreadLocal.withInitial(
+          () ->
+              new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+                  return size() > XPATH_CACHE_SIZE;
+                }
+              });
   public static final String ENCLOSURE_DELIMETER = "/";
   public static final String ENCLOSURE_LEFT = "<";
   public static final String ENCLOSURE_RIGHT = ">";
@@ -80,30 +112,106 @@ public XML(String xml) {
     LOG.debug("XPathConstants.NODESET: {}", XPathConstants.NODESET.toString());
     final String xpath = "";
     try {
-      XPATH.compile(xpath);
+      compileXPath(xpath);
     } catch (final Exception e) {
       LOG.error("Error in XML operation", e);
     }
   }
 
+  private static XMLInputFactory createXMLInputFactory() {
+    final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return xmlInputFactory;
+  }
+
+  /** Builds the shared factory with external entity expansion disabled to prevent XXE attacks. */
+  private static DocumentBuilderFactory createDocumentBuilderFactory() {
+    final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    try {
+      documentBuilderFactory.setFeature(
+          "http://apache.org/xml/features/disallow-doctype-decl", true);
+      documentBuilderFactory.setFeature(
+          "http://xml.org/sax/features/external-general-entities", false);
+      documentBuilderFactory.setFeature(
+          "http://xml.org/sax/features/external-parameter-entities", false);
+      documentBuilderFactory.setFeature(
+          "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+    } catch (final ParserConfigurationException e) {
+      throw new IllegalStateException("Unable to harden DocumentBuilderFactory", e);
+    }
+    documentBuilderFactory.setExpandEntityReferences(false);
+    return documentBuilderFactory;
+  }
+
+  private static DocumentBuilder newDocumentBuilder() {
+    // DocumentBuilderFactory itself is not guaranteed to be thread-safe.
+    synchronized (DOCUMENT_BUILDER_FACTORY) {
+      try {
+        return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+      } catch (final ParserConfigurationException e) {
+        throw new IllegalStateException("Unable to create DocumentBuilder", e);
+      }
+    }
+  }
+
+  private static XPath newXPath() {
+    synchronized (XPATH_FACTORY) {
+      return XPATH_FACTORY.newXPath();
+    }
+  }
+
+  /**
+   * Gets the calling thread's hardened {@link DocumentBuilder}, reset so that no state from a
+   * previous parse carries over. The builder must not be handed to another thread.
+   *
+   * @return the thread's document builder
+   */
+  public static DocumentBuilder getDocumentBuilder() {
+    final DocumentBuilder documentBuilder = DOCUMENT_BUILDER.get();
+    documentBuilder.reset();
+    return documentBuilder;
+  }
+
+  /**
+   * Compiles an XPath expression, reusing the calling thread's compiled copy when the same
+   * expression was compiled before. Each thread keeps at most {@link #XPATH_CACHE_SIZE} expressions
+   * (least recently used are dropped). The result must not be shared between threads.
+   *
+   * @param xPath the expression
+   * @return the compiled expression
+   * @throws XPathExpressionException if the expression is invalid
+   */
+  public static XPathExpression compileXPath(String xPath) throws XPathExpressionException {
+    final Map<String, XPathExpression> cacheMap = XPATH_EXPRESSION_CACHE.get();
+    XPathExpression xpathExpression = cacheMap.get(xPath);
+    if (xpathExpression == null) {
+      xpathExpression = XPATH_LOCAL.get().compile(xPath);
+      cacheMap.put(xPath, xpathExpression);
+    }
+    return xpathExpression;
+  }
+
+  /**
+   * Evaluates an XPath expression against a node using the calling thread's cached compilation.
+   *
+   * @param node the context node (usually a {@link Document})
+   * @param xPath the expression
+   * @return the matching nodes
+   * @throws XPathExpressionException if the expression is invalid or cannot be evaluated
+   */
+  public static NodeList evaluateNodeList(Node node, String xPath)
+      throws XPathExpressionException {
+    return (NodeList) compileXPath(xPath).evaluate(node, XPathConstants.NODESET);
+  }
+
   /**
    * @param xml
    * @return
    * @throws Exception
    */
   public static Document createDocument(File xml) throws Exception {
-    final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-    // Disable external entity expansion to prevent XXE attacks
-    documentBuilderFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    documentBuilderFactory.setFeature(
-        "http://xml.org/sax/features/external-general-entities", false);
-    documentBuilderFactory.setFeature(
-        "http://xml.org/sax/features/external-parameter-entities", false);
-    documentBuilderFactory.setFeature(
-        "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-    documentBuilderFactory.setExpandEntityReferences(false);
-    final DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-    Document document = documentBuilder.parse(xml);
+    Document document = getDocumentBuilder().parse(xml);
     // read this -
     // http://stackoverflow" + IExtension.COM +
     // "/questions/13786607/normalization-in-dom-parsing-with-java-how-does-it-work
@@ -118,17 +226,7 @@ public static Document createDocument(File xml) throws Exception {
    */
   public static Document createDocument(String xml) throws Exception {
     Document document = null;
-    final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-    // Disable external entity expansion to prevent XXE attacks
-    documentBuilderFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-    documentBuilderFactory.setFeature(
-        "http://xml.org/sax/features/external-general-entities", false);
-    documentBuilderFactory.setFeature(
-        "http://xml.org/sax/features/external-parameter-entities", false);
-    documentBuilderFactory.setFeature(
-        "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-    documentBuilderFactory.setExpandEntityReferences(false);
-    final DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    final DocumentBuilder documentBuilder = getDocumentBuilder();
     try (StringReader stringReader = new StringReader(xml)) {
       document = documentBuilder.parse(new InputSource(stringReader));
     }
@@ -208,12 +306,76 @@ public static String getNode(String xml, String tagName, String elementTagName)
    * @throws Exception
    */
   public static NodeList getNodeList(String xml, String xPath) throws Exception {
-    final Document document = createDocument(xml);
-    final XPathExpression xpathExpression = XPATH.compile(xPath);
-    return (NodeList) xpathExpression.evaluate(document, XPathConstants.NODESET);
+    return evaluateNodeList(createDocument(xml), xPath);
+  }
+
+  /**
+   * Creates a streaming (StAX) reader over an XML string. DTDs and external entities are disabled.
+   * The caller must close the reader.
+   *
+   * @param xml the document
+   * @return a reader positioned before the first event
+   * @throws XMLStreamException if the reader cannot be created
+   */
+  public static XMLStreamReader createXMLStreamReader(String xml) throws XMLStreamException {
+    return XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+  }
+
+  /**
+   * Creates a streaming (StAX) reader over an input stream, taking the encoding from the XML
+   * declaration. DTDs and external entities are disabled. The caller must close the reader; the
+   * stream is left open.
+   *
+   * @param inputStream the document
+   * @return a reader positioned before the first event
+   * @throws XMLStreamException if the reader cannot be created
+   */
+  public static XMLStreamReader createXMLStreamReader(InputStream inputStream)
+      throws XMLStreamException {
+    return XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+  }
+
+  /**
+   * Counts the {@code childName} elements that are direct children of a {@code parentName}
+   * element. The document is read with a streaming (StAX) reader, so no DOM is built; use this when
+   * only the number of records in a response is needed.
+   *
+   * @param xml the document
+   * @param parentName local name of the enclosing element (e.g. "Results")
+   * @param childName local name of the counted element (e.g. "Item")
+   * @return the number of matching child elements
+   * @throws XMLStreamException if the document is not well formed
+   */
+  public static int countChildElements(String xml, String parentName, String childName)
+      throws XMLStreamException {
+    final XMLStreamReader xmlStreamReader = createXMLStreamReader(xml);
+    final List<String> pathList = new ArrayList<>();
+    int count = 0;
+    try {
+      while (xmlStreamReader.hasNext()) {
+        final int event = xmlStreamReader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          final String localName = xmlStreamReader.getLocalName();
+          if (childName.equals(localName)
+              && !pathList.isEmpty()
+              && parentName.equals(pathList.get(pathList.size() - 1))) {
+            count++;
+          }
+          pathList.add(localName);
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          pathList.remove(pathList.size() - 1);
+        }
+      }
+    } finally {
+      xmlStreamReader.close();
+    }
+    return count;
   }
 
   /**
+   * Gets the text of every {@code elementTagName} element inside a {@code tagName} element. The
+   * document is streamed (see {@link XMLStreamExtractor#forEachValue}), so no DOM is built.
+   *
    * @param xml
    * @param tagName
    * @param elementTagName
@@ -223,22 +385,9 @@ public static NodeList getNodeList(String xml, String xPath) throws Exception {
   public static List<String> getNodes(String xml, String tagName, String elementTagName)
       throws Exception {
     final List<String> list = new ArrayList<>();
-    String value = null;
-    final Document document = createDocument(xml);
-    final NodeList nodeList = document.getElementsByTagName(tagName);
-    // sysOut("----------------------------");
-    for (int index = 0; index < nodeList.getLength(); index++) {
-      final Node node = nodeList.item(index);
-      if (node.getNodeType() == Node.ELEMENT_NODE) {
-        final Element element = (Element) node;
-        final int elementCount = element.getElementsByTagName(elementTagName).getLength();
-        LOG.debug("elementCount: [{}]", elementCount);
-        for (int indexElement = 0; indexElement < elementCount; indexElement++) {
-          value = element.getElementsByTagName(elementTagName).item(indexElement).getTextContent();
-          list.add(value);
-        }
-      }
-    }
+    final int elementCount =
+        XMLStreamExtractor.forEachValue(xml, tagName, elementTagName, list::add);
+    LOG.debug("elementCount: [{}]", elementCount);
     return list;
   }
 
@@ -417,22 +566,9 @@ public static String formatPretty(String xml) throws QAException {
     InputSource inputSource = new InputSource("");
     try (StringReader stringReader = new StringReader(xml)) {
       inputSource = new InputSource(stringReader);
-      final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-      // Disable external entity expansion to prevent XXE attacks
-      documentBuilderFactory.setFeature(
-          "http://apache.org/xml/features/disallow-doctype-decl", true);
-      documentBuilderFactory.setFeature(
-          "http://xml.org/sax/features/external-general-entities", false);
-      documentBuilderFactory.setFeature(
-          "http://xml.org/sax/features/external-parameter-entities", false);
-      documentBuilderFactory.setFeature(
-          "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-      documentBuilderFactory.setExpandEntityReferences(false);
-      element = documentBuilderFactory.newDocumentBuilder().parse(inputSource).getDocumentElement();
-    } catch (SAXException | IOException | ParserConfigurationException e) {
-      throw new QAException(
-          "DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(" + inputSource + ")",
-          e);
+      element = getDocumentBuilder().parse(inputSource).getDocumentElement();
+    } catch (SAXException | IOException e) {
+      throw new QAException("getDocumentBuilder().parse(" + inputSource + ")", e);
     }
     final Boolean keepDeclaration = xml.startsWith("<?xml");
     DOMImplementationRegistry domImplementationRegistry;
@@ -0,0 +1,256 @@
+package com.cjs.qa.utilities;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Pulls records and values out of XML with a streaming (StAX) reader instead of a DOM.
+ *
+ * <p>Only the record currently being read is held in memory, so large export files (event
+ * attendees, registrations, SaExport results) can be processed in bounded memory, and each element
+ * is visited once rather than re-searched with {@code getElementsByTagName} per value.
+ *
+ * <p>A record is every element with a given name. It is handed to a {@link RecordHandler} as a map
+ * keyed by the path of each descendant relative to the record, joined with "/":
+ *
+ * <pre>
+ * &lt;Attendee Type="A"&gt;                          "@Type"                       = "A"
+ *   &lt;ID&gt;1&lt;/ID&gt;                                 "ID"                          = "1"
+ *   &lt;DataSet&gt;
+ *     &lt;Company ExportValue="HP"&gt;HP&lt;/Company&gt;     "DataSet/Company"             = "HP"
+ *                                                 "DataSet/Company@ExportValue" = "HP"
+ *   &lt;/DataSet&gt;
+ * &lt;/Attendee&gt;
+ * </pre>
+ *
+ * <p>Attributes are keyed as the element path, "@" and the attribute name (the record element's
+ * own attributes have an empty path). Element values are the element's own text, not its
+ * descendants'. When a path repeats inside one record the first occurrence wins, matching {@code
+ * getElementsByTagName(name).item(0)}.
+ */
+public final class XMLStreamExtractor {
+
+  public static final String PATH_DELIMITER = "/";
+  public static final String ATTRIBUTE_DELIMITER = "@";
+
+  private XMLStreamExtractor() {
+    // Utility class - prevent instantiation
+  }
+
+  /** Receives each record as soon as its closing tag has been read. */
+  @FunctionalInterface
+  public interface RecordHandler {
+    /**
+     * @param recordMap relative path to value for the record; a new map for every record
+     * @throws Exception to stop reading
+     */
+    void handle(Map<String, String> recordMap) throws Exception;
+  }
+
+  /** Receives each extracted value in document order. */
+  @FunctionalInterface
+  public interface ValueHandler {
+    /**
+     * @param value full text content of the element
+     * @throws Exception to stop reading
+     */
+    void handle(String value) throws Exception;
+  }
+
+  /**
+   * Streams the records of a file.
+   *
+   * @param file the document
+   * @param recordName local name of the record element
+   * @param recordHandler called once per record
+   * @return the number of records read
+   * @throws Exception if the file cannot be read or the handler fails
+   */
+  public static int forEachRecord(File file, String recordName, RecordHandler recordHandler)
+      throws Exception {
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+      return forEachRecord(inputStream, recordName, recordHandler);
+    }
+  }
+
+  /**
+   * Streams the records of an input stream. The stream is not closed.
+   *
+   * @param inputStream the document; the encoding is taken from its declaration
+   * @param recordName local name of the record element
+   * @param recordHandler called once per record
+   * @return the number of records read
+   * @throws Exception if the document is not well formed or the handler fails
+   */
+  public static int forEachRecord(
+      InputStream inputStream, String recordName, RecordHandler recordHandler) throws Exception {
+    return forEachRecord(XML.createXMLStreamReader(inputStream), recordName, recordHandler);
+  }
+
+  /**
+   * Streams the records of an XML string.
+   *
+   * @param xml the document
+   * @param recordName local name of the record element
+   * @param recordHandler called once per record
+   * @return the number of records read
+   * @throws Exception if the document is not well formed or the handler fails
+   */
+  public static int forEachRecord(String xml, String recordName, RecordHandler recordHandler)
+      throws Exception {
+    return forEachRecord(XML.createXMLStreamReader(xml), recordName, recordHandler);
+  }
+
+  /**
+   * Reads every record of an XML string into a list. Prefer {@link #forEachRecord(String, String,
+   * RecordHandler)} for large documents.
+   *
+   * @param xml the document
+   * @param recordName local name of the record element
+   * @return one map per record, in document order
+   * @throws Exception if the document is not well formed
+   */
+  public static List<Map<String, String>> getRecords(String xml, String recordName)
+      throws Exception {
+    final List<Map<String, String>> recordList = new ArrayList<>();
+    forEachRecord(xml, recordName, recordList::add);
+    return recordList;
+  }
+
+  /**
+   * Streams the text of every {@code elementName} element inside a {@code parentName} element,
+   * which is what {@link XML#getNodes(String, String, String)} returns.
+   *
+   * @param xml the document
+   * @param parentName local name of the enclosing element
+   * @param elementName local name of the elements whose text is wanted
+   * @param valueHandler called once per value
+   * @return the number of values read
+   * @throws Exception if the document is not well formed or the handler fails
+   */
+  public static int forEachValue(
+      String xml, String parentName, String elementName, ValueHandler valueHandler)
+      throws Exception {
+    final XMLStreamReader xmlStreamReader = XML.createXMLStreamReader(xml);
+    // Open parentName elements; values outside of one are ignored.
+    int parentDepth = 0;
+    // Text of the open elementName elements, outermost first (they can nest).
+    final List<StringBuilder> valueList = new ArrayList<>();
+    int count = 0;
+    try {
+      while (xmlStreamReader.hasNext()) {
+        switch (xmlStreamReader.next()) {
+          case XMLStreamConstants.START_ELEMENT -> {
+            final String localName = xmlStreamReader.getLocalName();
+            if (parentDepth > 0 && elementName.equals(localName)) {
+              valueList.add(new StringBuilder());
+            }
+            if (parentName.equals(localName)) {
+              parentDepth++;
+            }
+          }
+          case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+            for (final StringBuilder stringBuilder : valueList) {
+              stringBuilder.append(xmlStreamReader.getText());
+            }
+          }
+          case XMLStreamConstants.END_ELEMENT -> {
+            final String localName = xmlStreamReader.getLocalName();
+            if (parentName.equals(localName)) {
+              parentDepth--;
+            }
+            if (elementName.equals(localName) && !valueList.isEmpty()) {
+              valueHandler.handle(valueList.remove(valueList.size() - 1).toString());
+              count++;
+            }
+          }
+          default -> {
+            // Comments, processing instructions and whitespace outside elements are ignored.
+          }
+        }
+      }
+    } finally {
+      xmlStreamReader.close();
+    }
+    return count;
+  }
+
+  private static int forEachRecord(
+      XMLStreamReader xmlStreamReader, String recordName, RecordHandler recordHandler)
+      throws Exception {
+    Map<String, String> recordMap = null;
+    // Paths and own text of the open elements below the record element.
+    final List<String> pathList = new ArrayList<>();
+    final List<StringBuilder> textList = new ArrayList<>();
+    int count = 0;
+    try {
+      while (xmlStreamReader.hasNext()) {
+        final int event = xmlStreamReader.next();
+        if (recordMap == null) {
+          if (event == XMLStreamConstants.START_ELEMENT
+              && recordName.equals(xmlStreamReader.getLocalName())) {
+            recordMap = new LinkedHashMap<>();
+            putAttributes(xmlStreamReader, "", recordMap);
+          }
+          continue;
+        }
+        switch (event) {
+          case XMLStreamConstants.START_ELEMENT -> {
+            final String localName = xmlStreamReader.getLocalName();
+            final String path =
+                pathList.isEmpty()
+                    ? localName
+                    : pathList.get(pathList.size() - 1) + PATH_DELIMITER + localName;
+            pathList.add(path);
+            textList.add(new StringBuilder());
+            putAttributes(xmlStreamReader, path, recordMap);
+          }
+          case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+            if (!textList.isEmpty()) {
+              textList.get(textList.size() - 1).append(xmlStreamReader.getText());
+            }
+          }
+          case XMLStreamConstants.END_ELEMENT -> {
+            if (pathList.isEmpty()) {
+              // The record element itself has closed.
+              recordHandler.handle(recordMap);
+              recordMap = null;
+              count++;
+            } else {
+              final int last = pathList.size() - 1;
+              recordMap.putIfAbsent(pathList.remove(last), textList.remove(last).toString());
+            }
+          }
+          default -> {
+            // Comments and processing instructions are ignored.
+          }
+        }
+      }
+    } catch (final XMLStreamException e) {
+      throw new XMLStreamException(
+          "Unable to read [" + recordName + "] record [" + (count + 1) + "]", e);
+    } finally {
+      xmlStreamReader.close();
+    }
+    return count;
+  }
+
+  private static void putAttributes(
+      XMLStreamReader xmlStreamReader, String path, Map<String, String> recordMap) {
+    for (int index = 0; index < xmlStreamReader.getAttributeCount(); index++) {
+      recordMap.putIfAbsent(
+          path + ATTRIBUTE_DELIMITER + xmlStreamReader.getAttributeLocalName(index),
+          xmlStreamReader.getAttributeValue(index));
+    }
+  }
+}
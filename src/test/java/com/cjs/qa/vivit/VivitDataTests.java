@@ -15,6 +15,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.UnaryOperator;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +33,7 @@
 import com.cjs.qa.jdbc.DBParameters;
 import com.cjs.qa.jdbc.JDBC;
 import com.cjs.qa.jdbc.JDBCConstants;
+import com.cjs.qa.jdbc.RowCursor;
 import com.cjs.qa.jdbc.SQL;
 import com.cjs.qa.jenkins.Jenkins;
 import com.cjs.qa.microsoft.excel.IExcel;
@@ -88,6 +90,8 @@ public class VivitDataTests extends Environment {
   public static final String LABEL_SEND_EMAIL = "sendEmail";
   public static final String LABEL_TABLE_NAME = "tableName";
   public static final String LABEL_WEB_SITE_MEMBER_ID = "Web_Site_Member_ID";
+  private static final String LABEL_CURRENT = "_Current";
+  private static final String LABEL_PREVIOUS = "_Previous";
   public static final String QUERY_REPORT_AUTOMATION_EMAIL =
       JDBCConstants.SELECT
           + "[EMail] "
@@ -1901,117 +1905,11 @@ public static void getGoogleFlights(
   public static void getHTMLBrokenLinks() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList()));
-    JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
     final String sql =
         JDBCConstants.SELECT_ALL + JDBCConstants.FROM + VivitViews.VIVIT_BROKEN_LINKS;
-    final List<Map<Integer, String>> brokenLinksListMap = jdbc.queryResultsIndex(sql, true);
-    jdbc.close();
-    final StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append(
-        "<table class="
-            + Constants.QUOTE_DOUBLE
-            + "scroll"
-            + Constants.QUOTE_DOUBLE
-            + " style="
-            + Constants.QUOTE_DOUBLE
-            + STYLE_BORDER
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    stringBuilder.append("<tr>");
-    stringBuilder.append(
-        "<th style="
-            + Constants.QUOTE_DOUBLE
-            + "border: 1px solid black; border-collapse: collapse; background-color: "
-            + ColorsHEX.VIVIT_GOLD.getValue()
-            + ";"
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    // Need to account for the headings map.
-    stringBuilder.append("Broken Links (" + (brokenLinksListMap.size() - 1) + ")");
-    stringBuilder.append("</th>");
-    stringBuilder.append("</tr>");
-    stringBuilder.append("</table>");
-    final Map<String, Integer> fieldNameMap = new HashMap<>();
-    for (int brokenLinksListMapIndex = 0;
-        brokenLinksListMapIndex < brokenLinksListMap.size();
-        brokenLinksListMapIndex++) {
-      final Map<Integer, String> brokenLinkMap = brokenLinksListMap.get(brokenLinksListMapIndex);
-      sysOut("brokenLinkMap:" + brokenLinkMap.toString());
-      if (brokenLinksListMapIndex == 0) {
-        stringBuilder.append(
-            "<table class="
-                + Constants.QUOTE_DOUBLE
-                + "scroll"
-                + Constants.QUOTE_DOUBLE
-                + " style="
-                + Constants.QUOTE_DOUBLE
-                + STYLE_BORDER
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("<thead>");
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : brokenLinkMap.entrySet()) {
-          stringBuilder.append(
-              "<th style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + " background-color: "
-                  + ColorsHEX.VIVIT_LIGHTBLUE.getValue()
-                  + ";"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          fieldNameMap.put(value, key);
-          stringBuilder.append("<b>" + value + "</b>");
-          stringBuilder.append("</th>");
-        }
-        stringBuilder.append("</tr>");
-        stringBuilder.append("</thead>");
-        stringBuilder.append("<tbody>");
-      } else {
-        // stringBuilder.append("<tbody>")
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : brokenLinkMap.entrySet()) {
-          stringBuilder.append(
-              "<td style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          int keyChapterULR = fieldNameMap.get("ChapterURL");
-          if (key == keyChapterULR) {
-            stringBuilder.append(HTML.link(value, value));
-          } else {
-            stringBuilder.append(value);
-          }
-          stringBuilder.append("</td>");
-        }
-        stringBuilder.append("</tr>");
-        // stringBuilder.append("</tbody>")
-      }
-    }
-    if (brokenLinksListMap.size() == 1) {
-      // stringBuilder.append("<tbody>")
-      stringBuilder.append("<tr>");
-      for (int i = 0; i < fieldNameMap.size(); i++) {
-        stringBuilder.append(
-            "<td style="
-                + Constants.QUOTE_DOUBLE
-                + "border: 1px solid black; border-collapse: collapse;"
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("None");
-        stringBuilder.append("</td>");
-      }
-      stringBuilder.append("</tr>");
-      // stringBuilder.append("</tbody>")
-    }
-    stringBuilder.append("</tbody>");
-    stringBuilder.append("</table>");
-    String htmlBrokenLinks = "<html>" + stringBuilder.toString() + "</html>";
+    final Map<String, UnaryOperator<String>> hrefMap = new HashMap<>();
+    hrefMap.put("ChapterURL", value -> value);
+    String htmlBrokenLinks = getHTMLReport("Broken Links", sql, "brokenLinkMap", hrefMap);
     htmlBrokenLinks = XML.formatPretty(htmlBrokenLinks);
     FSOTests.fileWrite(
         VivitFoldersFiles.REPORT_HTM_AUTOMATION_BROKEN_LINKS, htmlBrokenLinks, false);
@@ -2418,127 +2316,15 @@ public static void getHTMLMemberChanges() throws Throwable {
   public static void getHTMLYMGTWEvents() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList()));
-    JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
     final String sql =
         JDBCConstants.SELECT_ALL
             + JDBCConstants.FROM
             + VivitViews.VIVIT_EVENTS_CURRENT_GTW_REGISTRATION;
-    final List<Map<Integer, String>> gtwEventsListMap = jdbc.queryResultsIndex(sql, true);
-    jdbc.close();
-    final StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append(
-        "<table class="
-            + Constants.QUOTE_DOUBLE
-            + "scroll"
-            + Constants.QUOTE_DOUBLE
-            + " style="
-            + Constants.QUOTE_DOUBLE
-            + STYLE_BORDER
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    stringBuilder.append("<tr>");
-    stringBuilder.append(
-        "<th style="
-            + Constants.QUOTE_DOUBLE
-            + "border: 1px solid black; border-collapse: collapse; background-color: "
-            + ColorsHEX.VIVIT_GOLD.getValue()
-            + ";"
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    // Need to account for the headings map.
-    stringBuilder.append("Current/Upcoming YM/GTW Events (" + (gtwEventsListMap.size() - 1) + ")");
-    stringBuilder.append("</th>");
-    stringBuilder.append("</tr>");
-    stringBuilder.append("</table>");
-    final Map<String, Integer> fieldNameMap = new HashMap<>();
-    for (int gtwEventsListMapIndex = 0;
-        gtwEventsListMapIndex < gtwEventsListMap.size();
-        gtwEventsListMapIndex++) {
-      final Map<Integer, String> gtwEventsMap = gtwEventsListMap.get(gtwEventsListMapIndex);
-      sysOut("gtwEventsMap:" + gtwEventsMap.toString());
-      if (gtwEventsListMapIndex == 0) {
-        stringBuilder.append(
-            "<table class="
-                + Constants.QUOTE_DOUBLE
-                + "scroll"
-                + Constants.QUOTE_DOUBLE
-                + " style="
-                + Constants.QUOTE_DOUBLE
-                + STYLE_BORDER
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("<thead>");
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : gtwEventsMap.entrySet()) {
-          stringBuilder.append(
-              "<th style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + " background-color: "
-                  + ColorsHEX.VIVIT_LIGHTBLUE.getValue()
-                  + ";"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          fieldNameMap.put(value, key);
-          stringBuilder.append("<b>" + value + "</b>");
-          stringBuilder.append("</th>");
-        }
-        stringBuilder.append("</tr>");
-        stringBuilder.append("</thead>");
-        stringBuilder.append("<tbody>");
-      } else {
-        // stringBuilder.append("<tbody>")
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : gtwEventsMap.entrySet()) {
-          stringBuilder.append(
-              "<td style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          int keyYMID = fieldNameMap.get("YMID");
-          int keyGTWID = fieldNameMap.get("GTWID");
-          String href = "";
-          if (key == keyGTWID) {
-            // https://global.gotomeeting.com/join/963830877
-            href = "https://global.gotowebinar.com/join/" + value;
-            stringBuilder.append(HTML.link(href, value));
-          } else if (key == keyYMID) {
-            href =
-                "https://www.vivit-worldwide.org/events/EventDetails.aspx?id=" + value + "&group=";
-            stringBuilder.append(HTML.link(href, value));
-          } else {
-            stringBuilder.append(value);
-          }
-          stringBuilder.append("</td>");
-        }
-        stringBuilder.append("</tr>");
-        // stringBuilder.append("</tbody>")
-      }
-    }
-    if (gtwEventsListMap.size() == 1) {
-      // stringBuilder.append("<tbody>")
-      stringBuilder.append("<tr>");
-      for (int i = 0; i < fieldNameMap.size(); i++) {
-        stringBuilder.append(
-            "<td style="
-                + Constants.QUOTE_DOUBLE
-                + "border: 1px solid black; border-collapse: collapse;"
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("None");
-        stringBuilder.append("</td>");
-      }
-      stringBuilder.append("</tr>");
-      // stringBuilder.append("</tbody>")
-    }
-    stringBuilder.append("</tbody>");
-    stringBuilder.append("</table>");
-    String htmlGTWEventsLinks = "<html>" + stringBuilder.toString() + "</html>";
+    final Map<String, UnaryOperator<String>> hrefMap = new HashMap<>();
+    hrefMap.put("GTWID", VivitDataTests::getHrefGTWEvent);
+    hrefMap.put("YMID", VivitDataTests::getHrefYMEvent);
+    String htmlGTWEventsLinks =
+        getHTMLReport("Current/Upcoming YM/GTW Events", sql, "gtwEventsMap", hrefMap);
     htmlGTWEventsLinks = XML.formatPretty(htmlGTWEventsLinks);
     FSOTests.fileWrite(
         VivitFoldersFiles.REPORT_HTM_AUTOMATION_EVENTS_YM, htmlGTWEventsLinks, false);
@@ -2547,133 +2333,17 @@ public static void getHTMLYMGTWEvents() throws Throwable {
   public static void getHTMLYMGTWEventAttendees() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList()));
-    JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
     final String sql =
         JDBCConstants.SELECT_ALL
             + JDBCConstants.FROM
             + VivitViews.VIVIT_EVENT_ATTENDEES_CURRENT_GTW;
-    final List<Map<Integer, String>> gtwEventAttendeesListMap = jdbc.queryResultsIndex(sql, true);
-    jdbc.close();
-    final StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append(
-        "<table class="
-            + Constants.QUOTE_DOUBLE
-            + "scroll"
-            + Constants.QUOTE_DOUBLE
-            + " style="
-            + Constants.QUOTE_DOUBLE
-            + STYLE_BORDER
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    stringBuilder.append("<tr>");
-    stringBuilder.append(
-        "<th style="
-            + Constants.QUOTE_DOUBLE
-            + "border: 1px solid black; border-collapse: collapse; background-color: "
-            + ColorsHEX.VIVIT_GOLD.getValue()
-            + ";"
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    // Need to account for the headings map.
-    stringBuilder.append(
-        "Current/Upcoming YM/GTW Event Attendees (" + (gtwEventAttendeesListMap.size() - 1) + ")");
-    stringBuilder.append("</th>");
-    stringBuilder.append("</tr>");
-    stringBuilder.append("</table>");
-    final Map<String, Integer> fieldNameMap = new HashMap<>();
-    for (int gtwEventAttendeesListMapIndex = 0;
-        gtwEventAttendeesListMapIndex < gtwEventAttendeesListMap.size();
-        gtwEventAttendeesListMapIndex++) {
-      final Map<Integer, String> gtwEventAttendeesMap =
-          gtwEventAttendeesListMap.get(gtwEventAttendeesListMapIndex);
-      sysOut("gtwEventAttendeesMap:" + gtwEventAttendeesMap.toString());
-      if (gtwEventAttendeesListMapIndex == 0) {
-        stringBuilder.append(
-            "<table class="
-                + Constants.QUOTE_DOUBLE
-                + "scroll"
-                + Constants.QUOTE_DOUBLE
-                + " style="
-                + Constants.QUOTE_DOUBLE
-                + STYLE_BORDER
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("<thead>");
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : gtwEventAttendeesMap.entrySet()) {
-          stringBuilder.append(
-              "<th style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + " background-color: "
-                  + ColorsHEX.VIVIT_LIGHTBLUE.getValue()
-                  + ";"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          fieldNameMap.put(value, key);
-          stringBuilder.append("<b>" + value + "</b>");
-          stringBuilder.append("</th>");
-        }
-        stringBuilder.append("</tr>");
-        stringBuilder.append("</thead>");
-        stringBuilder.append("<tbody>");
-      } else {
-        // stringBuilder.append("<tbody>")
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : gtwEventAttendeesMap.entrySet()) {
-          stringBuilder.append(
-              "<td style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          int keyYMID = fieldNameMap.get("EventID");
-          int keyGTWID = fieldNameMap.get("GTWID");
-          int keyWebsiteID = fieldNameMap.get("WebsiteID");
-          String href = "";
-          if (key == keyGTWID) {
-            // https://global.gotomeeting.com/join/963830877
-            href = "https://global.gotowebinar.com/join/" + value;
-            stringBuilder.append(HTML.link(href, value));
-          } else if (key == keyYMID) {
-            href =
-                "https://www.vivit-worldwide.org/events/EventDetails.aspx?id=" + value + "&group=";
-            stringBuilder.append(HTML.link(href, value));
-          } else if (key == keyWebsiteID) {
-            href = "https://www.vivit-worldwide.org/members/default.asp?id=" + value;
-            stringBuilder.append(HTML.link(href, value));
-          } else {
-            stringBuilder.append(value);
-          }
-          stringBuilder.append("</td>");
-        }
-        stringBuilder.append("</tr>");
-        // stringBuilder.append("</tbody>")
-      }
-    }
-    if (gtwEventAttendeesListMap.size() == 1) {
-      // stringBuilder.append("<tbody>")
-      stringBuilder.append("<tr>");
-      for (int i = 0; i < fieldNameMap.size(); i++) {
-        stringBuilder.append(
-            "<td style="
-                + Constants.QUOTE_DOUBLE
-                + "border: 1px solid black; border-collapse: collapse;"
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("None");
-        stringBuilder.append("</td>");
-      }
-      stringBuilder.append("</tr>");
-      // stringBuilder.append("</tbody>")
-    }
-    stringBuilder.append("</tbody>");
-    stringBuilder.append("</table>");
-    String htmlGTWEventAttendeesLinks = "<html>" + stringBuilder.toString() + "</html>";
+    final Map<String, UnaryOperator<String>> hrefMap = new HashMap<>();
+    hrefMap.put("GTWID", VivitDataTests::getHrefGTWEvent);
+    hrefMap.put("EventID", VivitDataTests::getHrefYMEvent);
+    hrefMap.put("WebsiteID", VivitDataTests::getHrefYMMember);
+    String htmlGTWEventAttendeesLinks =
+        getHTMLReport(
+            "Current/Upcoming YM/GTW Event Attendees", sql, "gtwEventAttendeesMap", hrefMap);
     htmlGTWEventAttendeesLinks = XML.formatPretty(htmlGTWEventAttendeesLinks);
     FSOTests.fileWrite(
         VivitFoldersFiles.REPORT_HTM_AUTOMATION_EVENT_ATTENDEES_YM,
@@ -2684,141 +2354,140 @@ public static void getHTMLYMGTWEventAttendees() throws Throwable {
   public static void getHTMLYMGTWEventRegistration() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList()));
-    JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
     final String sql =
         JDBCConstants.SELECT_ALL
             + JDBCConstants.FROM
             + VivitViews.VIVIT_EVENT_REGISTRATION_CURRENT_GTW;
-    final List<Map<Integer, String>> gtwEventRegistrationListMap =
-        jdbc.queryResultsIndex(sql, true);
-    jdbc.close();
+    final Map<String, UnaryOperator<String>> hrefMap = new HashMap<>();
+    hrefMap.put("GTWID", VivitDataTests::getHrefGTWEvent);
+    hrefMap.put("YMID", VivitDataTests::getHrefYMEvent);
+    hrefMap.put(LABEL_WEB_SITE_MEMBER_ID, VivitDataTests::getHrefYMMember);
+    String htmlGTWEventRegistrationsLinks =
+        getHTMLReport(
+            "Current/Upcoming YM/GTW Event Registrations", sql, "gtwEventAttendeesMap", hrefMap);
+    htmlGTWEventRegistrationsLinks = XML.formatPretty(htmlGTWEventRegistrationsLinks);
+    FSOTests.fileWrite(
+        VivitFoldersFiles.REPORT_HTM_AUTOMATION_EVENT_REGISTRATION_YM,
+        htmlGTWEventRegistrationsLinks,
+        false);
+  }
+
+  /**
+   * Builds a titled HTML report table by streaming the rows of a query, so the report no longer
+   * holds a copy of every row in memory while it is being rendered.
+   *
+   * @param title the report title; the row count is appended in parentheses
+   * @param sql the query
+   * @param rowLabel label used when echoing each row
+   * @param hrefMap column names whose values are rendered as links, mapped to their href builder
+   * @return the report wrapped in html tags
+   * @throws Exception if the query fails
+   */
+  private static String getHTMLReport(
+      String title, String sql, String rowLabel, Map<String, UnaryOperator<String>> hrefMap)
+      throws Exception {
+    final StringBuilder stringBuilderRows = new StringBuilder();
     final StringBuilder stringBuilder = new StringBuilder();
-    stringBuilder.append(
-        "<table class="
-            + Constants.QUOTE_DOUBLE
-            + "scroll"
-            + Constants.QUOTE_DOUBLE
-            + " style="
-            + Constants.QUOTE_DOUBLE
-            + STYLE_BORDER
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    stringBuilder.append("<tr>");
-    stringBuilder.append(
-        "<th style="
-            + Constants.QUOTE_DOUBLE
-            + "border: 1px solid black; border-collapse: collapse; background-color: "
-            + ColorsHEX.VIVIT_GOLD.getValue()
-            + ";"
-            + Constants.QUOTE_DOUBLE
-            + ">");
-    // Need to account for the headings map.
-    stringBuilder.append(
-        "Current/Upcoming YM/GTW Event Registrations ("
-            + (gtwEventRegistrationListMap.size() - 1)
-            + ")");
-    stringBuilder.append("</th>");
-    stringBuilder.append("</tr>");
-    stringBuilder.append("</table>");
-    final Map<String, Integer> fieldNameMap = new HashMap<>();
-    for (int gtwEventRegistrationsListMapIndex = 0;
-        gtwEventRegistrationsListMapIndex < gtwEventRegistrationListMap.size();
-        gtwEventRegistrationsListMapIndex++) {
-      final Map<Integer, String> gtwEventRegistrationsMap =
-          gtwEventRegistrationListMap.get(gtwEventRegistrationsListMapIndex);
-      sysOut("gtwEventAttendeesMap:" + gtwEventRegistrationsMap.toString());
-      if (gtwEventRegistrationsListMapIndex == 0) {
-        stringBuilder.append(
-            "<table class="
-                + Constants.QUOTE_DOUBLE
-                + "scroll"
-                + Constants.QUOTE_DOUBLE
-                + " style="
-                + Constants.QUOTE_DOUBLE
-                + STYLE_BORDER
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("<thead>");
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : gtwEventRegistrationsMap.entrySet()) {
-          stringBuilder.append(
-              "<th style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + " background-color: "
-                  + ColorsHEX.VIVIT_LIGHTBLUE.getValue()
-                  + ";"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          fieldNameMap.put(value, key);
-          stringBuilder.append("<b>" + value + "</b>");
-          stringBuilder.append("</th>");
-        }
-        stringBuilder.append("</tr>");
-        stringBuilder.append("</thead>");
-        stringBuilder.append("<tbody>");
-      } else {
-        // stringBuilder.append("<tbody>")
-        stringBuilder.append("<tr>");
-        for (final Entry<Integer, String> entry : gtwEventRegistrationsMap.entrySet()) {
-          stringBuilder.append(
-              "<td style="
-                  + Constants.QUOTE_DOUBLE
-                  + "border: 1px solid black; border-collapse: collapse;"
-                  + Constants.QUOTE_DOUBLE
-                  + ">");
-          final int key = (int) entry.getKey();
-          final String value = (String) entry.getValue();
-          int keyYMID = fieldNameMap.get("YMID");
-          int keyGTWID = fieldNameMap.get("GTWID");
-          int keyWebsiteID = fieldNameMap.get(LABEL_WEB_SITE_MEMBER_ID);
-          String href = "";
-          if (key == keyGTWID) {
-            // https://global.gotomeeting.com/join/963830877
-            href = "https://global.gotowebinar.com/join/" + value;
-            stringBuilder.append(HTML.link(href, value));
-          } else if (key == keyYMID) {
-            href =
-                "https://www.vivit-worldwide.org/events/EventDetails.aspx?id=" + value + "&group=";
-            stringBuilder.append(HTML.link(href, value));
-          } else if (key == keyWebsiteID) {
-            href = "https://www.vivit-worldwide.org/members/default.asp?id=" + value;
-            stringBuilder.append(HTML.link(href, value));
-          } else {
-            stringBuilder.append(value);
-          }
-          stringBuilder.append("</td>");
+    int columns = 0;
+    int records = 0;
+    JDBC jdbc = new JDBC("", DATABASE_DEFINITION);
+    try (RowCursor row = jdbc.openCursor(sql)) {
+      columns = row.getColumnCount();
+      final List<UnaryOperator<String>> hrefList = new ArrayList<>(columns);
+      for (final String columnName : row.getColumnNames()) {
+        hrefList.add(hrefMap.get(columnName));
+      }
+      sysOut(rowLabel + ":" + row.getColumnNames());
+      stringBuilderRows.append(getHTMLTableOpen());
+      stringBuilderRows.append("<thead>");
+      stringBuilderRows.append("<tr>");
+      for (final String columnName : row.getColumnNames()) {
+        stringBuilderRows.append(getHTMLHeading(ColorsHEX.VIVIT_LIGHTBLUE));
+        stringBuilderRows.append("<b>" + columnName + "</b>");
+        stringBuilderRows.append("</th>");
+      }
+      stringBuilderRows.append("</tr>");
+      stringBuilderRows.append("</thead>");
+      stringBuilderRows.append("<tbody>");
+      while (row.next()) {
+        sysOut(rowLabel + ":" + row);
+        stringBuilderRows.append("<tr>");
+        for (int column = 0; column < columns; column++) {
+          final String value = row.getString(column);
+          final UnaryOperator<String> href = hrefList.get(column);
+          stringBuilderRows.append(getHTMLCell());
+          stringBuilderRows.append(href == null ? value : HTML.link(href.apply(value), value));
+          stringBuilderRows.append("</td>");
         }
-        stringBuilder.append("</tr>");
-        // stringBuilder.append("</tbody>")
+        stringBuilderRows.append("</tr>");
       }
+      records = row.getRowNumber();
+    } finally {
+      jdbc.close();
     }
-    if (gtwEventRegistrationListMap.size() == 1) {
-      // stringBuilder.append("<tbody>")
-      stringBuilder.append("<tr>");
-      for (int i = 0; i < fieldNameMap.size(); i++) {
-        stringBuilder.append(
-            "<td style="
-                + Constants.QUOTE_DOUBLE
-                + "border: 1px solid black; border-collapse: collapse;"
-                + Constants.QUOTE_DOUBLE
-                + ">");
-        stringBuilder.append("None");
-        stringBuilder.append("</td>");
+    if (records == 0) {
+      stringBuilderRows.append("<tr>");
+      for (int column = 0; column < columns; column++) {
+        stringBuilderRows.append(getHTMLCell());
+        stringBuilderRows.append("None");
+        stringBuilderRows.append("</td>");
       }
-      stringBuilder.append("</tr>");
-      // stringBuilder.append("</tbody>")
+      stringBuilderRows.append("</tr>");
     }
-    stringBuilder.append("</tbody>");
+    stringBuilderRows.append("</tbody>");
+    stringBuilderRows.append("</table>");
+    stringBuilder.append(getHTMLTableOpen());
+    stringBuilder.append("<tr>");
+    stringBuilder.append(getHTMLHeading(ColorsHEX.VIVIT_GOLD));
+    stringBuilder.append(title + " (" + records + ")");
+    stringBuilder.append("</th>");
+    stringBuilder.append("</tr>");
     stringBuilder.append("</table>");
-    String htmlGTWEventRegistrationsLinks = "<html>" + stringBuilder.toString() + "</html>";
-    htmlGTWEventRegistrationsLinks = XML.formatPretty(htmlGTWEventRegistrationsLinks);
-    FSOTests.fileWrite(
-        VivitFoldersFiles.REPORT_HTM_AUTOMATION_EVENT_REGISTRATION_YM,
-        htmlGTWEventRegistrationsLinks,
-        false);
+    stringBuilder.append(stringBuilderRows);
+    return "<html>" + stringBuilder.toString() + "</html>";
+  }
+
+  private static String getHTMLTableOpen() {
+    return "<table class="
+        + Constants.QUOTE_DOUBLE
+        + "scroll"
+        + Constants.QUOTE_DOUBLE
+        + " style="
+        + Constants.QUOTE_DOUBLE
+        + STYLE_BORDER
+        + Constants.QUOTE_DOUBLE
+        + ">";
+  }
+
+  private static String getHTMLHeading(ColorsHEX color) {
+    return "<th style="
+        + Constants.QUOTE_DOUBLE
+        + "border: 1px solid black; border-collapse: collapse; background-color: "
+        + color.getValue()
+        + ";"
+        + Constants.QUOTE_DOUBLE
+        + ">";
+  }
+
+  private static String getHTMLCell() {
+    return "<td style="
+        + Constants.QUOTE_DOUBLE
+        + "border: 1px solid black; border-collapse: collapse;"
+        + Constants.QUOTE_DOUBLE
+        + ">";
+  }
+
+  private static String getHrefGTWEvent(String value) {
+    // https://global.gotomeeting.com/join/963830877
+    return "https://global.gotowebinar.com/join/" + value;
+  }
+
+  private static String getHrefYMEvent(String value) {
+    return "https://www.vivit-worldwide.org/events/EventDetails.aspx?id=" + value + "&group=";
+  }
+
+  private static String getHrefYMMember(String value) {
+    return "https://www.vivit-worldwide.org/members/default.asp?id=" + value;
   }
 
   /**
@@ -3095,39 +2764,10 @@ public static void updateAPIData(String dateTimeFrom) throws Throwable {
   public static void updateTableFromCurrentToPreviousAndInsert(
       List<StringBuilder> stringBuilderSQLList) {
     final String labelCurrent = "_Current";
-    final String labelPrevious = "_Previous";
     StringBuilder stringBiulderSQL = stringBuilderSQLList.get(0);
     String[] tableArray = stringBiulderSQL.toString().split(Constants.DELIMETER_LIST);
-    // For each table update the tables with the exception of the Calendars
-    // table which only has Current.
     for (String table : tableArray) {
-      if (!"Calendars".equalsIgnoreCase(table)) {
-        dropAndCreateBackUpTables(table);
-        String queryDeletePrevious =
-            JDBCConstants.DELETE_FROM + "[" + VivitTables.PREFIX + table + labelPrevious + "];";
-        sysOut(queryDeletePrevious);
-        SQL.executeVivit(
-            "DeleteFrom", table + labelPrevious, new StringBuilder(queryDeletePrevious));
-        String queryInsertPrevious =
-            JDBCConstants.INSERT_INTO
-                + "["
-                + VivitTables.PREFIX
-                + table
-                + labelPrevious
-                + "] "
-                + JDBCConstants.SELECT_ALL_FROM
-                + "["
-                + VivitTables.PREFIX
-                + table
-                + labelCurrent
-                + "];";
-        sysOut(queryInsertPrevious);
-        SQL.executeVivit(
-            "InsertInto", table + labelPrevious, new StringBuilder(queryInsertPrevious));
-      }
-      String queryDeleteCurrent =
-          JDBCConstants.DELETE_FROM + "[" + VivitTables.PREFIX + table + labelCurrent + "];";
-      SQL.executeVivit("DeleteFrom", table + labelCurrent, new StringBuilder(queryDeleteCurrent));
+      updateTableFromCurrentToPrevious(table);
       // Run the queries to update the Current table(s).
       for (int stringBiulderSQLIndex = 1;
           stringBiulderSQLIndex < stringBuilderSQLList.size();
@@ -3142,6 +2782,64 @@ public static void updateTableFromCurrentToPreviousAndInsert(
     }
   }
 
+  /**
+   * Copies the Current table to the Previous table and empties the Current table, ready for a new
+   * load. The Calendars table only has Current, so it is only emptied.
+   *
+   * @param table the table name without the prefix and the _Current/_Previous suffix
+   */
+  public static void updateTableFromCurrentToPrevious(String table) {
+    if (!"Calendars".equalsIgnoreCase(table)) {
+      dropAndCreateBackUpTables(table);
+      String queryDeletePrevious = getQueryDeleteFrom(table, LABEL_PREVIOUS);
+      sysOut(queryDeletePrevious);
+      SQL.executeVivit(
+          "DeleteFrom", table + LABEL_PREVIOUS, new StringBuilder(queryDeletePrevious));
+      String queryInsertPrevious = getQueryInsertPreviousFromCurrent(table);
+      sysOut(queryInsertPrevious);
+      SQL.executeVivit(
+          "InsertInto", table + LABEL_PREVIOUS, new StringBuilder(queryInsertPrevious));
+    }
+    String queryDeleteCurrent = getQueryDeleteFrom(table, LABEL_CURRENT);
+    SQL.executeVivit("DeleteFrom", table + LABEL_CURRENT, new StringBuilder(queryDeleteCurrent));
+  }
+
+  /**
+   * Gets the statements of {@link #updateTableFromCurrentToPrevious(String)} without running them
+   * or the backup, so a caller can run them in its own transaction.
+   *
+   * @param table the table name without the prefix and the _Current/_Previous suffix
+   * @return the statements in execution order
+   */
+  public static List<String> getCurrentToPreviousQueryList(String table) {
+    final List<String> queryList = new ArrayList<>();
+    if (!"Calendars".equalsIgnoreCase(table)) {
+      queryList.add(getQueryDeleteFrom(table, LABEL_PREVIOUS));
+      queryList.add(getQueryInsertPreviousFromCurrent(table));
+    }
+    queryList.add(getQueryDeleteFrom(table, LABEL_CURRENT));
+    return queryList;
+  }
+
+  private static String getQueryDeleteFrom(String table, String label) {
+    return JDBCConstants.DELETE_FROM + "[" + VivitTables.PREFIX + table + label + "];";
+  }
+
+  private static String getQueryInsertPreviousFromCurrent(String table) {
+    return JDBCConstants.INSERT_INTO
+        + "["
+        + VivitTables.PREFIX
+        + table
+        + LABEL_PREVIOUS
+        + "] "
+        + JDBCConstants.SELECT_ALL_FROM
+        + "["
+        + VivitTables.PREFIX
+        + table
+        + LABEL_CURRENT
+        + "];";
+  }
+
   @Test
   public void wrapUpTest() throws Throwable {
     wrapUp(false, false);
@@ -28,7 +28,7 @@ public final class VivitFoldersFiles {
           + IExtension.XLS;
   // API YM Data Import into Database
   public static final String DATA_YMAPI_DATA =
-      PATH_API_DATA_YM + "Data_API_YM_ImportAll" + IExtension.XLS;
+      PATH_API_DATA_YM + "Data_API_YM_ImportAll" + IExtension.XLSX;
   // API YM Data Export from API YM
   public static final String DATA_YMAPI_DATA_MEMBERS =
       PATH_API_DATA_YM + "Data_API_YM_ExportMembers" + IExtension.CSV;
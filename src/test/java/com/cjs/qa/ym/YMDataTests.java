@@ -1,5 +1,6 @@
 package com.cjs.qa.ym;
 
+import java.io.File;
 import java.io.FileReader;
 import java.io.Reader;
 import java.text.ParseException;
@@ -8,8 +9,10 @@
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
@@ -18,13 +21,13 @@
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import com.cjs.qa.core.Environment;
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.jdbc.BatchInsert;
 import com.cjs.qa.jdbc.JDBC;
 import com.cjs.qa.jdbc.JDBCConstants;
 import com.cjs.qa.jdbc.SQL;
@@ -37,6 +40,7 @@
 import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.utilities.ParameterHelper;
 import com.cjs.qa.utilities.XML;
+import com.cjs.qa.utilities.XMLStreamExtractor;
 import com.cjs.qa.vivit.VivitDataTests;
 import com.cjs.qa.vivit.VivitFoldersFiles;
 import com.cjs.qa.vivit.VivitTables;
@@ -46,8 +50,12 @@
 import com.cjs.qa.ym.api.dataobjects.UnmarshallYourMembershipResponse;
 import com.cjs.qa.ym.api.dataobjects.YourMembershipResponse;
 import com.cjs.qa.ym.api.namespace.EventsNamespace;
+import com.cjs.qa.ym.api.namespace.SaEventsNamespace;
 import com.cjs.qa.ym.api.objects.Event;
 import com.cjs.qa.ym.api.services.YMAPI;
+import com.cjs.qa.ym.api.services.YMFetchResult;
+import com.cjs.qa.ym.api.services.YMFetchScheduler;
+import com.cjs.qa.ym.api.services.YMPagePrefetcher;
 
 @Disabled("Deprecated and Requires VivitDataTests.DATABASE_DEFINITION")
 public class YMDataTests extends Environment {
@@ -66,6 +74,16 @@ public class YMDataTests extends Environment {
   public static final String LABEL_EVENT_ID = "EventID";
   public static final String LABEL_RECORD_COMPLETE = "RecordComplete";
   public static final String LABEL_RECORD_NUMBER = "RecordNumber";
+  private static final String DATASET = "DataSet";
+  // GoToWebinar tables in load order.
+  private static final List<String> GTW_TABLE_LIST =
+      List.of(
+          "Events",
+          "EventInformation",
+          "YMGTWLinks",
+          "EventAttendees",
+          "EventRegistrationIDs",
+          "EventRegistration");
   private static YMAPI ymApi = null;
   private static String eventLocationGTWSearch = "Go To Webinar - ";
   private static String eventNameSearch = "Webinar";
@@ -147,25 +165,7 @@ public static void exportGTWEventAttendees() throws Throwable {
     if (VivitDataTests.successFileStatus(statusName, true)) {
       return;
     }
-    boolean success = false;
-    int attempt = 0;
-    final int attemptsMax = 3;
-    do {
-      try {
-        getAllEventAttendees();
-        success = true;
-      } catch (Exception e) {
-        LOG.error(
-            "{}",
-            QAException.ERROR
-                + JavaHelpers.getCurrentClassMethodName()
-                + ":Error Extracting Event Attendees DataTests.");
-        if (attempt > attemptsMax) {
-          throw new QAException(QAException.ERROR + "[" + e.getMessage() + "]", e);
-        }
-      }
-    } while (!success);
-    VivitDataTests.successFileCreate(statusName);
+    exportGTWFetch(statusName, getAllEventAttendees());
   }
 
   public static void exportGTWEventInformation() throws Throwable {
@@ -175,25 +175,7 @@ public static void exportGTWEventInformation() throws Throwable {
     if (VivitDataTests.successFileStatus(statusName, true)) {
       return;
     }
-    boolean success = false;
-    int attempt = 0;
-    final int attemptsMax = 3;
-    do {
-      try {
-        getAllEventInformation();
-        success = true;
-      } catch (Exception e) {
-        LOG.error(
-            "{}",
-            QAException.ERROR
-                + JavaHelpers.getCurrentClassMethodName()
-                + ":Error Extracting Event Attendees DataTests.");
-        if (attempt > attemptsMax) {
-          throw new QAException(QAException.ERROR + "[" + e.getMessage() + "]", e);
-        }
-      }
-    } while (!success);
-    VivitDataTests.successFileCreate(statusName);
+    exportGTWFetch(statusName, getAllEventInformation());
   }
 
   public static void exportGTWEventRegistrationIDs() throws Throwable {
@@ -203,25 +185,7 @@ public static void exportGTWEventRegistrationIDs() throws Throwable {
     if (VivitDataTests.successFileStatus(statusName, true)) {
       return;
     }
-    boolean success = false;
-    int attempt = 0;
-    final int attemptsMax = 3;
-    do {
-      try {
-        getAllEventRegistrationIDs();
-        success = true;
-      } catch (Exception e) {
-        LOG.error(
-            "{}",
-            QAException.ERROR
-                + JavaHelpers.getCurrentClassMethodName()
-                + ":Error Extracting Event Attendees DataTests.");
-        if (attempt > attemptsMax) {
-          throw new QAException(QAException.ERROR + "[" + e.getMessage() + "]", e);
-        }
-      }
-    } while (!success);
-    VivitDataTests.successFileCreate(statusName);
+    exportGTWFetch(statusName, getAllEventRegistrationIDs());
   }
 
   public static void exportGTWEventRegistration() throws Throwable {
@@ -231,24 +195,29 @@ public static void exportGTWEventRegistration() throws Throwable {
     if (VivitDataTests.successFileStatus(statusName, true)) {
       return;
     }
-    boolean success = false;
-    int attempt = 0;
-    final int attemptsMax = 3;
-    do {
-      try {
-        getAllEventRegistration();
-        success = true;
-      } catch (Exception e) {
-        LOG.error(
-            "{}",
-            QAException.ERROR
-                + JavaHelpers.getCurrentClassMethodName()
-                + ":Error Extracting Event Attendees DataTests.");
-        if (attempt > attemptsMax) {
-          throw new QAException(QAException.ERROR + "[" + e.getMessage() + "]", e);
-        }
-      }
-    } while (!success);
+    exportGTWFetch(statusName, getAllEventRegistration());
+  }
+
+  /**
+   * Marks an export step complete once every ID has been fetched. Failed IDs were already retried
+   * individually by the {@link YMFetchScheduler}; the step is left incomplete so the next run
+   * fetches only those IDs.
+   *
+   * @param statusName success file name of the step
+   * @param fetchResult result of the step's fetch
+   * @throws Throwable if any ID could not be fetched
+   */
+  private static void exportGTWFetch(String statusName, YMFetchResult fetchResult)
+      throws Throwable {
+    if (!fetchResult.isComplete()) {
+      throw new QAException(
+          QAException.ERROR
+              + statusName
+              + ": ["
+              + fetchResult.failedIds().size()
+              + "] ID(s) could not be fetched "
+              + fetchResult.failedIds());
+    }
     VivitDataTests.successFileCreate(statusName);
   }
 
@@ -268,6 +237,7 @@ public static void exportGTWEvents() throws Throwable {
         getAllEvents(pageRecordStart);
         success = true;
       } catch (Exception e) {
+        attempt++;
         LOG.error(
             "{}",
             QAException.ERROR
@@ -286,42 +256,19 @@ public static void exportYMGTWTables() throws Throwable {
       // The file has already been created.
       return;
     }
-    JDBC.exportDataFromTableView(
-        VivitTables.VIVIT_EVENTS_CURRENT,
+    // One writer for every sheet, so earlier sheets are not reloaded for each export.
+    final Map<String, String> tableViewSheetMap = new LinkedHashMap<>();
+    tableViewSheetMap.put(VivitTables.VIVIT_EVENTS_CURRENT, "Events");
+    tableViewSheetMap.put(VivitTables.VIVIT_EVENTINFORMATION_CURRENT, "EventInformation");
+    tableViewSheetMap.put(VivitViews.VIVIT_EVENT_ATTENDEES_CURRENT, "EventAttendees");
+    tableViewSheetMap.put(VivitTables.VIVIT_YMGTW_LINKS_CURRENT, "YMGTWLinks");
+    tableViewSheetMap.put(VivitTables.VIVIT_EVENT_REGISTRATION_IDS_CURRENT, "EventRegistrationIDs");
+    tableViewSheetMap.put(VivitTables.VIVIT_EVENT_REGISTRATION_CURRENT, "EventRegistration");
+    JDBC.exportDataFromTableViews(
+        tableViewSheetMap,
         VivitFoldersFiles.DATA_YMAPI_DATA,
-        "Events",
         VivitDataTests.DATABASE_DEFINITION,
         true);
-    JDBC.exportDataFromTableView(
-        VivitTables.VIVIT_EVENTINFORMATION_CURRENT,
-        VivitFoldersFiles.DATA_YMAPI_DATA,
-        "EventInformation",
-        VivitDataTests.DATABASE_DEFINITION,
-        false);
-    JDBC.exportDataFromTableView(
-        VivitViews.VIVIT_EVENT_ATTENDEES_CURRENT,
-        VivitFoldersFiles.DATA_YMAPI_DATA,
-        "EventAttendees",
-        VivitDataTests.DATABASE_DEFINITION,
-        false);
-    JDBC.exportDataFromTableView(
-        VivitTables.VIVIT_YMGTW_LINKS_CURRENT,
-        VivitFoldersFiles.DATA_YMAPI_DATA,
-        "YMGTWLinks",
-        VivitDataTests.DATABASE_DEFINITION,
-        false);
-    JDBC.exportDataFromTableView(
-        VivitTables.VIVIT_EVENT_REGISTRATION_IDS_CURRENT,
-        VivitFoldersFiles.DATA_YMAPI_DATA,
-        "EventRegistrationIDs",
-        VivitDataTests.DATABASE_DEFINITION,
-        false);
-    JDBC.exportDataFromTableView(
-        VivitTables.VIVIT_EVENT_REGISTRATION_CURRENT,
-        VivitFoldersFiles.DATA_YMAPI_DATA,
-        "EventRegistration",
-        VivitDataTests.DATABASE_DEFINITION,
-        false);
   }
 
   /**
@@ -366,110 +313,76 @@ public static void setEventList(List<Event> eventList) {
     YMDataTests.eventList = eventList;
   }
 
-  public static void getAllEventAttendees() throws Throwable {
+  public static YMFetchResult getAllEventAttendees() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    try {
-      List<String> eventIDList = getEventIDListValid();
-      for (String eventID : eventIDList) {
-        String filePathName =
-            VivitFoldersFiles.PATH_API_DATA_YM_EVENT_ATTENDEES + eventID + IExtension.XML;
-        String xml;
-        if (!FSOTests.fileExists(filePathName)) {
-          // Create the Event Attendee information.
-          if (getYmapi() == null) {
-            setYmApi(new YMAPI());
-          }
-          Map<String, String> eventAttendeeMap =
-              getYmapi().getEventsNamespace().eventAttendeesGet(Integer.parseInt(eventID));
-          xml = eventAttendeeMap.get("xml");
-          FSOTests.fileWrite(filePathName, xml, false);
-        }
-      }
-    } catch (final Exception e) {
-      sysOut(e);
-    }
+    final EventsNamespace eventsNamespace = getYmApiInstance().getEventsNamespace();
+    return YMFetchScheduler.fromConfig("EventAttendees")
+        .fetchAll(
+            getEventIDListValid(),
+            eventID ->
+                VivitFoldersFiles.PATH_API_DATA_YM_EVENT_ATTENDEES + eventID + IExtension.XML,
+            eventID -> eventsNamespace.eventAttendeesGet(Integer.parseInt(eventID)).get("xml"));
   }
 
-  public static void getAllEventInformation() throws Throwable {
+  public static YMFetchResult getAllEventInformation() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    try {
-      List<String> eventIDList = getEventIDListValid();
-      // eventIDList.add(EVENTID_TEST);
-      for (String eventID : eventIDList) {
-        String filePathName =
-            VivitFoldersFiles.PATH_API_DATA_YM_EVENT_INFORMATION + eventID + IExtension.XML;
-        String xml;
-        if (!FSOTests.fileExists(filePathName)) {
-          // Create the Event Information information.
-          if (getYmapi() == null) {
-            setYmApi(new YMAPI());
-          }
-          Map<String, String> eventInformationMap =
-              getYmapi().getEventsNamespace().eventGet(Integer.parseInt(eventID));
-          xml = eventInformationMap.get("xml");
-          FSOTests.fileWrite(filePathName, xml, false);
-        }
-      }
-    } catch (final Exception e) {
-      sysOut(e);
-    }
+    final EventsNamespace eventsNamespace = getYmApiInstance().getEventsNamespace();
+    // eventIDList.add(EVENTID_TEST);
+    return YMFetchScheduler.fromConfig("EventInformation")
+        .fetchAll(
+            getEventIDListValid(),
+            eventID ->
+                VivitFoldersFiles.PATH_API_DATA_YM_EVENT_INFORMATION + eventID + IExtension.XML,
+            eventID -> eventsNamespace.eventGet(Integer.parseInt(eventID)).get("xml"));
   }
 
-  public static void getAllEventRegistrationIDs() throws Throwable {
+  public static YMFetchResult getAllEventRegistrationIDs() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    try {
-      List<String> eventIDList = getEventIDListValid();
-      // eventIDList.add(EVENTID_TEST);
-      for (String eventID : eventIDList) {
-        String filePathName =
-            VivitFoldersFiles.PATH_API_DATA_YM_EVENT_REGISTRATION_IDS + eventID + IExtension.XML;
-        String xml;
-        if (!FSOTests.fileExists(filePathName)) {
-          // Create the Event RegistrationIDs information.
-          if (getYmapi() == null) {
-            setYmApi(new YMAPI());
-          }
-          Map<String, String> eventInformationMap =
-              getYmApi()
-                  .getSaEventsNamespace()
-                  .eventRegistrationsGetIDs(Integer.parseInt(eventID), null);
-          xml = eventInformationMap.get("xml");
-          FSOTests.fileWrite(filePathName, xml, false);
-        }
-      }
-    } catch (final Exception e) {
-      sysOut(e);
-    }
+    final SaEventsNamespace saEventsNamespace = getYmApiInstance().getSaEventsNamespace();
+    // eventIDList.add(EVENTID_TEST);
+    return YMFetchScheduler.fromConfig("EventRegistrationIDs")
+        .fetchAll(
+            getEventIDListValid(),
+            eventID ->
+                VivitFoldersFiles.PATH_API_DATA_YM_EVENT_REGISTRATION_IDS
+                    + eventID
+                    + IExtension.XML,
+            eventID ->
+                saEventsNamespace
+                    .eventRegistrationsGetIDs(Integer.parseInt(eventID), null)
+                    .get("xml"));
   }
 
-  public static void getAllEventRegistration() throws Throwable {
+  public static YMFetchResult getAllEventRegistration() throws Throwable {
     sysOut(" " + Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    try {
-      List<String> registrationIDList = getEventRegistrationIDListAll();
-      // getEventIDListValid();
-      // eventIDList.add(EVENTID_TEST);
-      for (String registrationID : registrationIDList) {
-        String xml = "";
-        String filePathName =
-            VivitFoldersFiles.PATH_API_DATA_YM_EVENT_REGISTRATION + registrationID + IExtension.XML;
-        if (!FSOTests.fileExists(filePathName)) {
-          // Create the Event Registration information.
-          if (getYmapi() == null) {
-            setYmApi(new YMAPI());
-          }
-          Map<String, String> eventInformationMap =
-              getYmapi().getSaEventsNamespace().eventRegistrationGet(registrationID, "");
-          xml = eventInformationMap.get("xml");
-          FSOTests.fileWrite(filePathName, xml, false);
-        }
-      }
-    } catch (final Exception e) {
-      sysOut(e);
+    final SaEventsNamespace saEventsNamespace = getYmApiInstance().getSaEventsNamespace();
+    return YMFetchScheduler.fromConfig("EventRegistration")
+        .fetchAll(
+            getEventRegistrationIDListAll(),
+            registrationID ->
+                VivitFoldersFiles.PATH_API_DATA_YM_EVENT_REGISTRATION
+                    + registrationID
+                    + IExtension.XML,
+            registrationID ->
+                saEventsNamespace.eventRegistrationGet(registrationID, "").get("xml"));
+  }
+
+  /**
+   * Gets the shared YMAPI, creating it first if needed. Call this before fanning out API calls so
+   * the worker threads never race to create it.
+   *
+   * @return the shared YMAPI
+   * @throws Throwable if the YMAPI cannot be created
+   */
+  private static synchronized YMAPI getYmApiInstance() throws Throwable {
+    if (getYmApi() == null) {
+      setYmApi(new YMAPI());
     }
+    return getYmApi();
   }
 
   /**
@@ -481,34 +394,30 @@ public static void getAllEvents(long pageRecordStart) throws Throwable {
     sysOut(
         ParameterHelper.getParameters(
             Arrays.asList(Arrays.asList(pageRecordStart, "pageRecordStart"))));
-    try {
-      boolean recordsExist = false;
-      do {
-        String filePathName =
-            VivitFoldersFiles.PATH_API_DATA_YM_EVENTS + pageRecordStart + IExtension.XML;
-        String xml;
-        if (!FSOTests.fileExists(filePathName)) {
-          // Create the Event information.
-          if (getYmapi() == null) {
-            setYmApi(new YMAPI());
-          }
-          Map<String, String> mapResults =
-              getYmapi()
-                  .getEventsNamespace()
-                  .allSearch(getEventNameSearch(), EventsNamespace.PAGES_MAX, pageRecordStart);
-          xml = mapResults.get("xml");
-          FSOTests.fileWrite(filePathName, xml, false);
-        }
-        xml = FSOTests.fileReadAll(filePathName);
-        int recordCount = getEventMapListAll(xml).size();
-        sysOut("recordCount:[" + recordCount + "], filePathName:[" + filePathName + "]");
-        recordsExist = recordCount > 0;
-        pageRecordStart += EventsNamespace.PAGES_MAX;
-      } while (recordsExist);
-      // mapResults = allSearch(null, 100, 701)
-    } catch (final Exception e) {
-      sysOut(e);
-    }
+    final EventsNamespace eventsNamespace = getYmApiInstance().getEventsNamespace();
+    final long recordCount =
+        YMPagePrefetcher.fromConfig("Events", EventsNamespace.PAGES_MAX)
+            .fetchAll(
+                pageRecordStart,
+                pageStart -> VivitFoldersFiles.PATH_API_DATA_YM_EVENTS + pageStart + IExtension.XML,
+                pageStart ->
+                    eventsNamespace
+                        .allSearch(getEventNameSearch(), EventsNamespace.PAGES_MAX, pageStart)
+                        .get("xml"),
+                YMDataTests::getEventRecordCount);
+    sysOut("recordCount:[" + recordCount + "]");
+    // mapResults = allSearch(null, 100, 701)
+  }
+
+  /**
+   * Counts the events in an Events.All.Search response without building a DOM.
+   *
+   * @param xml the response
+   * @return the number of Item elements in the Results element
+   * @throws Exception if the response is not well formed
+   */
+  public static int getEventRecordCount(String xml) throws Exception {
+    return XML.countChildElements(xml, "Results", "Item");
   }
 
   public static List<String> getEventIDListValid() throws Throwable {
@@ -703,15 +612,16 @@ public static YMAPI getYmApi() {
   public static void importGoToWebinar() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    importGoToWebinarData("Events");
-    importGoToWebinarData("EventInformation");
-    importGoToWebinarData("YMGTWLinks");
-    importGoToWebinarData("EventAttendees");
-    importGoToWebinarData("EventRegistrationIDs");
-    importGoToWebinarData("EventRegistration");
+    for (final String tableBackupName : GTW_TABLE_LIST) {
+      importGoToWebinarData(tableBackupName);
+    }
   }
 
   /**
+   * Moves the Current table to Previous and loads the Current table from the downloaded files
+   * through a {@link BatchInsert}. The move and the load are one transaction, so a file that cannot
+   * be read or a failed insert leaves both tables as they were.
+   *
    * @param tableBackupName
    * @throws Throwable
    */
@@ -720,129 +630,106 @@ public static void importGoToWebinarData(String tableBackupName) throws Throwabl
     sysOut(
         ParameterHelper.getParameters(
             Arrays.asList(Arrays.asList(tableBackupName, "tableBackupName"))));
-    List<StringBuilder> sqlStringBuilderList = new ArrayList<>();
-    List<StringBuilder> sqlStringBuilderListTemp = new ArrayList<>();
-    switch (tableBackupName) {
-      case "Events":
-        sqlStringBuilderListTemp.add(importGoToWebinarEvents());
-        break;
-      case "EventInformation":
-        sqlStringBuilderListTemp.add(importGoToWebinarEventInformation());
-        break;
-      case "YMGTWLinks":
-        sqlStringBuilderListTemp.add(importGoToWebinarYMGTWLinks());
-        break;
-      case "EventAttendees":
-        sqlStringBuilderListTemp.add(importGoToWebinarEventAttendees());
-        break;
-      case "EventRegistrationIDs":
-        sqlStringBuilderListTemp.add(importGoToWebinarEventRegistrationIDs());
-        break;
-      case "EventRegistration":
-        sqlStringBuilderListTemp.add(importGoToWebinarEventRegistration());
-        break;
-      default:
-        throw new QAException("Undefined Table:[" + tableBackupName + "]");
+    if (!GTW_TABLE_LIST.contains(tableBackupName)) {
+      throw new QAException("Undefined Table:[" + tableBackupName + "]");
     }
-    if (sqlStringBuilderListTemp.isEmpty()) {
-      return;
+    final String tableName = VivitTables.PREFIX + tableBackupName + "_Current";
+    // The dated backup only copies Previous, so it can be taken outside the transaction.
+    VivitDataTests.dropAndCreateBackUpTables(tableBackupName);
+    int recordsInserted = 0;
+    JDBC jdbc = new JDBC("", VivitDataTests.DATABASE_DEFINITION);
+    try (BatchInsert batchInsert = jdbc.openBatchInsertTransaction(tableName, List.of())) {
+      for (final String query : VivitDataTests.getCurrentToPreviousQueryList(tableBackupName)) {
+        sysOut(query);
+        batchInsert.executeUpdate(query);
+      }
+      switch (tableBackupName) {
+        case "Events":
+          importGoToWebinarEvents(batchInsert);
+          break;
+        case "EventInformation":
+          importGoToWebinarEventInformation(batchInsert);
+          break;
+        case "YMGTWLinks":
+          importGoToWebinarYMGTWLinks(batchInsert);
+          break;
+        case "EventAttendees":
+          importGoToWebinarEventAttendees(batchInsert);
+          break;
+        case "EventRegistrationIDs":
+          importGoToWebinarEventRegistrationIDs(batchInsert);
+          break;
+        case "EventRegistration":
+          importGoToWebinarEventRegistration(batchInsert);
+          break;
+        default:
+          throw new QAException("Undefined Table:[" + tableBackupName + "]");
+      }
+      batchInsert.commit();
+      recordsInserted = batchInsert.getRecordsInserted();
+    } finally {
+      jdbc.close();
     }
-    sqlStringBuilderList.add(new StringBuilder(tableBackupName));
-    sqlStringBuilderList.addAll(sqlStringBuilderListTemp);
-    VivitDataTests.updateTableFromCurrentToPreviousAndInsert(sqlStringBuilderList);
+    SQL.logVivit(LABEL_INSERT_INTO, tableName, recordsInserted);
   }
 
-  public static StringBuilder importGoToWebinarEventAttendees() throws Throwable {
+  public static void importGoToWebinarEventAttendees(BatchInsert batchInsert) throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    StringBuilder sqlStringBuilder = new StringBuilder();
     List<String> eventAttendeeFileList =
         FSOTests.filesList(VivitFoldersFiles.PATH_API_DATA_YM_EVENT_ATTENDEES);
+    final Map<String, String> attendeeTemplateMap = EventsNamespace.attendeeWithDataSetMap();
     for (String filePathName : eventAttendeeFileList) {
       String eventID = filePathName.replace(VivitFoldersFiles.PATH_API_DATA_YM_EVENT_ATTENDEES, "");
-      eventID = eventID.replace(IExtension.XML, "");
-      String xml = FSOTests.fileReadAll(filePathName);
-      Document document = XML.createDocument(xml);
-      // //Events.Event.Attendees.Get/Attendees/Attendee
-      NodeList attendeeNodeList = document.getElementsByTagName("Attendee");
+      final String fileEventID = eventID.replace(IExtension.XML, "");
+      // //Events.Event.Attendees.Get/Attendees/Attendee, streamed one Attendee at a time.
+      final int attendeeCount =
+          XMLStreamExtractor.forEachRecord(
+              new File(filePathName),
+              "Attendee",
+              recordMap -> {
+                Map<String, String> attendeeMap = new HashMap<>(attendeeTemplateMap);
+                for (Entry<String, String> entry : recordMap.entrySet()) {
+                  final String key = entry.getKey();
+                  if (isRecordChild(key) && !DATASET.equals(key)) {
+                    attendeeMap.put(key, entry.getValue());
+                  } else {
+                    final String dataSetNodeName = getDataSetExportValueName(key);
+                    if (dataSetNodeName != null) {
+                      attendeeMap.put(dataSetNodeName, entry.getValue());
+                    }
+                  }
+                }
+                attendeeMap.put(LABEL_EVENT_ID, fileEventID);
+                batchInsert.addRecord(attendeeMap);
+              });
       sysOut(
           "filePathName:["
               + filePathName
               + "], eventID:["
-              + eventID
-              + "], attendeeNodeList.getLength():["
-              + attendeeNodeList.getLength()
-              + "], xml:["
-              + Constants.NEWLINE
-              + xml
+              + fileEventID
+              + "], attendeeCount:["
+              + attendeeCount
               + "]");
-      if (attendeeNodeList.getLength() > 0) {
-        for (int attendeeNodeIndex = 0;
-            attendeeNodeIndex < attendeeNodeList.getLength();
-            attendeeNodeIndex++) {
-          final Node attendeeNode = attendeeNodeList.item(attendeeNodeIndex);
-          final Element attendeeElement = (Element) attendeeNode;
-          NodeList attendeeChildrenNodeList = attendeeNode.getChildNodes();
-          Map<String, String> attendeeMap = EventsNamespace.attendeeWithDataSetMap();
-          for (int attendeeChildNodeIndex = 0;
-              attendeeChildNodeIndex < attendeeChildrenNodeList.getLength();
-              attendeeChildNodeIndex++) {
-            Node attendeeChildNode = attendeeChildrenNodeList.item(attendeeChildNodeIndex);
-            if (attendeeChildNode.getNodeType() == Node.ELEMENT_NODE) {
-              final Element attendeeChildElement = (Element) attendeeChildNode;
-              String attendeeNodeName = attendeeChildElement.getNodeName();
-              final String attendeeNodeValue =
-                  attendeeElement.getElementsByTagName(attendeeNodeName).item(0).getTextContent();
-              if (!"DataSet".equals(attendeeNodeName)) {
-                attendeeMap.put(attendeeNodeName, attendeeNodeValue);
-              } else {
-                NodeList dataSetChildrenNodeList = attendeeChildNode.getChildNodes();
-                for (int dataSetChildNodeIndex = 0;
-                    dataSetChildNodeIndex < dataSetChildrenNodeList.getLength();
-                    dataSetChildNodeIndex++) {
-                  Node dataSetChildNode = dataSetChildrenNodeList.item(dataSetChildNodeIndex);
-                  if (dataSetChildNode.getNodeType() == Node.ELEMENT_NODE) {
-                    final Element dataSetChildElement = (Element) dataSetChildNode;
-                    String dataSetNodeName = dataSetChildElement.getNodeName();
-                    String valueNodeValue =
-                        dataSetChildNode.getAttributes().getNamedItem("ExportValue").getNodeValue();
-                    attendeeMap.put(dataSetNodeName, valueNodeValue);
-                  }
-                }
-              }
-            }
-          }
-          attendeeMap.put(LABEL_EVENT_ID, eventID);
-          sqlStringBuilder =
-              SQL.appendStringBuilderSQLInsertRecord(
-                  VivitTables.VIVIT_EVENT_ATTENDEES_CURRENT, sqlStringBuilder, attendeeMap, true);
-        }
-      }
     }
-    return sqlStringBuilder;
   }
 
-  public static StringBuilder importGoToWebinarEventInformation() throws Throwable {
+  public static void importGoToWebinarEventInformation(BatchInsert batchInsert) throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList()));
-    StringBuilder sqlStringBuilder = new StringBuilder();
     List<String> eventFileList =
         FSOTests.filesList(VivitFoldersFiles.PATH_API_DATA_YM_EVENT_INFORMATION);
     for (String filePathName : eventFileList) {
       String xml = FSOTests.fileReadAll(filePathName);
       for (Map<String, String> sessionMap : getEventInformationMapListAll(xml)) {
-        sqlStringBuilder =
-            SQL.appendStringBuilderSQLInsertRecord(
-                VivitTables.VIVIT_EVENTINFORMATION_CURRENT, sqlStringBuilder, sessionMap, true);
+        batchInsert.addRecord(sessionMap);
       }
     }
-    return sqlStringBuilder;
   }
 
-  public static StringBuilder importGoToWebinarYMGTWLinks() throws Throwable {
+  public static void importGoToWebinarYMGTWLinks(BatchInsert batchInsert) throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList()));
-    StringBuilder sqlStringBuilder = new StringBuilder();
     List<String> eventFileList =
         FSOTests.filesList(VivitFoldersFiles.PATH_API_DATA_YM_EVENT_INFORMATION);
     for (String filePathName : eventFileList) {
@@ -857,98 +744,83 @@ public static StringBuilder importGoToWebinarYMGTWLinks() throws Throwable {
             Map<String, String> linkMap = new HashMap<>();
             linkMap.put("YMID", eventID);
             linkMap.put("GTWID", gtwID);
-            SQL.appendStringBuilderSQLInsertRecord(
-                VivitTables.VIVIT_YMGTW_LINKS_CURRENT, sqlStringBuilder, linkMap, true);
+            batchInsert.addRecord(linkMap);
           }
         }
       }
     }
-    return sqlStringBuilder;
   }
 
-  public static StringBuilder importGoToWebinarEvents() throws Throwable {
+  public static void importGoToWebinarEvents(BatchInsert batchInsert) throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList()));
-    StringBuilder sqlStringBuilder = new StringBuilder();
     List<String> eventFileList = FSOTests.filesList(VivitFoldersFiles.PATH_API_DATA_YM_EVENTS);
     for (String filePathName : eventFileList) {
       String xml = FSOTests.fileReadAll(filePathName);
       for (Map<String, String> sessionMap : getEventMapListValid(xml)) {
-        sqlStringBuilder =
-            SQL.appendStringBuilderSQLInsertRecord(
-                VivitTables.VIVIT_EVENTS_CURRENT, sqlStringBuilder, sessionMap, true);
+        batchInsert.addRecord(sessionMap);
       }
     }
-    return sqlStringBuilder;
   }
 
-  public static StringBuilder importGoToWebinarEventRegistration() throws Throwable {
+  public static void importGoToWebinarEventRegistration(BatchInsert batchInsert) throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    StringBuilder sqlStringBuilder = new StringBuilder();
     List<String> eventRegistrationFileList =
         FSOTests.filesList(VivitFoldersFiles.PATH_API_DATA_YM_EVENT_REGISTRATION);
+    final Map<String, String> eventRegistrationTemplateMap =
+        EventsNamespace.eventRegistrationWithDataSetAndCustomMap();
     for (String filePathName : eventRegistrationFileList) {
-      String xml = FSOTests.fileReadAll(filePathName);
-      Document document = XML.createDocument(xml);
-      // //Sa.Events.Event.Registration.Get/Registration
-      NodeList eventRegistrationNodeList =
-          document.getElementsByTagName("Sa.Events.Event.Registration.Get");
+      // //Sa.Events.Event.Registration.Get/Registration, streamed one record at a time.
+      final int eventRegistrationCount =
+          XMLStreamExtractor.forEachRecord(
+              new File(filePathName),
+              "Sa.Events.Event.Registration.Get",
+              recordMap -> {
+                Map<String, String> eventRegistrationMap =
+                    new HashMap<>(eventRegistrationTemplateMap);
+                for (Entry<String, String> entry : recordMap.entrySet()) {
+                  final String key = entry.getKey();
+                  if (isRecordChild(key) && !DATASET.equals(key)) {
+                    processNonDataSetNode(key, entry.getValue(), eventRegistrationMap);
+                  } else {
+                    final String dataSetNodeName = getDataSetExportValueName(key);
+                    if (dataSetNodeName != null) {
+                      processDataSetNode(dataSetNodeName, entry.getValue(), eventRegistrationMap);
+                    }
+                  }
+                }
+                batchInsert.addRecord(eventRegistrationMap);
+              });
       sysOut(
           "filePathName:["
               + filePathName
-              + "], eventRegistrationNodeList.getLength():["
-              + eventRegistrationNodeList.getLength()
-              + "], xml:["
-              + Constants.NEWLINE
-              + xml
+              + "], eventRegistrationCount:["
+              + eventRegistrationCount
               + "]");
-      if (eventRegistrationNodeList.getLength() > 0) {
-        for (int eventRegistrationNodeIndex = 0;
-            eventRegistrationNodeIndex < eventRegistrationNodeList.getLength();
-            eventRegistrationNodeIndex++) {
-          final Node eventRegistrationNode =
-              eventRegistrationNodeList.item(eventRegistrationNodeIndex);
-          final Element eventRegistrationElement = (Element) eventRegistrationNode;
-          NodeList eventRegistrationChildrenNodeList = eventRegistrationNode.getChildNodes();
-          Map<String, String> eventRegistrationMap =
-              EventsNamespace.eventRegistrationWithDataSetAndCustomMap();
-          for (int eventRegistrationChildNodeIndex = 0;
-              eventRegistrationChildNodeIndex < eventRegistrationChildrenNodeList.getLength();
-              eventRegistrationChildNodeIndex++) {
-            Node eventRegistrationChildNode =
-                eventRegistrationChildrenNodeList.item(eventRegistrationChildNodeIndex);
-
-            if (eventRegistrationChildNode.getNodeType() != Node.ELEMENT_NODE) {
-              continue; // Guard clause - skip non-element nodes
-            }
+    }
+  }
 
-            final Element eventRegistrationChildElement = (Element) eventRegistrationChildNode;
-            String eventRegistrationNodeName = eventRegistrationChildElement.getNodeName();
-            final String eventRegistrationNodeValue =
-                eventRegistrationElement
-                    .getElementsByTagName(eventRegistrationNodeName)
-                    .item(0)
-                    .getTextContent();
-
-            if (!"DataSet".equals(eventRegistrationNodeName)) {
-              processNonDataSetNode(
-                  eventRegistrationNodeName, eventRegistrationNodeValue, eventRegistrationMap);
-            } else {
-              processDataSetNode(eventRegistrationChildNode, eventRegistrationMap);
-            }
-          }
-          sqlStringBuilder =
-              SQL.appendStringBuilderSQLInsertRecord(
-                  VivitTables.VIVIT_EVENT_REGISTRATION_CURRENT,
-                  sqlStringBuilder,
-                  eventRegistrationMap,
-                  true);
-        }
-      }
+  /** Checks whether a streamed record key is a direct child element (not a path or attribute). */
+  private static boolean isRecordChild(String key) {
+    return !key.contains(XMLStreamExtractor.PATH_DELIMITER)
+        && !key.contains(XMLStreamExtractor.ATTRIBUTE_DELIMITER);
+  }
+
+  /**
+   * Gets the DataSet child name from a streamed record key of the form {@code
+   * DataSet/<name>@ExportValue}.
+   *
+   * @return the child name, or null if the key is not a DataSet ExportValue
+   */
+  private static String getDataSetExportValueName(String key) {
+    final String prefix = DATASET + XMLStreamExtractor.PATH_DELIMITER;
+    final String suffix = XMLStreamExtractor.ATTRIBUTE_DELIMITER + "ExportValue";
+    if (!key.startsWith(prefix) || !key.endsWith(suffix)) {
+      return null;
     }
-    LOG.debug("Length: {}", sqlStringBuilder.toString().split(Constants.NEWLINE).length);
-    return sqlStringBuilder;
+    final String name = key.substring(prefix.length(), key.length() - suffix.length());
+    return isRecordChild(name) ? name : null;
   }
 
   /**
@@ -963,43 +835,24 @@ private static void processNonDataSetNode(
     }
   }
 
-  /**
-   * Process DataSet child nodes in event registration XML. Extracted method to reduce nesting
-   * depth.
-   */
+  /** Process a DataSet child (its ExportValue) in event registration XML. */
   private static void processDataSetNode(
-      Node dataSetParentNode, Map<String, String> eventRegistrationMap) {
-    NodeList dataSetChildrenNodeList = dataSetParentNode.getChildNodes();
-    for (int dataSetChildNodeIndex = 0;
-        dataSetChildNodeIndex < dataSetChildrenNodeList.getLength();
-        dataSetChildNodeIndex++) {
-      Node dataSetChildNode = dataSetChildrenNodeList.item(dataSetChildNodeIndex);
-
-      if (dataSetChildNode.getNodeType() != Node.ELEMENT_NODE) {
-        continue; // Guard clause - skip non-element nodes
-      }
-
-      final Element dataSetChildElement = (Element) dataSetChildNode;
-      String dataSetNodeName = dataSetChildElement.getNodeName();
-
-      if (eventRegistrationMap.containsKey(dataSetNodeName)) {
-        String valueNodeValue =
-            dataSetChildNode.getAttributes().getNamedItem("ExportValue").getNodeValue();
-        eventRegistrationMap.put(dataSetNodeName, valueNodeValue);
-      } else {
-        sysOut(
-            "The ["
-                + dataSetNodeName
-                + "] item does not exist in the"
-                + " eventRegistrationMap!!!");
-      }
+      String dataSetNodeName, String valueNodeValue, Map<String, String> eventRegistrationMap) {
+    if (eventRegistrationMap.containsKey(dataSetNodeName)) {
+      eventRegistrationMap.put(dataSetNodeName, valueNodeValue);
+    } else {
+      sysOut(
+          "The ["
+              + dataSetNodeName
+              + "] item does not exist in the"
+              + " eventRegistrationMap!!!");
     }
   }
 
-  public static StringBuilder importGoToWebinarEventRegistrationIDs() throws Throwable {
+  public static void importGoToWebinarEventRegistrationIDs(BatchInsert batchInsert)
+      throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    StringBuilder sqlStringBuilder = new StringBuilder();
     List<String> eventRegistrationFileList =
         FSOTests.filesList(VivitFoldersFiles.PATH_API_DATA_YM_EVENT_REGISTRATION_IDS);
     for (String filePathName : eventRegistrationFileList) {
@@ -1010,16 +863,9 @@ public static StringBuilder importGoToWebinarEventRegistrationIDs() throws Throw
       List<Map<String, String>> registrationIDMapList = getEventRegistrationIDsMapListAll(xml);
       for (Map<String, String> registrationIDMap : registrationIDMapList) {
         registrationIDMap.put("EventID", eventID);
-        sqlStringBuilder =
-            SQL.appendStringBuilderSQLInsertRecord(
-                VivitTables.VIVIT_EVENT_REGISTRATION_IDS_CURRENT,
-                sqlStringBuilder,
-                registrationIDMap,
-                true);
+        batchInsert.addRecord(registrationIDMap);
       }
     }
-    LOG.debug("Length: {}", sqlStringBuilder.toString().split(Constants.NEWLINE).length);
-    return sqlStringBuilder;
   }
 
   /**
@@ -1104,8 +950,8 @@ public static boolean isValidEventYM(Map<String, String> eventMap) throws Throwa
    * @return
    * @throws Throwable
    */
-  public static List<StringBuilder> namespaceImport(
-      String filePathName, String apiNamespace, String tableName) throws Throwable {
+  public static int namespaceImport(String filePathName, String apiNamespace, String tableName)
+      throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     LOG.debug(
         "{}",
@@ -1115,14 +961,16 @@ public static List<StringBuilder> namespaceImport(
                 Arrays.asList(VivitDataTests.LABEL_API_NAMESPACE, apiNamespace),
                 Arrays.asList(VivitDataTests.LABEL_TABLE_NAME, tableName))));
     String statusName = "namespaceImport-" + apiNamespace + "." + tableName;
-    List<StringBuilder> sqlStringBuilderList = new ArrayList<>();
     if (VivitDataTests.successFileStatus(statusName, true)) {
-      return sqlStringBuilderList;
+      return 0;
     }
     JDBC jdbc = new JDBC("", VivitDataTests.DATABASE_DEFINITION);
     List<String> headingsExpectedList = jdbc.getFieldNamesList(tableName);
     jdbc.close();
-    StringBuilder sqlStringBuilder = new StringBuilder();
+    // The loader is opened after the headings are reconciled so the table changes are committed
+    // before the insert statement is prepared.
+    BatchInsert batchInsert = null;
+    int recordsInserted = 0;
     final int recordStart = 0;
     final int recordLimitInsert = 25000;
     final int recordLimitDebug = Integer.valueOf(recordLimitInsert / 10);
@@ -1142,7 +990,6 @@ public static List<StringBuilder> namespaceImport(
         Iterable<CSVRecord> records = CSVParser.parse(reader, format);
         boolean headingsMapped = false;
         Map<String, String> headingsCSVMap = null;
-        sqlStringBuilder = new StringBuilder();
         int recordNumber = 0;
         List<String> headingsExpectedMissingList = new ArrayList<>();
         List<String> headingsCSVMissingList;
@@ -1209,25 +1056,29 @@ public static List<StringBuilder> namespaceImport(
                 mapMember.put(LABEL_RECORD_COMPLETE, "0");
               }
             }
-            sqlStringBuilder =
-                SQL.appendStringBuilderSQLInsertRecord(
-                    tableName, sqlStringBuilder, mapMember, true);
+            if (batchInsert == null) {
+              batchInsert = jdbc.openBatchInsert(tableName, List.of(), recordLimitInsert);
+            }
+            batchInsert.addRecord(mapMember);
             if (recordNumber % recordLimitDebug == 0) {
               sysOut(JavaHelpers.getCurrentMethodName() + "-Records:[" + recordNumber + "]");
             }
-            if (recordNumber % recordLimitInsert == 0) {
-              sqlStringBuilderList.add(sqlStringBuilder);
-              sqlStringBuilder = new StringBuilder();
-            }
           }
         }
-        sqlStringBuilderList.add(sqlStringBuilder);
+        if (batchInsert != null) {
+          batchInsert.close();
+          recordsInserted = batchInsert.getRecordsInserted();
+        }
         VivitDataTests.successFileCreate(statusName);
       }
     } catch (final Exception e) {
       sysOut(e);
+    } finally {
+      if (batchInsert != null) {
+        batchInsert.close();
+      }
     }
-    return sqlStringBuilderList;
+    return recordsInserted;
   }
 
   /**
@@ -1332,7 +1183,7 @@ public static void importYMCSV() throws Throwable {
             VivitTables.VIVIT_DATABASE_CHANGES + "-" + apiNamespace,
             sqlStringBuilder);
       }
-      List<StringBuilder> sqlStringBuilderList = new ArrayList<>();
+      int recordsInserted = 0;
       sqlStringBuilder = new StringBuilder();
       switch (apiNamespace) {
         case "Sa_ExportNamespace.exportDataMembers":
@@ -1343,11 +1194,11 @@ public static void importYMCSV() throws Throwable {
                   + "];"
                   + Constants.NEWLINE);
           SQL.executeVivit(LABEL_DELETE_FROM, VivitTables.DOM_VIVIT_MEMBERS, sqlStringBuilder);
-          sqlStringBuilderList.addAll(
+          recordsInserted =
               namespaceImport(
                   VivitFoldersFiles.DATA_YMAPI_DATA_MEMBERS,
                   apiNamespace,
-                  VivitTables.DOM_VIVIT_MEMBERS));
+                  VivitTables.DOM_VIVIT_MEMBERS);
           break;
         case "Sa_ExportNamespace.exportDataMemberGroups":
           sqlStringBuilder.append(
@@ -1358,11 +1209,11 @@ public static void importYMCSV() throws Throwable {
                   + Constants.NEWLINE);
           SQL.executeVivit(
               LABEL_DELETE_FROM, VivitTables.DOM_VIVIT_MEMBER_GROUPS, sqlStringBuilder);
-          sqlStringBuilderList.addAll(
+          recordsInserted =
               namespaceImport(
                   VivitFoldersFiles.DATA_YMAPI_DATA_MEMBER_GROUPS,
                   apiNamespace,
-                  VivitTables.DOM_VIVIT_MEMBER_GROUPS));
+                  VivitTables.DOM_VIVIT_MEMBER_GROUPS);
           break;
         case "MemberProducts":
           sqlStringBuilder.append(
@@ -1373,13 +1224,13 @@ public static void importYMCSV() throws Throwable {
                   + Constants.NEWLINE);
           SQL.executeVivit(
               LABEL_DELETE_FROM, VivitTables.DOM_VIVIT_MEMBER_PRODUCTS, sqlStringBuilder);
-          sqlStringBuilderList.addAll(updateMemberProducts());
+          recordsInserted = updateMemberProducts();
           break;
         default:
           throw new QAException("Undefined Namespace:[" + apiNamespace + "]");
       }
-      for (StringBuilder stringBuilder : sqlStringBuilderList) {
-        SQL.executeVivit(LABEL_INSERT_INTO, apiNamespace, stringBuilder);
+      if (recordsInserted > 0) {
+        SQL.logVivit(LABEL_INSERT_INTO, apiNamespace, recordsInserted);
       }
     }
   }
@@ -1450,13 +1301,12 @@ public static void setYmApi(YMAPI ymApi) {
     YMDataTests.ymApi = ymApi;
   }
 
-  public static List<StringBuilder> updateMemberProducts() throws Throwable {
+  public static int updateMemberProducts() throws Throwable {
     sysOut(Constants.CLASS_METHOD_DEBUG + JavaHelpers.getCurrentClassMethodDebugName() + "]");
     sysOut(ParameterHelper.getParameters(Arrays.asList(Arrays.asList())));
-    List<StringBuilder> sqlStringBuilderList = new ArrayList<>();
     String statusName = "updateMemberProducts";
     if (VivitDataTests.successFileExists(statusName)) {
-      return sqlStringBuilderList;
+      return 0;
     }
     JDBC jdbc = new JDBC("", VivitDataTests.DATABASE_DEFINITION);
     StringBuilder sqlStringBuilder;
@@ -1466,6 +1316,7 @@ public static List<StringBuilder> updateMemberProducts() throws Throwable {
                     + "Micro_Focus_Backup_&_Governance_Products_Used;Micro_Focus_ITOM_Products_Used;"
                     + "Micro_Focus_Application_Delivery_Products_Used")
                 .split(Constants.DELIMETER_LIST)); // Other_Micro_Focus_Products_Used
+    final List<List<String>> productRowList = new ArrayList<>();
     for (final String delimitedField : delimitedFieldList) {
       sqlStringBuilder = new StringBuilder();
       sqlStringBuilder.append(
@@ -1479,7 +1330,6 @@ public static List<StringBuilder> updateMemberProducts() throws Throwable {
       sqlStringBuilder.append(JDBCConstants.WHERE + "[" + delimitedField + "]!=''");
       final String sql = sqlStringBuilder.toString();
       final String results = jdbc.queryResults(sql, Constants.DELIMETER_LIST, false);
-      sqlStringBuilder = new StringBuilder();
       final String[] records = results.split(Constants.NEWLINE);
       for (final String record : records) {
         final String[] fields = record.split(Constants.DELIMETER_LIST);
@@ -1487,20 +1337,18 @@ public static List<StringBuilder> updateMemberProducts() throws Throwable {
         final String productList = fields[1];
         final String[] products = productList.split(Constants.BACKSLASH + "|");
         for (final String product : products) {
-          final Map<String, String> mapProduct = new HashMap<>();
-          mapProduct.put("ProductLine", delimitedField);
-          mapProduct.put(VivitDataTests.LABEL_WEB_SITE_MEMBER_ID, webSiteMemberID);
-          mapProduct.put("Product", product.trim());
-          sqlStringBuilder =
-              SQL.appendStringBuilderSQLInsertRecord(
-                  VivitTables.DOM_VIVIT_MEMBER_PRODUCTS, sqlStringBuilder, mapProduct, true);
+          productRowList.add(Arrays.asList(delimitedField, webSiteMemberID, product.trim()));
         }
       }
-      sqlStringBuilderList.add(sqlStringBuilder);
     }
+    final int recordsInserted =
+        jdbc.executeBatchInsert(
+            VivitTables.DOM_VIVIT_MEMBER_PRODUCTS,
+            Arrays.asList("ProductLine", VivitDataTests.LABEL_WEB_SITE_MEMBER_ID, "Product"),
+            productRowList);
     jdbc.close();
     VivitDataTests.successFileCreate(statusName);
-    return sqlStringBuilderList;
+    return recordsInserted;
   }
 
   public static void stubAttendeeUpdateMe() throws Throwable {
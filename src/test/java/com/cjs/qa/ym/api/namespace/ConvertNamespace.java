@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -21,7 +21,7 @@ public Map<String, String> toEasternTime(String localTime, String localGmtBias)
     // adjustments for Daylight Savings Time.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Convert_ToEasternTime",
         IExtension.HTM);
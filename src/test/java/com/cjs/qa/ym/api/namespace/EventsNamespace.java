@@ -8,10 +8,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -133,7 +133,7 @@ public Map<String, String> allSearch(String searchText, int pageSize, long start
     // Returns a list of Community Events based on the supplied search term.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Events_All_Search",
         IExtension.HTM);
@@ -166,7 +166,7 @@ public Map<String, String> eventAttendeesGet(int eventID) throws Throwable {
     // data.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Events_Event_Attendees_Get",
         IExtension.HTM);
@@ -188,7 +188,7 @@ public Map<String, String> eventGet(int eventID) throws Throwable {
     // Returns details about the provided Event ID.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Events_Event_Get",
         IExtension.HTM);
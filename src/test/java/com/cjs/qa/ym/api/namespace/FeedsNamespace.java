@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -21,7 +21,7 @@ public Map<String, String> feedGet(String feedID, String pageSize, String startR
     // Returns a RSS 2.0 community feed.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Feeds_Feed_Get",
         IExtension.HTM);
@@ -45,7 +45,7 @@ public Map<String, String> get() throws Throwable {
     // Returns a list of RSS 2.0 community feeds.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Feeds_Get",
         IExtension.HTM);
@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -47,7 +47,7 @@ public Map<String, String> certificationsJournalGet(
     // user that may be optionally filterd by date, expiration, and paging.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Certifications_Journal_Get",
         IExtension.HTM);
@@ -77,7 +77,7 @@ public Map<String, String> commerceStoreGetOrderIDs(String timestamp, String sta
     // optionally filtered by timestamp and status.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Commerce_Store_GetOrderIDs",
         IExtension.HTM);
@@ -101,7 +101,7 @@ public Map<String, String> commerceStoreOrderGet(String invoiceID) throws Throwa
     // of a store order placed by the authenticated member.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Commerce_Store_Order_Get",
         IExtension.HTM);
@@ -123,7 +123,7 @@ public Map<String, String> connectionApprove(int iD, boolean approve) throws Thr
     // Approves or declines a connection request.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Connection_Approve",
         IExtension.HTM);
@@ -148,7 +148,7 @@ public Map<String, String> isAuthenticated() throws Throwable {
     // returning the authenticated member's <ID>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_IsAuthenticated",
         IExtension.HTM);
@@ -175,7 +175,7 @@ public Map<String, String> mediaGalleryUpload(
     // final value XMLMessage.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_MediaGallery_Upload",
         IExtension.HTM);
@@ -202,7 +202,7 @@ public Map<String, String> messagesGetInbox(int pageSize, int startRecord) throw
     // Returns a maximum of 100 records per request.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Messages_GetInbox",
         IExtension.HTM);
@@ -226,7 +226,7 @@ public Map<String, String> messagesGetSent(int pageSize, int startRecord) throws
     // folder. Returns a maximum of 100 records per request.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Messages_GetSent",
         IExtension.HTM);
@@ -249,7 +249,7 @@ public Map<String, String> messagesMessageRead(String messageID) throws Throwabl
     // Returns an individual message by <MessageID> and marks it as read.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Messages_Message_Read",
         IExtension.HTM);
@@ -272,7 +272,7 @@ public Map<String, String> messagesMessageSend(String iD, String subject, String
     // Message a member.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Messages_Message_Send",
         IExtension.HTM);
@@ -299,7 +299,7 @@ public Map<String, String> passwordInitializeReset(String username, String email
     // method does not require authentication.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Password_InitializeReset",
         IExtension.HTM);
@@ -327,7 +327,7 @@ public Map<String, String> passwordUpdate(
     // parameter.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Password_Update",
         IExtension.HTM);
@@ -352,7 +352,7 @@ public Map<String, String> profileGet() throws Throwable {
     // Returns the authenticated member's profile data.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Profile_Get",
         IExtension.HTM);
@@ -375,7 +375,7 @@ public Map<String, String> profileGetMini() throws Throwable {
     // snapshot and navigation control.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Profile_GetMini",
         IExtension.HTM);
@@ -396,7 +396,7 @@ public Map<String, String> wallPost(String iD, String postText) throws Throwable
     // Post to a member's wall.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Member_Wall_Post",
         IExtension.HTM);
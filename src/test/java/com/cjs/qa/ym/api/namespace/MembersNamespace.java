@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -20,7 +20,7 @@ public Map<String, String> connectionsCategoriesGet(String iD) throws Throwable
     // Returns a member's connection category list.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Members_Connections_Categories_Get",
         IExtension.HTM);
@@ -44,7 +44,7 @@ public Map<String, String> connectionsGet(
     // Returns a maximum of 100 records per request.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Members_Connections_Get",
         IExtension.HTM);
@@ -71,7 +71,7 @@ public Map<String, String> mediaGalleryAlbumsGet(String iD) throws Throwable {
     // of the member's media gallery items.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Members_MediaGallery_Albums_Get",
         IExtension.HTM);
@@ -95,7 +95,7 @@ public Map<String, String> mediaGalleryGet(
     // album. Returns a maximum of 100 records per request.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Members_MediaGallery_Get",
         IExtension.HTM);
@@ -120,7 +120,7 @@ public Map<String, String> mediaGalleryItemGet(String iD, String itemID) throws
     // Returns a single media gallery item.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Members_MediaGallery_Item_Get",
         IExtension.HTM);
@@ -143,7 +143,7 @@ public Map<String, String> wallGet(String iD, int pageSize, int startRecord) thr
     // Returns a member's wall.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Members_Wall_Get",
         IExtension.HTM);
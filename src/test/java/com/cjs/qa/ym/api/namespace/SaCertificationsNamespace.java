@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -20,7 +20,7 @@ public Map<String, String> allGet(boolean isActive) throws Throwable {
     // Return a list of all certification records for the community.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Certifications_All_Get",
         IExtension.HTM);
@@ -42,7 +42,7 @@ public Map<String, String> creditTypesAllGet() throws Throwable {
     // Return a list of all certifications credit types for the community.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Certifications_CreditTypes_All_Get",
         IExtension.HTM);
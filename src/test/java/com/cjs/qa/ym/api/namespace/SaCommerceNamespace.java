@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -41,7 +41,7 @@ public Map<String, String> productGet(String productID) throws Throwable {
     // QuickBooks Class
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Commerce_Product_Get",
         IExtension.HTM);
@@ -64,7 +64,7 @@ public Map<String, String> productsAllGetIDs(String productName, String productT
     // Returns all product IDs.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Commerce_Products_All_GetIDs",
         IExtension.HTM);
@@ -90,7 +90,7 @@ public Map<String, String> storeOrderGet(String invoiceID) throws Throwable {
     // of a store order.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Commerce_Store_Order_Get",
         IExtension.HTM);
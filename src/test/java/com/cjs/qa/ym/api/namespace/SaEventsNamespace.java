@@ -12,6 +12,7 @@
 import org.w3c.dom.NodeList;
 
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
@@ -141,7 +142,7 @@ public Map<String, String> allGetIDs(
     // date or event name.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Events_All_GetIDs",
         IExtension.HTM);
@@ -189,7 +190,7 @@ public Map<String, String> eventGet(int eventID) throws Throwable {
     // information.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Events_Event_Get",
         IExtension.HTM);
@@ -215,7 +216,7 @@ public Map<String, String> eventRegistrationGet(String registrationID, String ba
     // is stored in our database.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Events_Event_Registration_Get",
         IExtension.HTM);
@@ -239,7 +240,7 @@ public Map<String, String> eventRegistrationsGetIDs(int eventID, String status)
     // Returns a list of Registration IDs for the specified Event ID.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Events_Event_Registrations_GetIDs",
         IExtension.HTM);
@@ -5,15 +5,16 @@
 import org.apache.logging.log4j.LogManager;
 
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.FSOTests;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
 import com.cjs.qa.utilities.JavaHelpers;
-import com.cjs.qa.utilities.XML;
 import com.cjs.qa.vivit.VivitFoldersFiles;
 import com.cjs.qa.ym.YMDataTests;
 import com.cjs.qa.ym.api.services.YMAPI;
+import com.cjs.qa.ym.api.services.YMResponse;
 import com.cjs.qa.ym.api.services.YMService;
 
 public class SaExportNamespace extends YMService {
@@ -29,7 +30,7 @@ public Map<String, String> allInvoiceItems(boolean unicode, String date) throws
     // returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_All_InvoiceItems",
         IExtension.HTM);
@@ -56,7 +57,7 @@ public Map<String, String> careerOpenings(boolean unicode, String date) throws T
     // returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Career_Openings",
         IExtension.HTM);
@@ -83,7 +84,7 @@ public Map<String, String> donationsInvoiceItems(boolean unicode, String date) t
     // export file will be returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Donations_InvoiceItems",
         IExtension.HTM);
@@ -110,7 +111,7 @@ public Map<String, String> donationsTransactions(boolean unicode, String date) t
     // be returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Donations_Transactions",
         IExtension.HTM);
@@ -137,7 +138,7 @@ public Map<String, String> duesInvoiceItems(boolean unicode, String date) throws
     // returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Dues_InvoiceItems",
         IExtension.HTM);
@@ -164,7 +165,7 @@ public Map<String, String> duesTransactions(boolean unicode, String date) throws
     // returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Dues_Transactions",
         IExtension.HTM);
@@ -215,7 +216,7 @@ public Map<String, String> eventRegistrations(
     // export file will be returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Event_Registrations",
         IExtension.HTM);
@@ -248,7 +249,7 @@ public Map<String, String> financeBatch(boolean unicode, String batchID) throws
     // your export file will be returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Finance_Batch",
         IExtension.HTM);
@@ -272,7 +273,7 @@ public Map<String, String> exportDataMembers(String dateTimeFrom) throws Throwab
       dateTimeFrom = YMDataTests.getInceptionDateTime();
     }
     Map<String, String> mapResults = members(false, true, dateTimeFrom);
-    final String exportID = XML.getTag(mapResults.get("xml"), "ExportID");
+    final String exportID = new YMResponse(mapResults.get("xml")).getValue("ExportID");
     String exportStatus = null;
     String exportURI = null;
     int statusCheckCount = 0;
@@ -280,8 +281,9 @@ public Map<String, String> exportDataMembers(String dateTimeFrom) throws Throwab
       statusCheckCount++;
       JavaHelpers.sleep(0, Constants.MILLISECONDS * 15);
       mapResults = status(exportID);
-      exportStatus = XML.getTag(mapResults.get("xml"), "Status");
-      exportURI = XML.getTag(mapResults.get("xml"), "ExportURI");
+      final YMResponse statusResponse = new YMResponse(mapResults.get("xml"));
+      exportStatus = statusResponse.getValue("Status");
+      exportURI = statusResponse.getValue("ExportURI");
       exportStatus = ExportStatus.getValue(exportStatus);
       LOG.debug(
           "{}-statusCheckCount:[{}], exportStatus:[{}]",
@@ -304,7 +306,7 @@ public Map<String, String> exportDataMemberGroups(String dateTimeFrom) throws Th
       dateTimeFrom = YMDataTests.getInceptionDateTime();
     }
     Map<String, String> mapResults = membersGroups(false, dateTimeFrom);
-    final String exportID = XML.getTag(mapResults.get("xml"), "ExportID");
+    final String exportID = new YMResponse(mapResults.get("xml")).getValue("ExportID");
     String exportStatus = null;
     String exportURI = null;
     int statusCheckCount = 0;
@@ -312,8 +314,9 @@ public Map<String, String> exportDataMemberGroups(String dateTimeFrom) throws Th
       statusCheckCount++;
       JavaHelpers.sleep(0, Constants.MILLISECONDS * 15);
       mapResults = status(exportID);
-      exportStatus = XML.getTag(mapResults.get("xml"), "Status");
-      exportURI = XML.getTag(mapResults.get("xml"), "ExportURI");
+      final YMResponse statusResponse = new YMResponse(mapResults.get("xml"));
+      exportStatus = statusResponse.getValue("Status");
+      exportURI = statusResponse.getValue("ExportURI");
       exportStatus = ExportStatus.getValue(exportStatus);
       LOG.debug(
           "{}-statusCheckCount:[{}], exportStatus:[{}]",
@@ -340,7 +343,7 @@ public Map<String, String> members(boolean unicode, boolean customFields, String
     // your export file will be returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Members",
         IExtension.HTM);
@@ -369,7 +372,7 @@ public Map<String, String> membersGroups(boolean unicode, String timestamp) thro
     // your export file will be returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Members_Groups",
         IExtension.HTM);
@@ -400,7 +403,7 @@ public Map<String, String> status(String exportID) throws Throwable {
     // returned as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Status",
         IExtension.HTM);
@@ -426,7 +429,7 @@ public Map<String, String> storeInvoiceItems(boolean unicode, String date) throw
     // Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Store_InvoiceItems",
         IExtension.HTM);
@@ -453,7 +456,7 @@ public Map<String, String> storeOrders(boolean unicode, String date) throws Thro
     // Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Export_Store_Orders",
         IExtension.HTM);
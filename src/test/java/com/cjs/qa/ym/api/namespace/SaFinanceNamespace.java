@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -40,7 +40,7 @@ public Map<String, String> batchCreate(
     // your export file will be returned by Sa.Export.Status as <ExportURI>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Finance_Batch_Create",
         IExtension.HTM);
@@ -71,7 +71,7 @@ public Map<String, String> batchesGet(String timestamp, String startBatchID) thr
     // current date/time <ServerTime> and GMT bias <ServerGmtBias>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Finance_Batches_Get",
         IExtension.HTM);
@@ -116,7 +116,7 @@ public Map<String, String> invoicePaymentCreate(
     // Applies a payment to an invoice.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Finance_Invoice_Payment_Create",
         IExtension.HTM);
@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -38,7 +38,7 @@ public Map<String, String> groupCreate(
     // Creates a Group and returns the newly created [GroupID].
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Groups_Group_Create",
         IExtension.HTM);
@@ -94,7 +94,7 @@ public Map<String, String> groupGetMembershipLog(String groupID, String startDat
     // maximum of 1,000 results.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Groups_Group_GetMembershipLog",
         IExtension.HTM);
@@ -137,7 +137,7 @@ public Map<String, String> groupUpdate(
     // Updates an existing Group. Omitted fields will be ignored.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Groups_Group_Update",
         IExtension.HTM);
@@ -191,7 +191,7 @@ public Map<String, String> groupTypesGet() throws Throwable {
     // Returns a list of all Group Types.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Groups_GroupTypes_Get",
         IExtension.HTM);
@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -20,7 +20,7 @@ public Map<String, String> certificationsGet(String iD, boolean isArchived) thro
     // Returns a list of Certifications for the specified user.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Member_Certifications_Get",
         IExtension.HTM);
@@ -52,7 +52,7 @@ public Map<String, String> certificationsJournalGet(
     // user that may be optionally filterd by date, expiration, and paging.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Member_Certifications_Journal_Get",
         IExtension.HTM);
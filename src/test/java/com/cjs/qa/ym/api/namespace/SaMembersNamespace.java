@@ -4,10 +4,10 @@
 
 import org.apache.logging.log4j.LogManager;
 
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
 
@@ -27,7 +27,7 @@ public Map<String, String> allGetIDs(String timestamp, int websiteID, String gro
     // <ServerGmtBias>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_All_GetIDs",
         IExtension.HTM);
@@ -53,7 +53,7 @@ public Map<String, String> allMemberTypesGet() throws Throwable {
     // Returns a list of all Group Types.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_All_MemberTypes_Get",
         IExtension.HTM);
@@ -80,7 +80,7 @@ public Map<String, String> allRecentActivity() throws Throwable {
     // Latest photo
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_All_RecentActivity",
         IExtension.HTM);
@@ -111,7 +111,7 @@ public Map<String, String> certificationsJournalEntryCreate(
     // Create a CEU Journal Entry.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_Certifications_JournalEntry_Create",
         IExtension.HTM);
@@ -166,7 +166,7 @@ public Map<String, String> commerceStoreGetOrderIDs(String iD, String timestamp,
     // a maximum of 1,000 results.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_Commerce_Store_GetOrderIDs",
         IExtension.HTM);
@@ -195,7 +195,7 @@ public Map<String, String> eventsEventRegistrationGet(String eventID, String iD)
     // element as it is stored in our database.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_Events_Event_Registration_Get",
         IExtension.HTM);
@@ -231,7 +231,7 @@ public Map<String, String> groupsAdd(
     // not exist, it will be created automatically.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_Groups_Add",
         IExtension.HTM);
@@ -271,7 +271,7 @@ public Map<String, String> groupsRemove(
     // specified.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_Groups_Remove",
         IExtension.HTM);
@@ -311,7 +311,7 @@ public Map<String, String> profileCreate(boolean useMemberTypeSetting) throws Th
     // navigation to a member's profile, photo gallery, personal blog, etc.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_Profile_Create",
         IExtension.HTM);
@@ -337,7 +337,7 @@ public Map<String, String> referralsGet(String iD, String timestamp) throws Thro
     // Returns a list of a member's referrals.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_Referrals_Get",
         IExtension.HTM);
@@ -360,7 +360,7 @@ public Map<String, String> subAccountsGet(String iD, String timestamp) throws Th
     // Returns a list of a member's sub-accounts.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_Members_SubAccounts_Get",
         IExtension.HTM);
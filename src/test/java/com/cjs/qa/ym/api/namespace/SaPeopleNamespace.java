@@ -5,10 +5,10 @@
 import org.apache.logging.log4j.LogManager;
 
 import com.cjs.qa.jdbc.JDBC;
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
 import com.cjs.qa.utilities.XML;
 import com.cjs.qa.ym.api.services.YMAPI;
 import com.cjs.qa.ym.api.services.YMService;
@@ -29,7 +29,7 @@ public Map<String, String> allGetIDs(String timestamp, int websiteID, String gro
     // GMT bias <ServerGmtBias>.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_People_All_GetIDs",
         IExtension.HTM);
@@ -58,7 +58,7 @@ public Map<String, String> profileFindID(
     // error code 406 is returned.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_People_Profile_FindID",
         IExtension.HTM);
@@ -85,7 +85,7 @@ public Map<String, String> profileGet(String id) throws Throwable {
     // Returns a person's profile data.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_People_Profile_Get",
         IExtension.HTM);
@@ -110,7 +110,7 @@ public Map<String, String> profileGroupsGet(String iD) throws Throwable {
     // within nodes respective of their relationship type.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_People_Profile_Groups_Get",
         IExtension.HTM);
@@ -132,7 +132,7 @@ public Map<String, String> profileUpdate(String iD, String xml) throws Throwable
     // Updates an existing person's profile.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Sa_People_Profile_Update",
         IExtension.HTM);
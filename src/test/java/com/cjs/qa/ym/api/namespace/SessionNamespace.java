@@ -6,12 +6,12 @@
 
 import com.cjs.qa.core.security.EPasswords;
 import com.cjs.qa.utilities.CJSConstants;
+import com.cjs.qa.utilities.CallerContext;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
 import com.cjs.qa.utilities.IExtension;
-import com.cjs.qa.utilities.JavaHelpers;
-import com.cjs.qa.utilities.XML;
 import com.cjs.qa.ym.api.services.YMAPI;
+import com.cjs.qa.ym.api.services.YMResponse;
 import com.cjs.qa.ym.api.services.YMService;
 
 public class SessionNamespace extends YMService {
@@ -29,7 +29,7 @@ public SessionNamespace() throws Throwable {
 
   // public static int callID = 0
 
-  public static String getSessionID() throws Throwable {
+  public static synchronized String getSessionID() throws Throwable {
     final long timeSessionCurrent = System.currentTimeMillis(); // 20 minutes
     final long sessionLimit = TIMEOUT_SESSION * 60 * Constants.MILLISECONDS;
     final long timeSessionElapsed = timeSessionCurrent - timeSessionStart;
@@ -44,12 +44,12 @@ public static String getSessionID() throws Throwable {
     return Constants.nlTab(1, 1) + "<SessionID>" + sessionID + "</SessionID>";
   }
 
-  public static void setSessionID() throws Throwable {
+  public static synchronized void setSessionID() throws Throwable {
     timeSessionStart = System.currentTimeMillis();
     // SessionNamespace.callID = 0
     resetCallID();
     final Map<String, String> mapResponse = create(true);
-    final String sessionID = XML.getTag(mapResponse.get("xml"), "SessionID");
+    final String sessionID = new YMResponse(mapResponse.get("xml")).getValue("SessionID");
     SessionNamespace.sessionID = sessionID;
     AuthNamespace authNamespace = new AuthNamespace();
     authNamespace.authenticate(CJSConstants.USERID_VIVIT, EPasswords.VIVIT.getValue());
@@ -61,7 +61,7 @@ public Map<String, String> abandon() throws Throwable {
     // abandoned, else returns false (0).
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Session_Abandon",
         IExtension.HTM);
@@ -82,7 +82,7 @@ public static Map<String, String> create(boolean refreshSession) throws Throwabl
     // be called before calling any other method.
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Session_Create",
         IExtension.HTM);
@@ -104,7 +104,7 @@ public Map<String, String> ping() throws Throwable {
     // alive, else returns false (0).
     LOG.debug(
         "{} - {}{}{}",
-        JavaHelpers.getCurrentClassMethodName(),
+        CallerContext.logClassMethodName(),
         URL_YM_API_DOC,
         "Session_Ping",
         IExtension.HTM);
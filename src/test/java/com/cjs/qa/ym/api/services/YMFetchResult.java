@@ -0,0 +1,39 @@
+package com.cjs.qa.ym.api.services;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link YMFetchScheduler#fetchAll}.
+ *
+ * @param name label of the fetch
+ * @param requested distinct IDs requested
+ * @param skipped IDs whose cache file already existed
+ * @param fetched IDs fetched and written during this run
+ * @param failedIds IDs that still failed after every attempt
+ * @param elapsedMs wall-clock time of the run
+ */
+public record YMFetchResult(
+    String name, int requested, int skipped, int fetched, List<String> failedIds, long elapsedMs) {
+
+  public YMFetchResult {
+    failedIds = List.copyOf(failedIds);
+  }
+
+  /**
+   * Checks whether every requested ID is now cached.
+   *
+   * @return true if no ID failed
+   */
+  public boolean isComplete() {
+    return failedIds.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return """
+    Fetch:[%s], Requested:[%d], Skipped:[%d], Fetched:[%d], Failed:[%d], ElapsedMs:[%d]
+    """
+        .formatted(name, requested, skipped, fetched, failedIds.size(), elapsedMs)
+        .trim();
+  }
+}
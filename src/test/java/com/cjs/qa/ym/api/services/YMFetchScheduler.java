@@ -0,0 +1,258 @@
+package com.cjs.qa.ym.api.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Fans out one YM API call per ID across a bounded number of worker threads and caches each
+ * response as a file.
+ *
+ * <p>IDs whose cache file already exists are skipped, so an interrupted run resumes where it
+ * stopped. Calls are spaced so that no more than {@code callsPerSecond} start in any second
+ * across all workers, keeping the run within the YM API quota. A call that throws or returns no
+ * XML is retried for that ID only, with a linear back-off, up to {@code maxAttempts} times; IDs
+ * that still fail are reported in the {@link YMFetchResult} rather than failing the whole run.
+ *
+ * <pre>{@code
+ * YMFetchResult result =
+ *     YMFetchScheduler.fromConfig("EventAttendees")
+ *         .fetchAll(
+ *             eventIDList,
+ *             eventID -> PATH_EVENT_ATTENDEES + eventID + IExtension.XML,
+ *             eventID -> eventsNamespace.eventAttendeesGet(Integer.parseInt(eventID)).get("xml"));
+ * }</pre>
+ *
+ * <p>Configuration for {@link #fromConfig(String)} (environment variable, then system property):
+ *
+ * <ul>
+ *   <li>{@code YM_FETCH_MAX_CONCURRENT} / {@code ym.fetch.max.concurrent} (default 4)
+ *   <li>{@code YM_FETCH_CALLS_PER_SECOND} / {@code ym.fetch.calls.per.second} (default 5)
+ *   <li>{@code YM_FETCH_MAX_ATTEMPTS} / {@code ym.fetch.max.attempts} (default 3)
+ *   <li>{@code YM_FETCH_RETRY_DELAY_MS} / {@code ym.fetch.retry.delay.ms} (default 2000)
+ * </ul>
+ */
+public final class YMFetchScheduler {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(YMFetchScheduler.class));
+  public static final int DEFAULT_MAX_CONCURRENT = 4;
+  public static final int DEFAULT_CALLS_PER_SECOND = 5;
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+  public static final long DEFAULT_RETRY_DELAY_MS = 2000L;
+
+  private final String name;
+  private final int maxConcurrent;
+  private final int maxAttempts;
+  private final long retryDelayMs;
+  private final long callIntervalNanos;
+  private final AtomicLong nextCallNanos = new AtomicLong(System.nanoTime());
+
+  /** Fetches the XML for one ID. */
+  @FunctionalInterface
+  public interface Fetcher {
+    /**
+     * Calls the API for an ID.
+     *
+     * @param id the ID
+     * @return the response XML; null or empty counts as a failed attempt
+     * @throws Throwable if the call fails
+     */
+    String fetch(String id) throws Throwable;
+  }
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param name label used in log messages and the result
+   * @param maxConcurrent maximum number of calls in flight at once
+   * @param callsPerSecond maximum number of calls started per second, or 0 for no limit
+   * @param maxAttempts attempts per ID before it is reported as failed
+   * @param retryDelayMs delay before the second attempt; later attempts wait proportionally longer
+   */
+  public YMFetchScheduler(
+      String name, int maxConcurrent, int callsPerSecond, int maxAttempts, long retryDelayMs) {
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("maxConcurrent must be at least 1: " + maxConcurrent);
+    }
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+    }
+    this.name = name;
+    this.maxConcurrent = maxConcurrent;
+    this.maxAttempts = maxAttempts;
+    this.retryDelayMs = Math.max(0L, retryDelayMs);
+    this.callIntervalNanos = callsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / callsPerSecond : 0;
+  }
+
+  /**
+   * Creates a scheduler using the configured limits.
+   *
+   * @param name label used in log messages and the result
+   * @return a new scheduler
+   */
+  public static YMFetchScheduler fromConfig(String name) {
+    return new YMFetchScheduler(
+        name,
+        TuningConfig.getInt(
+            "YM_FETCH_MAX_CONCURRENT", "ym.fetch.max.concurrent", DEFAULT_MAX_CONCURRENT),
+        TuningConfig.getInt(
+            "YM_FETCH_CALLS_PER_SECOND", "ym.fetch.calls.per.second", DEFAULT_CALLS_PER_SECOND),
+        TuningConfig.getInt("YM_FETCH_MAX_ATTEMPTS", "ym.fetch.max.attempts", DEFAULT_MAX_ATTEMPTS),
+        TuningConfig.getLong(
+            "YM_FETCH_RETRY_DELAY_MS", "ym.fetch.retry.delay.ms", DEFAULT_RETRY_DELAY_MS));
+  }
+
+  /**
+   * Fetches every ID whose cache file does not exist yet and writes the response to that file.
+   *
+   * @param idList the IDs to fetch; duplicates are fetched once
+   * @param filePathNameForId maps an ID to its cache file
+   * @param fetcher calls the API for one ID
+   * @return counts and the IDs that could not be fetched
+   * @throws InterruptedException if interrupted while waiting for the workers
+   */
+  public YMFetchResult fetchAll(
+      List<String> idList, UnaryOperator<String> filePathNameForId, Fetcher fetcher)
+      throws InterruptedException {
+    final long startNanos = System.nanoTime();
+    final List<String> distinctList = idList.stream().distinct().toList();
+    final List<String> pendingList = new ArrayList<>();
+    int skipped = 0;
+    for (final String id : distinctList) {
+      if (FSOTests.fileExists(filePathNameForId.apply(id))) {
+        skipped++;
+      } else {
+        pendingList.add(id);
+      }
+    }
+    LOG.info(
+        "{}: fetching [{}] ID(s), [{}] already cached, [{}] worker(s)",
+        name,
+        pendingList.size(),
+        skipped,
+        maxConcurrent);
+    final AtomicInteger fetched = new AtomicInteger();
+    final List<String> failedList = Collections.synchronizedList(new ArrayList<>());
+    if (!pendingList.isEmpty()) {
+      final ExecutorService executorService = createExecutor(pendingList.size());
+      try {
+        final List<Future<?>> futureList = new ArrayList<>(pendingList.size());
+        for (final String id : pendingList) {
+          futureList.add(
+              executorService.submit(
+                  () -> {
+                    if (fetchOne(id, filePathNameForId.apply(id), fetcher)) {
+                      fetched.incrementAndGet();
+                    } else {
+                      failedList.add(id);
+                    }
+                    return null;
+                  }));
+        }
+        for (final Future<?> future : futureList) {
+          try {
+            future.get();
+          } catch (final ExecutionException e) {
+            LOG.error("{}: unexpected worker failure", name, e.getCause());
+          }
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+    final YMFetchResult result =
+        new YMFetchResult(
+            name,
+            distinctList.size(),
+            skipped,
+            fetched.get(),
+            failedList,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    LOG.info("{}", result);
+    return result;
+  }
+
+  private boolean fetchOne(String id, String filePathName, Fetcher fetcher)
+      throws InterruptedException {
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      awaitCallSlot();
+      try {
+        final String xml = fetcher.fetch(id);
+        if (xml != null && !xml.isEmpty()) {
+          FSOTests.fileWrite(filePathName, xml, false);
+          return true;
+        }
+        LOG.warn("{}: no XML returned for [{}] (attempt {} of {})", name, id, attempt, maxAttempts);
+      } catch (final InterruptedException e) {
+        throw e;
+      } catch (final Throwable throwable) {
+        LOG.warn(
+            "{}: fetch failed for [{}] (attempt {} of {}): {}",
+            name,
+            id,
+            attempt,
+            maxAttempts,
+            throwable.getMessage());
+      }
+      if (attempt < maxAttempts) {
+        Thread.sleep(retryDelayMs * attempt);
+      }
+    }
+    LOG.error("{}: giving up on [{}] after [{}] attempt(s)", name, id, maxAttempts);
+    return false;
+  }
+
+  /** Reserves the next start slot for a call and sleeps until it arrives. */
+  private void awaitCallSlot() throws InterruptedException {
+    if (callIntervalNanos == 0) {
+      return;
+    }
+    final long now = System.nanoTime();
+    final long slotNanos =
+        nextCallNanos.getAndAccumulate(
+            now, (next, current) -> Math.max(next, current) + callIntervalNanos);
+    final long waitNanos = Math.max(slotNanos, now) - now;
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  private ExecutorService createExecutor(int taskCount) {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        Math.min(maxConcurrent, taskCount),
+        runnable -> {
+          final Thread thread =
+              new Thread(runnable, "ym-fetch-" + name + "-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+}
@@ -0,0 +1,214 @@
+package com.cjs.qa.ym.api.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import org.apache.logging.log4j.LogManager;
+
+import com.cjs.qa.core.QAException;
+import com.cjs.qa.utilities.FSOTests;
+import com.cjs.qa.utilities.GuardedLogger;
+import com.cjs.qa.utilities.TuningConfig;
+
+/**
+ * Walks a paged YM search, fetching several pages ahead in parallel instead of one page per round
+ * trip.
+ *
+ * <p>Pages are requested in windows of {@code prefetchPages}: every page of a window is fetched
+ * (or read from its cache file) concurrently, then the pages are processed in order. Each
+ * non-empty page is written to its cache file; the first page with no records ends the walk and
+ * any later pages of that window are discarded. Records are counted from the in-memory response,
+ * so a page is never re-read from disk just to decide whether to continue.
+ *
+ * <p>The window size is read from {@code YM_PAGE_PREFETCH} / {@code ym.page.prefetch} by {@link
+ * #fromConfig(String, int)} (default 4). A size of 1 gives the old sequential behaviour.
+ */
+public final class YMPagePrefetcher {
+
+  private static final GuardedLogger LOG =
+      new GuardedLogger(LogManager.getLogger(YMPagePrefetcher.class));
+  public static final int DEFAULT_PREFETCH_PAGES = 4;
+
+  private final String name;
+  private final int pageSize;
+  private final int prefetchPages;
+
+  /** Fetches one page of results. */
+  @FunctionalInterface
+  public interface PageFetcher {
+    /**
+     * Calls the API for a page.
+     *
+     * @param pageRecordStart number of the first record on the page (1-based)
+     * @return the response XML
+     * @throws Throwable if the call fails
+     */
+    String fetch(long pageRecordStart) throws Throwable;
+  }
+
+  /** Counts the records on one page. */
+  @FunctionalInterface
+  public interface RecordCounter {
+    /**
+     * Counts the records in a page response.
+     *
+     * @param xml the response XML
+     * @return the number of records; 0 ends the walk
+     * @throws Exception if the response cannot be read
+     */
+    int count(String xml) throws Exception;
+  }
+
+  /**
+   * Creates a prefetcher.
+   *
+   * @param name label used in log messages
+   * @param pageSize records per page; the start of each page advances by this much
+   * @param prefetchPages pages fetched concurrently per window
+   */
+  public YMPagePrefetcher(String name, int pageSize, int prefetchPages) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize must be at least 1: " + pageSize);
+    }
+    if (prefetchPages < 1) {
+      throw new IllegalArgumentException("prefetchPages must be at least 1: " + prefetchPages);
+    }
+    this.name = name;
+    this.pageSize = pageSize;
+    this.prefetchPages = prefetchPages;
+  }
+
+  /**
+   * Creates a prefetcher using the configured window size.
+   *
+   * @param name label used in log messages
+   * @param pageSize records per page
+   * @return a new prefetcher
+   */
+  public static YMPagePrefetcher fromConfig(String name, int pageSize) {
+    return new YMPagePrefetcher(
+        name,
+        pageSize,
+        TuningConfig.getInt("YM_PAGE_PREFETCH", "ym.page.prefetch", DEFAULT_PREFETCH_PAGES));
+  }
+
+  /**
+   * Fetches pages from {@code pageRecordStart} until a page has no records.
+   *
+   * @param pageRecordStart number of the first record of the first page
+   * @param filePathNameForPage maps a page's first record number to its cache file
+   * @param fetcher calls the API for one page
+   * @param recordCounter counts the records in a page
+   * @return the total number of records across all pages
+   * @throws Throwable if a page cannot be fetched or counted
+   */
+  public long fetchAll(
+      long pageRecordStart,
+      LongFunction<String> filePathNameForPage,
+      PageFetcher fetcher,
+      RecordCounter recordCounter)
+      throws Throwable {
+    final long startNanos = System.nanoTime();
+    final ExecutorService executorService = createExecutor();
+    long recordsTotal = 0;
+    int pages = 0;
+    try {
+      long windowStart = pageRecordStart;
+      while (true) {
+        final List<Future<Page>> futureList = new ArrayList<>(prefetchPages);
+        for (int index = 0; index < prefetchPages; index++) {
+          final long start = windowStart + (long) index * pageSize;
+          futureList.add(
+              executorService.submit(
+                  () -> {
+                    try {
+                      return loadPage(start, filePathNameForPage, fetcher);
+                    } catch (final Exception e) {
+                      throw e;
+                    } catch (final Throwable throwable) {
+                      // Callable cannot throw Throwable (e.g. QAException); getPage unwraps it.
+                      throw new ExecutionException(throwable);
+                    }
+                  }));
+        }
+        for (int index = 0; index < futureList.size(); index++) {
+          final Page page = getPage(futureList.get(index));
+          final int recordCount = recordCounter.count(page.xml());
+          LOG.debug(
+              "{}: page [{}] has [{}] record(s){}",
+              name,
+              page.pageRecordStart(),
+              recordCount,
+              page.cached() ? " (cached)" : "");
+          if (recordCount == 0) {
+            for (final Future<Page> future : futureList.subList(index + 1, futureList.size())) {
+              future.cancel(true);
+            }
+            return recordsTotal;
+          }
+          if (!page.cached()) {
+            FSOTests.fileWrite(page.filePathName(), page.xml(), false);
+          }
+          recordsTotal += recordCount;
+          pages++;
+        }
+        windowStart += (long) prefetchPages * pageSize;
+      }
+    } finally {
+      executorService.shutdownNow();
+      LOG.info(
+          "{}: [{}] record(s) on [{}] page(s) in [{}] ms",
+          name,
+          recordsTotal,
+          pages,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+  }
+
+  private static Page loadPage(
+      long pageRecordStart, LongFunction<String> filePathNameForPage, PageFetcher fetcher)
+      throws Throwable {
+    final String filePathName = filePathNameForPage.apply(pageRecordStart);
+    if (FSOTests.fileExists(filePathName)) {
+      return new Page(pageRecordStart, filePathName, FSOTests.fileReadAll(filePathName), true);
+    }
+    final String xml = fetcher.fetch(pageRecordStart);
+    if (xml == null || xml.isEmpty()) {
+      throw new QAException("No XML returned for page starting at [" + pageRecordStart + "]");
+    }
+    return new Page(pageRecordStart, filePathName, xml, false);
+  }
+
+  private static Page getPage(Future<Page> future) throws Throwable {
+    try {
+      return future.get();
+    } catch (final ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof ExecutionException && cause.getCause() != null) {
+        cause = cause.getCause();
+      }
+      throw cause;
+    }
+  }
+
+  private ExecutorService createExecutor() {
+    final AtomicInteger threadNumber = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        prefetchPages,
+        runnable -> {
+          final Thread thread =
+              new Thread(runnable, "ym-page-" + name + "-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private record Page(long pageRecordStart, String filePathName, String xml, boolean cached) {}
+}
@@ -0,0 +1,188 @@
+package com.cjs.qa.ym.api.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+
+import com.cjs.qa.core.QAException;
+import com.cjs.qa.utilities.XML;
+
+/**
+ * A YourMembership API response parsed once.
+ *
+ * <p>The constructor reads the payload in a single streaming (StAX) pass and keeps the text of the
+ * first leaf element with each name, which covers the values callers look up by tag ({@code
+ * ErrCode}, {@code ErrDesc}, {@code SessionID}, {@code ExportID}, {@code Status}, ...). Each lookup
+ * is then a map read instead of another parse of the document. The pretty-printed form and the DOM
+ * are only built if they are asked for, and are cached.
+ *
+ * <p>Instances are immutable apart from those lazily built, cached views and are not thread-safe.
+ */
+public final class YMResponse {
+
+  public static final String ERR_CODE = "ErrCode";
+  public static final String ERR_DESC = "ErrDesc";
+  public static final String ERR_CODE_SUCCESS = "0";
+
+  private final String xml;
+  private final Map<String, String> valueMap;
+  private String xmlPretty = null;
+  private Document document = null;
+
+  /**
+   * Parses a response.
+   *
+   * @param xml the response body
+   * @throws XMLStreamException if the body is not well formed
+   */
+  public YMResponse(String xml) throws XMLStreamException {
+    this.xml = xml;
+    this.valueMap = xml == null || xml.isEmpty() ? Map.of() : parseValues(xml);
+  }
+
+  /**
+   * Gets the text of the first element with the given name; for leaf elements this matches {@link
+   * XML#getTag}.
+   *
+   * @param tagName element name
+   * @return the text, or null if there is no such element
+   */
+  public String getValue(String tagName) {
+    return valueMap.get(tagName);
+  }
+
+  /**
+   * Gets a value as an int.
+   *
+   * @param tagName element name
+   * @param defaultValue returned when the element is missing or not a number
+   * @return the parsed value or the default
+   */
+  public int getInt(String tagName, int defaultValue) {
+    final String value = getValue(tagName);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (final NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  public String getErrCode() {
+    return getValue(ERR_CODE);
+  }
+
+  public String getErrDesc() {
+    return getValue(ERR_DESC);
+  }
+
+  /**
+   * Checks the API result code.
+   *
+   * @return true if ErrCode is 0
+   */
+  public boolean isSuccess() {
+    return ERR_CODE_SUCCESS.equals(getErrCode());
+  }
+
+  /** Returns the response exactly as received. */
+  public String getXml() {
+    return xml;
+  }
+
+  /**
+   * Gets the pretty-printed response, formatting it on first use.
+   *
+   * @return the formatted XML
+   * @throws QAException if the XML cannot be formatted
+   */
+  public String getXmlPretty() throws QAException {
+    if (xmlPretty == null) {
+      xmlPretty = XML.formatPretty(xml);
+    }
+    return xmlPretty;
+  }
+
+  /**
+   * Gets a DOM of the response, parsing it on first use. Prefer {@link #getValue(String)} when only
+   * element values are needed.
+   *
+   * @return the document
+   * @throws Exception if the XML cannot be parsed
+   */
+  public Document getDocument() throws Exception {
+    if (document == null) {
+      document = XML.createDocument(xml);
+    }
+    return document;
+  }
+
+  /**
+   * Returns every value captured by the streaming pass.
+   *
+   * @return element name to text of its first occurrence
+   */
+  public Map<String, String> getValueMap() {
+    return Collections.unmodifiableMap(valueMap);
+  }
+
+  @Override
+  public String toString() {
+    return "YMResponse[ErrCode:[" + getErrCode() + "], ErrDesc:[" + getErrDesc() + "]]";
+  }
+
+  /**
+   * Collects the direct text of the first element of each name. Only an element's own text is kept
+   * (not its descendants'), so large container elements are never buffered; once a name has been
+   * seen its later occurrences are skipped.
+   */
+  private static Map<String, String> parseValues(String xml) throws XMLStreamException {
+    final Map<String, String> valueMap = new HashMap<>();
+    final List<String> nameList = new ArrayList<>();
+    final List<StringBuilder> textList = new ArrayList<>();
+    final XMLStreamReader xmlStreamReader = XML.createXMLStreamReader(xml);
+    try {
+      while (xmlStreamReader.hasNext()) {
+        switch (xmlStreamReader.next()) {
+          case XMLStreamConstants.START_ELEMENT -> {
+            final String name = xmlStreamReader.getLocalName();
+            nameList.add(name);
+            // null marks an element whose value is already known, so its text is not collected.
+            textList.add(valueMap.containsKey(name) ? null : new StringBuilder());
+          }
+          case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+            final StringBuilder stringBuilder =
+                textList.isEmpty() ? null : textList.get(textList.size() - 1);
+            if (stringBuilder != null) {
+              stringBuilder.append(xmlStreamReader.getText());
+            }
+          }
+          case XMLStreamConstants.END_ELEMENT -> {
+            final int last = nameList.size() - 1;
+            final StringBuilder stringBuilder = textList.remove(last);
+            final String name = nameList.remove(last);
+            if (stringBuilder != null) {
+              valueMap.putIfAbsent(name, stringBuilder.toString());
+            }
+          }
+          default -> {
+            // Comments, processing instructions and whitespace outside elements are ignored.
+          }
+        }
+      }
+    } finally {
+      xmlStreamReader.close();
+    }
+    return valueMap;
+  }
+}
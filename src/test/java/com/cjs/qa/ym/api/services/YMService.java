@@ -1,21 +1,20 @@
 package com.cjs.qa.ym.api.services;
 
-import java.io.BufferedReader;
-import java.io.DataOutputStream;
-import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
-import java.net.URI;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.junit.jupiter.api.Assertions;
 
 import com.cjs.qa.core.Environment;
 import com.cjs.qa.core.QAException;
+import com.cjs.qa.core.api.HttpTransport;
+import com.cjs.qa.core.api.HttpTransportResponse;
 import com.cjs.qa.core.security.EAPIKeys;
 import com.cjs.qa.utilities.Constants;
 import com.cjs.qa.utilities.GuardedLogger;
@@ -50,15 +49,13 @@ public static String getApiSaPasscodeValue() {
   public static final String URL_YM = URL_YM_API_BASE;
   public static final String CONNECTED_TO = "Connection to [";
   private static final AtomicBoolean SERVICE_ACTIVE = new AtomicBoolean(false);
-  private static int callID = 0;
+  // Shared by concurrent fetches (see YMFetchScheduler), so every call gets a distinct ID.
+  private static final AtomicInteger CALL_ID = new AtomicInteger();
 
   public YMService() {
     if (!SERVICE_ACTIVE.get()) {
       try {
-        final HttpURLConnection httpUrlConnection =
-            (HttpURLConnection) URI.create(URL_YM).toURL().openConnection();
-        httpUrlConnection.setRequestMethod("HEAD");
-        final int responseCode = httpUrlConnection.getResponseCode();
+        final int responseCode = HttpTransport.head(URL_YM);
         if (!(responseCode >= HttpURLConnection.HTTP_OK
             && responseCode < HttpURLConnection.HTTP_BAD_REQUEST)) {
           LOG.warn(
@@ -113,76 +110,48 @@ public static Map<String, String> getAPIXMLResponse(String requestMethod, String
           request);
     }
     if (request.contains("CallID")) {
-      try {
-        LOG.debug("CallID:[{}]", XML.getTag(request, "CallID"));
-      } catch (Exception e) {
-        // CallID logging is optional - continue without it
-        if (Environment.isLogAll()) {
-          LOG.debug("CallID not available");
-        }
-      }
+      // The request is only parsed when debug logging is on.
+      LOG.debug("CallID:[{}]", () -> getCallIDValue(request));
     }
-    int responseCode = -1;
-    HttpURLConnection httpURLConnection = null;
-    String xml = "";
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Content-Type", "application/x-www-form-urlencoded");
+    headers.put("Accept", "application/xml");
+    headers.put("charset", StandardCharsets.UTF_8.toString());
     try {
-      final URL oURL = URI.create(URL_YM).toURL();
-      httpURLConnection = (HttpURLConnection) oURL.openConnection();
-      httpURLConnection.setDoOutput(true);
-      httpURLConnection.setInstanceFollowRedirects(false);
-      if (!requestMethod.isEmpty()) {
-        httpURLConnection.setRequestMethod(requestMethod);
-      }
-      httpURLConnection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-      httpURLConnection.setRequestProperty("Accept", "application/xml");
-      httpURLConnection.setRequestProperty("charset", StandardCharsets.UTF_8.toString());
-      httpURLConnection.setRequestProperty(
-          "Content-Length", "" + Integer.toString(request.getBytes().length));
-      httpURLConnection.setUseCaches(false);
-      try (DataOutputStream dataOutputStream =
-          new DataOutputStream(httpURLConnection.getOutputStream())) {
-        dataOutputStream.writeBytes(request);
-        dataOutputStream.flush();
-      }
-      responseCode = httpURLConnection.getResponseCode();
+      final HttpTransportResponse response =
+          HttpTransport.send(requestMethod, URL_YM, headers, request);
+      final int responseCode = response.statusCode();
       map.put("responseCode", String.valueOf(responseCode));
-      final String responseMessage = String.valueOf(httpURLConnection.getResponseMessage());
+      final String responseMessage = response.reasonPhrase();
       map.put("responseMessage", responseMessage);
-      if (responseCode == HttpURLConnection.HTTP_OK) {
-        StringBuilder stringBuilder = new StringBuilder();
-        try (BufferedReader bufferedReader =
-            new BufferedReader(new InputStreamReader(httpURLConnection.getInputStream()))) {
-          String line = "";
-          while ((line = bufferedReader.readLine()) != null) {
-            stringBuilder.append(line);
-          }
-        } catch (Exception e) {
-          throw new QAException("BufferedReader", e);
-        }
-        xml = stringBuilder.toString();
-        xml = XML.formatPretty(xml);
-        map.put("xml", xml);
-        // LOG.debug("xml:[{}]", xml);
-      }
       if (responseCode != HttpURLConnection.HTTP_OK) {
         LOG.debug("responseCode:[" + responseCode + "]");
         LOG.debug("responseMessage:[" + responseMessage + "]");
+        return map;
       }
-      if (!"0".equals(XML.getTag(xml, "ErrCode"))) {
-        String message = JavaHelpers.getCallingMethodName() + ":" + XML.getTag(xml, "ErrDesc");
+      // Parsed once; ErrCode/ErrDesc come from the same pass and formatting only happens for logs.
+      final YMResponse ymResponse = new YMResponse(response.body());
+      map.put("xml", Environment.isLogAPI() ? ymResponse.getXmlPretty() : ymResponse.getXml());
+      if (!ymResponse.isSuccess()) {
+        String message = JavaHelpers.getCallingMethodName() + ":" + ymResponse.getErrDesc();
         throw new QAException(message);
       }
     } catch (final Exception e) {
       LOG.error("Exception occurred", e);
-    } finally {
-      if (httpURLConnection != null) {
-        httpURLConnection.disconnect();
-      }
     }
     // LOG.debug("map:[{}]", map.toString());
     return map;
   }
 
+  private static String getCallIDValue(String request) {
+    try {
+      return XML.getTag(request, "CallID");
+    } catch (Exception e) {
+      // CallID logging is optional - continue without it
+      return "not available";
+    }
+  }
+
   public static String getRequiredHeaders() throws Throwable {
     return getVersion() + getAPIKey() + getCallID();
   }
@@ -202,14 +171,13 @@ public static String getAPIKey() throws Throwable {
   public static String getCallID() throws Throwable {
     // SessionNamespace.callID++
     // final String callID = String.format("%03d", SessionNamespace.callID)
-    callID++;
-    final String callID = String.format("%03d", YMService.callID);
+    final String callID = String.format("%03d", CALL_ID.incrementAndGet());
     LOG.debug("callID:[{}]", callID);
     return Constants.nlTab(1, 1) + "<CallID>" + callID + "</CallID>";
   }
 
   public static void resetCallID() throws Throwable {
-    callID = 0;
+    CALL_ID.set(0);
   }
 
   public static String getSAPasscode() throws Throwable {